@@ -0,0 +1,518 @@
+package com.fasterxml.jackson.jr.apt;
+
+import java.util.*;
+
+import javax.lang.model.element.*;
+import javax.lang.model.type.*;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+/**
+ * Compile-time equivalent of {@code POJODefinition} (and property resolution done
+ * by {@code ValueReaderLocator} and {@code ValueWriterLocator}): contains information
+ * on properties of a Bean type, as needed for generating reader and writer for it.
+ * Detection rules match those of jr-objects with default settings.
+ */
+final class BeanModel
+{
+    /**
+     * Kinds of values that generated code handles differently.
+     */
+    enum ValueKind {
+        INT, LONG, SHORT, BYTE, DOUBLE, FLOAT, BOOLEAN, CHAR,
+        STRING, OBJECT,
+        LIST, MAP, ARRAY,
+        /**
+         * Any other non-generic type: Beans, Enums, JDK scalar types, primitive arrays
+         */
+        OTHER;
+    }
+
+    /**
+     * Information on a single property, for reading or writing.
+     */
+    static final class Property
+    {
+        public final String name;
+
+        /**
+         * Name of setter or getter method, if one used; null if field used
+         */
+        public final String methodName;
+
+        /**
+         * Name of field to assign or access, if no method used
+         */
+        public final String fieldName;
+
+        public final ValueKind kind;
+
+        /**
+         * Whether value type is primitive (only relevant for simple scalar kinds)
+         */
+        public final boolean primitive;
+
+        /**
+         * For {@link ValueKind#LIST}, {@link ValueKind#MAP} and {@link ValueKind#ARRAY},
+         * name of content (element, value) class; for {@link ValueKind#OTHER} name
+         * of value class: usable as class literal in source code.
+         */
+        public final String className;
+
+        public Property(String name, String methodName, String fieldName,
+                ValueKind kind, boolean primitive, String className)
+        {
+            this.name = name;
+            this.methodName = methodName;
+            this.fieldName = fieldName;
+            this.kind = kind;
+            this.primitive = primitive;
+            this.className = className;
+        }
+    }
+
+    /**
+     * Raw accessors found for a logical property; same as {@code POJODefinition.Prop}
+     */
+    private static final class RawProp
+    {
+        ExecutableElement setter, getter, isGetter;
+        VariableElement field;
+    }
+
+    public final TypeElement type;
+
+    /**
+     * Name of the Bean type usable in source code (canonical name)
+     */
+    public final String typeName;
+
+    /**
+     * Name of the Bean type as returned by {@link Class#getName()}
+     */
+    public final String binaryName;
+
+    public final String packageName;
+
+    /**
+     * Prefix to use for names of generated classes: simple name of Bean type,
+     * with names of enclosing types, if any, separated by underscores.
+     */
+    public final String generatedPrefix;
+
+    /**
+     * Properties to read, if reader can be generated; null if not
+     */
+    public final List<Property> readProperties;
+
+    /**
+     * If reader can not be generated, explanation of why not
+     */
+    public final String readerProblem;
+
+    public final List<Property> writeProperties;
+
+    public final boolean hasStringCtor, hasLongCtor;
+
+    private BeanModel(TypeElement type, String binaryName, String packageName,
+            List<Property> readProps, String readerProblem, List<Property> writeProps,
+            boolean hasStringCtor, boolean hasLongCtor)
+    {
+        this.type = type;
+        typeName = type.getQualifiedName().toString();
+        this.binaryName = binaryName;
+        this.packageName = packageName;
+        String local = packageName.isEmpty() ? binaryName
+                : binaryName.substring(packageName.length() + 1);
+        generatedPrefix = local.replace('$', '_');
+        readProperties = readProps;
+        this.readerProblem = readerProblem;
+        writeProperties = writeProps;
+        this.hasStringCtor = hasStringCtor;
+        this.hasLongCtor = hasLongCtor;
+    }
+
+    public String readerClassName() {
+        return generatedPrefix + "_JrReader";
+    }
+
+    public String writerClassName() {
+        return generatedPrefix + "_JrWriter";
+    }
+
+    public String qualified(String simpleName) {
+        return packageName.isEmpty() ? simpleName : (packageName + "." + simpleName);
+    }
+
+    /*
+    /**********************************************************************
+    /* Introspection
+    /**********************************************************************
+     */
+
+    /**
+     * Factory method that introspects given Bean type.
+     *
+     * @return Model for the type, if handlers may be generated for it at all
+     *
+     * @throws IllegalArgumentException If handlers can not be generated for type
+     */
+    public static BeanModel construct(TypeElement type, Elements elements, Types types)
+    {
+        if (type.getKind() != ElementKind.CLASS) {
+            throw new IllegalArgumentException("only classes (not interfaces, enums) may be annotated");
+        }
+        final String pkg = elements.getPackageOf(type).getQualifiedName().toString();
+        if (!_isAccessible(type, pkg, elements)) {
+            throw new IllegalArgumentException("type (or one of its enclosing types) is private");
+        }
+        final DeclaredType beanType = (DeclaredType) type.asType();
+        final Map<String, RawProp> rawProps = new TreeMap<>();
+        _introspect(type, rawProps);
+
+        List<Property> writeProps = new ArrayList<>();
+        List<Property> readProps = new ArrayList<>();
+        String readerProblem = null;
+
+        for (Map.Entry<String, RawProp> entry : rawProps.entrySet()) {
+            final String name = entry.getKey();
+            final RawProp raw = entry.getValue();
+
+            // First, writing: getter, is-getter or field
+            ExecutableElement getter = (raw.getter != null) ? raw.getter : raw.isGetter;
+            if (getter != null) {
+                TypeMirror t = ((ExecutableType) types.asMemberOf(beanType, getter)).getReturnType();
+                writeProps.add(_writeProperty(name, getter.getSimpleName().toString(), null, t));
+            } else if (raw.field != null) {
+                TypeMirror t = types.asMemberOf(beanType, raw.field);
+                writeProps.add(_writeProperty(name, null, raw.field.getSimpleName().toString(), t));
+            }
+
+            // Then reading, unless we already know we can not generate reader
+            if (readerProblem != null) {
+                continue;
+            }
+            ExecutableElement setter = raw.setter;
+            TypeMirror valueType;
+            if (setter != null) {
+                Set<Modifier> mods = setter.getModifiers();
+                if (mods.contains(Modifier.PRIVATE)) {
+                    readerProblem = "setter for property '"+name+"' is private";
+                    continue;
+                }
+                // non-public setters are only accessible from within same package
+                if (!mods.contains(Modifier.PUBLIC)
+                        && !elements.getPackageOf(setter).getQualifiedName().contentEquals(pkg)) {
+                    readerProblem = "setter for property '"+name+"' is not accessible";
+                    continue;
+                }
+                valueType = ((ExecutableType) types.asMemberOf(beanType, setter)).getParameterTypes().get(0);
+            } else if (raw.field != null) {
+                if (raw.field.getModifiers().contains(Modifier.FINAL)) {
+                    readerProblem = "field for property '"+name+"' is final";
+                    continue;
+                }
+                valueType = types.asMemberOf(beanType, raw.field);
+            } else {
+                continue;
+            }
+            Property prop = _readProperty(name,
+                    (setter == null) ? null : setter.getSimpleName().toString(),
+                    (setter == null) ? raw.field.getSimpleName().toString() : null,
+                    valueType, pkg, elements, types);
+            if (prop == null) {
+                readerProblem = "type of property '"+name+"' ("+valueType+") not supported";
+            } else {
+                readProps.add(prop);
+            }
+        }
+
+        // And then creators
+        boolean hasDefaultCtor = false;
+        boolean hasStringCtor = false;
+        boolean hasLongCtor = false;
+        for (ExecutableElement ctor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (ctor.getModifiers().contains(Modifier.PRIVATE)) {
+                continue;
+            }
+            List<? extends VariableElement> params = ctor.getParameters();
+            if (params.isEmpty()) {
+                hasDefaultCtor = true;
+            } else if (params.size() == 1) {
+                TypeMirror t = params.get(0).asType();
+                if (_isClass(t, "java.lang.String")) {
+                    hasStringCtor = true;
+                } else if ((t.getKind() == TypeKind.LONG) || _isClass(t, "java.lang.Long")) {
+                    hasLongCtor = true;
+                }
+            }
+        }
+        if (readerProblem == null) {
+            if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+                readerProblem = "type is abstract";
+            } else if ((type.getNestingKind() != NestingKind.TOP_LEVEL)
+                    && !type.getModifiers().contains(Modifier.STATIC)) {
+                readerProblem = "type is a non-static inner class";
+            } else if (!hasDefaultCtor) {
+                readerProblem = "type has no non-private default constructor";
+            }
+        }
+        return new BeanModel(type, elements.getBinaryName(type).toString(), pkg,
+                (readerProblem == null) ? readProps : null, readerProblem,
+                writeProps, hasStringCtor, hasLongCtor);
+    }
+
+    private static void _introspect(TypeElement currType, Map<String, RawProp> props)
+    {
+        if (_isClass(currType.asType(), "java.lang.Object")) {
+            return;
+        }
+        // First, check base type
+        TypeMirror superType = currType.getSuperclass();
+        if (superType.getKind() == TypeKind.DECLARED) {
+            _introspect((TypeElement) ((DeclaredType) superType).asElement(), props);
+        }
+
+        // then public fields
+        for (VariableElement f : ElementFilter.fieldsIn(currType.getEnclosedElements())) {
+            Set<Modifier> mods = f.getModifiers();
+            if (mods.contains(Modifier.PUBLIC) && !mods.contains(Modifier.STATIC)) {
+                _propFrom(props, f.getSimpleName().toString()).field = f;
+            }
+        }
+
+        // then methods
+        for (ExecutableElement m : ElementFilter.methodsIn(currType.getEnclosedElements())) {
+            Set<Modifier> mods = m.getModifiers();
+            if (mods.contains(Modifier.STATIC)) {
+                continue;
+            }
+            final String name = m.getSimpleName().toString();
+            final int argCount = m.getParameters().size();
+            if (argCount == 0) { // getter?
+                if (!mods.contains(Modifier.PUBLIC)
+                        || (m.getReturnType().getKind() == TypeKind.VOID)) {
+                    continue;
+                }
+                if (name.startsWith("get")) {
+                    if (name.length() > 3) {
+                        _propFrom(props, _decap(name.substring(3))).getter = m;
+                    }
+                } else if (name.startsWith("is")) {
+                    if (name.length() > 2) {
+                        _propFrom(props, _decap(name.substring(2))).isGetter = m;
+                    }
+                }
+            } else if (argCount == 1) { // setter?
+                if (name.startsWith("set") && (name.length() > 3)) {
+                    _propFrom(props, _decap(name.substring(3))).setter = m;
+                }
+            }
+        }
+    }
+
+    private static RawProp _propFrom(Map<String, RawProp> props, String name) {
+        RawProp prop = props.get(name);
+        if (prop == null) {
+            prop = new RawProp();
+            props.put(name, prop);
+        }
+        return prop;
+    }
+
+    // Same as `POJODefinition.decap()`
+    private static String _decap(String name) {
+        char c = name.charAt(0);
+        char lowerC = Character.toLowerCase(c);
+
+        if (c != lowerC) {
+            // First: do NOT lower case if more than one leading upper case letters:
+            if ((name.length() == 1)
+                    || !Character.isUpperCase(name.charAt(1))) {
+                char chars[] = name.toCharArray();
+                chars[0] = lowerC;
+                return new String(chars);
+            }
+        }
+        return name;
+    }
+
+    /*
+    /**********************************************************************
+    /* Type classification
+    /**********************************************************************
+     */
+
+    private static Property _writeProperty(String name, String methodName, String fieldName,
+            TypeMirror type)
+    {
+        ValueKind kind = _primitiveKind(type.getKind());
+        if (kind != null) {
+            return new Property(name, methodName, fieldName, kind, true, null);
+        }
+        // For writing, all other types are written dynamically
+        return new Property(name, methodName, fieldName, ValueKind.OBJECT, false, null);
+    }
+
+    /**
+     * @return Property definition if type of property is supported for reading;
+     *    null if not
+     */
+    private static Property _readProperty(String name, String methodName, String fieldName,
+            TypeMirror type, String pkg, Elements elements, Types types)
+    {
+        ValueKind kind = _primitiveKind(type.getKind());
+        if (kind != null) {
+            return new Property(name, methodName, fieldName, kind, true, null);
+        }
+        switch (type.getKind()) {
+        case ARRAY:
+            {
+                TypeMirror contentType = ((ArrayType) type).getComponentType();
+                if (contentType.getKind().isPrimitive()) {
+                    return new Property(name, methodName, fieldName, ValueKind.OTHER, false,
+                            type.toString());
+                }
+                String contentName = _simpleClassName(contentType, pkg, elements);
+                if (contentName == null) {
+                    return null;
+                }
+                return new Property(name, methodName, fieldName, ValueKind.ARRAY, false, contentName);
+            }
+        case DECLARED:
+            break;
+        default: // type variables, wildcards and so on
+            return null;
+        }
+        final DeclaredType declType = (DeclaredType) type;
+        if (!_isAccessible((TypeElement) declType.asElement(), pkg, elements)) {
+            return null;
+        }
+        final String rawName = types.erasure(type).toString();
+        final List<? extends TypeMirror> typeArgs = declType.getTypeArguments();
+
+        switch (rawName) {
+        case "java.lang.Integer":
+            return new Property(name, methodName, fieldName, ValueKind.INT, false, null);
+        case "java.lang.Long":
+            return new Property(name, methodName, fieldName, ValueKind.LONG, false, null);
+        case "java.lang.Short":
+            return new Property(name, methodName, fieldName, ValueKind.SHORT, false, null);
+        case "java.lang.Byte":
+            return new Property(name, methodName, fieldName, ValueKind.BYTE, false, null);
+        case "java.lang.Double":
+            return new Property(name, methodName, fieldName, ValueKind.DOUBLE, false, null);
+        case "java.lang.Float":
+            return new Property(name, methodName, fieldName, ValueKind.FLOAT, false, null);
+        case "java.lang.Boolean":
+            return new Property(name, methodName, fieldName, ValueKind.BOOLEAN, false, null);
+        case "java.lang.Character":
+            return new Property(name, methodName, fieldName, ValueKind.CHAR, false, null);
+        case "java.lang.String":
+            return new Property(name, methodName, fieldName, ValueKind.STRING, false, null);
+        case "java.lang.Object":
+            return new Property(name, methodName, fieldName, ValueKind.OBJECT, false, null);
+        case "java.util.List":
+        case "java.util.Collection":
+            {
+                String contentName = typeArgs.isEmpty() ? "java.lang.Object"
+                        : _simpleClassName(typeArgs.get(0), pkg, elements);
+                if (contentName == null) {
+                    return null;
+                }
+                return new Property(name, methodName, fieldName, ValueKind.LIST, false, contentName);
+            }
+        case "java.util.Map":
+            {
+                String contentName = "java.lang.Object";
+                if (!typeArgs.isEmpty()) {
+                    if (!_isClass(typeArgs.get(0), "java.lang.String")) {
+                        return null;
+                    }
+                    contentName = _simpleClassName(typeArgs.get(1), pkg, elements);
+                    if (contentName == null) {
+                        return null;
+                    }
+                }
+                return new Property(name, methodName, fieldName, ValueKind.MAP, false, contentName);
+            }
+        default:
+        }
+        // Other generic types would need full type resolution, not supported (yet?)
+        if (!typeArgs.isEmpty()) {
+            return null;
+        }
+        return new Property(name, methodName, fieldName, ValueKind.OTHER, false, rawName);
+    }
+
+    private static ValueKind _primitiveKind(TypeKind kind)
+    {
+        switch (kind) {
+        case INT:
+            return ValueKind.INT;
+        case LONG:
+            return ValueKind.LONG;
+        case SHORT:
+            return ValueKind.SHORT;
+        case BYTE:
+            return ValueKind.BYTE;
+        case DOUBLE:
+            return ValueKind.DOUBLE;
+        case FLOAT:
+            return ValueKind.FLOAT;
+        case BOOLEAN:
+            return ValueKind.BOOLEAN;
+        case CHAR:
+            return ValueKind.CHAR;
+        default:
+            return null;
+        }
+    }
+
+    /**
+     * @return Name of given type usable as class literal, if it is an accessible
+     *    non-generic class; null otherwise
+     */
+    private static String _simpleClassName(TypeMirror type, String pkg, Elements elements)
+    {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        DeclaredType declType = (DeclaredType) type;
+        if (!declType.getTypeArguments().isEmpty()) {
+            return null;
+        }
+        TypeElement elem = (TypeElement) declType.asElement();
+        if (!_isAccessible(elem, pkg, elements)) {
+            return null;
+        }
+        return elem.getQualifiedName().toString();
+    }
+
+    private static boolean _isClass(TypeMirror type, String className)
+    {
+        return (type.getKind() == TypeKind.DECLARED)
+                && ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName()
+                    .contentEquals(className);
+    }
+
+    /**
+     * Helper method for checking that given type may be referenced from generated
+     * code in given package: that is, neither it nor any of enclosing types is private,
+     * and if in a different package, all are public.
+     */
+    private static boolean _isAccessible(TypeElement type, String fromPackage, Elements elements)
+    {
+        final boolean samePackage = elements.getPackageOf(type).getQualifiedName()
+                .contentEquals(fromPackage);
+        for (Element curr = type; curr instanceof TypeElement; curr = curr.getEnclosingElement()) {
+            Set<Modifier> mods = curr.getModifiers();
+            if (mods.contains(Modifier.PRIVATE)
+                    || (!samePackage && !mods.contains(Modifier.PUBLIC))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,22 @@
+package com.fasterxml.jackson.jr.apt;
+
+import java.lang.annotation.*;
+
+/**
+ * Marker annotation for Bean types for which {@link JSONBeanProcessor} should
+ * generate {@code ValueReader} and {@code ValueWriter} implementations at build time,
+ * so that jr-objects need not introspect them at runtime.
+ *<p>
+ * Generated handlers detect properties the same way jr-objects does with default
+ * settings (setters, getters, "is-getters" and public fields); they are registered
+ * using generated {@code ReaderWriterProvider} (see {@link JSONBeanProcessor}
+ * for details).
+ *
+ * @since 3.0
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.CLASS)
+@Documented
+public @interface JSONBean
+{
+}
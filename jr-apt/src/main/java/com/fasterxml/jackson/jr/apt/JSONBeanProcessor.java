@@ -0,0 +1,136 @@
+package com.fasterxml.jackson.jr.apt;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+/**
+ * Annotation processor that generates a {@code ValueReader} and a {@code ValueWriter}
+ * for each type annotated with {@link JSONBean}, in the package of annotated type,
+ * as well as a single {@code ReaderWriterProvider} that returns them.
+ * Registering this provider with {@code JSON}, like:
+ *<pre>
+ *   JSON json = JSON.std.with(new com.foo.JrGeneratedProvider());
+ *</pre>
+ * means that annotated types need not be introspected at runtime.
+ *<p>
+ * Name of the provider class may be specified with processor option
+ * {@code jackson.jr.provider} (fully-qualified class name); if not specified,
+ * class {@code JrGeneratedProvider} is generated in the package of the first
+ * annotated type (in alphabetic order).
+ *<p>
+ * If a reader can not be generated for a type (for example, if it has no
+ * accessible default constructor, or has properties of generic types other
+ * than {@link java.util.List}s or {@link java.util.Map}s), a warning is given
+ * and only the writer is generated: the type is then introspected at runtime
+ * for reading, as usual.
+ *<p>
+ * Note that unlike with runtime introspection, exceptions thrown by setters and
+ * getters are not wrapped by generated code.
+ *
+ * @since 3.0
+ */
+@SupportedAnnotationTypes("com.fasterxml.jackson.jr.apt.JSONBean")
+@SupportedOptions(JSONBeanProcessor.OPTION_PROVIDER)
+public class JSONBeanProcessor extends AbstractProcessor
+{
+    public final static String OPTION_PROVIDER = "jackson.jr.provider";
+
+    public final static String DEFAULT_PROVIDER_NAME = "JrGeneratedProvider";
+
+    /**
+     * Models of all types processed so far, across rounds, sorted by name
+     */
+    protected final Map<String, BeanModel> _beans = new TreeMap<>();
+
+    protected final List<Element> _originatingElements = new ArrayList<>();
+
+    protected boolean _providerGenerated;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv)
+    {
+        boolean found = false;
+        for (TypeElement annotation : annotations) {
+            for (Element elem : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (elem instanceof TypeElement) {
+                    _process((TypeElement) elem);
+                    found = true;
+                }
+            }
+        }
+        // Provider generated during first round with no new Beans, but before
+        // the last one (so that it will be compiled without warnings)
+        if (!found && !_providerGenerated && !_beans.isEmpty()) {
+            _providerGenerated = true;
+            _generateProvider();
+        }
+        return true;
+    }
+
+    protected void _process(TypeElement type)
+    {
+        final Messager messager = processingEnv.getMessager();
+        BeanModel bean;
+        try {
+            bean = BeanModel.construct(type, processingEnv.getElementUtils(),
+                    processingEnv.getTypeUtils());
+        } catch (IllegalArgumentException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR,
+                    "Can not generate handlers for @JSONBean type: "+e.getMessage(), type);
+            return;
+        }
+        if (bean.readProperties == null) {
+            messager.printMessage(Diagnostic.Kind.WARNING,
+                    "Can not generate reader for @JSONBean type ("+bean.readerProblem
+                    +"): will be introspected at runtime for reading", type);
+        } else {
+            _write(bean.qualified(bean.readerClassName()), SourceGenerator.reader(bean), type);
+        }
+        _write(bean.qualified(bean.writerClassName()), SourceGenerator.writer(bean), type);
+        _beans.put(bean.typeName, bean);
+        _originatingElements.add(type);
+    }
+
+    protected void _generateProvider()
+    {
+        List<BeanModel> beans = new ArrayList<>(_beans.values());
+        String name = processingEnv.getOptions().get(OPTION_PROVIDER);
+        if ((name == null) || name.trim().isEmpty()) {
+            name = beans.get(0).qualified(DEFAULT_PROVIDER_NAME);
+        } else {
+            name = name.trim();
+        }
+        int ix = name.lastIndexOf('.');
+        String pkg = (ix < 0) ? "" : name.substring(0, ix);
+        String simpleName = name.substring(ix+1);
+        _write(name, SourceGenerator.provider(pkg, simpleName, beans),
+                _originatingElements.toArray(new Element[0]));
+    }
+
+    protected void _write(String className, String source, Element... originatingElements)
+    {
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(className,
+                    originatingElements);
+            try (Writer w = file.openWriter()) {
+                w.write(source);
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write generated class "+className+": "+e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,404 @@
+package com.fasterxml.jackson.jr.apt;
+
+import java.util.List;
+
+import com.fasterxml.jackson.jr.apt.BeanModel.Property;
+
+/**
+ * Helper class that produces source code for generated readers, writers and
+ * provider, given {@link BeanModel}s.
+ *<p>
+ * Reading of scalar values mirrors what {@code SimpleValueReader} does, and writing
+ * what {@code JSONWriter} does for Bean properties, so that results are the same
+ * as with runtime introspection. Generated readers only handle plain reads:
+ * for projections and update mode they delegate to {@code JSONReader}, which
+ * uses introspected {@code BeanReader} for these.
+ */
+final class SourceGenerator
+{
+    private final static String HEADER = "// Generated by jackson-jr annotation processor ("
+            + JSONBeanProcessor.class.getName() + "): do not edit\n";
+
+    private final StringBuilder _sb = new StringBuilder(4000);
+
+    private SourceGenerator() { }
+
+    /*
+    /**********************************************************************
+    /* Reader generation
+    /**********************************************************************
+     */
+
+    public static String reader(BeanModel bean)
+    {
+        SourceGenerator gen = new SourceGenerator();
+        gen._header(bean.packageName);
+        gen._line("import java.io.IOException;");
+        gen._line();
+        gen._line("import com.fasterxml.jackson.core.JsonParser;");
+        gen._line("import com.fasterxml.jackson.core.JsonToken;");
+        gen._line("import com.fasterxml.jackson.core.JsonTokenId;");
+        gen._line("import com.fasterxml.jackson.jr.ob.JSON;");
+        gen._line("import com.fasterxml.jackson.jr.ob.JSONObjectException;");
+        gen._line("import com.fasterxml.jackson.jr.ob.api.ValueReader;");
+        gen._line("import com.fasterxml.jackson.jr.ob.impl.JSONReader;");
+        gen._line();
+        gen._line("public final class "+bean.readerClassName()+" extends ValueReader");
+        gen._line("{");
+        gen._line("    public "+bean.readerClassName()+"() {");
+        gen._line("        super("+bean.typeName+".class);");
+        gen._line("    }");
+        gen._line();
+        gen._line("    @Override");
+        gen._line("    public Object read(JSONReader r, JsonParser p) throws IOException");
+        gen._line("    {");
+        gen._line("        // projections are only applied by introspected Bean reader");
+        gen._line("        if (r.currentProjection() != null) {");
+        gen._line("            return r.readBean("+bean.typeName+".class);");
+        gen._line("        }");
+        gen._line("        if (p.isExpectedStartObjectToken()) {");
+        gen._line("            final "+bean.typeName+" bean = new "+bean.typeName+"();");
+        gen._line("            p.setCurrentValue(bean);");
+        gen._line("            String name;");
+        gen._line("            while ((name = p.nextFieldName()) != null) {");
+        gen._line("                switch (name) {");
+        for (Property prop : bean.readProperties) {
+            gen._line("                case "+_stringLiteral(prop.name)+":");
+            gen._readProperty(prop, "                    ");
+            gen._line("                    break;");
+        }
+        gen._line("                default:");
+        gen._line("                    _handleUnknown(r, p, name);");
+        gen._line("                }");
+        gen._line("            }");
+        gen._line("            if (!p.hasToken(JsonToken.END_OBJECT)) {");
+        gen._line("                throw JSONObjectException.from(p,");
+        gen._line("                        \"Unexpected token %s; should get FIELD_NAME or END_OBJECT\", p.currentToken());");
+        gen._line("            }");
+        gen._line("            return bean;");
+        gen._line("        }");
+        gen._line("        switch (p.currentTokenId()) {");
+        gen._line("        case JsonTokenId.ID_NULL:");
+        gen._line("            return null;");
+        if (bean.hasStringCtor) {
+            gen._line("        case JsonTokenId.ID_STRING:");
+            gen._line("            return new "+bean.typeName+"(p.getText());");
+        }
+        if (bean.hasLongCtor) {
+            gen._line("        case JsonTokenId.ID_NUMBER_INT:");
+            gen._line("            return new "+bean.typeName+"(p.getLongValue());");
+        }
+        gen._line("        default:");
+        gen._line("        }");
+        gen._line("        throw JSONObjectException.from(p, \"Can not create a %s instance out of %s\",");
+        gen._line("                _valueType.getName(), _tokenDesc(p));");
+        gen._line("    }");
+        gen._line();
+        gen._line("    @Override");
+        gen._line("    public Object readInto(JSONReader r, JsonParser p, Object existing) throws IOException {");
+        gen._line("        // update mode, too, is only supported by introspected Bean reader");
+        gen._line("        return r.readInto(existing);");
+        gen._line("    }");
+        gen._line();
+        gen._line("    private void _handleUnknown(JSONReader r, JsonParser p, String name) throws IOException {");
+        gen._line("        if (r.isEnabled(JSON.Feature.FAIL_ON_UNKNOWN_BEAN_PROPERTY)) {");
+        gen._line("            throw JSONObjectException.from(p, \"Unrecognized JSON property '%s' for Bean type %s\",");
+        gen._line("                    name, _valueType.getName());");
+        gen._line("        }");
+        gen._line("        p.nextToken();");
+        gen._line("        p.skipChildren();");
+        gen._line("    }");
+        gen._line();
+        gen._line("    private static int _nextInt(JsonParser p) throws IOException {");
+        gen._line("        int i = p.nextIntValue(-2);");
+        gen._line("        return (i != -2) ? i : p.getValueAsInt();");
+        gen._line("    }");
+        gen._line();
+        gen._line("    private static long _nextLong(JsonParser p) throws IOException {");
+        gen._line("        long l = p.nextLongValue(-2L);");
+        gen._line("        return (l != -2L) ? l : p.getValueAsLong();");
+        gen._line("    }");
+        gen._line();
+        gen._line("    private static boolean _nextBoolean(JsonParser p) throws IOException {");
+        gen._line("        Boolean b = p.nextBooleanValue();");
+        gen._line("        return (b != null) ? b.booleanValue() : p.getValueAsBoolean();");
+        gen._line("    }");
+        gen._line();
+        gen._line("    private static char _nextChar(JsonParser p) throws IOException {");
+        gen._line("        p.nextToken();");
+        gen._line("        String str = p.getValueAsString();");
+        gen._line("        return (str == null || str.isEmpty()) ? ' ' : str.charAt(0);");
+        gen._line("    }");
+        gen._line();
+        gen._line("    private static String _nextString(JsonParser p) throws IOException {");
+        gen._line("        String str = p.nextTextValue();");
+        gen._line("        return (str == null) ? p.getValueAsString() : str;");
+        gen._line("    }");
+        gen._line("}");
+        return gen._sb.toString();
+    }
+
+    private void _readProperty(Property prop, String indent)
+    {
+        String expr;
+        switch (prop.kind) {
+        case INT:
+            expr = "_nextInt(p)";
+            break;
+        case LONG:
+            expr = "_nextLong(p)";
+            break;
+        case SHORT:
+            expr = "(short) _nextInt(p)";
+            break;
+        case BYTE:
+            _line(indent+"p.nextToken();");
+            expr = "(byte) p.getValueAsInt()";
+            break;
+        case DOUBLE:
+            _line(indent+"p.nextToken();");
+            expr = "p.getValueAsDouble()";
+            break;
+        case FLOAT:
+            _line(indent+"p.nextToken();");
+            expr = "(float) p.getValueAsDouble()";
+            break;
+        case BOOLEAN:
+            expr = "_nextBoolean(p)";
+            break;
+        case CHAR:
+            expr = "_nextChar(p)";
+            break;
+        case STRING:
+            expr = "_nextString(p)";
+            break;
+        case OBJECT:
+            _line(indent+"p.nextToken();");
+            expr = "r.readValue()";
+            break;
+        case LIST:
+            _line(indent+"p.nextToken();");
+            expr = "r.readListOf("+prop.className+".class)";
+            break;
+        case MAP:
+            _line(indent+"p.nextToken();");
+            expr = "r.readMapOf("+prop.className+".class)";
+            break;
+        case ARRAY:
+            _line(indent+"p.nextToken();");
+            expr = "r.readArrayOf("+prop.className+".class)";
+            break;
+        case OTHER:
+        default:
+            _line(indent+"p.nextToken();");
+            expr = "r.readBean("+prop.className+".class)";
+            break;
+        }
+        if (prop.methodName != null) {
+            _line(indent+"bean."+prop.methodName+"("+expr+");");
+        } else {
+            _line(indent+"bean."+prop.fieldName+" = "+expr+";");
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Writer generation
+    /**********************************************************************
+     */
+
+    public static String writer(BeanModel bean)
+    {
+        SourceGenerator gen = new SourceGenerator();
+        final List<Property> props = bean.writeProperties;
+        gen._header(bean.packageName);
+        gen._line("import java.io.IOException;");
+        gen._line();
+        gen._line("import com.fasterxml.jackson.core.JsonGenerator;");
+        gen._line("import com.fasterxml.jackson.core.io.SerializedString;");
+        gen._line("import com.fasterxml.jackson.jr.ob.api.ValueWriter;");
+        gen._line("import com.fasterxml.jackson.jr.ob.impl.JSONWriter;");
+        gen._line();
+        gen._line("public final class "+bean.writerClassName()+" implements ValueWriter");
+        gen._line("{");
+        for (int i = 0, end = props.size(); i < end; ++i) {
+            gen._line("    private final static SerializedString NAME_"+i
+                    +" = new SerializedString("+_stringLiteral(props.get(i).name)+");");
+        }
+        if (!props.isEmpty()) {
+            gen._line();
+        }
+        gen._line("    @Override");
+        gen._line("    public void writeValue(JSONWriter w, JsonGenerator g, Object value) throws IOException");
+        gen._line("    {");
+        gen._line("        final "+bean.typeName+" bean = ("+bean.typeName+") value;");
+        gen._line("        g.writeStartObject(bean);");
+        for (int i = 0, end = props.size(); i < end; ++i) {
+            gen._writeProperty(props.get(i), "NAME_"+i, "        ");
+        }
+        gen._line("        g.writeEndObject();");
+        gen._line("    }");
+        gen._line();
+        gen._line("    @Override");
+        gen._line("    public Class<?> valueType() {");
+        gen._line("        return "+bean.typeName+".class;");
+        gen._line("    }");
+        gen._line("}");
+        return gen._sb.toString();
+    }
+
+    private void _writeProperty(Property prop, String nameRef, String indent)
+    {
+        final String access = (prop.methodName != null)
+                ? ("bean."+prop.methodName+"()") : ("bean."+prop.fieldName);
+        _line(indent+"g.writeFieldName("+nameRef+");");
+        if (!prop.primitive) {
+            _line(indent+"w.writeValue("+access+");");
+            return;
+        }
+        switch (prop.kind) {
+        case INT:
+        case SHORT:
+        case BYTE:
+            _line(indent+"g.writeNumber((int) "+access+");");
+            break;
+        case LONG:
+            _line(indent+"g.writeNumber("+access+");");
+            break;
+        case DOUBLE:
+        case FLOAT:
+            _line(indent+"g.writeNumber((double) "+access+");");
+            break;
+        case BOOLEAN:
+            _line(indent+"g.writeBoolean("+access+");");
+            break;
+        case CHAR:
+            _line(indent+"g.writeString(String.valueOf("+access+"));");
+            break;
+        default: // should never occur
+            _line(indent+"w.writeValue("+access+");");
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Provider generation
+    /**********************************************************************
+     */
+
+    public static String provider(String packageName, String className, List<BeanModel> beans)
+    {
+        SourceGenerator gen = new SourceGenerator();
+        gen._header(packageName);
+        gen._line("import com.fasterxml.jackson.jr.ob.JSON;");
+        gen._line("import com.fasterxml.jackson.jr.ob.api.ReaderWriterProvider;");
+        gen._line("import com.fasterxml.jackson.jr.ob.api.ValueReader;");
+        gen._line("import com.fasterxml.jackson.jr.ob.api.ValueWriter;");
+        gen._line("import com.fasterxml.jackson.jr.ob.impl.JSONReader;");
+        gen._line("import com.fasterxml.jackson.jr.ob.impl.JSONWriter;");
+        gen._line();
+        gen._line("/**");
+        gen._line(" * Provider for readers and writers generated for "+beans.size()+" Bean type(s).");
+        gen._line(" * Generated handlers are only used with default introspection settings; if");
+        gen._line(" * these are changed, types are introspected at runtime as usual.");
+        gen._line(" */");
+        gen._line("public class "+className+" extends ReaderWriterProvider");
+        gen._line("{");
+        gen._line("    @Override");
+        gen._line("    public ValueReader findValueReader(JSONReader ctxt, Class<?> type)");
+        gen._line("    {");
+        gen._line("        if ((ctxt != null) && !(ctxt.isEnabled(JSON.Feature.HANDLE_JAVA_BEANS)");
+        gen._line("                && ctxt.isEnabled(JSON.Feature.USE_FIELDS))) {");
+        gen._line("            return null;");
+        gen._line("        }");
+        int readerCount = 0;
+        for (BeanModel bean : beans) {
+            if (bean.readProperties != null) {
+                ++readerCount;
+            }
+        }
+        if (readerCount == 0) {
+            gen._line("        return null;");
+        } else {
+            gen._line("        ValueReader r;");
+            gen._line("        switch (type.getName()) {");
+            for (BeanModel bean : beans) {
+                if (bean.readProperties != null) {
+                    gen._line("        case "+_stringLiteral(bean.binaryName)+":");
+                    gen._line("            r = new "+bean.qualified(bean.readerClassName())+"();");
+                    gen._line("            break;");
+                }
+            }
+            gen._line("        default:");
+            gen._line("            return null;");
+            gen._line("        }");
+            gen._line("        // names may be same for types from different class loaders so:");
+            gen._line("        return (r.valueType() == type) ? r : null;");
+        }
+        gen._line("    }");
+        gen._line();
+        gen._line("    @Override");
+        gen._line("    public ValueWriter findValueWriter(JSONWriter ctxt, Class<?> type)");
+        gen._line("    {");
+        gen._line("        if ((ctxt != null) && !(ctxt.isEnabled(JSON.Feature.HANDLE_JAVA_BEANS)");
+        gen._line("                && ctxt.isEnabled(JSON.Feature.USE_FIELDS)");
+        gen._line("                && ctxt.isEnabled(JSON.Feature.USE_IS_GETTERS)");
+        gen._line("                && ctxt.isEnabled(JSON.Feature.WRITE_READONLY_BEAN_PROPERTIES))) {");
+        gen._line("            return null;");
+        gen._line("        }");
+        gen._line("        ValueWriter w;");
+        gen._line("        switch (type.getName()) {");
+        for (BeanModel bean : beans) {
+            gen._line("        case "+_stringLiteral(bean.binaryName)+":");
+            gen._line("            w = new "+bean.qualified(bean.writerClassName())+"();");
+            gen._line("            break;");
+        }
+        gen._line("        default:");
+        gen._line("            return null;");
+        gen._line("        }");
+        gen._line("        return (w.valueType() == type) ? w : null;");
+        gen._line("    }");
+        gen._line("}");
+        return gen._sb.toString();
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    private void _header(String packageName)
+    {
+        _sb.append(HEADER);
+        if (!packageName.isEmpty()) {
+            _line("package "+packageName+";");
+        }
+        _line();
+    }
+
+    private void _line() {
+        _sb.append('\n');
+    }
+
+    private void _line(String str) {
+        _sb.append(str).append('\n');
+    }
+
+    private static String _stringLiteral(String str)
+    {
+        StringBuilder sb = new StringBuilder(str.length() + 2);
+        sb.append('"');
+        for (int i = 0, end = str.length(); i < end; ++i) {
+            char c = str.charAt(i);
+            if ((c == '"') || (c == '\\')) {
+                sb.append('\\').append(c);
+            } else if ((c < 0x20) || (c > 0x7E)) {
+                sb.append(String.format("\\u%04x", (int) c));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.append('"').toString();
+    }
+}
@@ -0,0 +1,273 @@
+package com.fasterxml.jackson.jr.apt;
+
+import java.util.*;
+
+import com.fasterxml.jackson.jr.ob.JSON;
+import com.fasterxml.jackson.jr.ob.JSONObjectException;
+import com.fasterxml.jackson.jr.ob.ValueIterator;
+import com.fasterxml.jackson.jr.ob.api.BeanRecycler;
+import com.fasterxml.jackson.jr.ob.api.ValueReader;
+import com.fasterxml.jackson.jr.ob.api.ValueWriter;
+import com.fasterxml.jackson.jr.ob.impl.BeanColumns;
+import com.fasterxml.jackson.jr.ob.impl.BeanReader;
+import com.fasterxml.jackson.jr.ob.impl.BeanWriter;
+import com.fasterxml.jackson.jr.ob.impl.JSONReader;
+import com.fasterxml.jackson.jr.ob.impl.JSONWriter;
+
+/**
+ * Tests for handlers generated by {@link JSONBeanProcessor} for test Beans
+ * of this package, registered by (generated) {@code TestBeansProvider}.
+ */
+public class GeneratedHandlersTest extends TestBase
+{
+    @JSONBean
+    public static class Point {
+        public int x, y;
+
+        public Point() { }
+        public Point(int x, int y) {
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    @JSONBean
+    public static class Shape {
+        private String _name;
+        private boolean _closed;
+        private double _area;
+        private long _id;
+        private char _code;
+        private Point _origin;
+        private List<Point> _points;
+        private Map<String, Integer> _counts;
+        private String[] _tags;
+
+        public String getName() { return _name; }
+        public void setName(String n) { _name = n; }
+
+        public boolean isClosed() { return _closed; }
+        public void setClosed(boolean b) { _closed = b; }
+
+        public double getArea() { return _area; }
+        public void setArea(double d) { _area = d; }
+
+        public long getId() { return _id; }
+        public void setId(long l) { _id = l; }
+
+        public char getCode() { return _code; }
+        public void setCode(char c) { _code = c; }
+
+        public Point getOrigin() { return _origin; }
+        public void setOrigin(Point p) { _origin = p; }
+
+        public List<Point> getPoints() { return _points; }
+        public void setPoints(List<Point> p) { _points = p; }
+
+        public Map<String, Integer> getCounts() { return _counts; }
+        public void setCounts(Map<String, Integer> c) { _counts = c; }
+
+        public String[] getTags() { return _tags; }
+        public void setTags(String[] t) { _tags = t; }
+    }
+
+    // No default constructor: only writer generated
+    @JSONBean
+    public static class ReadOnlyBean {
+        protected final int _value;
+
+        public ReadOnlyBean(int v) { _value = v; }
+
+        public int getValue() { return _value; }
+    }
+
+    // Provider that keeps track of handlers it has provided
+    static class TrackingProvider extends TestBeansProvider
+    {
+        final List<Object> provided = new ArrayList<>();
+
+        @Override
+        public ValueReader findValueReader(JSONReader ctxt, Class<?> type) {
+            ValueReader r = super.findValueReader(ctxt, type);
+            if (r != null) {
+                provided.add(r);
+            }
+            return r;
+        }
+
+        @Override
+        public ValueWriter findValueWriter(JSONWriter ctxt, Class<?> type) {
+            ValueWriter w = super.findValueWriter(ctxt, type);
+            if (w != null) {
+                provided.add(w);
+            }
+            return w;
+        }
+    }
+
+    private final JSON JSON_GEN = JSON.std.with(new TestBeansProvider());
+
+    /*
+    /**********************************************************************
+    /* Test methods
+    /**********************************************************************
+     */
+
+    public void testGeneratedHandlersUsed() throws Exception
+    {
+        TrackingProvider provider = new TrackingProvider();
+        JSON json = JSON.std.with(provider);
+        Point p = json.beanFrom(Point.class, aposToQuotes("{'x':1,'y':2}"));
+        assertEquals(aposToQuotes("{'x':1,'y':2}"), json.asString(p));
+
+        assertEquals(2, provider.provided.size());
+        for (Object handler : provider.provided) {
+            // generated, not introspected handlers
+            assertFalse(handler instanceof BeanReader);
+            assertFalse(handler instanceof BeanWriter);
+            String name = handler.getClass().getName();
+            assertTrue(name, name.endsWith("_JrReader") || name.endsWith("_JrWriter"));
+        }
+    }
+
+    public void testSimpleRoundtrip() throws Exception
+    {
+        final String json = JSON_GEN.asString(new Point(1, -2));
+        assertEquals(aposToQuotes("{'x':1,'y':-2}"), json);
+        Point p = JSON_GEN.beanFrom(Point.class, json);
+        assertEquals(1, p.x);
+        assertEquals(-2, p.y);
+    }
+
+    public void testNestedRoundtrip() throws Exception
+    {
+        Shape shape = new Shape();
+        shape.setName("tri");
+        shape.setClosed(true);
+        shape.setArea(0.5);
+        shape.setId(Long.MAX_VALUE);
+        shape.setCode('T');
+        shape.setOrigin(new Point(3, 4));
+        shape.setPoints(Arrays.asList(new Point(0, 0), new Point(1, 0), new Point(0, 1)));
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        counts.put("a", 1);
+        counts.put("b", 2);
+        shape.setCounts(counts);
+        shape.setTags(new String[] { "x", "y" });
+
+        final String json = JSON_GEN.asString(shape);
+        // must produce same output as runtime-introspected handlers
+        assertEquals(JSON.std.asString(shape), json);
+
+        Shape result = JSON_GEN.beanFrom(Shape.class, json);
+        assertEquals("tri", result.getName());
+        assertTrue(result.isClosed());
+        assertEquals(0.5, result.getArea());
+        assertEquals(Long.MAX_VALUE, result.getId());
+        assertEquals('T', result.getCode());
+        assertEquals(3, result.getOrigin().x);
+        assertEquals(4, result.getOrigin().y);
+        assertEquals(3, result.getPoints().size());
+        assertEquals(Point.class, result.getPoints().get(1).getClass());
+        assertEquals(1, result.getPoints().get(1).x);
+        assertEquals(counts, result.getCounts());
+        assertEquals(Arrays.asList("x", "y"), Arrays.asList(result.getTags()));
+    }
+
+    public void testNullsAndCoercion() throws Exception
+    {
+        Shape result = JSON_GEN.beanFrom(Shape.class,
+                aposToQuotes("{'name':null,'origin':null,'area':'1.25','id':'12','closed':null}"));
+        assertNull(result.getName());
+        assertNull(result.getOrigin());
+        assertEquals(1.25, result.getArea());
+        assertEquals(12L, result.getId());
+        assertFalse(result.isClosed());
+
+        assertNull(JSON_GEN.beanFrom(Point.class, "null"));
+    }
+
+    public void testUnknownProperties() throws Exception
+    {
+        final String json = aposToQuotes("{'x':1,'extra':[1,{'a':true}],'y':2}");
+        try {
+            JSON_GEN.with(JSON.Feature.FAIL_ON_UNKNOWN_BEAN_PROPERTY)
+                .beanFrom(Point.class, json);
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Unrecognized JSON property 'extra'");
+        }
+        // unknown properties are skipped by default
+        Point p = JSON_GEN.beanFrom(Point.class, json);
+        assertEquals(1, p.x);
+        assertEquals(2, p.y);
+    }
+
+    public void testReadOnlyBean() throws Exception
+    {
+        assertEquals(aposToQuotes("{'value':42}"), JSON_GEN.asString(new ReadOnlyBean(42)));
+    }
+
+    public void testProjection() throws Exception
+    {
+        // projections are applied by introspected Bean readers, for nested Beans too
+        Shape shape = JSON_GEN.withProjection("/name", "/origin/x", "/points/*/y")
+                .beanFrom(Shape.class, aposToQuotes("{'name':'sq','id':3,"
+                        +"'origin':{'x':1,'y':2},'points':[{'x':5,'y':6}]}"));
+        assertEquals("sq", shape.getName());
+        assertEquals(0L, shape.getId());
+        assertEquals(1, shape.getOrigin().x);
+        assertEquals(0, shape.getOrigin().y);
+        assertEquals(1, shape.getPoints().size());
+        assertEquals(0, shape.getPoints().get(0).x);
+        assertEquals(6, shape.getPoints().get(0).y);
+    }
+
+    public void testReadInto() throws Exception
+    {
+        Shape shape = new Shape();
+        shape.setName("old");
+        final Point origin = new Point(1, 2);
+        shape.setOrigin(origin);
+        assertSame(shape, JSON_GEN.readInto(shape, aposToQuotes("{'id':7,'origin':{'y':5}}")));
+        assertEquals("old", shape.getName());
+        assertEquals(7L, shape.getId());
+        // nested Bean read into as well
+        assertSame(origin, shape.getOrigin());
+        assertEquals(1, origin.x);
+        assertEquals(5, origin.y);
+    }
+
+    public void testRecycling() throws Exception
+    {
+        BeanRecycler.Pooled<Point> pool = BeanRecycler.pooled(2);
+        ValueIterator<Point> it = JSON_GEN.beanSequenceFrom(Point.class,
+                aposToQuotes("{'x':1,'y':2} {'x':3}")).recycleWith(pool);
+        Point first = it.nextValue();
+        assertEquals(1, first.x);
+        it.release(first);
+        Point second = it.nextValue();
+        assertSame(first, second);
+        assertEquals(3, second.x);
+        assertEquals(2, second.y);
+        assertFalse(it.hasNext());
+        it.close();
+    }
+
+    public void testColumns() throws Exception
+    {
+        BeanColumns<Point> cols = JSON_GEN.columnsFrom(Point.class,
+                aposToQuotes("[{'x':1,'y':2},{'y':4}]"));
+        assertEquals(2, cols.size());
+        assertTrue(Arrays.equals(new int[] { 1, 0 }, cols.intColumn("x")));
+        assertTrue(Arrays.equals(new int[] { 2, 4 }, cols.intColumn("y")));
+        assertEquals(1, cols.bean(0).x);
+    }
+
+    public void testFallbackWithNonDefaultFeatures() throws Exception
+    {
+        // with non-default introspection settings, generated handlers are not used
+        JSON json = JSON_GEN.without(JSON.Feature.USE_FIELDS);
+        assertEquals("{}", json.asString(new Point(1, 2)));
+    }
+}
@@ -0,0 +1,25 @@
+package com.fasterxml.jackson.jr.apt;
+
+import java.util.Arrays;
+
+import junit.framework.TestCase;
+
+public abstract class TestBase extends TestCase
+{
+    protected void verifyException(Throwable e, String... matches)
+    {
+        String msg = e.getMessage();
+        String lmsg = (msg == null) ? "" : msg.toLowerCase();
+        for (String match : matches) {
+            String lmatch = match.toLowerCase();
+            if (lmsg.indexOf(lmatch) >= 0) {
+                return;
+            }
+        }
+        fail("Expected an exception with one of substrings ("+Arrays.asList(matches)+"): got one with message \""+msg+"\"");
+    }
+
+    protected String aposToQuotes(String json) {
+        return json.replace("'", "\"");
+    }
+}
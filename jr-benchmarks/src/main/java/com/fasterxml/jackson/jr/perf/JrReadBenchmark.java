@@ -0,0 +1,167 @@
+package com.fasterxml.jackson.jr.perf;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.fasterxml.jackson.jr.ob.JSON;
+
+/**
+ * Benchmarks for the main read paths of {@link JSON}: binding as Beans
+ * ({@code beanFrom}, {@code listOfFrom}) and as "simple" untyped values
+ * ({@code mapFrom}, {@code anyFrom}).
+ *<p>
+ * Each operation is measured separately for all main input source types
+ * ({@code byte[]}, {@link String}, {@link InputStream}, {@link Reader}),
+ * since each uses a different underlying parser implementation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JrReadBenchmark
+{
+    /**
+     * Number of POJOs in the JSON Array used for {@code listOfFrom} tests.
+     */
+    protected final static int LIST_LENGTH = 20;
+
+    @Param
+    public Payload payload;
+
+    protected final JSON json = JSON.std;
+
+    protected Class<?> beanType;
+
+    protected byte[] docBytes;
+    protected String docString;
+
+    protected byte[] listBytes;
+    protected String listString;
+
+    @Setup
+    public void setup() throws IOException
+    {
+        beanType = payload.beanType();
+        docBytes = json.asBytes(payload.sample(0));
+        docString = new String(docBytes, StandardCharsets.UTF_8);
+
+        List<Object> list = new ArrayList<Object>(LIST_LENGTH);
+        for (int i = 0; i < LIST_LENGTH; ++i) {
+            list.add(payload.sample(i));
+        }
+        listBytes = json.asBytes(list);
+        listString = new String(listBytes, StandardCharsets.UTF_8);
+    }
+
+    /*
+    /**********************************************************************
+    /* JSON.beanFrom()
+    /**********************************************************************
+     */
+
+    @Benchmark
+    public Object beanFromBytes() throws IOException {
+        return json.beanFrom(beanType, docBytes);
+    }
+
+    @Benchmark
+    public Object beanFromString() throws IOException {
+        return json.beanFrom(beanType, docString);
+    }
+
+    @Benchmark
+    public Object beanFromStream() throws IOException {
+        return json.beanFrom(beanType, new ByteArrayInputStream(docBytes));
+    }
+
+    @Benchmark
+    public Object beanFromReader() throws IOException {
+        return json.beanFrom(beanType, new StringReader(docString));
+    }
+
+    /*
+    /**********************************************************************
+    /* JSON.listOfFrom()
+    /**********************************************************************
+     */
+
+    @Benchmark
+    public List<?> listOfFromBytes() throws IOException {
+        return json.listOfFrom(beanType, listBytes);
+    }
+
+    @Benchmark
+    public List<?> listOfFromString() throws IOException {
+        return json.listOfFrom(beanType, listString);
+    }
+
+    @Benchmark
+    public List<?> listOfFromStream() throws IOException {
+        return json.listOfFrom(beanType, new ByteArrayInputStream(listBytes));
+    }
+
+    @Benchmark
+    public List<?> listOfFromReader() throws IOException {
+        return json.listOfFrom(beanType, new StringReader(listString));
+    }
+
+    /*
+    /**********************************************************************
+    /* JSON.mapFrom()
+    /**********************************************************************
+     */
+
+    @Benchmark
+    public Map<String,Object> mapFromBytes() throws IOException {
+        return json.mapFrom(docBytes);
+    }
+
+    @Benchmark
+    public Map<String,Object> mapFromString() throws IOException {
+        return json.mapFrom(docString);
+    }
+
+    @Benchmark
+    public Map<String,Object> mapFromStream() throws IOException {
+        return json.mapFrom(new ByteArrayInputStream(docBytes));
+    }
+
+    @Benchmark
+    public Map<String,Object> mapFromReader() throws IOException {
+        return json.mapFrom(new StringReader(docString));
+    }
+
+    /*
+    /**********************************************************************
+    /* JSON.anyFrom()
+    /**********************************************************************
+     */
+
+    @Benchmark
+    public Object anyFromBytes() throws IOException {
+        return json.anyFrom(listBytes);
+    }
+
+    @Benchmark
+    public Object anyFromString() throws IOException {
+        return json.anyFrom(listString);
+    }
+
+    @Benchmark
+    public Object anyFromStream() throws IOException {
+        return json.anyFrom(new ByteArrayInputStream(listBytes));
+    }
+
+    @Benchmark
+    public Object anyFromReader() throws IOException {
+        return json.anyFrom(new StringReader(listString));
+    }
+}
@@ -0,0 +1,112 @@
+package com.fasterxml.jackson.jr.perf;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.fasterxml.jackson.jr.ob.JSON;
+
+/**
+ * Benchmarks for the main write paths of {@link JSON}: {@code asBytes},
+ * {@code asString} and {@code write(Object, OutputStream)}, for both
+ * POJOs (via {@code BeanWriter}) and "simple" untyped values
+ * ({@link Map}s and {@link List}s as produced by {@code mapFrom}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JrWriteBenchmark
+{
+    protected final static int LIST_LENGTH = 20;
+
+    @Param
+    public Payload payload;
+
+    protected final JSON json = JSON.std;
+
+    protected Object bean;
+    protected List<Object> beanList;
+    protected Map<String,Object> map;
+
+    @Setup
+    public void setup() throws IOException
+    {
+        bean = payload.sample(0);
+        beanList = new ArrayList<Object>(LIST_LENGTH);
+        for (int i = 0; i < LIST_LENGTH; ++i) {
+            beanList.add(payload.sample(i));
+        }
+        // and "untyped" variant of the same content
+        map = json.mapFrom(json.asBytes(bean));
+    }
+
+    /*
+    /**********************************************************************
+    /* POJOs
+    /**********************************************************************
+     */
+
+    @Benchmark
+    public byte[] beanAsBytes() throws IOException {
+        return json.asBytes(bean);
+    }
+
+    @Benchmark
+    public String beanAsString() throws IOException {
+        return json.asString(bean);
+    }
+
+    @Benchmark
+    public int beanToStream() throws IOException {
+        NopOutputStream out = new NopOutputStream();
+        json.write(bean, out);
+        return out.size();
+    }
+
+    @Benchmark
+    public byte[] beanListAsBytes() throws IOException {
+        return json.asBytes(beanList);
+    }
+
+    @Benchmark
+    public String beanListAsString() throws IOException {
+        return json.asString(beanList);
+    }
+
+    @Benchmark
+    public int beanListToStream() throws IOException {
+        NopOutputStream out = new NopOutputStream();
+        json.write(beanList, out);
+        return out.size();
+    }
+
+    /*
+    /**********************************************************************
+    /* Untyped (Map) values
+    /**********************************************************************
+     */
+
+    @Benchmark
+    public byte[] mapAsBytes() throws IOException {
+        return json.asBytes(map);
+    }
+
+    @Benchmark
+    public String mapAsString() throws IOException {
+        return json.asString(map);
+    }
+
+    @Benchmark
+    public int mapToStream() throws IOException {
+        NopOutputStream out = new NopOutputStream();
+        json.write(map, out);
+        return out.size();
+    }
+}
@@ -0,0 +1,23 @@
+package com.fasterxml.jackson.jr.perf;
+
+import java.io.OutputStream;
+
+/**
+ * Bogus {@link OutputStream} that only counts bytes written: used so that
+ * write benchmarks measure encoding, not buffer copying.
+ */
+public class NopOutputStream extends OutputStream
+{
+    protected int size = 0;
+
+    @Override
+    public void write(int b) { ++size; }
+
+    @Override
+    public void write(byte[] b) { size += b.length; }
+
+    @Override
+    public void write(byte[] b, int offset, int len) { size += len; }
+
+    public int size() { return size; }
+}
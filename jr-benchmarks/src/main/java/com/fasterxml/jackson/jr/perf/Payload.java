@@ -0,0 +1,101 @@
+package com.fasterxml.jackson.jr.perf;
+
+import com.fasterxml.jackson.jr.ob.MediaItem;
+import com.fasterxml.jackson.jr.perf.model.DeepBean;
+import com.fasterxml.jackson.jr.perf.model.NumericBean;
+import com.fasterxml.jackson.jr.perf.model.StringBean;
+import com.fasterxml.jackson.jr.perf.model.WideBean;
+
+/**
+ * Enumeration of data sets benchmarks run against: each has a POJO type
+ * and a factory for sample instances of that type.
+ */
+public enum Payload
+{
+    /**
+     * Standard "media item" test type, same as used by jvm-serializers
+     * and jr-objects unit tests.
+     */
+    MEDIA_ITEM(MediaItem.class) {
+        @Override
+        public Object sample(int index) {
+            MediaItem.Content content = new MediaItem.Content();
+            content.setUri("http://javaone.com/keynote.mpg");
+            content.setTitle("Javaone Keynote");
+            content.setWidth(640);
+            content.setHeight(480);
+            content.setFormat("video/mpg4");
+            content.setDuration(18000000);
+            content.setSize(58982400L + index);
+            content.setBitrate(262144);
+            content.setPlayer(MediaItem.Player.JAVA);
+            content.setCopyright("None");
+            content.addPerson("Bill Gates");
+            content.addPerson("Steve Jobs");
+
+            MediaItem item = new MediaItem(content);
+            item.addPhoto(new MediaItem.Photo("http://javaone.com/keynote_large.jpg", "Javaone Keynote",
+                    1024, 768, MediaItem.Size.LARGE));
+            item.addPhoto(new MediaItem.Photo("http://javaone.com/keynote_small.jpg", "Javaone Keynote",
+                    320, 240, MediaItem.Size.SMALL));
+            return item;
+        }
+    },
+
+    /**
+     * POJO with many (28) scalar properties
+     */
+    WIDE(WideBean.class) {
+        @Override
+        public Object sample(int index) {
+            return WideBean.sample(index);
+        }
+    },
+
+    /**
+     * Recursive POJO nested 24 levels deep
+     */
+    DEEP(DeepBean.class) {
+        @Override
+        public Object sample(int index) {
+            return DeepBean.sample(24);
+        }
+    },
+
+    /**
+     * POJO with mostly numeric content, including Lists of numbers
+     */
+    NUMERIC(NumericBean.class) {
+        @Override
+        public Object sample(int index) {
+            return NumericBean.sample(index, 32);
+        }
+    },
+
+    /**
+     * POJO with mostly textual content
+     */
+    STRINGS(StringBean.class) {
+        @Override
+        public Object sample(int index) {
+            return StringBean.sample(index);
+        }
+    }
+    ;
+
+    private final Class<?> _beanType;
+
+    private Payload(Class<?> beanType) {
+        _beanType = beanType;
+    }
+
+    public Class<?> beanType() {
+        return _beanType;
+    }
+
+    /**
+     * Factory method for constructing a sample POJO instance; index may be
+     * used to vary contents slightly.
+     */
+    public abstract Object sample(int index);
+}
@@ -0,0 +1,33 @@
+package com.fasterxml.jackson.jr.perf.model;
+
+/**
+ * Recursive POJO used for producing deeply nested content, to stress
+ * nested reader/writer dispatch.
+ */
+public class DeepBean
+{
+    private String _name;
+    private int _level;
+    private DeepBean _child;
+
+    public String getName() { return _name; }
+    public int getLevel() { return _level; }
+    public DeepBean getChild() { return _child; }
+
+    public void setName(String n) { _name = n; }
+    public void setLevel(int l) { _level = l; }
+    public void setChild(DeepBean c) { _child = c; }
+
+    public static DeepBean sample(int depth)
+    {
+        DeepBean root = null;
+        for (int i = depth; i > 0; --i) {
+            DeepBean b = new DeepBean();
+            b._name = "level-"+i;
+            b._level = i;
+            b._child = root;
+            root = b;
+        }
+        return root;
+    }
+}
@@ -0,0 +1,62 @@
+package com.fasterxml.jackson.jr.perf.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * POJO dominated by numeric and boolean content, to stress number
+ * decoding and (un)boxing of primitive properties.
+ */
+public class NumericBean
+{
+    private int _intValue;
+    private long _longValue;
+    private short _shortValue;
+    private float _floatValue;
+    private double _doubleValue;
+    private boolean _flag;
+
+    private List<Integer> _ints;
+    private List<Long> _timestamps;
+    private List<Double> _values;
+
+    public int getIntValue() { return _intValue; }
+    public long getLongValue() { return _longValue; }
+    public short getShortValue() { return _shortValue; }
+    public float getFloatValue() { return _floatValue; }
+    public double getDoubleValue() { return _doubleValue; }
+    public boolean isFlag() { return _flag; }
+    public List<Integer> getInts() { return _ints; }
+    public List<Long> getTimestamps() { return _timestamps; }
+    public List<Double> getValues() { return _values; }
+
+    public void setIntValue(int v) { _intValue = v; }
+    public void setLongValue(long v) { _longValue = v; }
+    public void setShortValue(short v) { _shortValue = v; }
+    public void setFloatValue(float v) { _floatValue = v; }
+    public void setDoubleValue(double v) { _doubleValue = v; }
+    public void setFlag(boolean v) { _flag = v; }
+    public void setInts(List<Integer> v) { _ints = v; }
+    public void setTimestamps(List<Long> v) { _timestamps = v; }
+    public void setValues(List<Double> v) { _values = v; }
+
+    public static NumericBean sample(int index, int arrayLength)
+    {
+        NumericBean b = new NumericBean();
+        b._intValue = 123456 + index;
+        b._longValue = 9876543210123L + index;
+        b._shortValue = (short) index;
+        b._floatValue = 0.25f * index;
+        b._doubleValue = 3.14159265358979 * index;
+        b._flag = (index & 1) == 0;
+        b._ints = new ArrayList<Integer>(arrayLength);
+        b._timestamps = new ArrayList<Long>(arrayLength);
+        b._values = new ArrayList<Double>(arrayLength);
+        for (int i = 0; i < arrayLength; ++i) {
+            b._ints.add(i * 37 - 500);
+            b._timestamps.add(1565000000000L + (i * 1000L));
+            b._values.add(Math.sqrt(i + index) * 1000.0);
+        }
+        return b;
+    }
+}
@@ -0,0 +1,55 @@
+package com.fasterxml.jackson.jr.perf.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * POJO dominated by textual content, including longer values and values
+ * that need escaping, to stress String decoding and encoding.
+ */
+public class StringBean
+{
+    private String _title;
+    private String _author;
+    private String _summary;
+    private String _body;
+    private String _quoted;
+    private String _unicode;
+    private List<String> _tags;
+
+    public String getTitle() { return _title; }
+    public String getAuthor() { return _author; }
+    public String getSummary() { return _summary; }
+    public String getBody() { return _body; }
+    public String getQuoted() { return _quoted; }
+    public String getUnicode() { return _unicode; }
+    public List<String> getTags() { return _tags; }
+
+    public void setTitle(String v) { _title = v; }
+    public void setAuthor(String v) { _author = v; }
+    public void setSummary(String v) { _summary = v; }
+    public void setBody(String v) { _body = v; }
+    public void setQuoted(String v) { _quoted = v; }
+    public void setUnicode(String v) { _unicode = v; }
+    public void setTags(List<String> v) { _tags = v; }
+
+    public static StringBean sample(int index)
+    {
+        StringBean b = new StringBean();
+        b._title = "Article number "+index;
+        b._author = "Author Name "+(index % 17);
+        b._summary = "A short summary of the article that spans a single sentence or so.";
+        StringBuilder sb = new StringBuilder(1000);
+        while (sb.length() < 800) {
+            sb.append("Lorem ipsum dolor sit amet, consectetur adipiscing elit. ");
+        }
+        b._body = sb.toString();
+        b._quoted = "Line 1\nLine 2\t\"quoted\" and \\backslash\\ "+index;
+        b._unicode = "Gr\u00FC\u00DFe aus K\u00F6ln, \u65E5\u672C\u8A9E, \u0420\u0443\u0441\u0441\u043A\u0438\u0439";
+        b._tags = new ArrayList<String>();
+        for (int i = 0; i < 8; ++i) {
+            b._tags.add("tag-"+i);
+        }
+        return b;
+    }
+}
@@ -0,0 +1,79 @@
+package com.fasterxml.jackson.jr.perf.model;
+
+/**
+ * POJO with a large number of scalar properties, exposed as public fields,
+ * to stress per-property overhead of binding.
+ */
+public class WideBean
+{
+    public String id;
+    public String name;
+    public String description;
+    public String category;
+    public String owner;
+    public String status;
+    public String region;
+    public String currency;
+
+    public int count;
+    public int rank;
+    public int version;
+    public int priority;
+    public int width;
+    public int height;
+    public int depth;
+    public int flags;
+
+    public long created;
+    public long modified;
+    public long expires;
+    public long size;
+
+    public double price;
+    public double discount;
+    public double weight;
+    public double score;
+
+    public boolean active;
+    public boolean visible;
+    public boolean deleted;
+    public boolean featured;
+
+    public static WideBean sample(int index)
+    {
+        WideBean b = new WideBean();
+        b.id = "item-"+index;
+        b.name = "Item #"+index;
+        b.description = "Generic description of item number "+index;
+        b.category = "category-"+(index % 7);
+        b.owner = "owner-"+(index % 13);
+        b.status = (index & 1) == 0 ? "ACTIVE" : "PENDING";
+        b.region = "eu-west-1";
+        b.currency = "EUR";
+
+        b.count = index * 3;
+        b.rank = index % 100;
+        b.version = 12;
+        b.priority = index % 5;
+        b.width = 640;
+        b.height = 480;
+        b.depth = 24;
+        b.flags = 0x7F;
+
+        b.created = 1565000000000L + index;
+        b.modified = 1566000000000L + index;
+        b.expires = 1599000000000L;
+        b.size = 58982400L + index;
+
+        b.price = 19.95 + index;
+        b.discount = 0.125;
+        b.weight = 1.75 * index;
+        b.score = 4.5;
+
+        b.active = true;
+        b.visible = (index & 1) == 0;
+        b.deleted = false;
+        b.featured = (index % 3) == 0;
+        return b;
+    }
+}
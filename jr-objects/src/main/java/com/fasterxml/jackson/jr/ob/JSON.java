@@ -2,7 +2,15 @@ package com.fasterxml.jackson.jr.ob;
 
 import java.io.*;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import com.fasterxml.jackson.core.*;
 import com.fasterxml.jackson.core.io.CharacterEscapes;
@@ -15,7 +23,9 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.core.util.ByteArrayBuilder;
 import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.core.util.Instantiatable;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
 import com.fasterxml.jackson.jr.ob.api.CollectionBuilder;
+import com.fasterxml.jackson.jr.ob.api.LazyNumber;
 import com.fasterxml.jackson.jr.ob.api.MapBuilder;
 import com.fasterxml.jackson.jr.ob.api.ReaderWriterProvider;
 import com.fasterxml.jackson.jr.ob.comp.CollectionComposer;
@@ -39,7 +49,13 @@ import com.fasterxml.jackson.jr.ob.impl.*;
  * <li>{@link String}/{@link CharSequence}</li>
  * <li>{@link URL}</li>
  * <li>{@link File}</li>
+ * <li>{@link Path} (since 3.0)</li>
+ * <li>{@link FileChannel} (since 3.0)</li>
+ * <li>{@link ByteBuffer} (including {@link java.nio.MappedByteBuffer}; since 3.0)</li>
  * </ul>
+ *<p>
+ * Files specified as {@link Path} or {@link FileChannel} are memory-mapped
+ * (in segments), instead of being read through buffers.
  * 
  */
 @SuppressWarnings("resource")
@@ -112,8 +128,10 @@ public class JSON
         * deferred materialization (as implemented by {@link DeferredMap}), in case
         * user has not specified custom {@link Map} implementation.
         * Enabling feature typically reduces initial value read time and moves
-        * overhead to actual access of contents (materialization occurs when first
-        * key or value access happens); this makes sense when only a subset of
+        * overhead to actual access of contents (small Maps are accessed without
+        * materialization, larger ones using a hash index built on first access;
+        * full materialization only occurs when contents are modified); this
+        * makes sense when only a subset of
         * data is accessed. Conversely, when traversing full object hierarchy, it
         * makes sense to disable this feature.
         *<p>
@@ -131,6 +149,22 @@ public class JSON
         */
        FAIL_ON_DUPLICATE_MAP_KEYS(true),
 
+       /**
+        * When reading "untyped" content (as {@link java.util.Map}s, {@link java.util.List}s
+        * and so on), should JSON Numbers be read as {@link LazyNumber}s, which
+        * retain textual representation and only decode it when value is accessed,
+        * instead of decoding as {@link java.lang.Integer}, {@link java.lang.Double}
+        * and so on. Enabling feature reduces read time for numeric-heavy content
+        * where only some of numbers are accessed; and since {@link LazyNumber}s
+        * are written back verbatim, round-trips of numbers are lossless.
+        *<p>
+        * Default setting is <code>false</code>, meaning that numbers are decoded
+        * when read.
+        *
+        * @since 3.0
+        */
+       USE_LAZY_NUMBERS(false),
+
        /**
         * When encountering a JSON Object property name for which there is no
         * matching Bean property, should an exception be thrown (true),
@@ -218,6 +252,28 @@ public class JSON
         */
        FAIL_ON_UNKNOWN_TYPE_WRITE(false),
 
+       /*
+       /**********************************************************************
+       /* Other features that do not affect caching
+       /**********************************************************************
+        */
+
+       /**
+        * Feature that determines whether per-operation reader and writer instances
+        * (along with their type lookup helpers and collection/map builders)
+        * are recycled across read and write operations, instead of constructing
+        * new ones for each operation. Recycling reduces allocation for small
+        * payloads and keeps type lookup state warm; instances are pooled per
+        * {@link JSON} instance (not per thread), so it also works well with
+        * virtual threads. Instances are only recycled after operations complete
+        * successfully, and not for sequence reads via {@link ValueIterator}.
+        *<p>
+        * Feature is disabled by default.
+        *
+        * @since 3.0
+        */
+       RECYCLE_OPERATION_INSTANCES(false),
+
        /*
        /**********************************************************************
        /* Features that affect introspection
@@ -278,6 +334,39 @@ public class JSON
         * Feature is <b>enabled</c> by default, so public fields are discovered by default.
         */
        USE_FIELDS(true, true),
+
+       /**
+        * Feature that determines whether Bean readers and writers should compose
+        * a specialized {@link java.lang.invoke.MethodHandle} chain for each property
+        * (binding value reader or writer type, and setter or getter) instead of
+        * dispatching through generic per-property reflection-based handling.
+        * Doing this allows JVM to inline the full read-and-assign (or access-and-write)
+        * path for each property separately, at the cost of somewhat slower construction
+        * of readers and writers; if composition fails for a property, regular handling
+        * is used for it.
+        *<p>
+        * Feature is disabled by default.
+        *
+        * @since 3.0
+        */
+       SPECIALIZE_BEAN_HANDLERS(false, true),
+
+       /**
+        * Feature that determines whether {@link List}-valued properties (and other
+        * values) declared as {@code List<Integer>}, {@code List<Long>} or
+        * {@code List<Double>} (or {@link Collection} of these) are bound as
+        * compact lists that store values in primitive arrays, boxing them only
+        * on access (see {@link com.fasterxml.jackson.jr.ob.impl.PrimitiveList}),
+        * instead of {@link ArrayList}s of boxed values. This greatly reduces
+        * memory usage of large numeric lists; such lists are also written
+        * without boxing. Note that these lists can not contain {@code null}s;
+        * JSON Arrays with nulls are bound as {@link ArrayList}s.
+        *<p>
+        * Feature is disabled by default.
+        *
+        * @since 3.0
+        */
+       USE_PRIMITIVE_LISTS(false, true),
        ;
 
         /*
@@ -398,6 +487,22 @@ public class JSON
     protected final int _features;
 
     protected final PrettyPrinter _prettyPrinter;
+
+    /**
+     * Pool of recycled per-operation readers, if
+     * {@link Feature#RECYCLE_OPERATION_INSTANCES} is enabled; {@code null} if not.
+     *
+     * @since 3.0
+     */
+    protected final InstancePool<JSONReader> _readerPool;
+
+    /**
+     * Pool of recycled per-operation writers, if
+     * {@link Feature#RECYCLE_OPERATION_INSTANCES} is enabled; {@code null} if not.
+     *
+     * @since 3.0
+     */
+    protected final InstancePool<JSONWriter> _writerPool;
     
     /*
     /**********************************************************************
@@ -433,6 +538,13 @@ public class JSON
         _reader = (r != null) ? r : _defaultReader(streamF, features, trees, null);
         _writer = (w != null) ? w : _defaultWriter(features, trees, null);
         _prettyPrinter = pp;
+        if (Feature.RECYCLE_OPERATION_INSTANCES.isEnabled(features)) {
+            _readerPool = new InstancePool<JSONReader>();
+            _writerPool = new InstancePool<JSONWriter>();
+        } else {
+            _readerPool = null;
+            _writerPool = null;
+        }
     }
 
 
@@ -567,6 +679,35 @@ public class JSON
                 r, _writer, _prettyPrinter);
     }
 
+    /**
+     * Mutant factory for constructing an instance that only reads parts of
+     * content pointed to by given JSON Pointer expressions (and their contents):
+     * all other values are skipped without binding, which is much more efficient
+     * than reading everything when only a small subset is needed.
+     * In addition to standard JSON Pointer syntax, {@code *} may be used as
+     * a segment to match all properties or elements (like {@code "/items/*}{@code /price"}).
+     * See {@link Projection} for details.
+     *<p>
+     * Projection applies to values read as {@link java.util.Map}s, {@link java.util.List}s,
+     * arrays and Beans; elements of JSON Arrays that are not included are
+     * omitted. Calling method with no expressions removes projection.
+     *
+     * @param pointers JSON Pointer expressions to values to read
+     *
+     * @throws IllegalArgumentException If any of expressions is not a valid JSON Pointer
+     *
+     * @since 3.0
+     */
+    public JSON withProjection(String... pointers) {
+        Projection projection = (pointers.length == 0) ? null : Projection.compile(pointers);
+        JSONReader r = _reader.with(projection);
+        if (r == _reader) {
+            return this;
+        }
+        return _with(_features, _streamFactory, _treeCodec,
+                r, _writer, _prettyPrinter);
+    }
+
     /**
      * Mutant factory for constructing an instance with specified {@link ReaderWriterProvider},
      * and returning new instance (or, if there would be no change, this instance).
@@ -583,6 +724,23 @@ public class JSON
                 r, w, _prettyPrinter);
     }
     
+    /**
+     * Mutant factory for constructing an instance that caches at most specified
+     * number of resolved readers and writer type ids: when caches are full,
+     * least recently used entries are evicted. Caches of new instance are empty.
+     *
+     * @since 3.0
+     */
+    public JSON withCacheSize(int maxEntries) {
+        JSONReader r = _reader.withCacheSize(maxEntries);
+        JSONWriter w = _writer.withCacheSize(maxEntries);
+        if ((r == _reader) && (w == _writer))  {
+            return this;
+        }
+        return _with(_features, _streamFactory, _treeCodec,
+                r, w, _prettyPrinter);
+    }
+
     /**
      * Mutant factory for constructing an instance with specified feature
      * enabled or disabled (depending on <code>state</code>), and returning
@@ -695,6 +853,9 @@ public class JSON
      * <li>{@link String}/{@link CharSequence}</li>
      * <li>{@link URL}</li>
      * <li>{@link File}</li>
+     * <li>{@link Path}</li>
+     * <li>{@link FileChannel}</li>
+     * <li>{@link ByteBuffer}</li>
      * </ul>
      *<p>
      * Rules regarding closing of the underlying source follow rules
@@ -742,7 +903,9 @@ public class JSON
 
     public void write(Object value, JsonGenerator gen) throws IOException, JSONObjectException {
         // NOTE: no call to _config(); assumed to be fully configured
-        _writerForOperation(gen).writeValue(value);
+        JSONWriter w = _writerForOperation(gen);
+        w.writeValue(value);
+        _releaseWriter(w);
         if (Feature.FLUSH_AFTER_WRITE_VALUE.isEnabled(_features)) {
             gen.flush();
         }
@@ -825,7 +988,9 @@ public class JSON
         if (source instanceof JsonParser) {
             // note: no call to _config(), should come pre-configured
             JsonParser p = _initForReading((JsonParser) source);
-            List<Object> result = _readerForOperation(p).readList();
+            JSONReader r = _readerForOperation(p);
+            List<Object> result = r.readList();
+            _releaseReader(r);
             // Need to consume the token too
             p.clearCurrentToken();
             return result;
@@ -833,7 +998,9 @@ public class JSON
         JsonParser p = _parser(source);
         try {
             _initForReading(_config(p));
-            List<Object> result = _readerForOperation(p).readList();
+            JSONReader r = _readerForOperation(p);
+            List<Object> result = r.readList();
+            _releaseReader(r);
             JsonParser p0 = p;
             p = null;
             _close(p0, null);
@@ -848,7 +1015,9 @@ public class JSON
         if (source instanceof JsonParser) {
             // note: no call to _config(), should come pre-configured
             JsonParser p = _initForReading((JsonParser) source);
-            List<T> result = _readerForOperation(p).readListOf(type);
+            JSONReader r = _readerForOperation(p);
+            List<T> result = r.readListOf(type);
+            _releaseReader(r);
             // Need to consume the token too
             p.clearCurrentToken();
             return result;
@@ -856,7 +1025,9 @@ public class JSON
         JsonParser p = _parser(source);
         try {
             _initForReading(_config(p));
-            List<T> result = _readerForOperation(p).readListOf(type);
+            JSONReader r = _readerForOperation(p);
+            List<T> result = r.readListOf(type);
+            _releaseReader(r);
             JsonParser p0 = p;
             p = null;
             _close(p0, null);
@@ -870,14 +1041,18 @@ public class JSON
     {
         if (source instanceof JsonParser) {
             JsonParser p = _initForReading((JsonParser) source);
-            Object[] result = _readerForOperation(p).readArray();
+            JSONReader r = _readerForOperation(p);
+            Object[] result = r.readArray();
+            _releaseReader(r);
             p.clearCurrentToken();
             return result;
         }
         JsonParser p = _parser(source);
         try {
             _initForReading(_config(p));
-            Object[] result = _readerForOperation(p).readArray();
+            JSONReader r = _readerForOperation(p);
+            Object[] result = r.readArray();
+            _releaseReader(r);
             JsonParser p0 = p;
             p = null;
             _close(p0, null);
@@ -891,14 +1066,18 @@ public class JSON
     {
         if (source instanceof JsonParser) {
             JsonParser p = _initForReading((JsonParser) source);
-            T[] result = _readerForOperation(p).readArrayOf(type);
+            JSONReader r = _readerForOperation(p);
+            T[] result = r.readArrayOf(type);
+            _releaseReader(r);
             p.clearCurrentToken();
             return result;
         }
         JsonParser p = _parser(source);
         try {
             _initForReading(_config(p));
-            T[] result = _readerForOperation(p).readArrayOf(type);
+            JSONReader r = _readerForOperation(p);
+            T[] result = r.readArrayOf(type);
+            _releaseReader(r);
             JsonParser p0 = p;
             p = null;
             _close(p0, null);
@@ -913,14 +1092,18 @@ public class JSON
     {
         if (source instanceof JsonParser) {
             JsonParser p = _initForReading((JsonParser) source);
-            Map<?,?> result = _readerForOperation(p).readMap();
+            JSONReader r = _readerForOperation(p);
+            Map<?,?> result = r.readMap();
+            _releaseReader(r);
             p.clearCurrentToken();
             return (Map<String,Object>) result;
         }
         JsonParser p = _parser(source);
         try {
             _initForReading(_config(p));
-            Map<?,?> result = _readerForOperation(p).readMap();
+            JSONReader r = _readerForOperation(p);
+            Map<?,?> result = r.readMap();
+            _releaseReader(r);
             JsonParser p0 = p;
             p = null;
             _close(p0, null);
@@ -940,14 +1123,18 @@ public class JSON
     {
         if (source instanceof JsonParser) {
             JsonParser p = _initForReading((JsonParser) source);
-            Map<?,?> result = _readerForOperation(p).readMapOf(type);
+            JSONReader r = _readerForOperation(p);
+            Map<?,?> result = r.readMapOf(type);
+            _releaseReader(r);
             p.clearCurrentToken();
             return (Map<String,T>) result;
         }
         JsonParser p = _parser(source);
         try {
             _initForReading(_config(p));
-            Map<?,?> result = _readerForOperation(p).readMapOf(type);
+            JSONReader r = _readerForOperation(p);
+            Map<?,?> result = r.readMapOf(type);
+            _releaseReader(r);
             JsonParser p0 = p;
             p = null;
             _close(p0, null);
@@ -961,14 +1148,18 @@ public class JSON
     {
         if (source instanceof JsonParser) {
             JsonParser p = _initForReading((JsonParser) source);
-            T result = _readerForOperation(p).readBean(type);
+            JSONReader r = _readerForOperation(p);
+            T result = r.readBean(type);
+            _releaseReader(r);
             p.clearCurrentToken();
             return result;
         }
         JsonParser p = _parser(source);
         try {
             _initForReading(_config(p));
-            T result = _readerForOperation(p).readBean(type);
+            JSONReader r = _readerForOperation(p);
+            T result = r.readBean(type);
+            _releaseReader(r);
             JsonParser p0 = p;
             p = null;
             _close(p0, null);
@@ -978,6 +1169,88 @@ public class JSON
         }
     }
     
+    /**
+     * Read method for reading a JSON Object into given existing Bean,
+     * {@link java.util.Map} (or, for JSON Arrays, {@link java.util.Collection}),
+     * instead of constructing a new instance ("update mode"): useful both for
+     * reusing (recycling) instances and for applying partial updates.
+     * Properties not included in content are left as is; and non-null property
+     * values that are Beans, {@link java.util.Map}s or {@link java.util.Collection}s
+     * are similarly merged with content (Maps by key, Lists by index, and
+     * other Collections by replacing contents).
+     * See {@link JSONReader#readInto} for details.
+     *
+     * @param target Instance to read content into
+     *
+     * @return {@code target}, after content has been read into it
+     *
+     * @since 3.0
+     */
+    public <T> T readInto(T target, Object source) throws IOException, JSONObjectException
+    {
+        if (target == null) {
+            throw new IllegalArgumentException("Target instance to read into can not be null");
+        }
+        if (source instanceof JsonParser) {
+            JsonParser p = _initForReading((JsonParser) source);
+            JSONReader r = _readerForOperation(p);
+            r.readInto(target);
+            _releaseReader(r);
+            p.clearCurrentToken();
+            return target;
+        }
+        JsonParser p = _parser(source);
+        try {
+            _initForReading(_config(p));
+            JSONReader r = _readerForOperation(p);
+            r.readInto(target);
+            _releaseReader(r);
+            JsonParser p0 = p;
+            p = null;
+            _close(p0, null);
+            return target;
+        } catch (Exception e) {
+            return _closeWithError(p, e);
+        }
+    }
+
+    /**
+     * Read method for reading a JSON Array of JSON Objects into columnar
+     * {@link BeanColumns} container, in which values of each property of
+     * Bean {@code type} are stored in a (primitive, if possible) array, instead
+     * of constructing a Bean for each element. Useful for reading large
+     * numbers of homogenous records; see {@link BeanColumns} for details.
+     *<p>
+     * Result may be written back using regular write methods, as a JSON Array
+     * of JSON Objects.
+     *
+     * @since 3.0
+     */
+    public <T> BeanColumns<T> columnsFrom(Class<T> type, Object source) throws IOException, JSONObjectException
+    {
+        if (source instanceof JsonParser) {
+            JsonParser p = _initForReading((JsonParser) source);
+            JSONReader r = _readerForOperation(p);
+            BeanColumns<T> result = r.readColumnsOf(type);
+            _releaseReader(r);
+            p.clearCurrentToken();
+            return result;
+        }
+        JsonParser p = _parser(source);
+        try {
+            _initForReading(_config(p));
+            JSONReader r = _readerForOperation(p);
+            BeanColumns<T> result = r.readColumnsOf(type);
+            _releaseReader(r);
+            JsonParser p0 = p;
+            p = null;
+            _close(p0, null);
+            return result;
+        } catch (Exception e) {
+            return _closeWithError(p, e);
+        }
+    }
+
     /**
      * Read method that will take given JSON Source (of one of supported types),
      * read contents and map it to one of simple mappings ({@link java.util.Map}
@@ -994,20 +1267,26 @@ public class JSON
      * <li>{@link java.lang.String}</li>
      * <li><code>byte[]</code></li>
      * <li><code>char[]</code></li>
+     * <li>{@link java.nio.file.Path}, {@link java.nio.channels.FileChannel}</li>
+     * <li>{@link java.nio.ByteBuffer}</li>
      *</ul>
      */
     public Object anyFrom(Object source) throws IOException
     {
         if (source instanceof JsonParser) {
             JsonParser p = _initForReading((JsonParser) source);
-            Object result = _readerForOperation(p).readValue();
+            JSONReader r = _readerForOperation(p);
+            Object result = r.readValue();
+            _releaseReader(r);
             p.clearCurrentToken();
             return result;
         }
         JsonParser p = _parser(source);
         try {
             _initForReading(_config(p));
-            Object result = _readerForOperation(p).readValue();
+            JSONReader r = _readerForOperation(p);
+            Object result = r.readValue();
+            _releaseReader(r);
             JsonParser p0 = p;
             p = null;
             _close(p0, null);
@@ -1018,6 +1297,78 @@ public class JSON
         }
     }
 
+    /**
+     * Read method similar to {@link #anyFrom}, but one that only indexes
+     * structure of given content, and decodes values when (and if) they are
+     * accessed: JSON Objects are exposed as read-only {@link java.util.Map}
+     * views, JSON Arrays as read-only {@link java.util.List} views.
+     * This is much more efficient than {@link #anyFrom} when only a small part
+     * of a big document is accessed. See {@link LazyDocument} for details.
+     *<p>
+     * Note that content is not copied, so it must not be modified while
+     * result is in use.
+     *
+     * @since 3.0
+     */
+    public Object lazyFrom(byte[] content) throws IOException, JSONObjectException
+    {
+        JsonParser p = _parser(content);
+        try {
+            _initForReading(_config(p));
+            // NOTE: reader is retained by the document, so must not come from the pool
+            LazyDocument doc = LazyDocument.construct(content, p, _parserFactory(),
+                    _reader.perOperationInstance(_features, null));
+            JsonParser p0 = p;
+            p = null;
+            _close(p0, null);
+            return doc.root();
+        } catch (Exception e) {
+            return _closeWithError(p, e);
+        }
+    }
+
+    /**
+     * Method for extracting values pointed to by given JSON Pointers from
+     * content, without binding anything else: content is streamed through,
+     * values not pointed to (and not containing values pointed to) are skipped,
+     * and reading stops as soon as all pointers have been matched (so that
+     * content after the last matching value is not even read).
+     * Values pointed to are bound same as with {@link #anyFrom}.
+     *<p>
+     * Note that projection (see {@link #withProjection}) is not applied to
+     * values extracted.
+     *
+     * @return List of values pointed to, in same order as pointers; with
+     *    {@code null} for pointers that do not match anything
+     *
+     * @since 3.0
+     */
+    public List<Object> extract(Object source, JsonPointer... pointers) throws IOException
+    {
+        final PointerExtractor extractor = new PointerExtractor(pointers);
+        if (source instanceof JsonParser) {
+            JsonParser p = _initForReading((JsonParser) source);
+            JSONReader r = _readerForOperation(p);
+            Object[] result = extractor.extract(r, p);
+            _releaseReader(r);
+            p.clearCurrentToken();
+            return Arrays.asList(result);
+        }
+        JsonParser p = _parser(source);
+        try {
+            _initForReading(_config(p));
+            JSONReader r = _readerForOperation(p);
+            Object[] result = extractor.extract(r, p);
+            _releaseReader(r);
+            JsonParser p0 = p;
+            p = null;
+            _close(p0, null);
+            return Arrays.asList(result);
+        } catch (Exception e) {
+            return _closeWithError(p, e);
+        }
+    }
+
     /**
      * Method for reading content as a JSON Tree (of type that configured
      * {@link TreeCodec}, see {@link #with(TreeCodec)}) supports.
@@ -1134,6 +1485,228 @@ public class JSON
                 p, reader, _treeCodec, managed);
     }
 
+    /**
+     * Method for creating {@link ValueFeeder} for reading sequence of
+     * root-level values fed in chunks (without blocking); individual values
+     * are bound as Beans of given type.
+     *
+     * @since 3.0
+     */
+    public <T> ValueFeeder<T> beanFeeder(Class<T> type) throws IOException {
+        return new ValueFeeder<T>(ValueIterator.MODE_BEAN, type, _streamFactory, this,
+                _reader.perOperationInstance(_features, null), _treeCodec);
+    }
+
+    /**
+     * Method for creating {@link ValueFeeder} for reading sequence of
+     * root-level values fed in chunks (without blocking); individual values
+     * are bound as "Simple" type: {@link java.util.Map},
+     * {@link java.util.List}, {@link String}, {@link Number} or {@link Boolean}.
+     *
+     * @since 3.0
+     */
+    public ValueFeeder<Object> anyFeeder() throws IOException {
+        return new ValueFeeder<Object>(ValueIterator.MODE_ANY, Object.class, _streamFactory, this,
+                _reader.perOperationInstance(_features, null), _treeCodec);
+    }
+
+    /**
+     * Method for creating {@link ValueFeeder} for reading sequence of
+     * root-level values fed in chunks (without blocking); individual values
+     * are bound as JSON Trees (of type that configured {@link TreeCodec},
+     * see {@link #with(TreeCodec)}) supports.
+     *
+     * @since 3.0
+     */
+    public <T extends TreeNode> ValueFeeder<T> treeFeeder() throws IOException
+    {
+        if (_treeCodec == null) {
+             _noTreeCodec("read TreeNode");
+        }
+        return new ValueFeeder<T>(ValueIterator.MODE_TREE, TreeNode.class, _streamFactory, this,
+                _reader.perOperationInstance(_features, null), _treeCodec);
+    }
+
+    /**
+     * Method for creating {@link ValuePublisher} that reads values from
+     * streaming JSON content (same as {@link #beanSequenceFrom}) on demand,
+     * binding them as Beans of given type.
+     *
+     * @since 3.0
+     */
+    public <T> ValuePublisher<T> beanPublisher(Class<T> type, Object source)
+        throws IOException, JSONObjectException
+    {
+        return new ValuePublisher<T>(beanSequenceFrom(type, source));
+    }
+
+    /**
+     * Method for creating {@link ValuePublisher} that reads values from
+     * streaming JSON content (same as {@link #anySequenceFrom}) on demand,
+     * binding them as "Simple" types.
+     *
+     * @since 3.0
+     */
+    public ValuePublisher<Object> anyPublisher(Object source)
+        throws IOException, JSONObjectException
+    {
+        return new ValuePublisher<Object>(anySequenceFrom(source));
+    }
+
+    /**
+     * Method for creating {@link WritingSubscriber} that writes values
+     * it receives as elements of a JSON Array.
+     *
+     * @since 3.0
+     */
+    public <T> WritingSubscriber<T> arraySubscriber(OutputStream out) throws IOException {
+        return _writingSubscriber(this, out, true);
+    }
+
+    /**
+     * Method for creating {@link WritingSubscriber} that writes values
+     * it receives as <a href="https://jsonlines.org/">JSON Lines</a>: since
+     * each value must be on a single line, output is never pretty-printed.
+     *
+     * @since 3.0
+     */
+    public <T> WritingSubscriber<T> linesSubscriber(OutputStream out) throws IOException {
+        return _writingSubscriber(with(new MinimalPrettyPrinter("\n")), out, false);
+    }
+
+    protected <T> WritingSubscriber<T> _writingSubscriber(JSON json, OutputStream out,
+            boolean asArray) throws IOException
+    {
+        JsonGenerator g = json._config(json._streamFactory.createGenerator(json, out));
+        // writer is retained by subscriber, so must not come from the pool
+        return new WritingSubscriber<T>(g, json._writer.perOperationInstance(json._features, g),
+                out, asArray);
+    }
+
+    /**
+     * Method for creating parallel {@link Stream} of Beans read from
+     * <a href="https://jsonlines.org/">JSON Lines</a> content: content is
+     * split at linefeeds into parts that are read independently, in
+     * parallel (using {@link ForkJoinPool#commonPool()}, as usual with
+     * parallel streams). See {@link RootValueSpliterator} for details.
+     *<p>
+     * Note that problems with content are reported as
+     * {@link UncheckedIOException}s. If sequential processing is preferred,
+     * call {@link Stream#sequential()} on stream returned.
+     *
+     * @since 3.0
+     */
+    public <T> Stream<T> beanStreamFrom(Class<T> type, byte[] content) {
+        return _beanStream(type, RootValueSpliterator.Content.of(ByteBuffer.wrap(content)));
+    }
+
+    /**
+     * Method for creating parallel {@link Stream} of Beans read from
+     * <a href="https://jsonlines.org/">JSON Lines</a> content: remaining content
+     * of given buffer (position of which is not modified).
+     * See {@link #beanStreamFrom(Class, byte[])} for details.
+     *
+     * @since 3.0
+     */
+    public <T> Stream<T> beanStreamFrom(Class<T> type, ByteBuffer content) {
+        return _beanStream(type, RootValueSpliterator.Content.of(content));
+    }
+
+    /**
+     * Method for creating parallel {@link Stream} of Beans read from
+     * <a href="https://jsonlines.org/">JSON Lines</a> file: file is mapped
+     * in memory (in segments, so it may be bigger than 2 gigabytes).
+     * Stream should be closed after use to close the file.
+     * See {@link #beanStreamFrom(Class, byte[])} for details.
+     *
+     * @since 3.0
+     */
+    public <T> Stream<T> beanStreamFrom(Class<T> type, Path path) throws IOException
+    {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        final RootValueSpliterator.Content content;
+        try {
+            content = RootValueSpliterator.Content.of(channel);
+        } catch (IOException e) {
+            return _closeWithError(channel, e);
+        }
+        return _beanStream(type, content)
+                .onClose(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            content.close();
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }
+                });
+    }
+
+    protected <T> Stream<T> _beanStream(Class<T> type, RootValueSpliterator.Content content) {
+        return StreamSupport.stream(new RootValueSpliterator<T>(_parserFactory(),
+                _reader, _features, type, content, RootValueSpliterator.DEFAULT_MIN_SPLIT),
+                true);
+    }
+
+    /*
+    /**********************************************************************
+    /* API: eager resolution of readers, writers
+    /**********************************************************************
+     */
+
+    /**
+     * Method for eagerly resolving readers and writers for given types, as
+     * well as types of their properties (transitively), to avoid having to do
+     * that when first values of these types are read or written.
+     * Resolution is done asynchronously using {@link ForkJoinPool#commonPool()};
+     * caller may wait for completion using {@link ForkJoinTask#join()}, which
+     * also rethrows exception if resolution fails for any of given types
+     * (problems with types of properties are not reported, however).
+     *<p>
+     * Note that instances constructed using mutant factories for
+     * {@link ReaderWriterProvider}s or cache size do not share caches with
+     * this instance.
+     *
+     * @since 3.0
+     */
+    public ForkJoinTask<Void> prewarm(Class<?>... types) {
+        return prewarm(ForkJoinPool.commonPool(), Arrays.asList(types));
+    }
+
+    /**
+     * Alternative to {@link #prewarm(Class...)} for generic types: types
+     * of elements of generic {@link Collection}s and {@link Map}s are resolved.
+     *
+     * @since 3.0
+     */
+    public ForkJoinTask<Void> prewarm(TypeReference<?>... types) {
+        List<java.lang.reflect.Type> resolved = new ArrayList<>(types.length);
+        for (TypeReference<?> ref : types) {
+            resolved.add(ref.getType());
+        }
+        return prewarm(ForkJoinPool.commonPool(), resolved);
+    }
+
+    /**
+     * Alternative to {@link #prewarm(Class...)} for a set of types, like ones
+     * read using
+     * {@link com.fasterxml.jackson.jr.ob.api.TypeProfileRecorder#readTypes}.
+     *
+     * @since 3.0
+     */
+    public ForkJoinTask<Void> prewarm(Collection<? extends java.lang.reflect.Type> types) {
+        return prewarm(ForkJoinPool.commonPool(), types);
+    }
+
+    /**
+     * @since 3.0
+     */
+    public ForkJoinTask<Void> prewarm(ForkJoinPool pool,
+            Collection<? extends java.lang.reflect.Type> types) {
+        return pool.submit(new Prewarmer(_reader, _writer, _features, types));
+    }
+
     /*
     /**********************************************************************
     /* ObjectReadContext: Config access (bogus)
@@ -1170,7 +1743,9 @@ public class JSON
     {
         // 11-Oct-2017, tatu: Not sure this is sufficient but it's best we got:
         // !!! TODO: maybe support array types?
-        T result = _readerForOperation(p).readBean(valueType);
+        JSONReader r = _readerForOperation(p);
+        T result = r.readBean(valueType);
+        _releaseReader(r);
         p.clearCurrentToken();
         return result;
     }
@@ -1314,7 +1889,9 @@ public class JSON
         boolean closed = false;
         try {
             _config(g);
-            _writerForOperation(g).writeValue(value);
+            JSONWriter w = _writerForOperation(g);
+            w.writeValue(value);
+            _releaseWriter(w);
             closed = true;
             g.close();
         } finally {
@@ -1328,9 +1905,27 @@ public class JSON
     }
 
     protected JSONWriter _writerForOperation(JsonGenerator gen) {
+        if (_writerPool != null) {
+            JSONWriter w = _writerPool.acquire();
+            if (w != null) {
+                return w.reuseFor(gen);
+            }
+        }
         return _writer.perOperationInstance(_features, gen);
     }
 
+    /**
+     * Method called after a write operation using given writer has
+     * successfully completed, to possibly recycle it.
+     *
+     * @since 3.0
+     */
+    protected void _releaseWriter(JSONWriter w) {
+        if (_writerPool != null) {
+            _writerPool.release(w.reuseFor(null));
+        }
+    }
+
     /*
     /**********************************************************************
     /* Internal methods, reading
@@ -1338,9 +1933,29 @@ public class JSON
      */
     
     protected JSONReader _readerForOperation(JsonParser p) {
+        if (_readerPool != null) {
+            JSONReader r = _readerPool.acquire();
+            if (r != null) {
+                return r.reuseFor(p);
+            }
+        }
         return _reader.perOperationInstance(_features, p);
     }
 
+    /**
+     * Method called after a read operation using given reader has
+     * successfully completed, to possibly recycle it. Must not be called
+     * for readers that may still be used, like ones passed to
+     * {@link ValueIterator}s.
+     *
+     * @since 3.0
+     */
+    protected void _releaseReader(JSONReader r) {
+        if (_readerPool != null) {
+            _readerPool.release(r.reuseFor(null));
+        }
+    }
+
     protected JsonParser _parser(Object source) throws IOException, JSONObjectException
     {
         final TokenStreamFactory f = _streamFactory;
@@ -1369,8 +1984,28 @@ public class JSON
         if (source instanceof CharSequence) {
             return f.createParser(this, ((CharSequence) source).toString());
         }
+        if (source instanceof Path) {
+            FileChannel channel = FileChannel.open((Path) source, StandardOpenOption.READ);
+            try {
+                return f.createParser(this, new MappedFileInputStream(channel));
+            } catch (Exception e) {
+                return _closeWithError(channel, e);
+            }
+        }
+        if (source instanceof FileChannel) {
+            return f.createParser(this, new MappedFileInputStream((FileChannel) source));
+        }
+        if (source instanceof ByteBuffer) {
+            ByteBuffer buffer = (ByteBuffer) source;
+            if (buffer.hasArray()) {
+                return f.createParser(this, buffer.array(),
+                        buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            }
+            // direct (including memory-mapped) buffers have no array to parse from
+            return f.createParser(this, new ByteBufferInputStream(buffer));
+        }
         throw new JSONObjectException("Can not use Source of type "+source.getClass().getName()
-                +" as input (use an InputStream, Reader, String, byte[], File or URL");
+                +" as input (use an InputStream, Reader, String, byte[], File, URL, Path, FileChannel or ByteBuffer");
     }
 
     protected JsonParser _initForReading(JsonParser p) throws IOException
@@ -1408,6 +2043,22 @@ public class JSON
         return p;
     }
 
+    /**
+     * Helper method for constructing factory for parsers that readers needing
+     * more than one parser use: parsers are constructed and configured same
+     * way as for other read methods.
+     *
+     * @since 3.0
+     */
+    protected ParserFactory _parserFactory() {
+        return new ParserFactory() {
+            @Override
+            public JsonParser createParser(ByteBuffer content) throws IOException {
+                return _config(_parser(content));
+            }
+        };
+    }
+
     protected void _close(Closeable cl) {
         try {
             cl.close();
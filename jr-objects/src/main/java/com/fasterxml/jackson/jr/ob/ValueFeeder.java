@@ -0,0 +1,348 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.*;
+
+import com.fasterxml.jackson.core.*;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.jr.ob.impl.JSONReader;
+
+/**
+ * Object exposed by {@link JSON} for reading sequence of root-level values
+ * (like <a href="https://en.wikipedia.org/wiki/JSON_streaming">line-delimited
+ * and concatenated</a> streaming JSON) from content that arrives in chunks,
+ * without blocking: caller feeds chunks as they arrive (in any way content
+ * happens to be split), and takes out values as soon as they are complete.
+ *<p>
+ * Content is tokenized using non-blocking (async) parser, which retains its
+ * state across chunks, so content is never re-scanned from the beginning of
+ * value. Each value is bound (as Bean, "simple" value or Tree, same as with
+ * {@link ValueIterator}) once its last token has been parsed: only bytes of the
+ * value in progress are retained between chunks (and values contained within
+ * a single chunk are bound directly from it, without copying).
+ *<p>
+ * Note that a root-level JSON Array is returned as a single value, not as
+ * a sequence of its elements. Instances are not thread-safe.
+ *
+ * @since 3.0
+ */
+public class ValueFeeder<T> implements Closeable
+{
+    /*
+    /**********************************************************************
+    /* Configuration
+    /**********************************************************************
+     */
+
+    /**
+     * Mode: kind of values read, one of {@code ValueIterator.MODE_xxx}
+     */
+    protected final int _mode;
+
+    /**
+     * Type to bind values to, for Beans
+     */
+    protected final Class<?> _type;
+
+    protected final TokenStreamFactory _streamFactory;
+
+    protected final ObjectReadContext _readContext;
+
+    /**
+     * Reader used for binding values; reused for all values
+     */
+    protected final JSONReader _reader;
+
+    /**
+     * If "Tree" values are read, codec we need to use for binding
+     */
+    protected final TreeCodec _treeCodec;
+
+    /**
+     * Non-blocking parser that content is fed to
+     */
+    protected final JsonParser _asyncParser;
+
+    protected final ByteArrayFeeder _feeder;
+
+    /*
+    /**********************************************************************
+    /* State
+    /**********************************************************************
+     */
+
+    /**
+     * Bytes of value in progress, from earlier chunks
+     */
+    protected final ByteArrayBuilder _pending = new ByteArrayBuilder();
+
+    /**
+     * Offset (within all content fed) following the last byte either
+     * included in {@link #_pending}, or part of values already bound
+     */
+    protected long _captured;
+
+    /**
+     * Total number of bytes fed
+     */
+    protected long _inputEnd;
+
+    /**
+     * Values bound but not yet taken; starting at {@link #_nextIndex}
+     */
+    protected final ArrayList<Object> _values = new ArrayList<Object>();
+
+    protected int _nextIndex;
+
+    /**
+     * Buffer for copying content of {@link ByteBuffer}s not backed by an
+     * accessible array, if any
+     */
+    protected byte[] _copyBuffer;
+
+    protected boolean _closed;
+
+    /*
+    /**********************************************************************
+    /* Construction
+    /**********************************************************************
+     */
+
+    protected ValueFeeder(int mode, Class<?> type, TokenStreamFactory f, ObjectReadContext ctxt,
+            JSONReader reader, TreeCodec treeCodec)
+        throws IOException
+    {
+        _mode = mode;
+        _type = type;
+        _streamFactory = f;
+        _readContext = ctxt;
+        _reader = reader;
+        _treeCodec = treeCodec;
+        _asyncParser = f.createNonBlockingByteArrayParser(ctxt);
+        _feeder = (ByteArrayFeeder) _asyncParser.getNonBlockingInputFeeder();
+    }
+
+    /*
+    /**********************************************************************
+    /* API, feeding
+    /**********************************************************************
+     */
+
+    public void feed(byte[] data) throws IOException {
+        feed(data, 0, data.length);
+    }
+
+    /**
+     * Method for feeding next chunk of content: all values completed by
+     * chunk are bound, and may then be taken using {@link #nextValue}.
+     * Caller may reuse array once method returns.
+     *
+     * @throws JSONObjectException If binding of a value fails; value is
+     *    skipped, and more content may still be fed
+     * @throws IOException If content is not valid JSON; feeder can not
+     *    be used after this
+     */
+    public void feed(byte[] data, int offset, int len) throws IOException
+    {
+        if (_closed) {
+            throw new IllegalStateException("Can not feed content: "+getClass().getSimpleName()
+                    +" already closed");
+        }
+        if (len == 0) {
+            return;
+        }
+        final long chunkStart = _inputEnd;
+        _feeder.feedInput(data, offset, offset + len);
+        _inputEnd += len;
+        JSONObjectException fail = _process(data, offset - chunkStart);
+        // Anything not bound belongs to value in progress
+        if (_captured < _inputEnd) {
+            _pending.write(data, (int) (_captured + offset - chunkStart), (int) (_inputEnd - _captured));
+            _captured = _inputEnd;
+        }
+        if (fail != null) {
+            throw fail;
+        }
+    }
+
+    /**
+     * Method for feeding all remaining content of given buffer; position of
+     * buffer is moved to its limit.
+     */
+    public void feed(ByteBuffer data) throws IOException
+    {
+        final int len = data.remaining();
+        if (data.hasArray()) {
+            feed(data.array(), data.arrayOffset() + data.position(), len);
+        } else {
+            if ((_copyBuffer == null) || (_copyBuffer.length < len)) {
+                _copyBuffer = new byte[Math.max(len, 8000)];
+            }
+            data.duplicate().get(_copyBuffer, 0, len);
+            feed(_copyBuffer, 0, len);
+        }
+        data.position(data.limit());
+    }
+
+    /**
+     * Method to call when all content has been fed, to complete root-level
+     * value at the end of content (if it is a number, end of which is not
+     * otherwise known) and verify that no value is left incomplete.
+     */
+    public void endOfInput() throws IOException
+    {
+        if (!_closed) {
+            _feeder.endOfInput();
+            JSONObjectException fail = _process(null, 0L);
+            _asyncParser.close();
+            _closed = true;
+            if (fail != null) {
+                throw fail;
+            }
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* API, taking values
+    /**********************************************************************
+     */
+
+    /**
+     * @return True if a completed value is available for {@link #nextValue}
+     */
+    public boolean hasNextValue() {
+        return _nextIndex < _values.size();
+    }
+
+    /**
+     * @return Next completed value
+     *
+     * @throws NoSuchElementException if no completed value is available
+     */
+    public T nextValue()
+    {
+        if (_nextIndex >= _values.size()) {
+            throw new NoSuchElementException();
+        }
+        @SuppressWarnings("unchecked")
+        T value = (T) _values.set(_nextIndex++, null);
+        if (_nextIndex == _values.size()) {
+            _values.clear();
+            _nextIndex = 0;
+        }
+        return value;
+    }
+
+    /**
+     * Convenience method for taking all completed values
+     *
+     * @return Number of values added to {@code results}
+     */
+    public int drainTo(Collection<? super T> results)
+    {
+        int count = 0;
+        for (; hasNextValue(); ++count) {
+            results.add(nextValue());
+        }
+        return count;
+    }
+
+    /**
+     * Method for releasing resources; values not yet taken are dropped.
+     * Unlike {@link #endOfInput}, does not verify that content is complete.
+     */
+    @Override
+    public void close() throws IOException
+    {
+        if (!_closed) {
+            _closed = true;
+            _asyncParser.close();
+        }
+        _values.clear();
+        _nextIndex = 0;
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    /**
+     * Method for processing all tokens available, binding values completed.
+     * Binding problems do not stop processing, so that state remains
+     * consistent, but the first one is returned to be thrown by caller.
+     *
+     * @param data Chunk just fed, if any
+     * @param dataBase Difference between index within {@code data} and offset
+     *    within all content
+     */
+    protected JSONObjectException _process(byte[] data, long dataBase) throws IOException
+    {
+        final JsonParser p = _asyncParser;
+        JSONObjectException fail = null;
+        JsonToken t;
+        while (((t = p.nextToken()) != JsonToken.NOT_AVAILABLE) && (t != null)) {
+            // Root-level value complete when back in root context (scalars never leave it)
+            if (!p.getParsingContext().inRoot()) {
+                continue;
+            }
+            final long end = p.getCurrentLocation().getByteOffset();
+            byte[] value;
+            int valueOffset, valueLength;
+            if (_pending.size() == 0) {
+                value = data;
+                valueOffset = (int) (_captured + dataBase);
+                valueLength = (int) (end - _captured);
+            } else {
+                if (end > _captured) {
+                    _pending.write(data, (int) (_captured + dataBase), (int) (end - _captured));
+                }
+                value = _pending.toByteArray();
+                valueOffset = 0;
+                valueLength = value.length;
+                _pending.reset();
+            }
+            _captured = end;
+            try {
+                _bind(value, valueOffset, valueLength);
+            } catch (JSONObjectException e) {
+                if (fail == null) {
+                    fail = e;
+                }
+            }
+        }
+        return fail;
+    }
+
+    protected void _bind(byte[] data, int offset, int len) throws IOException
+    {
+        final JsonParser p = _streamFactory.createParser(_readContext, data, offset, len);
+        try {
+            p.nextToken();
+            _reader.reuseFor(p);
+            final Object value;
+            switch (_mode) {
+            case ValueIterator.MODE_BEAN:
+                value = _reader.readBean(_type);
+                break;
+            case ValueIterator.MODE_ANY:
+                value = _reader.readValue();
+                break;
+            case ValueIterator.MODE_TREE:
+                value = _treeCodec.readTree(p);
+                break;
+            default:
+                throw new IllegalStateException("Invalid mode: "+_mode);
+            }
+            _values.add(value);
+        } finally {
+            _reader.reuseFor(null);
+            p.close();
+        }
+    }
+}
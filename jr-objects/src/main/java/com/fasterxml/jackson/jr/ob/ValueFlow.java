@@ -0,0 +1,52 @@
+package com.fasterxml.jackson.jr.ob;
+
+/**
+ * Interfaces for reactive streams of values, with same methods (and contract)
+ * as ones in {@code java.util.concurrent.Flow} (and
+ * <a href="https://www.reactive-streams.org/">Reactive Streams</a>):
+ * declared here since Jackson jr only requires Java 8, but since methods
+ * are same, adapting to and from other implementations is trivial (for
+ * example, using method references).
+ *<p>
+ * See {@link ValuePublisher} and {@link WritingSubscriber} for implementations
+ * for reading and writing sequences of values.
+ *
+ * @since 3.0
+ */
+public final class ValueFlow
+{
+    private ValueFlow() { }
+
+    /**
+     * Producer of values received by {@link Subscriber}s.
+     */
+    public interface Publisher<T> {
+        public void subscribe(Subscriber<? super T> subscriber);
+    }
+
+    /**
+     * Receiver of values: after {@link #onSubscribe}, receives values
+     * requested via {@link Subscription}, followed by either
+     * {@link #onComplete} or {@link #onError} (unless subscription
+     * is cancelled).
+     */
+    public interface Subscriber<T> {
+        public void onSubscribe(Subscription subscription);
+
+        public void onNext(T item);
+
+        public void onError(Throwable throwable);
+
+        public void onComplete();
+    }
+
+    /**
+     * Link between {@link Publisher} and {@link Subscriber}, used by latter
+     * for requesting values (back-pressure) or cancelling.
+     */
+    public interface Subscription {
+        public void request(long n);
+
+        public void cancel();
+    }
+}
@@ -6,6 +6,7 @@ import java.io.UncheckedIOException;
 import java.util.*;
 
 import com.fasterxml.jackson.core.*;
+import com.fasterxml.jackson.jr.ob.api.BeanRecycler;
 import com.fasterxml.jackson.jr.ob.impl.JSONReader;
 
 /**
@@ -112,6 +113,15 @@ public class ValueIterator<T> implements Iterator<T>, Closeable
      */
     protected final boolean _closeParser;
 
+    /**
+     * Recycler to get Bean instances to read values into, if any
+     * (only used with {@link #MODE_BEAN}); null if new instances are
+     * to be constructed for all values.
+     *
+     * @since 3.0
+     */
+    protected BeanRecycler<T> _recycler;
+
     /*
     /**********************************************************************
     /* Parsing state
@@ -176,6 +186,46 @@ public class ValueIterator<T> implements Iterator<T>, Closeable
         }
     }
 
+    /**
+     * Method for specifying {@link BeanRecycler} to get Bean instances from,
+     * to read values into (see {@link JSON#readInto}) instead of constructing
+     * new instances: caller is to return instances it no longer needs
+     * using {@link #release}.
+     *<p>
+     * Only applicable to iterators over Beans (ones constructed with
+     * {@link JSON#beanSequenceFrom}), and only if no projection is used
+     * (see {@link JSON#withProjection}): since content is read into existing
+     * instances, properties left out would retain values from earlier use.
+     *
+     * @return This iterator, to allow call chaining
+     *
+     * @since 3.0
+     */
+    public ValueIterator<T> recycleWith(BeanRecycler<T> recycler)
+    {
+        if (_mode != MODE_BEAN) {
+            throw new IllegalStateException("Can only recycle Bean values");
+        }
+        if (_reader.projection() != null) {
+            throw new IllegalStateException("Can not recycle Bean values when using projection");
+        }
+        _recycler = recycler;
+        return this;
+    }
+
+    /**
+     * Method for returning a value (read using this iterator) that is
+     * no longer needed to {@link BeanRecycler}, if one specified
+     * (see {@link #recycleWith}); if none, does nothing.
+     *
+     * @since 3.0
+     */
+    public void release(T value) {
+        if ((_recycler != null) && (value != null)) {
+            _recycler.release(value);
+        }
+    }
+
     @SuppressWarnings("unchecked")
     protected static <T> ValueIterator<T> emptyIterator() {
         return (ValueIterator<T>) EMPTY_ITERATOR;
@@ -287,7 +337,11 @@ public class ValueIterator<T> implements Iterator<T>, Closeable
 
             switch (_mode) {
             case MODE_BEAN:
-                value = _reader.readBean(_type);
+                if (_recycler != null) {
+                    value = _readRecycled();
+                } else {
+                    value = _reader.readBean(_type);
+                }
                 break;
             case MODE_ANY:
                 value = _reader.readValue();
@@ -401,6 +455,29 @@ public class ValueIterator<T> implements Iterator<T>, Closeable
         }
     }
 
+    /**
+     * Helper method for reading Bean value into an instance from
+     * {@link #_recycler}, if one available (and value is a JSON Object).
+     *
+     * @since 3.0
+     */
+    protected Object _readRecycled() throws IOException
+    {
+        if (_parser.hasToken(JsonToken.START_OBJECT)) {
+            final T bean = _recycler.acquire();
+            if (bean != null) {
+                _recycler.reset(bean);
+                try {
+                    return _reader.readInto(bean);
+                } catch (IOException | RuntimeException e) {
+                    _recycler.release(bean);
+                    throw e;
+                }
+            }
+        }
+        return _reader.readBean(_type);
+    }
+
     protected <R> R _throwNoSuchElement() {
         throw new NoSuchElementException();
     }
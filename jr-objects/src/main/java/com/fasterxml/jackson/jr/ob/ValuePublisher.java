@@ -0,0 +1,169 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link ValueFlow.Publisher} that reads values from a {@link ValueIterator}
+ * on demand: values are read and bound only as they are requested by
+ * {@link ValueFlow.Subscriber}, so memory usage is bounded regardless of
+ * number of values. Reading is done by thread requesting values (no threads
+ * are created), and once all values have been read (or if reading fails,
+ * or subscription is cancelled), iterator is closed.
+ *<p>
+ * Since content can only be read once, publisher only accepts one
+ * subscriber; later ones are signalled {@link IllegalStateException}.
+ *
+ * @since 3.0
+ */
+public class ValuePublisher<T> implements ValueFlow.Publisher<T>
+{
+    protected final ValueIterator<T> _iterator;
+
+    protected final AtomicBoolean _subscribed = new AtomicBoolean();
+
+    public ValuePublisher(ValueIterator<T> iterator) {
+        _iterator = iterator;
+    }
+
+    @Override
+    public void subscribe(ValueFlow.Subscriber<? super T> subscriber)
+    {
+        if (subscriber == null) {
+            throw new NullPointerException("Subscriber can not be null");
+        }
+        if (!_subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new IteratorSubscription<T>(null, subscriber));
+            subscriber.onError(new IllegalStateException(
+                    getClass().getSimpleName()+" only allows one Subscriber"));
+            return;
+        }
+        IteratorSubscription<T> subscription = new IteratorSubscription<T>(_iterator, subscriber);
+        subscriber.onSubscribe(subscription);
+    }
+
+    /*
+    /**********************************************************************
+    /* Helper types
+    /**********************************************************************
+     */
+
+    private final static class IteratorSubscription<T> implements ValueFlow.Subscription
+    {
+        private final ValueIterator<T> _iterator;
+
+        private final ValueFlow.Subscriber<? super T> _subscriber;
+
+        /**
+         * Number of values requested but not yet emitted; {@link Long#MAX_VALUE}
+         * for unbounded
+         */
+        private final AtomicLong _requested = new AtomicLong();
+
+        /**
+         * Counter used for ensuring that only one thread emits values at
+         * any given time, and that requests made meanwhile (including ones
+         * from within {@code onNext}) are not lost.
+         */
+        private final AtomicInteger _wip = new AtomicInteger();
+
+        private volatile boolean _cancelled;
+
+        private volatile IllegalArgumentException _invalidRequest;
+
+        /**
+         * Whether a terminal state has been reached; only accessed by
+         * emitting thread.
+         */
+        private boolean _done;
+
+        IteratorSubscription(ValueIterator<T> it, ValueFlow.Subscriber<? super T> subscriber) {
+            _iterator = it;
+            _subscriber = subscriber;
+            _done = (it == null);
+        }
+
+        @Override
+        public void request(long n)
+        {
+            if (n <= 0L) {
+                _invalidRequest = new IllegalArgumentException(
+                        "Number of values requested must be positive, was: "+n);
+            } else {
+                long current, updated;
+                do {
+                    current = _requested.get();
+                    updated = current + n;
+                    if (updated < 0L) { // overflow: unbounded
+                        updated = Long.MAX_VALUE;
+                    }
+                } while (!_requested.compareAndSet(current, updated));
+            }
+            _drain();
+        }
+
+        @Override
+        public void cancel() {
+            _cancelled = true;
+            _drain();
+        }
+
+        private void _drain()
+        {
+            if (_wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                _emit();
+                missed = _wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void _emit()
+        {
+            while (!_done) {
+                if (_cancelled) {
+                    _finish();
+                    return;
+                }
+                if (_invalidRequest != null) {
+                    _finish();
+                    _subscriber.onError(_invalidRequest);
+                    return;
+                }
+                final long requested = _requested.get();
+                if (requested == 0L) {
+                    return;
+                }
+                T value;
+                try {
+                    if (!_iterator.hasNextValue()) {
+                        _finish();
+                        _subscriber.onComplete();
+                        return;
+                    }
+                    value = _iterator.nextValue();
+                } catch (IOException | RuntimeException e) {
+                    _finish();
+                    _subscriber.onError(e);
+                    return;
+                }
+                if (requested != Long.MAX_VALUE) {
+                    _requested.decrementAndGet();
+                }
+                _subscriber.onNext(value);
+            }
+        }
+
+        private void _finish()
+        {
+            _done = true;
+            try {
+                _iterator.close();
+            } catch (IOException e) { }
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.jr.ob.impl.JSONWriter;
+
+/**
+ * {@link ValueFlow.Subscriber} that writes values it receives, as they are
+ * received, either as elements of a JSON Array, or as
+ * <a href="https://jsonlines.org/">JSON Lines</a> (one root-level value per line).
+ * Same {@link JsonGenerator} and {@link JSONWriter} are used for all values, and
+ * since values are written synchronously, none are retained: so subscriber
+ * requests values without bounds.
+ *<p>
+ * Once publisher completes, JSON Array is closed and generator (along with
+ * its target, like {@link java.io.OutputStream}) closed. If publisher fails,
+ * or writing fails, target is closed, leaving output incomplete.
+ * Result is reported via {@link #completion()}.
+ *
+ * @since 3.0
+ */
+public class WritingSubscriber<T> implements ValueFlow.Subscriber<T>
+{
+    protected final JsonGenerator _generator;
+
+    protected final JSONWriter _writer;
+
+    /**
+     * Target generator writes to: closed directly on failure
+     */
+    protected final Closeable _target;
+
+    /**
+     * Whether values are written as elements of a JSON Array (true) or
+     * as JSON Lines (false)
+     */
+    protected final boolean _asArray;
+
+    protected final CompletableFuture<Void> _completion = new CompletableFuture<Void>();
+
+    protected ValueFlow.Subscription _subscription;
+
+    /**
+     * Number of values written so far
+     */
+    protected long _count;
+
+    /**
+     * @param g Generator to use, configured to separate root-level values
+     *    with linefeeds, if writing JSON Lines
+     */
+    protected WritingSubscriber(JsonGenerator g, JSONWriter w, Closeable target,
+            boolean asArray)
+    {
+        _generator = g;
+        _writer = w;
+        _target = target;
+        _asArray = asArray;
+    }
+
+    /**
+     * Accessor for future that is completed once all values have been
+     * written (and output closed); or completed exceptionally if writing
+     * fails, or publisher signals an error.
+     */
+    public CompletableFuture<Void> completion() {
+        return _completion;
+    }
+
+    /**
+     * @return Number of values written so far
+     */
+    public long getCount() {
+        return _count;
+    }
+
+    /*
+    /**********************************************************************
+    /* Subscriber implementation
+    /**********************************************************************
+     */
+
+    @Override
+    public void onSubscribe(ValueFlow.Subscription subscription)
+    {
+        if ((_subscription != null) || _completion.isDone()) {
+            subscription.cancel();
+            return;
+        }
+        _subscription = subscription;
+        if (_asArray) {
+            try {
+                _generator.writeStartArray();
+            } catch (IOException e) {
+                subscription.cancel();
+                _fail(e);
+                return;
+            }
+        }
+        subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(T item)
+    {
+        if (_completion.isDone()) {
+            return;
+        }
+        try {
+            _writer.writeValue(item);
+            ++_count;
+        } catch (IOException e) {
+            _subscription.cancel();
+            _fail(e);
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        _fail(throwable);
+    }
+
+    @Override
+    public void onComplete()
+    {
+        if (_completion.isDone()) {
+            return;
+        }
+        try {
+            if (_asArray) {
+                _generator.writeEndArray();
+            } else if (_count > 0L) { // separators only written between values
+                _generator.writeRaw('\n');
+            }
+            _generator.close();
+        } catch (IOException e) {
+            _fail(e);
+            return;
+        }
+        _writer.reuseFor(null);
+        _completion.complete(null);
+    }
+
+    protected void _fail(Throwable t)
+    {
+        if (!_completion.isDone()) {
+            try {
+                _target.close();
+            } catch (IOException e) { }
+            _writer.reuseFor(null);
+            _completion.completeExceptionally(t);
+        }
+    }
+}
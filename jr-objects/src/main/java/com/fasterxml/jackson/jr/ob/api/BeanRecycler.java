@@ -0,0 +1,84 @@
+package com.fasterxml.jackson.jr.ob.api;
+
+import com.fasterxml.jackson.jr.ob.impl.InstancePool;
+
+/**
+ * API to implement for pooling Bean instances read by
+ * {@link com.fasterxml.jackson.jr.ob.ValueIterator} (see
+ * {@link com.fasterxml.jackson.jr.ob.ValueIterator#recycleWith}): instead
+ * of constructing a new Bean for each value, iterator asks recycler for an
+ * instance, and content is read into it (see
+ * {@link com.fasterxml.jackson.jr.ob.JSON#readInto}). Consumer returns
+ * instances it is done with using {@link #release}.
+ *<p>
+ * Note that since content is read into instances, properties not included in
+ * content retain values from previous use, unless {@link #reset} clears them.
+ *
+ * @since 3.0
+ */
+public abstract class BeanRecycler<T>
+{
+    /**
+     * Method called by iterator to get an instance to read next value into.
+     *
+     * @return Instance to read value into, if one available; null if a new
+     *    instance should be constructed
+     */
+    public abstract T acquire();
+
+    /**
+     * Method called by consumer (or iterator, if reading of value into instance
+     * fails) to return an instance that is no longer used.
+     */
+    public abstract void release(T bean);
+
+    /**
+     * Method called by iterator for instance returned by {@link #acquire()},
+     * before content is read into it. Default implementation does nothing;
+     * sub-classes may clear property values (or release resources).
+     */
+    public void reset(T bean) { }
+
+    /**
+     * Factory method for constructing thread-safe recycler that retains at least
+     * {@code size} instances (see {@link InstancePool} for details); further
+     * released instances are dropped.
+     */
+    public static <T> Pooled<T> pooled(int size) {
+        return new Pooled<T>(size);
+    }
+
+    /**
+     * Default {@link BeanRecycler} implementation that retains released instances
+     * in a bounded lock-free {@link InstancePool}: does not allocate on acquire
+     * or release.
+     */
+    public static class Pooled<T> extends BeanRecycler<T>
+    {
+        protected final InstancePool<T> _pool;
+
+        public Pooled(int size) {
+            _pool = new InstancePool<T>(size);
+        }
+
+        @Override
+        public T acquire() {
+            return _pool.acquire();
+        }
+
+        @Override
+        public void release(T bean) {
+            if (bean != null) {
+                _pool.release(bean);
+            }
+        }
+
+        /**
+         * @return Number of instances currently pooled (approximate, if pool is
+         *    in concurrent use)
+         */
+        public int size() {
+            return _pool.size();
+        }
+    }
+}
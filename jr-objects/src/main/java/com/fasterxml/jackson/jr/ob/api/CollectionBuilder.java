@@ -213,9 +213,10 @@ public abstract class CollectionBuilder
         
         @Override
         public CollectionBuilder start() {
-            // If this builder is "busy", create a new one...
+            // If this builder is "busy", create a new one (of same type)...
             if (_current != null) {
-                return newBuilder().start();
+                return ((_collectionType == null) ? newBuilder()
+                        : newBuilder(_collectionType)).start();
             }
             _current = _list(12);
             return this;
@@ -253,10 +254,38 @@ public abstract class CollectionBuilder
         }
 
         /**
-         * Overridable factory method for constructing underlying List.
+         * Overridable factory method for constructing underlying List; or, if
+         * specific {@link Collection} type was requested (one that
+         * {@link ArrayList} is not assignable to), Collection of that type.
          */
         protected Collection<Object> _list(int initialSize) {
-            return new ArrayList<Object>(initialSize);
+            final Class<?> type = _collectionType;
+            if ((type == null) || type.isAssignableFrom(ArrayList.class)) {
+                return new ArrayList<Object>(initialSize);
+            }
+            if (type == HashSet.class) {
+                return new HashSet<Object>();
+            }
+            if (type == TreeSet.class) {
+                return new TreeSet<Object>();
+            }
+            return _collection(type);
+        }
+
+        /**
+         * Helper method for constructing instance of specific {@link Collection}
+         * type, using its default constructor.
+         *
+         * @since 3.0
+         */
+        @SuppressWarnings("unchecked")
+        protected Collection<Object> _collection(Class<?> type) {
+            try {
+                return (Collection<Object>) type.getDeclaredConstructor().newInstance();
+            } catch (Exception e) {
+                throw new IllegalArgumentException("Can not construct Collection of type "
+                        +type.getName()+": "+e.getMessage(), e);
+            }
         }
     }
 }
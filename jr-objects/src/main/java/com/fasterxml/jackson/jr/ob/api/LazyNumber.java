@@ -0,0 +1,244 @@
+package com.fasterxml.jackson.jr.ob.api;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * {@link Number} read from JSON content (when
+ * {@link com.fasterxml.jackson.jr.ob.JSON.Feature#USE_LAZY_NUMBERS} is enabled)
+ * that retains textual representation of the value as is, and only decodes
+ * it when first accessed. Since {@link com.fasterxml.jackson.jr.ob.impl.JSONWriter}
+ * writes textual representation back verbatim (if it is valid JSON Number; see
+ * {@link #hasStandardText()}), round-trips are lossless and avoid decoding altogether.
+ *<p>
+ * Instances only retain (a copy of) textual representation, not any parser
+ * or reader state, so they may be retained after reading is complete.
+ *<p>
+ * Decoded value (see {@link #value()}) is of the same type as what would have
+ * been read without lazy decoding: {@link Integer}, {@link Long} or
+ * {@link BigInteger} for integral numbers, and {@link Double} (or, if so
+ * configured, {@link BigDecimal}) for floating-point numbers.
+ *
+ * @since 3.0
+ */
+public final class LazyNumber extends Number
+{
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Maximum number of digits for which integral value is guaranteed to
+     * fit in a {@code long}
+     */
+    private final static int MAX_LONG_DIGITS = 18;
+
+    private final String _text;
+
+    private final boolean _integral;
+
+    /**
+     * Whether floating-point value is to be decoded as {@link BigDecimal}
+     * (instead of {@link Double})
+     */
+    private final boolean _bigDecimal;
+
+    /**
+     * Decoded value, once accessed; null before
+     */
+    private transient Number _value;
+
+    /**
+     * @param text Textual representation of number, as included in JSON content
+     * @param integral Whether number is integral (JSON Number without fraction
+     *    or exponent)
+     */
+    public LazyNumber(String text, boolean integral) {
+        this(text, integral, false);
+    }
+
+    /**
+     * @param text Textual representation of number, as included in JSON content
+     * @param integral Whether number is integral (JSON Number without fraction
+     *    or exponent)
+     * @param bigDecimal Whether floating-point value is to be decoded as
+     *    {@link BigDecimal} (instead of {@link Double})
+     */
+    public LazyNumber(String text, boolean integral, boolean bigDecimal) {
+        _text = text;
+        _integral = integral;
+        _bigDecimal = bigDecimal;
+    }
+
+    /*
+    /**********************************************************************
+    /* Accessors
+    /**********************************************************************
+     */
+
+    /**
+     * @return Whether number is integral (JSON Number without fraction
+     *    or exponent)
+     */
+    public boolean isIntegral() {
+        return _integral;
+    }
+
+    /**
+     * @return Textual representation of number, as included in JSON content
+     */
+    public String getText() {
+        return _text;
+    }
+
+    /**
+     * Accessor for checking whether textual representation is a valid JSON
+     * Number, and may be written as is: this is not the case for numbers
+     * read with non-standard parser features (like leading plus sign or
+     * decimal point, or "NaN").
+     */
+    public boolean hasStandardText() {
+        final String text = _text;
+        final int end = text.length();
+        int i = 0;
+        if ((i < end) && (text.charAt(i) == '-')) {
+            ++i;
+        }
+        // integral part: either single zero, or digits without leading zeroes
+        final int start = i;
+        i = _skipDigits(text, i);
+        if ((i == start) || ((text.charAt(start) == '0') && (i - start) > 1)) {
+            return false;
+        }
+        if ((i < end) && (text.charAt(i) == '.')) {
+            final int fractStart = ++i;
+            i = _skipDigits(text, i);
+            if (i == fractStart) {
+                return false;
+            }
+        }
+        if ((i < end) && ((text.charAt(i) | 0x20) == 'e')) {
+            if ((++i < end) && ((text.charAt(i) == '+') || (text.charAt(i) == '-'))) {
+                ++i;
+            }
+            final int expStart = i;
+            i = _skipDigits(text, i);
+            if (i == expStart) {
+                return false;
+            }
+        }
+        return (i == end);
+    }
+
+    /**
+     * Accessor for decoded value, same as what would have been read without
+     * lazy decoding; decoded on first call.
+     */
+    public Number value() {
+        Number n = _value;
+        if (n == null) {
+            _value = n = _decode();
+        }
+        return n;
+    }
+
+    public BigDecimal bigDecimalValue() {
+        return new BigDecimal(_text);
+    }
+
+    public BigInteger bigIntegerValue() {
+        if (_integral) {
+            return new BigInteger(_text);
+        }
+        return bigDecimalValue().toBigInteger();
+    }
+
+    @Override
+    public int intValue() {
+        return value().intValue();
+    }
+
+    @Override
+    public long longValue() {
+        return value().longValue();
+    }
+
+    @Override
+    public float floatValue() {
+        return value().floatValue();
+    }
+
+    @Override
+    public double doubleValue() {
+        return value().doubleValue();
+    }
+
+    /*
+    /**********************************************************************
+    /* Standard methods
+    /**********************************************************************
+     */
+
+    /**
+     * Returns textual representation as is.
+     */
+    @Override
+    public String toString() {
+        return _text;
+    }
+
+    /**
+     * Lazy numbers are considered equal to other lazy numbers if their
+     * decoded values (see {@link #value()}) are equal. They are never equal
+     * to other {@link Number} types, to keep equality symmetric: compare
+     * {@link #value()} instead.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) return true;
+        return (o instanceof LazyNumber) && value().equals(((LazyNumber) o).value());
+    }
+
+    @Override
+    public int hashCode() {
+        return value().hashCode();
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    private static int _skipDigits(String text, int i) {
+        final int end = text.length();
+        while ((i < end) && (text.charAt(i) >= '0') && (text.charAt(i) <= '9')) {
+            ++i;
+        }
+        return i;
+    }
+
+    private Number _decode()
+    {
+        if (!_integral) {
+            if (_bigDecimal) {
+                return new BigDecimal(_text);
+            }
+            return Double.valueOf(_text);
+        }
+        int digits = _text.length();
+        if (_text.charAt(0) == '-') {
+            --digits;
+        }
+        if (digits <= MAX_LONG_DIGITS) {
+            long l = Long.parseLong(_text);
+            if ((int) l == l) {
+                return Integer.valueOf((int) l);
+            }
+            return Long.valueOf(l);
+        }
+        BigInteger big = new BigInteger(_text);
+        if (big.bitLength() < 64) {
+            return Long.valueOf(big.longValue());
+        }
+        return big;
+    }
+}
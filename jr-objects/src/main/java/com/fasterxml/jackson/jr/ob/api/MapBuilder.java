@@ -5,6 +5,8 @@ import java.util.*;
 import com.fasterxml.jackson.jr.ob.JSON;
 import com.fasterxml.jackson.jr.ob.JSON.Feature;
 import com.fasterxml.jackson.jr.ob.impl.DeferredMap;
+import com.fasterxml.jackson.jr.ob.impl.MapShape;
+import com.fasterxml.jackson.jr.ob.impl.ShapedMap;
 import com.fasterxml.jackson.jr.ob.JSONObjectException;
 
 /**
@@ -42,6 +44,22 @@ public abstract class MapBuilder
         return new Default(0, null);
     }
 
+    /**
+     * Factory method for getting a blueprint instance of {@link MapBuilder}
+     * that builds compact {@link ShapedMap}s, which share key sequences
+     * ("shapes") with other Maps that have same keys in same order, and
+     * only store their values. This can greatly reduce memory usage when
+     * reading large numbers of similar JSON Objects as untyped values.
+     *<p>
+     * Each call creates a new set of shapes, shared by all builders
+     * created from returned blueprint.
+     *
+     * @since 3.0
+     */
+    public static MapBuilder shapeSharingImpl() {
+        return new ShapeSharing(0, MapShape.root());
+    }
+
     public abstract MapBuilder newBuilder(int features);
 
     public abstract MapBuilder newBuilder(Class<?> mapImpl);
@@ -183,4 +201,150 @@ public abstract class MapBuilder
                     : new HashMap<Object,Object>(initialSize);
         }
     }
+
+    /*
+    /**********************************************************
+    /* Shape-sharing implementation
+    /**********************************************************
+     */
+
+    /**
+     * {@link MapBuilder} implementation that builds {@link ShapedMap}s,
+     * using shapes from a shape tree shared by all builders created from
+     * the same blueprint (see {@link MapBuilder#shapeSharingImpl()}).
+     * If number of shapes would exceed limits (see {@link MapShape}),
+     * {@link LinkedHashMap}s are built instead.
+     * If specific {@link Map} type is requested, {@link Default} builder
+     * is used for it.
+     *
+     * @since 3.0
+     */
+    public static class ShapeSharing extends MapBuilder
+    {
+        protected final MapShape _root;
+
+        /**
+         * Shape of Map being built, if any; {@code null} if builder not in use
+         * (or if shape limits were reached for Map being built)
+         */
+        protected MapShape _shape;
+
+        /**
+         * Buffer for values of Map being built; reused for all Maps this
+         * builder builds, as exact-sized copy is made for each Map
+         */
+        protected Object[] _values;
+
+        /**
+         * Regular Map used when shape limits are reached
+         */
+        protected Map<Object,Object> _dict;
+
+        protected ShapeSharing(int features, MapShape root) {
+            super(features, null);
+            _root = root;
+        }
+
+        @Override
+        public MapBuilder newBuilder(int features) {
+            return new ShapeSharing(features, _root);
+        }
+
+        @Override
+        public MapBuilder newBuilder(Class<?> mapImpl) {
+            if (mapImpl == null) {
+                return new ShapeSharing(_features, _root);
+            }
+            return new Default(_features, mapImpl);
+        }
+
+        @Override
+        public MapBuilder start() {
+            // If this builder is "busy", create a new one...
+            if ((_shape != null) || (_dict != null)) {
+                return newBuilder().start();
+            }
+            if (_values == null) {
+                _values = new Object[12];
+            }
+            _shape = _root;
+            return this;
+        }
+
+        @Override
+        public MapBuilder put(Object key, Object value) {
+            if (_dict != null) {
+                if (_checkDups && _dict.containsKey(key)) {
+                    throw new IllegalArgumentException("Duplicate key (key '"+key+"')");
+                }
+                _dict.put(key, value);
+                return this;
+            }
+            final MapShape shape = _shape;
+            // shapes never contain null keys, nor can be extended with one
+            int ix = (key == null) ? -1 : shape.indexOf(key);
+            if (ix >= 0) {
+                if (_checkDups) {
+                    // 14-Apr-2017, tatu: Note that choice of `IllegalArgumentException` is arbitrary
+                    //   but not random: caller catches and re-packages it to give context
+                    throw new IllegalArgumentException("Duplicate key (key '"+key+"')");
+                }
+                _values[ix] = value;
+                return this;
+            }
+            MapShape next = (key == null) ? null : shape.withKey(key);
+            final int size = shape.size();
+            if (next == null) {
+                _dict = new LinkedHashMap<Object,Object>(size + size + 1);
+                for (int i = 0; i < size; ++i) {
+                    _dict.put(shape.key(i), _values[i]);
+                }
+                _dict.put(key, value);
+                _shape = null;
+                Arrays.fill(_values, 0, size, null);
+                return this;
+            }
+            if (size == _values.length) {
+                _values = Arrays.copyOf(_values, size + (size >> 1));
+            }
+            _values[size] = value;
+            _shape = next;
+            return this;
+        }
+
+        @Override
+        public Map<Object,Object> build() {
+            if (_dict != null) {
+                Map<Object,Object> result = _dict;
+                _dict = null;
+                return result;
+            }
+            final MapShape shape = _shape;
+            final int size = shape.size();
+            Map<Object,Object> result = new ShapedMap(shape, Arrays.copyOf(_values, size));
+            // clear buffer so as not to retain values
+            Arrays.fill(_values, 0, size, null);
+            _shape = null;
+            return result;
+        }
+
+        @Override
+        public Map<Object,Object> emptyMap() {
+            if (isEnabled(Feature.READ_ONLY)) {
+                return Collections.emptyMap();
+            }
+            return new ShapedMap(_root, new Object[0]);
+        }
+
+        @Override
+        public Map<Object,Object> singletonMap(Object key, Object value) {
+            MapShape shape = (key == null) ? null : _root.withKey(key);
+            if (shape == null) {
+                Map<Object,Object> result = new LinkedHashMap<Object,Object>(4);
+                result.put(key, value);
+                return result;
+            }
+            return new ShapedMap(shape, new Object[] { value });
+        }
+    }
 }
@@ -0,0 +1,160 @@
+package com.fasterxml.jackson.jr.ob.api;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.jr.ob.impl.JSONReader;
+import com.fasterxml.jackson.jr.ob.impl.JSONWriter;
+import com.fasterxml.jackson.jr.type.ResolvedType;
+
+/**
+ * {@link ReaderWriterProvider} that records names of all types for which readers
+ * and writers get resolved (optionally delegating to another provider for
+ * actual custom readers and writers), so that the set ("type profile") may be
+ * saved, and used for eagerly resolving same types on later runs, using
+ * {@link com.fasterxml.jackson.jr.ob.JSON#prewarm(Collection)}. Usage is like:
+ *<pre>
+ *  TypeProfileRecorder recorder = new TypeProfileRecorder();
+ *  JSON json = JSON.std.with(recorder);
+ *  // ... use json; at some point (like on shutdown):
+ *  recorder.writeTo(profileFile);
+ *
+ *  // and on next startup:
+ *  json.prewarm(TypeProfileRecorder.readTypes(profileFile, getClass().getClassLoader()));
+ *</pre>
+ * Note that since resolved readers and writers are cached, each type is
+ * only recorded once per cache (unless evicted).
+ *
+ * @since 3.0
+ */
+public class TypeProfileRecorder extends ReaderWriterProvider
+{
+    protected final ReaderWriterProvider _delegate;
+
+    protected final Set<String> _typeNames
+        = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
+    public TypeProfileRecorder() {
+        this(null);
+    }
+
+    /**
+     * @param delegate Provider to delegate reader and writer lookups to, if any
+     */
+    public TypeProfileRecorder(ReaderWriterProvider delegate) {
+        _delegate = delegate;
+    }
+
+    /*
+    /**********************************************************************
+    /* ReaderWriterProvider implementation
+    /**********************************************************************
+     */
+
+    @Override
+    public ValueReader findValueReader(JSONReader readContext, Class<?> type) {
+        _record(type);
+        return (_delegate == null) ? null : _delegate.findValueReader(readContext, type);
+    }
+
+    @Override
+    public ValueReader findCollectionReader(JSONReader readContext, Class<?> type,
+            ResolvedType valueType, ValueReader readerForValues) {
+        return (_delegate == null) ? null
+                : _delegate.findCollectionReader(readContext, type, valueType, readerForValues);
+    }
+
+    @Override
+    public ValueReader findMapReader(JSONReader readContext, Class<?> type,
+            ResolvedType valueType, ValueReader readerForValues) {
+        return (_delegate == null) ? null
+                : _delegate.findMapReader(readContext, type, valueType, readerForValues);
+    }
+
+    @Override
+    public ValueWriter findValueWriter(JSONWriter writeContext, Class<?> type) {
+        _record(type);
+        return (_delegate == null) ? null : _delegate.findValueWriter(writeContext, type);
+    }
+
+    /*
+    /**********************************************************************
+    /* Public API
+    /**********************************************************************
+     */
+
+    /**
+     * @return Names of types recorded so far, in alphabetic order
+     */
+    public List<String> recordedTypeNames() {
+        List<String> names = new ArrayList<String>(_typeNames);
+        Collections.sort(names);
+        return names;
+    }
+
+    /**
+     * Method for writing names of types recorded so far, one per line, in
+     * format {@link #readTypes} accepts.
+     */
+    public void writeTo(Writer w) throws IOException
+    {
+        for (String name : recordedTypeNames()) {
+            w.write(name);
+            w.write('\n');
+        }
+        w.flush();
+    }
+
+    public void writeTo(File f) throws IOException
+    {
+        try (Writer w = new OutputStreamWriter(new FileOutputStream(f), StandardCharsets.UTF_8)) {
+            writeTo(w);
+        }
+    }
+
+    /**
+     * Method for reading type names previously written using {@link #writeTo},
+     * and loading types using given class loader. Empty lines and lines starting
+     * with {@code #} are ignored, as are names of types that can not be loaded
+     * (as types may have been renamed or removed since recording).
+     */
+    public static List<Class<?>> readTypes(Reader r, ClassLoader loader) throws IOException
+    {
+        List<Class<?>> types = new ArrayList<Class<?>>();
+        BufferedReader br = new BufferedReader(r);
+        String line;
+        while ((line = br.readLine()) != null) {
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            try {
+                types.add(Class.forName(line, false, loader));
+            } catch (ClassNotFoundException | LinkageError e) {
+                ; // skip types no longer available
+            }
+        }
+        return types;
+    }
+
+    public static List<Class<?>> readTypes(File f, ClassLoader loader) throws IOException
+    {
+        try (Reader r = new InputStreamReader(new FileInputStream(f), StandardCharsets.UTF_8)) {
+            return readTypes(r, loader);
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    protected void _record(Class<?> type) {
+        if (!type.isPrimitive()) {
+            _typeNames.add(type.getName());
+        }
+    }
+}
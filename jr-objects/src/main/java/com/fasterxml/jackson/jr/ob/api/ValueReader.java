@@ -50,6 +50,28 @@ public abstract class ValueReader
         return read(reader, p);
     }
 
+    /**
+     * Method called to read value of type supported by this reader into an
+     * existing instance ("update mode"), instead of constructing a new one:
+     * used by {@link com.fasterxml.jackson.jr.ob.JSON#readInto} for JSON Objects
+     * and Arrays. Parser is positioned to the first token of the value to read.
+     *<p>
+     * Default implementation ignores existing value and simply calls
+     * {@link #read(JSONReader, JsonParser)}; readers of Beans, {@link java.util.Map}s
+     * and {@link java.util.Collection}s override it to merge content into
+     * existing value.
+     *
+     * @param existing Existing value to read content into; never null
+     *
+     * @return Value read: either {@code existing} (if content was read into it)
+     *    or a new value (if it was replaced)
+     *
+     * @since 3.0
+     */
+    public Object readInto(JSONReader reader, JsonParser p, Object existing) throws IOException {
+        return read(reader, p);
+    }
+
     /*
     /**********************************************************************
     /* Minimal metadata
@@ -11,6 +11,7 @@ import com.fasterxml.jackson.core.JsonParser.NumberType;
 
 import com.fasterxml.jackson.jr.ob.*;
 import com.fasterxml.jackson.jr.ob.api.CollectionBuilder;
+import com.fasterxml.jackson.jr.ob.api.LazyNumber;
 import com.fasterxml.jackson.jr.ob.api.MapBuilder;
 import com.fasterxml.jackson.jr.ob.api.ValueReader;
 
@@ -44,6 +45,9 @@ public class AnyReader extends ValueReader
                 return fromString(p.getText());
             case ID_NUMBER_INT:
                 {
+                    if (JSON.Feature.USE_LAZY_NUMBERS.isEnabled(r._features)) {
+                        return fromLazyNumber(r, p, true);
+                    }
                     NumberType n = p.getNumberType();
                     if (n == NumberType.INT) {
                         return Integer.valueOf(p.getIntValue());
@@ -54,6 +58,9 @@ public class AnyReader extends ValueReader
                     return p.getBigIntegerValue();
                 }
             case ID_NUMBER_FLOAT:
+                if (JSON.Feature.USE_LAZY_NUMBERS.isEnabled(r._features)) {
+                    return fromLazyNumber(r, p, false);
+                }
                 if (!JSON.Feature.USE_BIG_DECIMAL_FOR_FLOATS.isEnabled(r._features)) {
                     NumberType n = p.getNumberType();
                     if (n == NumberType.FLOAT) {
@@ -101,6 +108,9 @@ public class AnyReader extends ValueReader
             return fromString(p.getText());
         case ID_NUMBER_INT:
             {
+                if (JSON.Feature.USE_LAZY_NUMBERS.isEnabled(r._features)) {
+                    return fromLazyNumber(r, p, true);
+                }
                 NumberType n = p.getNumberType();
                 if (n == NumberType.INT) {
                     return Integer.valueOf(p.getIntValue());
@@ -111,6 +121,9 @@ public class AnyReader extends ValueReader
                 return p.getBigIntegerValue();
             }
         case ID_NUMBER_FLOAT:
+            if (JSON.Feature.USE_LAZY_NUMBERS.isEnabled(r._features)) {
+                return fromLazyNumber(r, p, false);
+            }
             if (!JSON.Feature.USE_BIG_DECIMAL_FOR_FLOATS.isEnabled(r._features)) {
                 NumberType n = p.getNumberType();
                 if (n == NumberType.FLOAT) {
@@ -140,8 +153,33 @@ public class AnyReader extends ValueReader
         throw JSONObjectException.from(p, "Unexpected value token: "+_tokenDesc(p));
     }
 
+    /**
+     * Method used for "update mode" deserialization: reads JSON Object into existing
+     * {@link Map} (merging values of existing entries), or JSON Array into existing
+     * {@link Collection} (see {@link JSONReader#readInto}); for other content or
+     * values, reads a new value same as {@link #read}.
+     *
+     * @since 3.0
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Object readInto(JSONReader r, JsonParser p, Object existing) throws IOException
+    {
+        if (p.isExpectedStartArrayToken()) {
+            if (existing instanceof Collection<?>) {
+                return r._mergeElements(p, (Collection<Object>) existing, this);
+            }
+        } else if (p.isExpectedStartObjectToken() && (existing instanceof Map<?,?>)) {
+            return r._mergeProperties(p, (Map<Object,Object>) existing, this, this);
+        }
+        return read(r, p);
+    }
+
     public Map<Object,Object> readFromObject(JSONReader r, JsonParser p, MapBuilder b) throws IOException
     {
+        if (r._projection != null) {
+            return _readProjectedObject(r, p, b);
+        }
         // First, a minor optimization for empty Maps
         String k;
         if ((k = p.nextFieldName()) == null) {
@@ -181,6 +219,9 @@ public class AnyReader extends ValueReader
 
     public Object[] readArrayFromArray(JSONReader r, JsonParser p, CollectionBuilder b) throws IOException
     {
+        if (r._projection != null) {
+            return r._readProjectedElements(p, b, this).buildArray();
+        }
         // First two special cases; empty, single-element
         if (p.nextToken() == JsonToken.END_ARRAY) {
             return b.emptyArray();
@@ -202,6 +243,9 @@ public class AnyReader extends ValueReader
 
     public Collection<Object> readCollectionFromArray(JSONReader r, JsonParser p, CollectionBuilder b) throws IOException
     {
+        if (r._projection != null) {
+            return r._readProjectedElements(p, b, this).buildCollection();
+        }
         if (p.nextToken() == JsonToken.END_ARRAY) {
             return b.emptyCollection();
         }
@@ -220,6 +264,34 @@ public class AnyReader extends ValueReader
         }
     }
 
+    /**
+     * Method called instead of regular reading of a JSON Object when only
+     * parts of content are to be read (see {@link Projection}).
+     *
+     * @since 3.0
+     */
+    protected Map<Object,Object> _readProjectedObject(JSONReader r, JsonParser p, MapBuilder b)
+        throws IOException
+    {
+        final Projection parent = r._projection;
+        b = b.start();
+        try {
+            String k;
+            while ((k = p.nextFieldName()) != null) {
+                if (r._projectTo(parent.property(k), p)) {
+                    b = b.put(fromKey(k), readNext(r, p));
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            throw JSONObjectException.from(p, e.getMessage());
+        }
+        if (!p.hasToken(JsonToken.END_OBJECT)) {
+            _reportNotEndObject(p);
+        }
+        r._projection = parent;
+        return b.build();
+    }
+
     private final void _reportNotEndObject(JsonParser p) throws IOException {
         throw JSONObjectException.from(p, "Unexpected token: %s (should get FIELD_NAME or END_OBJECT)",
                 _tokenDesc(p));
@@ -268,6 +340,19 @@ public class AnyReader extends ValueReader
         return str;
     }
 
+    /**
+     * Method called to construct a lazily decoded number for JSON Number
+     * parser points to, if {@link JSON.Feature#USE_LAZY_NUMBERS} is enabled.
+     * Default implementation constructs a {@link LazyNumber} with a copy of
+     * textual representation.
+     *
+     * @since 3.0
+     */
+    protected Object fromLazyNumber(JSONReader r, JsonParser p, boolean integral) throws IOException {
+        return new LazyNumber(p.getText(), integral,
+                JSON.Feature.USE_BIG_DECIMAL_FOR_FLOATS.isEnabled(r._features));
+    }
+
     protected Object fromEmbedded(Object value) throws IOException {
         return value;
     }
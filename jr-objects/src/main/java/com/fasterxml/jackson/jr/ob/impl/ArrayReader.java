@@ -31,6 +31,9 @@ public class ArrayReader extends ValueReader
                     p.currentToken());
         }
         CollectionBuilder b = r._collectionBuilder(null);
+        if (r._projection != null) {
+            return r._readProjectedElements(p, b, _valueReader).buildArray(_elementType);
+        }
         if (p.nextToken() == JsonToken.END_ARRAY) {
             return b.emptyArray(_elementType);
         }
@@ -48,6 +51,9 @@ public class ArrayReader extends ValueReader
     @Override
     public Object read(JSONReader r, JsonParser p) throws IOException {
         CollectionBuilder b = r._collectionBuilder(null);
+        if (r._projection != null) {
+            return r._readProjectedElements(p, b, _valueReader).buildArray(_elementType);
+        }
         if (p.nextToken() == JsonToken.END_ARRAY) {
             return b.emptyArray(_elementType);
         }
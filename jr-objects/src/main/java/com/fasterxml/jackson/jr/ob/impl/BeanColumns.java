@@ -0,0 +1,459 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Columnar ("struct-of-arrays") container for a sequence of Bean values,
+ * read from a JSON Array of JSON Objects by {@link BeanColumnsReader}:
+ * instead of one Bean instance per element, values of each Bean property
+ * are stored in a column -- a primitive array for {@code int}, {@code long},
+ * {@code double} and {@code boolean} properties (and their wrappers), and an
+ * {@code Object[]} for everything else (like {@link String}s).
+ * This avoids allocation of per-element Beans for large inputs, and allows
+ * cache-friendly scans over individual properties.
+ *<p>
+ * Individual elements may be accessed using {@link Row} views, or converted
+ * into Beans using {@link #bean(int)}. When written using {@link JSONWriter},
+ * container is written as a JSON Array of JSON Objects, similar to how
+ * a {@link List} of Beans would be written.
+ *<p>
+ * Values of primitive-typed properties that are missing (or {@code null})
+ * are stored as default values ({@code 0}, {@code false}), same as with
+ * Beans; for wrapper-typed properties they are considered {@code null}
+ * (see {@link #isNull}).
+ *
+ * @since 3.0
+ */
+public class BeanColumns<T>
+    implements Iterable<BeanColumns<T>.Row>
+{
+    /**
+     * Types of columns values of properties may be stored in.
+     */
+    public enum ColumnType {
+        INT, LONG, DOUBLE, BOOLEAN, OBJECT;
+    }
+
+    protected final static int INITIAL_CAPACITY = 16;
+
+    protected final BeanReader _beanReader;
+
+    protected final BeanPropertyReader[] _properties;
+
+    protected final String[] _names;
+
+    protected final ColumnType[] _types;
+
+    /**
+     * Indexes of columns in alphabetic order of names, used for
+     * {@link Row#toString()}; writing uses order of writer-side Bean properties
+     * instead (see {@link JSONWriter#writeBeanColumnsValue}).
+     */
+    protected final int[] _writeOrder;
+
+    protected final Map<String,Integer> _indexes;
+
+    /**
+     * Actual column data: one of {@code int[]}, {@code long[]}, {@code double[]},
+     * {@code boolean[]} or {@code Object[]}, for each column
+     */
+    protected final Object[] _columns;
+
+    /**
+     * For wrapper-typed properties stored in primitive columns, bitmap
+     * of rows that have (non-null) value; {@code null} for other columns.
+     */
+    protected final long[][] _present;
+
+    protected int _size;
+
+    protected int _capacity;
+
+    /**
+     * @param beanReader Reader for Bean type, to use for constructing Beans
+     * @param properties Properties, indexed in same order as columns
+     * @param types Types of columns to use for properties
+     * @param nullable Whether properties have wrapper types, and need to track
+     *    presence of values in primitive columns
+     */
+    protected BeanColumns(BeanReader beanReader, BeanPropertyReader[] properties,
+            ColumnType[] types, boolean[] nullable)
+    {
+        final int count = properties.length;
+        _beanReader = beanReader;
+        _properties = properties;
+        _types = types;
+        _names = new String[count];
+        _indexes = new HashMap<String,Integer>();
+        for (int i = 0; i < count; ++i) {
+            _names[i] = properties[i].getName();
+            _indexes.put(_names[i], i);
+        }
+        String[] sorted = _names.clone();
+        Arrays.sort(sorted);
+        _writeOrder = new int[count];
+        for (int i = 0; i < count; ++i) {
+            _writeOrder[i] = _indexes.get(sorted[i]);
+        }
+        _capacity = INITIAL_CAPACITY;
+        _columns = new Object[count];
+        _present = new long[count][];
+        for (int i = 0; i < count; ++i) {
+            _columns[i] = _newColumn(types[i], _capacity);
+            if (nullable[i] && (types[i] != ColumnType.OBJECT)) {
+                _present[i] = new long[_bitmapLength(_capacity)];
+            }
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Accessors, metadata
+    /**********************************************************************
+     */
+
+    @SuppressWarnings("unchecked")
+    public Class<T> beanType() {
+        return (Class<T>) _beanReader.valueType();
+    }
+
+    /**
+     * @return Number of rows (elements) in this container
+     */
+    public int size() {
+        return _size;
+    }
+
+    public int columnCount() {
+        return _names.length;
+    }
+
+    public List<String> columnNames() {
+        return Collections.unmodifiableList(Arrays.asList(_names));
+    }
+
+    /**
+     * @return Index of column for property with given name, if any; -1 if none
+     */
+    public int columnIndex(String name) {
+        Integer ix = _indexes.get(name);
+        return (ix == null) ? -1 : ix.intValue();
+    }
+
+    public ColumnType columnType(String name) {
+        return _types[_column(name)];
+    }
+
+    /*
+    /**********************************************************************
+    /* Accessors, columns
+    /**********************************************************************
+     */
+
+    // // NOTE: columns are returned as-is, without copying; and have
+    // // exactly as many elements as there are rows
+
+    public int[] intColumn(String name) {
+        return (int[]) _columns[_column(name, ColumnType.INT)];
+    }
+
+    public long[] longColumn(String name) {
+        return (long[]) _columns[_column(name, ColumnType.LONG)];
+    }
+
+    public double[] doubleColumn(String name) {
+        return (double[]) _columns[_column(name, ColumnType.DOUBLE)];
+    }
+
+    public boolean[] booleanColumn(String name) {
+        return (boolean[]) _columns[_column(name, ColumnType.BOOLEAN)];
+    }
+
+    public Object[] objectColumn(String name) {
+        return (Object[]) _columns[_column(name, ColumnType.OBJECT)];
+    }
+
+    /*
+    /**********************************************************************
+    /* Accessors, values
+    /**********************************************************************
+     */
+
+    /**
+     * @return True if property has no value for given row: either {@code null}
+     *    or missing (for primitive-typed properties, never true)
+     */
+    public boolean isNull(int row, int column) {
+        _checkRow(row);
+        long[] present = _present[column];
+        if (present != null) {
+            return (present[row >> 6] & (1L << row)) == 0L;
+        }
+        return (_types[column] == ColumnType.OBJECT)
+                && (((Object[]) _columns[column])[row] == null);
+    }
+
+    /**
+     * @return Value of given property for given row, boxed if necessary
+     */
+    public Object get(int row, int column) {
+        if (isNull(row, column)) {
+            return null;
+        }
+        final Object data = _columns[column];
+        switch (_types[column]) {
+        case INT:
+            return ((int[]) data)[row];
+        case LONG:
+            return ((long[]) data)[row];
+        case DOUBLE:
+            return ((double[]) data)[row];
+        case BOOLEAN:
+            return ((boolean[]) data)[row];
+        default:
+            return ((Object[]) data)[row];
+        }
+    }
+
+    /**
+     * @return View of the row with given index
+     */
+    public Row row(int row) {
+        _checkRow(row);
+        return new Row(row);
+    }
+
+    /**
+     * Method for constructing a Bean instance with property values of given row.
+     */
+    @SuppressWarnings("unchecked")
+    public T bean(int row) throws IOException
+    {
+        _checkRow(row);
+        final Object bean;
+        try {
+            bean = _beanReader.create();
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException("Failed to create an instance of "
+                    +_beanReader.valueType().getName()+": "+e.getMessage(), e);
+        }
+        for (int i = 0, end = _properties.length; i < end; ++i) {
+            Object value = get(row, i);
+            if (value != null) {
+                _properties[i].setValueFor(bean, value);
+            }
+        }
+        return (T) bean;
+    }
+
+    @Override
+    public Iterator<Row> iterator() {
+        return new Iterator<Row>() {
+            private int _index;
+
+            @Override
+            public boolean hasNext() {
+                return _index < _size;
+            }
+
+            @Override
+            public Row next() {
+                if (_index >= _size) {
+                    throw new NoSuchElementException();
+                }
+                return new Row(_index++);
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    /*
+    /**********************************************************************
+    /* Mutators for reader
+    /**********************************************************************
+     */
+
+    /**
+     * Method called to add a new row with default values, growing columns
+     * as necessary.
+     *
+     * @return Index of the new row
+     */
+    protected int _appendRow()
+    {
+        if (_size == _capacity) {
+            _resize(Math.max(INITIAL_CAPACITY, _capacity + (_capacity >> 1)));
+        }
+        return _size++;
+    }
+
+    protected void _markPresent(int column, int row) {
+        long[] present = _present[column];
+        if (present != null) {
+            present[row >> 6] |= (1L << row);
+        }
+    }
+
+    /**
+     * Method called after all rows have been added, to trim columns to
+     * exact size.
+     */
+    protected void _complete() {
+        if (_size != _capacity) {
+            _resize(_size);
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    private void _resize(int newCapacity)
+    {
+        for (int i = 0, end = _columns.length; i < end; ++i) {
+            Object data = _columns[i];
+            switch (_types[i]) {
+            case INT:
+                data = Arrays.copyOf((int[]) data, newCapacity);
+                break;
+            case LONG:
+                data = Arrays.copyOf((long[]) data, newCapacity);
+                break;
+            case DOUBLE:
+                data = Arrays.copyOf((double[]) data, newCapacity);
+                break;
+            case BOOLEAN:
+                data = Arrays.copyOf((boolean[]) data, newCapacity);
+                break;
+            default:
+                data = Arrays.copyOf((Object[]) data, newCapacity);
+            }
+            _columns[i] = data;
+            if (_present[i] != null) {
+                _present[i] = Arrays.copyOf(_present[i], _bitmapLength(newCapacity));
+            }
+        }
+        _capacity = newCapacity;
+    }
+
+    private static Object _newColumn(ColumnType type, int capacity)
+    {
+        switch (type) {
+        case INT:
+            return new int[capacity];
+        case LONG:
+            return new long[capacity];
+        case DOUBLE:
+            return new double[capacity];
+        case BOOLEAN:
+            return new boolean[capacity];
+        default:
+            return new Object[capacity];
+        }
+    }
+
+    private static int _bitmapLength(int capacity) {
+        return (capacity + 63) >> 6;
+    }
+
+    private int _column(String name) {
+        Integer ix = _indexes.get(name);
+        if (ix == null) {
+            throw new IllegalArgumentException("No column for property '"+name
+                    +"' of "+_beanReader.valueType().getName());
+        }
+        return ix.intValue();
+    }
+
+    private int _column(String name, ColumnType expType) {
+        int ix = _column(name);
+        if (_types[ix] != expType) {
+            throw new IllegalArgumentException("Column for property '"+name
+                    +"' is of type "+_types[ix]+", not "+expType);
+        }
+        return ix;
+    }
+
+    private void _checkRow(int row) {
+        if ((row < 0) || (row >= _size)) {
+            throw new IndexOutOfBoundsException("Row: "+row+", Size: "+_size);
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Helper types
+    /**********************************************************************
+     */
+
+    /**
+     * Light-weight view of a single row of the container.
+     */
+    public final class Row
+    {
+        private final int _row;
+
+        Row(int row) {
+            _row = row;
+        }
+
+        public int index() {
+            return _row;
+        }
+
+        public boolean isNull(String name) {
+            return BeanColumns.this.isNull(_row, _column(name));
+        }
+
+        public Object get(String name) {
+            return BeanColumns.this.get(_row, _column(name));
+        }
+
+        public int getInt(String name) {
+            return intColumn(name)[_row];
+        }
+
+        public long getLong(String name) {
+            return longColumn(name)[_row];
+        }
+
+        public double getDouble(String name) {
+            return doubleColumn(name)[_row];
+        }
+
+        public boolean getBoolean(String name) {
+            return booleanColumn(name)[_row];
+        }
+
+        public String getString(String name) {
+            Object value = get(name);
+            return (value == null) ? null : value.toString();
+        }
+
+        public T toBean() throws IOException {
+            return bean(_row);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder().append('{');
+            for (int i = 0; i < _writeOrder.length; ++i) {
+                if (i > 0) {
+                    sb.append(", ");
+                }
+                int ix = _writeOrder[i];
+                sb.append(_names[ix]).append('=').append(BeanColumns.this.get(_row, ix));
+            }
+            return sb.append('}').toString();
+        }
+    }
+}
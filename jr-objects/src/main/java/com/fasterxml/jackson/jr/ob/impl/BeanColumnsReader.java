@@ -0,0 +1,253 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.sym.FieldNameMatcher;
+import com.fasterxml.jackson.jr.ob.JSONObjectException;
+import com.fasterxml.jackson.jr.ob.api.ValueReader;
+import com.fasterxml.jackson.jr.ob.impl.BeanColumns.ColumnType;
+
+/**
+ * Reader that binds a JSON Array of JSON Objects into {@link BeanColumns},
+ * storing property values directly into columns instead of constructing
+ * Bean instances. Uses property resolution (and {@link FieldNameMatcher})
+ * of the {@link BeanReader} of the Bean type, so that handling of properties
+ * (including unknown ones, and {@link Projection}s) is same as when reading Beans.
+ *
+ * @since 3.0
+ */
+public class BeanColumnsReader extends ValueReader
+{
+    protected final BeanReader _beanReader;
+
+    protected final BeanPropertyReader[] _properties;
+
+    protected final ColumnType[] _types;
+
+    protected final boolean[] _nullable;
+
+    public BeanColumnsReader(BeanReader beanReader)
+    {
+        super(BeanColumns.class);
+        _beanReader = beanReader;
+        _properties = beanReader._fieldReaders;
+        final int count = _properties.length;
+        _types = new ColumnType[count];
+        _nullable = new boolean[count];
+        for (int i = 0; i < count; ++i) {
+            BeanPropertyReader prop = _properties[i];
+            Class<?> raw = prop.rawSetterType();
+            _types[i] = _columnType(raw, prop.getReader());
+            _nullable[i] = !raw.isPrimitive();
+        }
+    }
+
+    protected static ColumnType _columnType(Class<?> raw, ValueReader vr)
+    {
+        // Only bind into primitive columns if we know values are read as expected:
+        // that is, not for custom readers (which may well return something else)
+        if ((vr != null) && (vr.getClass() == SimpleValueReader.class)) {
+            if ((raw == Integer.TYPE) || (raw == Integer.class)) {
+                return ColumnType.INT;
+            }
+            if ((raw == Long.TYPE) || (raw == Long.class)) {
+                return ColumnType.LONG;
+            }
+            if ((raw == Double.TYPE) || (raw == Double.class)) {
+                return ColumnType.DOUBLE;
+            }
+            if ((raw == Boolean.TYPE) || (raw == Boolean.class)) {
+                return ColumnType.BOOLEAN;
+            }
+        }
+        return ColumnType.OBJECT;
+    }
+
+    @Override
+    public Object readNext(JSONReader r, JsonParser p) throws IOException {
+        if (p.nextToken() != JsonToken.START_ARRAY) {
+            if (p.hasToken(JsonToken.VALUE_NULL)) {
+                return null;
+            }
+            throw JSONObjectException.from(p, "Unexpected token %s; should get START_ARRAY",
+                    p.currentToken());
+        }
+        return read(r, p);
+    }
+
+    @Override
+    public Object read(JSONReader r, JsonParser p) throws IOException
+    {
+        if (r._projection != null) {
+            return _readProjected(r, p);
+        }
+        BeanColumns<Object> columns = new BeanColumns<Object>(_beanReader, _properties,
+                _types, _nullable);
+        JsonToken t;
+        while ((t = p.nextToken()) == JsonToken.START_OBJECT) {
+            _readRow(r, p, columns, columns._appendRow());
+        }
+        return _complete(p, t, columns);
+    }
+
+    /**
+     * Method called instead of regular reading when only parts of content
+     * are to be read (see {@link Projection}): elements that are not included
+     * are skipped (and not added as rows), and so are properties, leaving
+     * their values absent similar to how properties of Beans are left as is.
+     */
+    protected Object _readProjected(JSONReader r, JsonParser p) throws IOException
+    {
+        final Projection parent = r._projection;
+        BeanColumns<Object> columns = new BeanColumns<Object>(_beanReader, _properties,
+                _types, _nullable);
+        final FieldNameMatcher matcher = _beanReader._fieldMatcher;
+        JsonToken t;
+        for (int index = 0; (t = p.nextToken()) == JsonToken.START_OBJECT; ++index) {
+            final Projection element = parent.element(index);
+            if (element == null) {
+                p.skipChildren();
+                continue;
+            }
+            final int row = columns._appendRow();
+            if (element.includesAll()) {
+                r._projection = null;
+                _readRow(r, p, columns, row);
+                continue;
+            }
+            while (true) {
+                int ix = p.nextFieldName(matcher);
+                if (ix == FieldNameMatcher.MATCH_END_OBJECT) {
+                    break;
+                }
+                if ((ix < 0) && (ix != FieldNameMatcher.MATCH_UNKNOWN_NAME)) {
+                    throw _beanReader._reportProblem(p);
+                }
+                final String name = p.currentName();
+                if (!r._projectTo(element.property(name), p)) {
+                    continue;
+                }
+                if (ix >= 0) {
+                    _readValue(r, p, columns, ix, row);
+                } else {
+                    _beanReader.handleUnknown(r, p, name);
+                }
+            }
+        }
+        r._projection = parent;
+        return _complete(p, t, columns);
+    }
+
+    private void _readRow(JSONReader r, JsonParser p, BeanColumns<?> columns, int row)
+        throws IOException
+    {
+        final FieldNameMatcher matcher = _beanReader._fieldMatcher;
+        while (true) {
+            int ix = p.nextFieldName(matcher);
+            if (ix >= 0) {
+                _readValue(r, p, columns, ix, row);
+            } else if (ix == FieldNameMatcher.MATCH_END_OBJECT) {
+                break;
+            } else if (ix == FieldNameMatcher.MATCH_UNKNOWN_NAME) {
+                _beanReader.handleUnknown(r, p, p.currentName());
+            } else {
+                throw _beanReader._reportProblem(p);
+            }
+        }
+    }
+
+    private Object _complete(JsonParser p, JsonToken t, BeanColumns<Object> columns)
+        throws IOException
+    {
+        if (t != JsonToken.END_ARRAY) {
+            throw JSONObjectException.from(p,
+                    "Can not bind %s as element of columns of %s: expected JSON Object",
+                    _tokenDesc(p), _beanReader.valueType().getName());
+        }
+        columns._complete();
+        return columns;
+    }
+
+    private void _readValue(JSONReader r, JsonParser p, BeanColumns<?> columns,
+            int column, int row) throws IOException
+    {
+        final Object data = columns._columns[column];
+        JsonToken t;
+
+        switch (_types[column]) {
+        case INT:
+            t = p.nextToken();
+            if (t == JsonToken.VALUE_NUMBER_INT) {
+                ((int[]) data)[row] = p.getIntValue();
+            } else {
+                Object value = _readScalar(r, p, t, column);
+                if (value == null) {
+                    return;
+                }
+                ((int[]) data)[row] = ((Number) value).intValue();
+            }
+            break;
+        case LONG:
+            t = p.nextToken();
+            if (t == JsonToken.VALUE_NUMBER_INT) {
+                ((long[]) data)[row] = p.getLongValue();
+            } else {
+                Object value = _readScalar(r, p, t, column);
+                if (value == null) {
+                    return;
+                }
+                ((long[]) data)[row] = ((Number) value).longValue();
+            }
+            break;
+        case DOUBLE:
+            t = p.nextToken();
+            if ((t == JsonToken.VALUE_NUMBER_FLOAT) || (t == JsonToken.VALUE_NUMBER_INT)) {
+                ((double[]) data)[row] = p.getDoubleValue();
+            } else {
+                Object value = _readScalar(r, p, t, column);
+                if (value == null) {
+                    return;
+                }
+                ((double[]) data)[row] = ((Number) value).doubleValue();
+            }
+            break;
+        case BOOLEAN:
+            t = p.nextToken();
+            if (t == JsonToken.VALUE_TRUE) {
+                ((boolean[]) data)[row] = true;
+            } else if (t == JsonToken.VALUE_FALSE) {
+                ((boolean[]) data)[row] = false;
+            } else {
+                Object value = _readScalar(r, p, t, column);
+                if (value == null) {
+                    return;
+                }
+                ((boolean[]) data)[row] = ((Boolean) value).booleanValue();
+            }
+            break;
+        default:
+            ((Object[]) data)[row] = _properties[column].getReader().readNext(r, p);
+            return;
+        }
+        columns._markPresent(column, row);
+    }
+
+    /**
+     * Helper method for reading values of primitive columns that are not
+     * of expected token type, using regular value reader (to get same coercions
+     * as with Beans).
+     *
+     * @return Value read, if any; {@code null} for JSON null (or values that
+     *    coerce into null)
+     */
+    private Object _readScalar(JSONReader r, JsonParser p, JsonToken t, int column)
+        throws IOException
+    {
+        if (t == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return _properties[column].getReader().read(r, p);
+    }
+}
@@ -1,16 +1,28 @@
 package com.fasterxml.jackson.jr.ob.impl;
 
+import static com.fasterxml.jackson.jr.ob.impl.ValueWriterLocator.*;
+
 import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.jr.ob.JSONObjectException;
 import com.fasterxml.jackson.jr.ob.api.ValueReader;
 
 public final class BeanPropertyReader
 {
+    private final static MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private final static MethodType READ_AND_SET_TYPE = MethodType.methodType(void.class,
+            Object.class, JSONReader.class, JsonParser.class);
+
     /**
      * Logical name of the property being handled.
      */
@@ -31,13 +43,86 @@ public final class BeanPropertyReader
      */
     private final Field _field;
 
+    /**
+     * Getter method to use for accessing current value of property when reading
+     * in "update mode", if any; null if none
+     *
+     * @since 3.0
+     */
+    private final Method _getter;
+
+    /**
+     * Handle for calling setter or assigning field, if one could be constructed;
+     * if null, reflection ({@link #_setter} or {@link #_field}) is used instead.
+     *
+     * @since 3.0
+     */
+    private final MethodHandle _setterHandle;
+
+    /**
+     * Handle for calling primitive-typed setter or assigning primitive-typed field
+     * without boxing, if property has primitive type and handle could be constructed;
+     * null otherwise.
+     *
+     * @since 3.0
+     */
+    private final MethodHandle _primitiveSetterHandle;
+
+    /**
+     * Type id of the primitive value to read and assign using
+     * {@link #_primitiveSetterHandle}, if property has primitive type and uses default
+     * (non-custom) value reader; 0 if regular (boxed) handling is to be used.
+     *
+     * @since 3.0
+     */
+    private final int _primitiveTypeId;
+
     public BeanPropertyReader(String name, Field f, Method setter) {
+        this(name, f, setter, null, null);
+    }
+
+    /**
+     * @param setterHandle Handle with signature {@code (Object,Object)void} to use
+     *    for assigning value, if any; null to use reflection
+     *
+     * @since 3.0
+     */
+    public BeanPropertyReader(String name, Field f, Method setter, MethodHandle setterHandle) {
+        this(name, f, setter, setterHandle, null);
+    }
+
+    /**
+     * @param setterHandle Handle with signature {@code (Object,Object)void} to use
+     *    for assigning value, if any; null to use reflection
+     * @param primitiveSetterHandle Handle with signature {@code (Object,P)void} (where
+     *    {@code P} is the primitive type of property) to use for assigning value without
+     *    boxing, if any; null to use boxed values
+     *
+     * @since 3.0
+     */
+    public BeanPropertyReader(String name, Field f, Method setter, MethodHandle setterHandle,
+            MethodHandle primitiveSetterHandle) {
+        this(name, f, setter, setterHandle, primitiveSetterHandle, null);
+    }
+
+    /**
+     * @param getter Getter method to use for accessing current value of property
+     *    when reading in "update mode", if any
+     *
+     * @since 3.0
+     */
+    public BeanPropertyReader(String name, Field f, Method setter, MethodHandle setterHandle,
+            MethodHandle primitiveSetterHandle, Method getter) {
         if ((f == null) && (setter == null)) {
             throw new IllegalArgumentException("Both `field` and `setter` can not be null");
         }
         _name = name;
         _field = f;
         _setter = setter;
+        _getter = getter;
+        _setterHandle = setterHandle;
+        _primitiveSetterHandle = primitiveSetterHandle;
+        _primitiveTypeId = 0;
         _valueReader = null;
     }
 
@@ -45,7 +130,18 @@ public final class BeanPropertyReader
         _name = src._name;
         _field = src._field;
         _setter = src._setter;
+        _getter = src._getter;
+        _setterHandle = src._setterHandle;
+        _primitiveSetterHandle = src._primitiveSetterHandle;
         _valueReader = vr;
+        // Can only bind without boxing if we know how values are read: that is,
+        // not for custom readers (which may well return boxed values)
+        if ((_primitiveSetterHandle != null) && (vr != null)
+                && (vr.getClass() == SimpleValueReader.class)) {
+            _primitiveTypeId = ((SimpleValueReader) vr)._typeId;
+        } else {
+            _primitiveTypeId = 0;
+        }
     }
 
     public BeanPropertyReader withReader(ValueReader vr) {
@@ -69,8 +165,129 @@ public final class BeanPropertyReader
     public ValueReader getReader() { return _valueReader; }
     public String getName() { return _name; }
 
+    /**
+     * Method for reading the next value from given parser, using value reader
+     * of this property, and assigning it to given bean. For primitive-typed
+     * properties that use default value readers this is done without boxing.
+     *
+     * @since 3.0
+     */
+    public void readAndSet(Object bean, JSONReader r, JsonParser p) throws IOException
+    {
+        if (_primitiveTypeId == 0) {
+            setValueFor(bean, _valueReader.readNext(r, p));
+            return;
+        }
+        final SimpleValueReader vr = (SimpleValueReader) _valueReader;
+        final MethodHandle h = _primitiveSetterHandle;
+        try {
+            switch (_primitiveTypeId) {
+            case SER_NUMBER_INTEGER:
+                h.invokeExact(bean, vr.nextIntValue(p));
+                return;
+            case SER_NUMBER_LONG:
+                h.invokeExact(bean, vr.nextLongValue(p));
+                return;
+            case SER_NUMBER_DOUBLE:
+                h.invokeExact(bean, vr.nextDoubleValue(p));
+                return;
+            case SER_NUMBER_FLOAT:
+                h.invokeExact(bean, vr.nextFloatValue(p));
+                return;
+            case SER_NUMBER_SHORT:
+                h.invokeExact(bean, vr.nextShortValue(p));
+                return;
+            case SER_NUMBER_BYTE:
+                h.invokeExact(bean, vr.nextByteValue(p));
+                return;
+            case SER_BOOLEAN:
+                h.invokeExact(bean, vr.nextBooleanValue(p));
+                return;
+            case SER_CHAR:
+                h.invokeExact(bean, vr.nextCharValue(p));
+                return;
+            }
+        } catch (IOException e) { // from parser, pass as-is
+            throw e;
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
+            _reportProblem(t);
+        }
+        // should never get here, but just in case
+        setValueFor(bean, _valueReader.readNext(r, p));
+    }
+
+    /**
+     * Method for reading the next value from given parser into given bean in
+     * "update mode": if property has a current (non-null) value, and content
+     * is a JSON Object or Array, it is read into current value (see
+     * {@link ValueReader#readInto}) instead of replacing it. Otherwise
+     * works same as {@link #readAndSet}; current value is only accessed
+     * for JSON Objects and Arrays.
+     *
+     * @since 3.0
+     */
+    public void readInto(Object bean, JSONReader r, JsonParser p) throws IOException
+    {
+        if (_primitiveTypeId != 0) {
+            readAndSet(bean, r, p);
+            return;
+        }
+        JsonToken t = p.nextToken();
+        // current value only needed (and accessed) for structured values
+        if ((t == JsonToken.START_OBJECT) || (t == JsonToken.START_ARRAY)) {
+            final Object existing = getValueFor(bean);
+            if (existing != null) {
+                // set even if same instance, in case getter returns a copy
+                setValueFor(bean, _valueReader.readInto(r, p, existing));
+                return;
+            }
+        }
+        setValueFor(bean, _valueReader.read(r, p));
+    }
+
+    /**
+     * Method for accessing current value of this property of given bean, using
+     * getter method or field, if either available.
+     *
+     * @return Current value of property, if accessible; null if not
+     *
+     * @since 3.0
+     */
+    public Object getValueFor(Object bean) throws IOException
+    {
+        try {
+            if (_getter != null) {
+                return _getter.invoke(bean);
+            }
+            // field only known to be accessible if used for assignment
+            if (_setter == null) {
+                return _field.get(bean);
+            }
+        } catch (Exception e) {
+            Throwable t = e;
+            if (t instanceof InvocationTargetException) {
+                t = t.getCause();
+            }
+            throw new JSONObjectException("Failed to get property '"+_name+"'; exception "+e.getClass().getName()+"): "
+                    +t.getMessage(), t);
+        }
+        return null;
+    }
+
     public void setValueFor(Object bean, Object value) throws IOException
     {
+        if (_setterHandle != null) {
+            try {
+                _setterHandle.invokeExact(bean, value);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable t) {
+                _reportProblem(t);
+            }
+            return;
+        }
         if (_setter == null) {
             try {
                 _field.set(bean, value);
@@ -86,6 +303,56 @@ public final class BeanPropertyReader
         }
     }
 
+    /**
+     * Method for constructing a handle with signature
+     * {@code (Object,JSONReader,JsonParser)void} that reads the next value using
+     * value reader of this property, and assigns it to given bean.
+     * Handle is composed from bound constituent handles so that the JVM can
+     * specialize (and inline) the whole chain separately for each property.
+     *
+     * @return Composed handle, if one could be constructed; null if not (in which
+     *    case caller should use {@link #getReader} and {@link #setValueFor} instead)
+     *
+     * @since 3.0
+     */
+    public MethodHandle readAndSetHandle()
+    {
+        if (_valueReader == null) {
+            return null;
+        }
+        try {
+            MethodHandle set, read;
+            if (_primitiveTypeId != 0) {
+                set = _primitiveSetterHandle;
+                // primitive read methods are named like "nextIntValue", "nextBooleanValue"
+                Class<?> type = set.type().parameterType(1);
+                String typeName = type.getName();
+                read = LOOKUP.findVirtual(SimpleValueReader.class,
+                        "next"+Character.toUpperCase(typeName.charAt(0))+typeName.substring(1)+"Value",
+                        MethodType.methodType(type, JsonParser.class))
+                        .bindTo(_valueReader);
+                read = MethodHandles.dropArguments(read, 0, JSONReader.class);
+            } else if (_setterHandle != null) {
+                set = _setterHandle;
+                read = LOOKUP.findVirtual(ValueReader.class, "readNext",
+                        MethodType.methodType(Object.class, JSONReader.class, JsonParser.class))
+                        .bindTo(_valueReader);
+            } else {
+                return LOOKUP.findVirtual(BeanPropertyReader.class, "readAndSet", READ_AND_SET_TYPE)
+                        .bindTo(this);
+            }
+            // failures of setter itself need to be reported same way as with reflection
+            MethodHandle onFail = LOOKUP.findVirtual(BeanPropertyReader.class, "_reportProblem",
+                    MethodType.methodType(void.class, Throwable.class))
+                    .bindTo(this)
+                    .asType(MethodType.methodType(void.class, Exception.class));
+            set = MethodHandles.catchException(set, Exception.class, onFail);
+            return MethodHandles.collectArguments(set, 1, read);
+        } catch (IllegalAccessException | NoSuchMethodException | RuntimeException e) {
+            return null;
+        }
+    }
+
     protected String _bean() {
         if (_setter != null) {
             return _setter.getDeclaringClass().getName();
@@ -105,7 +372,7 @@ public final class BeanPropertyReader
         return _name;
     }
 
-    private void _reportProblem(Exception e) throws IOException
+    private void _reportProblem(Throwable e) throws IOException
     {
         Throwable t = e;
         if (t instanceof InvocationTargetException) {
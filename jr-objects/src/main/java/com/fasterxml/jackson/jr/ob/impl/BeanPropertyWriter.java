@@ -1,6 +1,9 @@
 package com.fasterxml.jackson.jr.ob.impl;
 
 import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 
@@ -15,13 +18,60 @@ import com.fasterxml.jackson.jr.ob.JSONObjectException;
  */
 public final class BeanPropertyWriter
 {
+    private final static MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
     public final SerializedString name;
     public final int typeId;
 
     private final Field _field;
     private final Method _getter;
 
+    /**
+     * Handle for calling getter or reading field, if one could be constructed;
+     * if null, reflection ({@link #_getter} or {@link #_field}) is used instead.
+     *
+     * @since 3.0
+     */
+    private final MethodHandle _getterHandle;
+
+    /**
+     * Handle for calling primitive-typed getter or reading primitive-typed field
+     * without boxing, if property has primitive type and handle could be
+     * constructed; null otherwise.
+     *
+     * @since 3.0
+     */
+    private final MethodHandle _primitiveGetterHandle;
+
     public BeanPropertyWriter(int typeId, String n, Field f, Method getter)
+    {
+        this(typeId, n, f, getter, null, null);
+    }
+
+    /**
+     * @param getterHandle Handle with signature {@code (Object)Object} to use
+     *    for accessing value, if any; null to use reflection
+     *
+     * @since 3.0
+     */
+    public BeanPropertyWriter(int typeId, String n, Field f, Method getter,
+            MethodHandle getterHandle)
+    {
+        this(typeId, n, f, getter, getterHandle, null);
+    }
+
+    /**
+     * @param getterHandle Handle with signature {@code (Object)Object} to use
+     *    for accessing value, if any; null to use reflection
+     * @param primitiveGetterHandle Handle with signature {@code (Object)P} (where
+     *    {@code P} is {@code int}, {@code long}, {@code double}, {@code boolean}
+     *    or {@code char}) to use for accessing value without boxing, if any;
+     *    null to use boxed values
+     *
+     * @since 3.0
+     */
+    public BeanPropertyWriter(int typeId, String n, Field f, Method getter,
+            MethodHandle getterHandle, MethodHandle primitiveGetterHandle)
     {
         this.typeId = typeId;
         name = new SerializedString(n);
@@ -30,6 +80,8 @@ public final class BeanPropertyWriter
         }
         _field = f;
         _getter = getter;
+        _getterHandle = getterHandle;
+        _primitiveGetterHandle = primitiveGetterHandle;
     }
 
     /**
@@ -39,26 +91,184 @@ public final class BeanPropertyWriter
         if (name.toString().equals(newName)) {
             return this;
         }
-        return new BeanPropertyWriter(typeId, newName, _field, _getter);
+        return new BeanPropertyWriter(typeId, newName, _field, _getter, _getterHandle,
+                _primitiveGetterHandle);
     }
 
     public Object getValueFor(Object bean) throws IOException
     {
+        if (_getterHandle != null) {
+            try {
+                return (Object) _getterHandle.invokeExact(bean);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw _reportProblem(t);
+            }
+        }
         try {
             if (_getter == null) {
                 return _field.get(bean);
             }
             return _getter.invoke(bean);
         } catch (Exception e) {
-            final String accessorDesc = (_getter != null)
-                    ? String.format("method %s.%s()", _bean(), _getter.getName())
-                    : String.format("field %s.%s", _bean(), _field.getName());
-            throw new JSONObjectException(String.format(
-                    "Failed to access property '%s' (using %s); exception (%s): %s",
-                    name, e.getClass().getName(), accessorDesc, e.getMessage()), e);
+            throw _reportProblem(e);
+        }
+    }
+
+    /**
+     * Accessor for checking whether value of this property may be accessed without
+     * boxing, using one of {@link #getIntValueFor}, {@link #getLongValueFor},
+     * {@link #getDoubleValueFor}, {@link #getBooleanValueFor} or {@link #getCharValueFor}
+     * (depending on {@link #typeId}).
+     *
+     * @since 3.0
+     */
+    public boolean hasPrimitiveAccessor() {
+        return _primitiveGetterHandle != null;
+    }
+
+    /**
+     * Accessor for value of properties of types {@code int}, {@code short}
+     * and {@code byte}; only to be called if {@link #hasPrimitiveAccessor()}
+     * returns true.
+     *
+     * @since 3.0
+     */
+    public int getIntValueFor(Object bean) throws IOException
+    {
+        try {
+            return (int) _primitiveGetterHandle.invokeExact(bean);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw _reportProblem(t);
         }
     }
 
+    /**
+     * Accessor for value of properties of type {@code long}; only to be called
+     * if {@link #hasPrimitiveAccessor()} returns true.
+     *
+     * @since 3.0
+     */
+    public long getLongValueFor(Object bean) throws IOException
+    {
+        try {
+            return (long) _primitiveGetterHandle.invokeExact(bean);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw _reportProblem(t);
+        }
+    }
+
+    /**
+     * Accessor for value of properties of types {@code double} and {@code float};
+     * only to be called if {@link #hasPrimitiveAccessor()} returns true.
+     *
+     * @since 3.0
+     */
+    public double getDoubleValueFor(Object bean) throws IOException
+    {
+        try {
+            return (double) _primitiveGetterHandle.invokeExact(bean);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw _reportProblem(t);
+        }
+    }
+
+    /**
+     * Accessor for value of properties of type {@code boolean}; only to be called
+     * if {@link #hasPrimitiveAccessor()} returns true.
+     *
+     * @since 3.0
+     */
+    public boolean getBooleanValueFor(Object bean) throws IOException
+    {
+        try {
+            return (boolean) _primitiveGetterHandle.invokeExact(bean);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw _reportProblem(t);
+        }
+    }
+
+    /**
+     * Accessor for value of properties of type {@code char}; only to be called
+     * if {@link #hasPrimitiveAccessor()} returns true.
+     *
+     * @since 3.0
+     */
+    public char getCharValueFor(Object bean) throws IOException
+    {
+        try {
+            return (char) _primitiveGetterHandle.invokeExact(bean);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw _reportProblem(t);
+        }
+    }
+
+    /**
+     * Method for constructing a handle with signature {@code (JSONWriter,Object)void}
+     * that accesses value of this property from given bean, and writes it
+     * (along with property name) using given writer.
+     * Handle is composed from bound constituent handles so that the JVM can
+     * specialize (and inline) the whole chain separately for each property.
+     *
+     * @return Composed handle, if one could be constructed; null if not (in which
+     *    case caller should use {@link #getValueFor} instead)
+     *
+     * @since 3.0
+     */
+    public MethodHandle accessAndWriteHandle()
+    {
+        try {
+            if (_primitiveGetterHandle != null) {
+                // no boxing, but let writer decide how to write the value
+                MethodHandle write = LOOKUP.findVirtual(JSONWriter.class, "_writeBeanProperty",
+                        MethodType.methodType(void.class, BeanPropertyWriter.class, Object.class));
+                return MethodHandles.insertArguments(write, 1, this);
+            }
+            MethodHandle get;
+            if (_getterHandle == null) {
+                get = LOOKUP.findVirtual(BeanPropertyWriter.class, "getValueFor",
+                        MethodType.methodType(Object.class, Object.class))
+                        .bindTo(this);
+            } else {
+                // failures of getter itself need to be reported same way as with reflection
+                MethodHandle onFail = LOOKUP.findVirtual(BeanPropertyWriter.class, "_rethrowProblem",
+                        MethodType.methodType(Object.class, Exception.class))
+                        .bindTo(this);
+                get = MethodHandles.catchException(_getterHandle, Exception.class, onFail);
+            }
+            MethodHandle write = LOOKUP.findVirtual(JSONWriter.class, "_writeBeanProperty",
+                    MethodType.methodType(void.class, SerializedString.class, int.class, Object.class));
+            write = MethodHandles.insertArguments(write, 1, name, typeId);
+            return MethodHandles.filterArguments(write, 1, get);
+        } catch (IllegalAccessException | NoSuchMethodException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private Object _rethrowProblem(Exception e) throws JSONObjectException {
+        throw _reportProblem(e);
+    }
+
+    protected JSONObjectException _reportProblem(Throwable e) {
+        final String accessorDesc = (_getter != null)
+                ? String.format("method %s.%s()", _bean(), _getter.getName())
+                : String.format("field %s.%s", _bean(), _field.getName());
+        return new JSONObjectException(String.format(
+                "Failed to access property '%s' (using %s); exception (%s): %s",
+                name, accessorDesc, e.getClass().getName(), e.getMessage()), e);
+    }
+
     protected String _bean() {
         if (_getter == null) {
             return _field.getDeclaringClass().getName();
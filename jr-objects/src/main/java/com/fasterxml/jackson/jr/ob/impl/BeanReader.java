@@ -1,6 +1,7 @@
 package com.fasterxml.jackson.jr.ob.impl;
 
 import java.io.IOException;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
 import java.util.*;
 
@@ -35,6 +36,14 @@ public class BeanReader
     protected FieldNameMatcher _fieldMatcher;
     protected BeanPropertyReader[] _fieldReaders;
 
+    /**
+     * Optional specialized handlers, indexed same as {@link #_fieldReaders}, if
+     * {@link JSON.Feature#SPECIALIZE_BEAN_HANDLERS} is enabled; null if not.
+     *
+     * @since 3.0
+     */
+    protected MethodHandle[] _fieldHandlers;
+
     /**
      * Constructors used for deserialization use case
      */
@@ -77,6 +86,28 @@ public class BeanReader
         _fieldMatcher = streamFactory.constructFieldNameMatcher(names, true);
     }
 
+    /**
+     * Optional initialization method called after {@link #initFieldMatcher}, to
+     * construct specialized per-property handlers (see
+     * {@link BeanPropertyReader#readAndSetHandle}). If handlers can not be
+     * constructed for all properties, regular handling is used instead.
+     *
+     * @since 3.0
+     */
+    protected void initFieldHandlers()
+    {
+        final BeanPropertyReader[] readers = _fieldReaders;
+        MethodHandle[] handlers = new MethodHandle[readers.length];
+        for (int i = 0; i < readers.length; ++i) {
+            MethodHandle h = readers[i].readAndSetHandle();
+            if (h == null) {
+                return;
+            }
+            handlers[i] = h;
+        }
+        _fieldHandlers = handlers;
+    }
+
     /**
      * @since 3.0
      */
@@ -159,8 +190,46 @@ public class BeanReader
                 _valueType.getName(), _tokenDesc(p));
     }
 
+    /**
+     * Method used for "update mode" deserialization: reads properties of
+     * a JSON Object into given existing bean, instead of constructing a
+     * new instance. Properties with non-null values are merged with their
+     * JSON Object and Array values (see {@link BeanPropertyReader#readInto}).
+     * For other content (or beans of incompatible types), a new value is
+     * read same as with {@link #read}.
+     *
+     * @since 3.0
+     */
+    @Override
+    public Object readInto(JSONReader r, JsonParser p, Object bean) throws IOException
+    {
+        if (!p.isExpectedStartObjectToken() || !_valueType.isInstance(bean)) {
+            return read(r, p);
+        }
+        p.setCurrentValue(bean);
+        final BeanPropertyReader[] readers = _fieldReaders;
+        while (true) {
+            final int ix = p.nextFieldName(_fieldMatcher);
+            if (ix >= 0) {
+                readers[ix].readInto(bean, r, p);
+            } else if (ix == FieldNameMatcher.MATCH_UNKNOWN_NAME) {
+                handleUnknown(r, p, p.currentName());
+            } else if (ix == FieldNameMatcher.MATCH_END_OBJECT) {
+                return bean;
+            } else {
+                throw _reportProblem(p);
+            }
+        }
+    }
+
     private final Object _readBean(JSONReader r, JsonParser p, final Object bean) throws IOException
     {
+        if (r._projection != null) {
+            return _readBeanProjected(r, p, bean);
+        }
+        if (_fieldHandlers != null) {
+            return _readBeanWithHandlers(r, p, bean);
+        }
         // 13-Dec-2017, tatu: Unrolling is unpredictable business, and 
         //     performance does not seem linear. In fact, choices of 2 or 8 unrolls
         //     seem to have about same performance for our test (but in between less... :) )
@@ -168,44 +237,36 @@ public class BeanReader
         final BeanPropertyReader[] readers = _fieldReaders;
         while (ix >= 0) {
             BeanPropertyReader prop = readers[ix]; // elem #1
-            Object value = prop.getReader().readNext(r, p);
-            prop.setValueFor(bean, value);
+            prop.readAndSet(bean, r, p);
 
             if ((ix = p.nextFieldName(_fieldMatcher)) < 0) break;
             prop = readers[ix]; // elem #2
-            value = prop.getReader().readNext(r, p);
-            prop.setValueFor(bean, value);
+            prop.readAndSet(bean, r, p);
 
 /*
             if ((ix = p.nextFieldName(_fieldMatcher)) < 0) break;
             prop = readers[ix]; // elem #3
-            value = prop.getReader().readNext(r, p);
-            prop.setValueFor(bean, value);
+            prop.readAndSet(bean, r, p);
 
             if ((ix = p.nextFieldName(_fieldMatcher)) < 0) break;
             prop = readers[ix]; // elem #4
-            value = prop.getReader().readNext(r, p);
-            prop.setValueFor(bean, value);
+            prop.readAndSet(bean, r, p);
 
             if ((ix = p.nextFieldName(_fieldMatcher)) < 0) break;
             prop = readers[ix]; // elem #5
-            value = prop.getReader().readNext(r, p);
-            prop.setValueFor(bean, value);
+            prop.readAndSet(bean, r, p);
 
             if ((ix = p.nextFieldName(_fieldMatcher)) < 0) break;
             prop = readers[ix]; // elem #6
-            value = prop.getReader().readNext(r, p);
-            prop.setValueFor(bean, value);
+            prop.readAndSet(bean, r, p);
 
             if ((ix = p.nextFieldName(_fieldMatcher)) < 0) break;
             prop = readers[ix]; // elem #7
-            value = prop.getReader().readNext(r, p);
-            prop.setValueFor(bean, value);
+            prop.readAndSet(bean, r, p);
 
             if ((ix = p.nextFieldName(_fieldMatcher)) < 0) break;
             prop = readers[ix]; // elem #8
-            value = prop.getReader().readNext(r, p);
-            prop.setValueFor(bean, value);
+            prop.readAndSet(bean, r, p);
 */
             // and then for next loop
             ix = p.nextFieldName(_fieldMatcher);
@@ -220,6 +281,30 @@ public class BeanReader
         return bean;
     }
 
+    private final Object _readBeanWithHandlers(JSONReader r, JsonParser p, final Object bean)
+        throws IOException
+    {
+        final MethodHandle[] handlers = _fieldHandlers;
+        int ix;
+        while ((ix = p.nextFieldName(_fieldMatcher)) >= 0) {
+            try {
+                handlers[ix].invokeExact(bean, r, p);
+            } catch (IOException | RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) { // should never occur but has to be declared
+                throw new JSONObjectException("Failed to set property '"
+                        +_fieldReaders[ix].getName()+"': "+t.getMessage(), t);
+            }
+        }
+        if (ix != FieldNameMatcher.MATCH_END_OBJECT) {
+            if (ix == FieldNameMatcher.MATCH_UNKNOWN_NAME) {
+                return _readWithUnknown(r, p, bean, p.currentName());
+            }
+            throw _reportProblem(p);
+        }
+        return bean;
+    }
+
     /*
     private final Object _readBean(JSONReader r, JsonParser p, final Object bean) throws IOException
     {
@@ -304,7 +389,7 @@ public class BeanReader
                 handleUnknown(r, p, propName);
                 continue;
             }
-            prop.setValueFor(bean, prop.getReader().readNext(r, p));
+            prop.readAndSet(bean, r, p);
         }
         if (!p.hasToken(JsonToken.END_OBJECT)) {
             throw _reportProblem(p);
@@ -313,6 +398,35 @@ public class BeanReader
         return bean;
     }
 
+    /**
+     * Method called instead of regular reading of properties when only
+     * parts of content are to be read (see {@link Projection}): properties
+     * that are not included are skipped without checking whether they are
+     * known.
+     */
+    private final Object _readBeanProjected(JSONReader r, JsonParser p, final Object bean)
+        throws IOException
+    {
+        final Projection parent = r._projection;
+        String propName;
+        while ((propName = p.nextFieldName()) != null) {
+            if (!r._projectTo(parent.property(propName), p)) {
+                continue;
+            }
+            BeanPropertyReader prop = findProperty(propName);
+            if (prop == null) {
+                handleUnknown(r, p, propName);
+                continue;
+            }
+            prop.readAndSet(bean, r, p);
+        }
+        if (!p.hasToken(JsonToken.END_OBJECT)) {
+            throw _reportProblem(p);
+        }
+        r._projection = parent;
+        return bean;
+    }
+
     protected Object create() throws Exception {
         if (_defaultCtor == null) {
             throw new IllegalStateException("Class "+_valueType.getName()+" does not have default constructor to use");
@@ -1,6 +1,7 @@
 package com.fasterxml.jackson.jr.ob.impl;
 
 import java.io.IOException;
+import java.lang.invoke.MethodHandle;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.jr.ob.api.ValueWriter;
@@ -10,18 +11,61 @@ public class BeanWriter
 {
     protected final BeanPropertyWriter[] _properties;
 
+    /**
+     * Optional specialized handlers for writing properties, if
+     * {@link com.fasterxml.jackson.jr.ob.JSON.Feature#SPECIALIZE_BEAN_HANDLERS}
+     * is enabled; null if not.
+     *
+     * @since 3.0
+     */
+    protected final MethodHandle[] _propertyHandlers;
+
     protected final Class<?> _valueType;
     
     public BeanWriter(Class<?> type, BeanPropertyWriter[] props) {
+        this(type, props, null);
+    }
+
+    /**
+     * @since 3.0
+     */
+    protected BeanWriter(Class<?> type, BeanPropertyWriter[] props, MethodHandle[] handlers) {
         _valueType = type;
         _properties = props;
+        _propertyHandlers = handlers;
     }
-    
+
+    /**
+     * Mutant factory method for constructing a writer that uses specialized
+     * per-property handlers (see {@link BeanPropertyWriter#accessAndWriteHandle}),
+     * if they can be constructed for all properties; if not, returns this
+     * instance as is.
+     *
+     * @since 3.0
+     */
+    public BeanWriter withPropertyHandlers()
+    {
+        final BeanPropertyWriter[] props = _properties;
+        MethodHandle[] handlers = new MethodHandle[props.length];
+        for (int i = 0; i < props.length; ++i) {
+            MethodHandle h = props[i].accessAndWriteHandle();
+            if (h == null) {
+                return this;
+            }
+            handlers[i] = h;
+        }
+        return new BeanWriter(_valueType, _properties, handlers);
+    }
+
     @Override
     public void writeValue(JSONWriter context, JsonGenerator g, Object value)
         throws IOException
     {
-        context.writeBeanValue(_properties, value);
+        if (_propertyHandlers != null) {
+            context.writeBeanValue(_propertyHandlers, value);
+        } else {
+            context.writeBeanValue(_properties, value);
+        }
     }
 
     @Override
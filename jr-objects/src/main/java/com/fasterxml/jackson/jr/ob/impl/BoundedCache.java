@@ -0,0 +1,226 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Base class for bounded concurrent caches used for things like resolved readers,
+ * writers and {@link POJODefinition}s: implements eviction policy and bookkeeping,
+ * leaving storage of entries to sub-classes (see {@link ClassValueCache}).
+ *<p>
+ * Eviction uses "CLOCK" (second chance) algorithm which approximates LRU: each
+ * lookup hit marks entry as recently used, and when cache is full, eviction
+ * sweeps entries in insertion order, clearing marks and evicting the first entry
+ * not used since previous sweep. This means that lookups never block (or mutate
+ * shared ordering structures), and that only entries that are not in active use
+ * are evicted, instead of flushing the whole cache when full.
+ *<p>
+ * Cache also keeps track of number of hits, misses and evictions, for diagnostic
+ * purposes.
+ *
+ * @param <K> Type of keys used for eviction bookkeeping: sub-classes may use
+ *    keys that do not strongly refer to actual keys of entries
+ * @param <V> Type of cached values
+ *
+ * @since 3.0
+ */
+public abstract class BoundedCache<K, V>
+{
+    /**
+     * Keys of entries in insertion order (with re-insertion for second chance),
+     * used for eviction
+     */
+    protected final ConcurrentLinkedQueue<K> _clock = new ConcurrentLinkedQueue<K>();
+
+    protected final AtomicInteger _size = new AtomicInteger();
+
+    protected final LongAdder _hits = new LongAdder();
+    protected final LongAdder _misses = new LongAdder();
+    protected final LongAdder _evictions = new LongAdder();
+
+    /**
+     * Lock used for eviction, to serialize sweeps
+     */
+    protected final Object _evictionLock = new Object();
+
+    protected volatile int _maxEntries;
+
+    protected BoundedCache(int maxEntries)
+    {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("Maximum number of cache entries must be positive, was: "+maxEntries);
+        }
+        _maxEntries = maxEntries;
+    }
+
+    /*
+    /**********************************************************************
+    /* Abstract methods for sub-classes to implement
+    /**********************************************************************
+     */
+
+    /**
+     * Method called during eviction to find entry for given bookkeeping key.
+     *
+     * @return Entry for the key, if one still exists; null if not (for example
+     *    if key no longer refers to anything)
+     */
+    protected abstract CachedValue<V> _find(K key);
+
+    /**
+     * Method called during eviction to remove given entry from storage.
+     */
+    protected abstract void _remove(K key, CachedValue<V> entry);
+
+    /*
+    /**********************************************************************
+    /* Public API
+    /**********************************************************************
+     */
+
+    public void clear()
+    {
+        synchronized (_evictionLock) {
+            K key;
+            while ((key = _clock.poll()) != null) {
+                CachedValue<V> entry = _find(key);
+                if (entry != null) {
+                    _remove(key, entry);
+                }
+                _size.decrementAndGet();
+            }
+        }
+    }
+
+    public int size() {
+        return _size.get();
+    }
+
+    public int maxEntries() {
+        return _maxEntries;
+    }
+
+    /**
+     * Method for changing maximum number of entries to cache; if current
+     * number of entries exceeds new maximum, entries are evicted.
+     */
+    public void setMaxEntries(int maxEntries)
+    {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("Maximum number of cache entries must be positive, was: "+maxEntries);
+        }
+        _maxEntries = maxEntries;
+        if (_size.get() > maxEntries) {
+            _evict();
+        }
+    }
+
+    /**
+     * @return Number of lookups that found an entry
+     */
+    public long hitCount() {
+        return _hits.sum();
+    }
+
+    /**
+     * @return Number of lookups that did not find an entry
+     */
+    public long missCount() {
+        return _misses.sum();
+    }
+
+    /**
+     * @return Number of entries evicted due to cache being full
+     */
+    public long evictionCount() {
+        return _evictions.sum();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("[%s: size=%d/%d, hits=%d, misses=%d, evictions=%d]",
+                getClass().getSimpleName(),
+                size(), _maxEntries, hitCount(), missCount(), evictionCount());
+    }
+
+    /*
+    /**********************************************************************
+    /* Methods for sub-classes
+    /**********************************************************************
+     */
+
+    /**
+     * Method sub-classes call with result of a lookup, to update statistics
+     * and "recently used" marker.
+     *
+     * @return Value of the entry, if any; null if none
+     */
+    protected V _lookedUp(CachedValue<V> entry)
+    {
+        if (entry == null) {
+            _misses.increment();
+            return null;
+        }
+        _hits.increment();
+        // avoid needless writes to shared memory if already marked
+        if (!entry.used) {
+            entry.used = true;
+        }
+        return entry.value;
+    }
+
+    /**
+     * Method sub-classes call after adding a new entry; evicts one or more
+     * less recently used entries if cache is full.
+     */
+    protected void _added(K key)
+    {
+        _clock.add(key);
+        if (_size.incrementAndGet() > _maxEntries) {
+            _evict();
+        }
+    }
+
+    protected void _evict()
+    {
+        synchronized (_evictionLock) {
+            // Entries marked as used get a "second chance"; so two full sweeps
+            // are enough to find a victim, barring concurrent access
+            int maxSteps = 2 * _size.get() + 1;
+            while (_size.get() > _maxEntries) {
+                K key = _clock.poll();
+                if (key == null) { // may have been cleared concurrently
+                    return;
+                }
+                CachedValue<V> entry = _find(key);
+                if (entry == null) { // entry gone already, just account for it
+                    _size.decrementAndGet();
+                    continue;
+                }
+                if (entry.used && (--maxSteps > 0)) {
+                    entry.used = false;
+                    _clock.add(key);
+                } else {
+                    _remove(key, entry);
+                    _size.decrementAndGet();
+                    _evictions.increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * Cached value along with "recently used" marker
+     */
+    protected static class CachedValue<V>
+    {
+        public final V value;
+
+        public volatile boolean used;
+
+        public CachedValue(V v) {
+            value = v;
+        }
+    }
+}
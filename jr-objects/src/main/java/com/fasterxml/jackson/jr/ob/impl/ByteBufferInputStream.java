@@ -0,0 +1,56 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Simple {@link InputStream} that reads remaining contents of a
+ * {@link ByteBuffer}, used for parsing buffers not backed by an accessible
+ * array (direct and memory-mapped buffers). Buffer is duplicated, so
+ * position of the original is not modified.
+ *
+ * @since 3.0
+ */
+public final class ByteBufferInputStream extends InputStream
+{
+    private final ByteBuffer _buffer;
+
+    public ByteBufferInputStream(ByteBuffer buffer) {
+        _buffer = buffer.duplicate();
+    }
+
+    @Override
+    public int available() {
+        return _buffer.remaining();
+    }
+
+    @Override
+    public int read() {
+        return _buffer.hasRemaining() ? (_buffer.get() & 0xFF) : -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len)
+    {
+        if (len == 0) {
+            return 0;
+        }
+        final int count = Math.min(len, _buffer.remaining());
+        if (count == 0) {
+            return -1;
+        }
+        _buffer.get(b, off, count);
+        return count;
+    }
+
+    @Override
+    public long skip(long n)
+    {
+        if (n <= 0L) {
+            return 0L;
+        }
+        final int count = (int) Math.min(n, _buffer.remaining());
+        _buffer.position(_buffer.position() + count);
+        return count;
+    }
+}
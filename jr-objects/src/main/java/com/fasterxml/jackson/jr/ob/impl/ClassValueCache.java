@@ -0,0 +1,162 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * Bounded concurrent cache for values like resolved readers, writers and
+ * {@link POJODefinition}s, keyed by {@link Class} and a set of feature flags.
+ *<p>
+ * Values are stored using {@link ClassValue}, so that lookups need no key
+ * allocation, and so that cached entries do not prevent unloading of
+ * classes (and their {@link ClassLoader}s): entries are dropped along with
+ * the class they are for. Eviction bookkeeping only keeps weak references
+ * to classes.
+ *<p>
+ * Eviction ("CLOCK", approximating LRU) and statistics are handled by
+ * {@link BoundedCache}. Note that size is approximate, as entries for
+ * unloaded classes are only accounted for during eviction.
+ *
+ * @since 3.0
+ */
+public class ClassValueCache<V>
+    extends BoundedCache<ClassValueCache.Ticket, V>
+{
+    protected final ClassValue<Entries<V>> _entries = new ClassValue<Entries<V>>() {
+        @Override
+        protected Entries<V> computeValue(Class<?> type) {
+            return new Entries<V>();
+        }
+    };
+
+    public ClassValueCache(int maxEntries) {
+        super(maxEntries);
+    }
+
+    /*
+    /**********************************************************************
+    /* Public API
+    /**********************************************************************
+     */
+
+    public V get(Class<?> type, int features) {
+        return _lookedUp(_entries.get(type).find(features));
+    }
+
+    /**
+     * Method for adding given entry, if no entry for the key exists yet.
+     * If cache is full, one or more less recently used entries are evicted.
+     *
+     * @return Existing value for the key, if any (in which case new value
+     *    was not added); or {@code null} if value was added
+     */
+    public V putIfAbsent(Class<?> type, int features, V value)
+    {
+        Entry<V> old = _entries.get(type).addIfAbsent(features, value);
+        if (old != null) {
+            return old.value;
+        }
+        _added(new Ticket(type, features));
+        return null;
+    }
+
+    /*
+    /**********************************************************************
+    /* Eviction support
+    /**********************************************************************
+     */
+
+    @Override
+    protected CachedValue<V> _find(Ticket t) {
+        Class<?> type = t.type.get();
+        // if class was unloaded, entry is gone with it
+        return (type == null) ? null : _entries.get(type).find(t.features);
+    }
+
+    @Override
+    protected void _remove(Ticket t, CachedValue<V> entry) {
+        Class<?> type = t.type.get();
+        if (type != null) {
+            _entries.get(type).remove((Entry<V>) entry);
+        }
+    }
+
+    /**
+     * Set of cached values for a single class: usually just one, as
+     * feature flags seldom vary. Stored as an immutable linked list,
+     * replaced on modifications.
+     */
+    protected final static class Entries<V>
+    {
+        private volatile Entry<V> _head;
+
+        public Entry<V> find(int features) {
+            for (Entry<V> e = _head; e != null; e = e.next) {
+                if (e.features == features) {
+                    return e;
+                }
+            }
+            return null;
+        }
+
+        public synchronized Entry<V> addIfAbsent(int features, V value) {
+            Entry<V> old = find(features);
+            if (old == null) {
+                _head = new Entry<V>(features, value, _head);
+            }
+            return old;
+        }
+
+        public synchronized void remove(Entry<V> toRemove) {
+            _head = _without(_head, toRemove);
+        }
+
+        private static <V> Entry<V> _without(Entry<V> e, Entry<V> toRemove) {
+            if (e == null) {
+                return null;
+            }
+            if (e == toRemove) {
+                return e.next;
+            }
+            Entry<V> next = _without(e.next, toRemove);
+            return (next == e.next) ? e : new Entry<V>(e, next);
+        }
+    }
+
+    /**
+     * Cached value for given feature flags
+     */
+    protected final static class Entry<V> extends CachedValue<V>
+    {
+        public final int features;
+
+        public final Entry<V> next;
+
+        public Entry(int f, V v, Entry<V> n) {
+            super(v);
+            features = f;
+            next = n;
+        }
+
+        public Entry(Entry<V> base, Entry<V> n) {
+            super(base.value);
+            features = base.features;
+            next = n;
+            used = base.used;
+        }
+    }
+
+    /**
+     * Eviction bookkeeping entry: must not refer to class or value strongly
+     */
+    protected final static class Ticket
+    {
+        public final WeakReference<Class<?>> type;
+
+        public final int features;
+
+        public Ticket(Class<?> t, int f) {
+            type = new WeakReference<Class<?>>(t);
+            features = f;
+        }
+    }
+}
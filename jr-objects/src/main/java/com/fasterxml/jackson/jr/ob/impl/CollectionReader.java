@@ -41,6 +41,9 @@ public class CollectionReader extends ValueReader
                     p.currentToken());
         }
         CollectionBuilder b = r._collectionBuilder(_collectionType);
+        if (r._projection != null) {
+            return r._readProjectedElements(p, b, _valueReader).buildCollection();
+        }
         if (p.nextToken() == JsonToken.END_ARRAY) {
             return b.emptyCollection();
         }
@@ -58,6 +61,9 @@ public class CollectionReader extends ValueReader
     @Override
     public Object read(JSONReader r, JsonParser p) throws IOException {
         CollectionBuilder b = r._collectionBuilder(_collectionType);
+        if (r._projection != null) {
+            return r._readProjectedElements(p, b, _valueReader).buildCollection();
+        }
         if (p.nextToken() == JsonToken.END_ARRAY) {
             return b.emptyCollection();
         }
@@ -71,4 +77,20 @@ public class CollectionReader extends ValueReader
         } while (p.nextToken() != JsonToken.END_ARRAY);
         return b.buildCollection();
     }
+
+    /**
+     * Method used for "update mode" deserialization: reads elements of JSON Array
+     * into given existing {@link Collection}; for {@link List}s merging existing
+     * elements by index, for other types replacing contents.
+     *
+     * @since 3.0
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Object readInto(JSONReader r, JsonParser p, Object existing) throws IOException {
+        if (p.isExpectedStartArrayToken() && (existing instanceof Collection<?>)) {
+            return r._mergeElements(p, (Collection<Object>) existing, _valueReader);
+        }
+        return read(r, p);
+    }
 }
\ No newline at end of file
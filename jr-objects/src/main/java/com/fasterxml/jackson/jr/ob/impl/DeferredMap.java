@@ -7,15 +7,46 @@ import java.util.*;
  * entries during building, but only materialize full lookup structure
  * when needed; that is, actual building of hash lookup is deferred.
  *<p>
+ * Read access (lookups, size, iteration) is served directly from collected
+ * entries: small Maps use linear scan, larger ones a compact hash index
+ * built on first access. Full {@link Map} is only materialized if contents
+ * are modified (other than by adding new keys, or replacing values during
+ * iteration), or if duplicate keys were added.
+ *<p>
  * Inspired by lazily initialized Map used by Boon library.
  */
 public class DeferredMap extends AbstractMap<Object, Object>
 {
+    /**
+     * Maps with at most this many entries are accessed using linear scan;
+     * larger ones using hash index built on first access.
+     *
+     * @since 3.0
+     */
+    protected final static int MAX_LINEAR_SCAN = 8;
+
     private Map<Object, Object> _map;
     private Object[] _entries;
     private int _end;
     private final boolean _ordered;
 
+    /**
+     * Open-addressing hash index from keys into {@link #_entries}, used
+     * for larger Maps before materialization: slots contain entry index
+     * plus one, 0 for empty slots.
+     *
+     * @since 3.0
+     */
+    private int[] _index;
+
+    /**
+     * Whether entries have been verified not to contain duplicate keys
+     * (implied if {@link #_index} exists).
+     *
+     * @since 3.0
+     */
+    private boolean _dupsChecked;
+
     public DeferredMap(boolean ordered) {
         this(ordered, 4);
     }
@@ -28,6 +59,11 @@ public class DeferredMap extends AbstractMap<Object, Object>
     public Object put(Object key, Object value)
     {
         if (_map == null) {
+            if ((key == null) || ((_index != null) && (_indexOf(key) >= 0))) {
+                // replacing existing value (or unusual key): ok to materialize
+                buildIfNeeded();
+                return _map.put(key, value);
+            }
             if (_entries == null) {
                 _entries = new Object[8];
             } else if (_end == _entries.length) {
@@ -37,22 +73,38 @@ public class DeferredMap extends AbstractMap<Object, Object>
             _entries[_end] = key;
             _entries[++_end] = value;
             ++_end;
-            // here's assuming no dups are added
+            if (_index != null) {
+                // keep load factor at most 1/2; if so, add, otherwise rebuild later
+                if (_end > _index.length) {
+                    _index = null;
+                } else {
+                    _index[_slotFor(_index, key)] = _end >> 1;
+                }
+            } else {
+                // here's assuming no dups are added
+                _dupsChecked = false;
+            }
             return null;
         }
         return _map.put(key, value);
     }
-    
+
     @Override
     public Set<Entry<Object, Object>> entrySet() {
-        buildIfNeeded();
+        if (_verifyNoDups()) {
+            return new EntrySet();
+        }
         return _map.entrySet();
     }
 
     @Override
     public int size() {
-        // assuming no dups; otherwise could overestimate
-        return (_map == null) ? (_end >> 1) : _map.size();
+        if (_map == null) {
+            if (_verifyNoDups()) {
+                return (_end >> 1);
+            }
+        }
+        return _map.size();
     }
 
     @Override
@@ -62,19 +114,31 @@ public class DeferredMap extends AbstractMap<Object, Object>
 
     @Override
     public boolean containsValue(Object value) {
-        buildIfNeeded();
+        if (_verifyNoDups()) {
+            for (int i = 1; i < _end; i += 2) {
+                if (Objects.equals(value, _entries[i])) {
+                    return true;
+                }
+            }
+            return false;
+        }
         return _map.containsValue(value);
     }
 
     @Override
     public boolean containsKey(Object key) {
-        buildIfNeeded();
+        if (_canFind()) {
+            return _find(key) >= 0;
+        }
         return _map.containsKey(key);
     }
 
     @Override
     public Object get(Object key) {
-        buildIfNeeded();
+        if (_canFind()) {
+            int ix = _find(key);
+            return (ix < 0) ? null : _entries[ix+1];
+        }
         return _map.get( key );
     }
 
@@ -90,37 +154,50 @@ public class DeferredMap extends AbstractMap<Object, Object>
             _map.clear();
         } else {
             _end = 0;
+            _index = null;
+            _dupsChecked = false;
         }
     }
 
     @Override
     public Set<Object> keySet() {
-        buildIfNeeded();
+        if (_map == null) {
+            // view over entrySet(), so no need to materialize
+            return super.keySet();
+        }
         return _map.keySet();
     }
 
     @Override
     public Collection<Object> values() {
-        buildIfNeeded();
+        if (_map == null) {
+            return super.values();
+        }
         return _map.values();
     }
 
     @Override
     public boolean equals(Object other) {
-       buildIfNeeded();
-       return _map.equals(other);
+        if (_map == null) {
+            return super.equals(other);
+        }
+        return _map.equals(other);
     }
 
     @Override
     public int hashCode() {
-       buildIfNeeded();
-       return _map.hashCode();
+        if (_map == null) {
+            return super.hashCode();
+        }
+        return _map.hashCode();
     }
 
     @Override
     public String toString() {
-       buildIfNeeded();
-       return _map.toString();
+        if (_map == null) {
+            return super.toString();
+        }
+        return _map.toString();
     }
 
     @Override
@@ -132,6 +209,234 @@ public class DeferredMap extends AbstractMap<Object, Object>
         return new HashMap<Object,Object>(_map);
     }
 
+    /*
+    /**********************************************************************
+    /* Internal methods, lookup without materialization
+    /**********************************************************************
+     */
+
+    /**
+     * Method for checking whether lookups may be done using {@link #_find};
+     * if not, Map has been materialized. Builds hash index if necessary.
+     */
+    private boolean _canFind()
+    {
+        if (_map != null) {
+            return false;
+        }
+        if ((_end <= (MAX_LINEAR_SCAN << 1)) || (_index != null)) {
+            return true;
+        }
+        return _buildIndex();
+    }
+
+    /**
+     * Method for finding index of the entry for given key, for Maps
+     * not yet materialized (see {@link #_canFind}).
+     *
+     * @return Index of key in {@link #_entries}, if found; -1 if not
+     */
+    private int _find(Object key)
+    {
+        if (key == null) {
+            return -1;
+        }
+        if (_index != null) {
+            return _indexOf(key);
+        }
+        // scan from the end, so that in case of dups, last value is found
+        for (int i = _end - 2; i >= 0; i -= 2) {
+            final Object k = _entries[i];
+            if ((k == key) || k.equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Method that verifies that entries have no duplicate keys (checking it,
+     * if not yet done) and returns true if so, and Map is not materialized;
+     * or, if there are duplicates, materializes Map and returns false.
+     */
+    private boolean _verifyNoDups()
+    {
+        if (_map != null) {
+            return false;
+        }
+        if (_dupsChecked || (_index != null)) {
+            return true;
+        }
+        if (_end > (MAX_LINEAR_SCAN << 1)) {
+            return _buildIndex();
+        }
+        for (int i = 2; i < _end; i += 2) {
+            final Object key = _entries[i];
+            for (int j = 0; j < i; j += 2) {
+                if (key.equals(_entries[j])) {
+                    buildIfNeeded();
+                    return false;
+                }
+            }
+        }
+        _dupsChecked = true;
+        return true;
+    }
+
+    /**
+     * Helper method for building hash index for entries, sized to keep
+     * load factor at most 1/2. If duplicate keys are found, Map is
+     * materialized instead.
+     *
+     * @return True if index was built; false if Map was materialized
+     */
+    private boolean _buildIndex()
+    {
+        final int count = _end >> 1;
+        int size = Integer.highestOneBit(count) << 2;
+        int[] index = new int[size];
+        for (int i = 0; i < _end; i += 2) {
+            int slot = _slotFor(index, _entries[i]);
+            if (index[slot] != 0) {
+                buildIfNeeded();
+                return false;
+            }
+            index[slot] = (i >> 1) + 1;
+        }
+        _index = index;
+        return true;
+    }
+
+    private int _indexOf(Object key)
+    {
+        int ix = _index[_slotFor(_index, key)];
+        return (ix == 0) ? -1 : ((ix - 1) << 1);
+    }
+
+    /**
+     * @return Slot that either contains entry with given key, or is empty
+     *   (into which key is to be added)
+     */
+    private int _slotFor(int[] index, Object key)
+    {
+        final int mask = index.length - 1;
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        int slot = h & mask;
+        int ix;
+        while ((ix = index[slot]) != 0) {
+            final Object k = _entries[(ix - 1) << 1];
+            if ((k == key) || k.equals(key)) {
+                break;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Entry set view used before Map is materialized; iterates over entries
+     * in insertion order.
+     */
+    private final class EntrySet extends AbstractSet<Entry<Object, Object>>
+    {
+        @Override
+        public int size() {
+            return DeferredMap.this.size();
+        }
+
+        @Override
+        public Iterator<Entry<Object, Object>> iterator()
+        {
+            final Object[] entries = _entries;
+            final int end = _end;
+            return new Iterator<Entry<Object, Object>>() {
+                private int _ix;
+
+                @Override
+                public boolean hasNext() {
+                    return _ix < end;
+                }
+
+                @Override
+                public Entry<Object, Object> next() {
+                    if (_ix >= end) {
+                        throw new NoSuchElementException();
+                    }
+                    Entry<Object, Object> e = new DeferredEntry(entries[_ix], _ix);
+                    _ix += 2;
+                    return e;
+                }
+
+                @Override
+                public void remove() {
+                    if (_ix == 0) {
+                        throw new IllegalStateException();
+                    }
+                    DeferredMap.this.remove(entries[_ix-2]);
+                }
+            };
+        }
+    }
+
+    private final class DeferredEntry implements Entry<Object, Object>
+    {
+        private final Object _key;
+
+        private final int _ix;
+
+        DeferredEntry(Object key, int ix) {
+            _key = key;
+            _ix = ix;
+        }
+
+        @Override
+        public Object getKey() {
+            return _key;
+        }
+
+        @Override
+        public Object getValue() {
+            return (_map == null) ? _entries[_ix+1] : _map.get(_key);
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            if (_map == null) {
+                Object old = _entries[_ix+1];
+                _entries[_ix+1] = value;
+                return old;
+            }
+            return _map.put(_key, value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Entry<?,?>)) {
+                return false;
+            }
+            Entry<?,?> other = (Entry<?,?>) o;
+            return _key.equals(other.getKey())
+                    && Objects.equals(getValue(), other.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return _key.hashCode() ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return _key+"="+getValue();
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods, materialization
+    /**********************************************************************
+     */
+
     protected void buildIfNeeded() {
         if (_map == null) {
             // translate from entry count (which is 2 * size) bit down; trying to avoid
@@ -141,6 +446,7 @@ public class DeferredMap extends AbstractMap<Object, Object>
                 _map.put((String) _entries[i], _entries[i+1]);
             }
             _entries = null;
+            _index = null;
         }
     }
 
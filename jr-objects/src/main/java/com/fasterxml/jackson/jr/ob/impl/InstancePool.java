@@ -0,0 +1,103 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Simple bounded lock-free pool used for recycling per-operation
+ * {@link JSONReader} and {@link JSONWriter} instances (along with their
+ * locators and builders), to reduce allocations for small payloads.
+ *<p>
+ * Pooled instances are kept in a fixed set of slots, claimed and returned
+ * using compare-and-set; scanning starts from a slot chosen based on calling
+ * thread to reduce contention. Pool is not bound to threads (unlike
+ * {@link ThreadLocal} based recycling), so it works equally well with large
+ * numbers of short-lived (or virtual) threads. If pool is empty, caller is
+ * to construct a new instance; if full, released instance is simply dropped.
+ *
+ * @since 3.0
+ */
+public class InstancePool<T>
+{
+    /**
+     * Default number of slots: enough for all cores to have operations in
+     * progress, with some slack.
+     */
+    public final static int DEFAULT_SIZE = Math.max(4,
+            2 * Runtime.getRuntime().availableProcessors());
+
+    protected final AtomicReferenceArray<T> _slots;
+
+    protected final int _mask;
+
+    public InstancePool() {
+        this(DEFAULT_SIZE);
+    }
+
+    /**
+     * @param size Minimum number of instances to retain; rounded up to
+     *    the next power of two
+     */
+    public InstancePool(int size)
+    {
+        if (size < 1) {
+            throw new IllegalArgumentException("Pool size must be positive, was: "+size);
+        }
+        int actual = Integer.highestOneBit(size);
+        if (actual < size) {
+            actual += actual;
+        }
+        _slots = new AtomicReferenceArray<T>(actual);
+        _mask = actual - 1;
+    }
+
+    /**
+     * @return Pooled instance, if any available; {@code null} if none
+     */
+    public T acquire()
+    {
+        final int start = _startIndex();
+        for (int i = 0; i <= _mask; ++i) {
+            final int ix = (start + i) & _mask;
+            T value = _slots.get(ix);
+            if ((value != null) && _slots.compareAndSet(ix, value, null)) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Method for returning an instance to pool; if pool is full, instance
+     * is dropped.
+     */
+    public void release(T value)
+    {
+        final int start = _startIndex();
+        for (int i = 0; i <= _mask; ++i) {
+            final int ix = (start + i) & _mask;
+            if ((_slots.get(ix) == null) && _slots.compareAndSet(ix, null, value)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return Number of instances currently pooled (approximate, if pool is
+     *    in concurrent use)
+     */
+    public int size()
+    {
+        int count = 0;
+        for (int i = 0; i <= _mask; ++i) {
+            if (_slots.get(i) != null) {
+                ++count;
+            }
+        }
+        return count;
+    }
+
+    protected int _startIndex() {
+        // spread consecutive thread ids across slots
+        return (int) (Thread.currentThread().getId() * 0x9E3779B9L) & _mask;
+    }
+}
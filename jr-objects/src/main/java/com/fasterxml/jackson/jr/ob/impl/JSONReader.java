@@ -49,6 +49,14 @@ public class JSONReader
      * Handler that takes care of constructing {@link java.util.Map}s as needed
      */
     protected final CollectionBuilder _collectionBuilder;
+
+    /**
+     * Projection that specifies which parts of root values are to be read,
+     * if any; {@code null} if all content is to be read.
+     *
+     * @since 3.0
+     */
+    protected final Projection _rootProjection;
     
     /*
     /**********************************************************************
@@ -56,7 +64,19 @@ public class JSONReader
     /**********************************************************************
      */
 
-    protected final JsonParser _parser;
+    /**
+     * Parser to read from; not final, as per-operation instances may be
+     * recycled (see {@link #reuseFor}).
+     */
+    protected JsonParser _parser;
+
+    /**
+     * Projection for the value being read, if any: changed by readers as they
+     * descend into content; {@code null} if all of the value is to be read.
+     *
+     * @since 3.0
+     */
+    protected Projection _projection;
 
     /*
     /**********************************************************************
@@ -69,13 +89,26 @@ public class JSONReader
      */
     public JSONReader(int features, ValueReaderLocator td, TreeCodec treeCodec,
             CollectionBuilder lb, MapBuilder mb)
+    {
+        this(features, td, treeCodec, lb, mb, null);
+    }
+
+    /**
+     * Constructor used for creating the blueprint instances.
+     *
+     * @since 3.0
+     */
+    public JSONReader(int features, ValueReaderLocator td, TreeCodec treeCodec,
+            CollectionBuilder lb, MapBuilder mb, Projection projection)
     {
         _features = features;
         _readerLocator = td;
         _treeCodec = treeCodec;
         _collectionBuilder = lb;
         _mapBuilder = mb;
+        _rootProjection = projection;
         _parser = null;
+        _projection = null;
     }
 
     /**
@@ -88,7 +121,9 @@ public class JSONReader
         _treeCodec = base._treeCodec;
         _collectionBuilder = base._collectionBuilder.newBuilder(features);
         _mapBuilder = base._mapBuilder.newBuilder(features);
+        _rootProjection = base._rootProjection;
         _parser = p;
+        _projection = _rootProjection;
     }
 
     /*
@@ -99,7 +134,12 @@ public class JSONReader
 
     public JSONReader withCacheCheck(int features) {
         // 07-Jun-2019, tatu: No cache-dependant clearing needed... yet.
-        return this;
+        //   But blueprint is passed as context to ReaderWriterProviders during
+        //   type resolution, so its features need to match those of operations
+        if (features == _features) {
+            return this;
+        }
+        return _with(features, _readerLocator, _treeCodec, _collectionBuilder, _mapBuilder);
     }
 
     public JSONReader with(MapBuilder mb) {
@@ -120,17 +160,55 @@ public class JSONReader
         return _with(_features, l, _treeCodec, _collectionBuilder, _mapBuilder);
     }
 
+    /**
+     * Mutant factory for constructing instance that only reads parts of
+     * content specified by given projection.
+     *
+     * @param projection Projection to use; {@code null} to read all content
+     *
+     * @since 3.0
+     */
+    public JSONReader with(Projection projection) {
+        if ((projection != null) && projection.includesAll()) {
+            projection = null;
+        }
+        if (_rootProjection == projection) return this;
+        return _with(_features, _readerLocator, _treeCodec, _collectionBuilder, _mapBuilder,
+                projection);
+    }
+
+    /**
+     * @since 3.0
+     */
+    public JSONReader withCacheSize(int maxCachedReaders) {
+        ValueReaderLocator l = _readerLocator.withCacheSize(maxCachedReaders);
+        if (_readerLocator == l) {
+            return this;
+        }
+        return _with(_features, l, _treeCodec, _collectionBuilder, _mapBuilder);
+    }
+
     /**
      * Overridable method that all mutant factories call if a new instance
      * is to be constructed
      */
     protected JSONReader _with(int features,
             ValueReaderLocator td, TreeCodec tc, CollectionBuilder lb, MapBuilder mb)
+    {
+        return _with(features, td, tc, lb, mb, _rootProjection);
+    }
+
+    /**
+     * @since 3.0
+     */
+    protected JSONReader _with(int features,
+            ValueReaderLocator td, TreeCodec tc, CollectionBuilder lb, MapBuilder mb,
+            Projection projection)
     {
         if (getClass() != JSONReader.class) { // sanity check
             throw new IllegalStateException("Sub-classes MUST override _with(...)");
         }
-        return new JSONReader(features, td, tc, lb, mb);
+        return new JSONReader(features, td, tc, lb, mb, projection);
     }
 
     /*
@@ -148,6 +226,23 @@ public class JSONReader
                 _readerLocator.perOperationInstance(this, features), p);
     }
 
+    /**
+     * Method for re-initializing a per-operation instance (one constructed
+     * by {@link #perOperationInstance}) for another operation with same
+     * features, after previous one has successfully completed; or, if
+     * called with {@code null}, for releasing reference to previous parser
+     * while instance is not in use.
+     * Sub-classes with additional per-operation state need to override
+     * this method to reset such state.
+     *
+     * @since 3.0
+     */
+    public JSONReader reuseFor(JsonParser p) {
+        _parser = p;
+        _projection = _rootProjection;
+        return this;
+    }
+
     /*
     /**********************************************************************
     /* Simple accessors
@@ -158,6 +253,60 @@ public class JSONReader
         return JSON.Feature.READ_JSON_ARRAYS_AS_JAVA_ARRAYS.isDisabled(_features);
     }
 
+    /**
+     * Accessor for checking whether given feature is enabled for this reader.
+     *
+     * @since 3.0
+     */
+    public boolean isEnabled(JSON.Feature f) {
+        return f.isEnabled(_features);
+    }
+
+    /**
+     * Accessor for projection configured for reads, if any.
+     *
+     * @since 3.0
+     */
+    public Projection projection() {
+        return _rootProjection;
+    }
+
+    /**
+     * Accessor for projection to apply to the value being read, if any.
+     * Custom readers of Bean types that do not apply projections themselves
+     * should delegate to {@link #readBean} when one exists, to have
+     * introspected Bean reader apply it.
+     *
+     * @since 3.0
+     */
+    public Projection currentProjection() {
+        return _projection;
+    }
+
+    /**
+     * Accessor for cache of resolved {@link ValueReader}s, for checking
+     * hit/miss/eviction statistics.
+     *
+     * @since 3.0
+     */
+    public ClassValueCache<ValueReader> readerCache() {
+        return _readerLocator.readerCache();
+    }
+
+    /**
+     * Method for eagerly resolving (and caching) reader for given type, to avoid
+     * having to do that when reading first value of the type.
+     * May be called on blueprint instances, from multiple threads.
+     *
+     * @param type Type to resolve
+     * @param features Features that will be used for operations
+     *
+     * @since 3.0
+     */
+    public void prewarm(Class<?> type, int features) {
+        _readerLocator.perOperationInstance(this, features).findReader(type);
+    }
+
     /*
     /**********************************************************************
     /* Public entry points for reading Simple objects from JSON
@@ -236,7 +385,66 @@ public class JSONReader
      */
     @SuppressWarnings("unchecked")
     public <T> T readBean(Class<T> type) throws IOException {
-        return (T) _readerLocator.findReader(type).read(this, _parser);
+        ValueReader vr = _readerLocator.findReader(type);
+        // custom readers need not apply projections; introspected ones do
+        if ((_projection != null) && !(vr instanceof BeanReader)) {
+            BeanReader br = _readerLocator.findBeanReader(type);
+            if (br != null) {
+                vr = br;
+            }
+        }
+        return (T) vr.read(this, _parser);
+    }
+
+    /**
+     * Method for reading a JSON Object (or, for {@link java.util.Collection}s,
+     * JSON Array) from input into given existing Bean, {@link java.util.Map} or
+     * {@link java.util.Collection} ("update mode"), instead of constructing a new
+     * instance. Properties not included in content are left as they are, and
+     * non-null property values that are Beans, {@link java.util.Map}s or
+     * {@link java.util.Collection}s are similarly merged with content:
+     * Maps by key, Lists by index (with extra elements removed), and other
+     * Collections by replacing their contents.
+     *<p>
+     * Note that {@link Projection}, if any, is not applied in update mode.
+     *
+     * @return Target instance (content having been read into it)
+     *
+     * @since 3.0
+     */
+    public <T> T readInto(T target) throws IOException
+    {
+        final ValueReader vr;
+        final JsonToken expToken;
+        if (target instanceof Collection<?>) {
+            vr = AnyReader.std;
+            expToken = JsonToken.START_ARRAY;
+        } else {
+            if (target instanceof Map<?,?>) {
+                vr = AnyReader.std;
+            } else {
+                vr = _readerLocator.findBeanReader(target.getClass());
+                if (vr == null) {
+                    throw JSONObjectException.from(_parser,
+                            "Can not read into instance of %s: not a Bean, Map or Collection",
+                            target.getClass().getName());
+                }
+            }
+            expToken = JsonToken.START_OBJECT;
+        }
+        if (!_parser.hasToken(expToken)) {
+            throw JSONObjectException.from(_parser, "Can not read %s into instance of %s",
+                    ValueReader._tokenDesc(_parser), target.getClass().getName());
+        }
+        // projection not applied, but needs to be retained for later reads
+        final Projection projection = _projection;
+        _projection = null;
+        try {
+            vr.readInto(this, _parser, target);
+        } finally {
+            _projection = projection;
+        }
+        return target;
     }
 
     @SuppressWarnings("unchecked")
@@ -293,6 +501,33 @@ public class JSONReader
                 "Can not read a Map: expect to see START_OBJECT ('{'), instead got: "+ValueReader._tokenDesc(_parser));
     }
 
+    /**
+     * Method for reading a JSON Array of JSON Objects from input, and binding
+     * it into columnar {@link BeanColumns} container (instead of a {@link java.util.List}
+     * of Beans) of Beans of specified type.
+     * Note that if input does NOT contain a JSON Array, {@link JSONObjectException} will be thrown.
+     *
+     * @since 3.0
+     */
+    @SuppressWarnings("unchecked")
+    public <T> BeanColumns<T> readColumnsOf(Class<T> type) throws IOException
+    {
+        if (_parser.isExpectedStartArrayToken()) {
+            BeanReader vr = _readerLocator.findBeanReader(type);
+            if (vr == null) {
+                throw JSONObjectException.from(_parser,
+                        "Can not read columns of type %s: not a Bean type", type.getName());
+            }
+            return (BeanColumns<T>) new BeanColumnsReader(vr)
+                    .read(this, _parser);
+        }
+        if (_parser.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        throw JSONObjectException.from(_parser,
+                "Can not read columns: expect to see START_ARRAY ('['), instead got: "+ValueReader._tokenDesc(_parser));
+    }
+
     /*
     /**********************************************************************
     /* Internal methods; overridable for custom coercions
@@ -306,6 +541,218 @@ public class JSONReader
         return _treeCodec;
     }
 
+    /*
+    /**********************************************************************
+    /* Internal methods; reading with projection
+    /**********************************************************************
+     */
+
+    /**
+     * Helper method called by readers of JSON Objects when {@link #_projection}
+     * is active, to read properties of a JSON Object (parser pointing to
+     * START_OBJECT), skipping ones that are not included. Projection is
+     * restored to its original state before returning.
+     *
+     * @param vr Reader for values of properties
+     *
+     * @return Builder (after {@code start()}) with included properties added
+     *
+     * @since 3.0
+     */
+    protected MapBuilder _readProjectedProperties(JsonParser p, MapBuilder b, ValueReader vr)
+        throws IOException
+    {
+        final Projection parent = _projection;
+        b = b.start();
+        try {
+            String name;
+            while ((name = p.nextFieldName()) != null) {
+                if (_projectTo(parent.property(name), p)) {
+                    b = b.put(name, vr.readNext(this, p));
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            throw JSONObjectException.from(p, e.getMessage());
+        }
+        if (!p.hasToken(JsonToken.END_OBJECT)) {
+            throw JSONObjectException.from(p, "Unexpected token %s; should get FIELD_NAME or END_OBJECT",
+                    p.currentToken());
+        }
+        _projection = parent;
+        return b;
+    }
+
+    /**
+     * Helper method called by readers of JSON Arrays when {@link #_projection}
+     * is active, to read elements of a JSON Array (parser pointing to
+     * START_ARRAY), skipping ones that are not included. Projection is
+     * restored to its original state before returning.
+     *
+     * @param vr Reader for elements
+     *
+     * @return Builder (after {@code start()}) with included elements added
+     *
+     * @since 3.0
+     */
+    protected CollectionBuilder _readProjectedElements(JsonParser p, CollectionBuilder b,
+            ValueReader vr)
+        throws IOException
+    {
+        final Projection parent = _projection;
+        b = b.start();
+        try {
+            for (int index = 0; p.nextToken() != JsonToken.END_ARRAY; ++index) {
+                Projection child = parent.element(index);
+                if (child == null) {
+                    p.skipChildren();
+                    continue;
+                }
+                _projection = child.includesAll() ? null : child;
+                b = b.add(vr.read(this, p));
+            }
+        } catch (IllegalArgumentException e) {
+            throw JSONObjectException.from(p, e.getMessage());
+        }
+        _projection = parent;
+        return b;
+    }
+
+    /**
+     * Helper method called with projection for the value of a property,
+     * before the value has been read: if value is not included
+     * (projection is {@code null}), skips it and returns {@code false};
+     * otherwise changes current projection, and returns {@code true}.
+     *
+     * @since 3.0
+     */
+    protected boolean _projectTo(Projection child, JsonParser p) throws IOException
+    {
+        if (child == null) {
+            p.nextToken();
+            p.skipChildren();
+            return false;
+        }
+        _projection = child.includesAll() ? null : child;
+        return true;
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods; reading in update mode
+    /**********************************************************************
+     */
+
+    /**
+     * Helper method called by readers when reading in "update mode" (see
+     * {@link #readInto}) to read a value (parser pointing to its first token),
+     * reading JSON Objects and Arrays into existing value, if one given.
+     *
+     * @param existing Existing value, if any; null if none
+     *
+     * @since 3.0
+     */
+    protected Object _readMerged(JsonParser p, ValueReader vr, Object existing)
+        throws IOException
+    {
+        switch (p.currentTokenId()) {
+        case JsonTokenId.ID_START_OBJECT:
+        case JsonTokenId.ID_START_ARRAY:
+            if (existing != null) {
+                return vr.readInto(this, p, existing);
+            }
+            break;
+        case JsonTokenId.ID_NULL:
+            return null;
+        default:
+        }
+        return vr.read(this, p);
+    }
+
+    /**
+     * Helper method called by readers of JSON Objects when reading in "update mode",
+     * to read properties of a JSON Object (parser pointing to START_OBJECT) into
+     * given existing {@link Map}, merging values of existing entries.
+     *
+     * @param keyReader Reader to let change keys (see {@link AnyReader#fromKey}),
+     *    if any; if null, property names are used as keys as is
+     *
+     * @since 3.0
+     */
+    protected Map<Object,Object> _mergeProperties(JsonParser p, Map<Object,Object> map,
+            ValueReader vr, AnyReader keyReader)
+        throws IOException
+    {
+        try {
+            String name;
+            while ((name = p.nextFieldName()) != null) {
+                Object key = (keyReader == null) ? name : keyReader.fromKey(name);
+                Object existing = map.get(key);
+                p.nextToken();
+                Object value = _readMerged(p, vr, existing);
+                if ((value != existing) || (existing == null)) {
+                    map.put(key, value);
+                }
+            }
+        } catch (UnsupportedOperationException e) {
+            throw _reportCannotMerge(p, map, e);
+        }
+        if (!p.hasToken(JsonToken.END_OBJECT)) {
+            throw JSONObjectException.from(p, "Unexpected token %s; should get FIELD_NAME or END_OBJECT",
+                    p.currentToken());
+        }
+        return map;
+    }
+
+    /**
+     * Helper method called by readers of JSON Arrays when reading in "update mode",
+     * to read elements of a JSON Array (parser pointing to START_ARRAY) into
+     * given existing {@link Collection}: for {@link List}s, elements are merged
+     * by index (and extra elements removed); for other types contents are
+     * replaced.
+     *
+     * @since 3.0
+     */
+    protected Collection<Object> _mergeElements(JsonParser p, Collection<Object> coll,
+            ValueReader vr)
+        throws IOException
+    {
+        try {
+            if (coll instanceof List<?>) {
+                final List<Object> list = (List<Object>) coll;
+                final ListIterator<Object> it = list.listIterator();
+                while (p.nextToken() != JsonToken.END_ARRAY) {
+                    if (it.hasNext()) {
+                        Object existing = it.next();
+                        Object value = _readMerged(p, vr, existing);
+                        if (value != existing) {
+                            it.set(value);
+                        }
+                    } else {
+                        it.add(_readMerged(p, vr, null));
+                    }
+                }
+                if (it.hasNext()) {
+                    list.subList(it.nextIndex(), list.size()).clear();
+                }
+            } else {
+                coll.clear();
+                while (p.nextToken() != JsonToken.END_ARRAY) {
+                    coll.add(_readMerged(p, vr, null));
+                }
+            }
+        } catch (UnsupportedOperationException e) {
+            throw _reportCannotMerge(p, coll, e);
+        }
+        return coll;
+    }
+
+    protected JSONObjectException _reportCannotMerge(JsonParser p, Object existing,
+            Exception e)
+    {
+        return JSONObjectException.from(p, e, "Can not merge into existing %s: %s",
+                existing.getClass().getName(), e.toString());
+    }
+
     protected MapBuilder _mapBuilder(Class<?> mapType) {
         return (mapType == null) ? _mapBuilder : _mapBuilder.newBuilder(mapType);
     }
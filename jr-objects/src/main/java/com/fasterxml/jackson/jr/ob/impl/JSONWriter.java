@@ -1,6 +1,7 @@
 package com.fasterxml.jackson.jr.ob.impl;
 
 import java.io.*;
+import java.lang.invoke.MethodHandle;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.*;
@@ -9,6 +10,7 @@ import com.fasterxml.jackson.core.*;
 import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.jr.ob.JSON;
 import com.fasterxml.jackson.jr.ob.JSONObjectException;
+import com.fasterxml.jackson.jr.ob.api.LazyNumber;
 import com.fasterxml.jackson.jr.ob.api.ReaderWriterProvider;
 import com.fasterxml.jackson.jr.ob.api.ValueWriter;
 
@@ -54,7 +56,11 @@ public class JSONWriter
     /**********************************************************************
      */
 
-    protected final JsonGenerator _generator;
+    /**
+     * Generator to write with; not final, as per-operation instances may be
+     * recycled (see {@link #reuseFor}).
+     */
+    protected JsonGenerator _generator;
 
     protected final TimeZone _timezone;
 
@@ -98,9 +104,12 @@ public class JSONWriter
      */
 
     public JSONWriter withCacheCheck(int features) {
-//        int diff = (features ^ _features);
-
-        return this;
+        // Blueprint is passed as context to ReaderWriterProviders during type
+        // resolution, so its features need to match those of operations
+        if (features == _features) {
+            return this;
+        }
+        return _with(features, _writerLocator, _treeCodec);
     }
 
     public JSONWriter with(TreeCodec tc) {
@@ -118,6 +127,17 @@ public class JSONWriter
         return _with(_features, l, _treeCodec);
     }
 
+    /**
+     * @since 3.0
+     */
+    public JSONWriter withCacheSize(int maxCachedSerTypes) {
+        ValueWriterLocator l = _writerLocator.withCacheSize(maxCachedSerTypes);
+        if (_writerLocator == l) {
+            return this;
+        }
+        return _with(_features, l, _treeCodec);
+    }
+
     /**
      * Overridable method that all mutant factories call if a new instance
      * is to be constructed
@@ -145,6 +165,63 @@ public class JSONWriter
                 _writerLocator.perOperationInstance(this, features), g);
     }
 
+    /**
+     * Method for re-initializing a per-operation instance (one constructed
+     * by {@link #perOperationInstance}) for another operation with same
+     * features, after previous one has successfully completed; or, if
+     * called with {@code null}, for releasing reference to previous generator
+     * while instance is not in use. Type lookup state of the
+     * {@link ValueWriterLocator} is retained, so that it stays warm across
+     * operations.
+     * Sub-classes with additional per-operation state need to override
+     * this method to reset such state.
+     *
+     * @since 3.0
+     */
+    public JSONWriter reuseFor(JsonGenerator g) {
+        _generator = g;
+        return this;
+    }
+
+    /*
+    /**********************************************************************
+    /* Simple accessors
+    /**********************************************************************
+     */
+
+    /**
+     * Accessor for checking whether given feature is enabled for this writer.
+     *
+     * @since 3.0
+     */
+    public boolean isEnabled(JSON.Feature f) {
+        return f.isEnabled(_features);
+    }
+
+    /**
+     * Accessor for cache of resolved type ids, for checking
+     * hit/miss/eviction statistics.
+     *
+     * @since 3.0
+     */
+    public ClassValueCache<Integer> serTypeCache() {
+        return _writerLocator.serTypeCache();
+    }
+
+    /**
+     * Method for eagerly resolving (and caching) writer for given type, to avoid
+     * having to do that when writing first value of the type.
+     * May be called on blueprint instances, from multiple threads.
+     *
+     * @param type Type to resolve
+     * @param features Features that will be used for operations
+     *
+     * @since 3.0
+     */
+    public void prewarm(Class<?> type, int features) {
+        _writerLocator.perOperationInstance(this, features).findSerializationType(type);
+    }
+
     /*
     /**********************************************************************
     /* Public entry methods
@@ -194,6 +271,18 @@ public class JSONWriter
         case SER_BOOLEAN_ARRAY:
             writeBooleanArrayField(fieldName, (boolean[]) value);
             return;
+        case SER_DOUBLE_ARRAY:
+            writeDoubleArrayField(fieldName, (double[]) value);
+            return;
+        case SER_FLOAT_ARRAY:
+            writeFloatArrayField(fieldName, (float[]) value);
+            return;
+        case SER_SHORT_ARRAY:
+            writeShortArrayField(fieldName, (short[]) value);
+            return;
+        case SER_BEAN_COLUMNS:
+            writeBeanColumnsField(fieldName, (BeanColumns<?>) value);
+            return;
         case SER_TREE_NODE:
             writeTreeNodeField(fieldName, (TreeNode) value);
             return;
@@ -232,6 +321,9 @@ public class JSONWriter
         case SER_NUMBER_LONG:
             writeLongField(fieldName, ((Number) value).longValue());
             return;
+        case SER_NUMBER_LAZY:
+            writeLazyNumberField(fieldName, (LazyNumber) value);
+            return;
 
         // Scalar types:
 
@@ -274,7 +366,7 @@ public class JSONWriter
         }
 
         if (type < 0) { // Bean type!
-            ValueWriter writer = _writerLocator.getValueWriter(type);
+            ValueWriter writer = _writerLocator.getValueWriter(type, value.getClass());
             if (writer != null) { // sanity check
                 _generator.writeFieldName(fieldName);
                 writer.writeValue(this, _generator, value);
@@ -313,6 +405,18 @@ public class JSONWriter
         case SER_BOOLEAN_ARRAY:
             writeBooleanArrayValue((boolean[]) value);
             return;
+        case SER_DOUBLE_ARRAY:
+            writeDoubleArrayValue((double[]) value);
+            return;
+        case SER_FLOAT_ARRAY:
+            writeFloatArrayValue((float[]) value);
+            return;
+        case SER_SHORT_ARRAY:
+            writeShortArrayValue((short[]) value);
+            return;
+        case SER_BEAN_COLUMNS:
+            writeBeanColumnsValue((BeanColumns<?>) value);
+            return;
         case SER_TREE_NODE:
             writeTreeNodeValue((TreeNode) value);
             return;
@@ -351,6 +455,9 @@ public class JSONWriter
         case SER_NUMBER_BIG_INTEGER:
             writeBigIntegerValue((BigInteger) value);
             return;
+        case SER_NUMBER_LAZY:
+            writeLazyNumberValue((LazyNumber) value);
+            return;
 
         // Other scalar types:
 
@@ -392,7 +499,7 @@ public class JSONWriter
         }
 
         if (type < 0) { // explicit ValueWriter
-            ValueWriter writer = _writerLocator.getValueWriter(type);
+            ValueWriter writer = _writerLocator.getValueWriter(type, value.getClass());
             if (writer != null) { // sanity check
                 writer.writeValue(this, _generator, value);
                 return;
@@ -439,6 +546,10 @@ public class JSONWriter
     
     protected void writeListValue(List<?> list) throws IOException
     {
+        if (list instanceof PrimitiveList<?>) {
+            writePrimitiveListValue((PrimitiveList<?>) list);
+            return;
+        }
         final int len = list.size();
         _generator.writeStartArray(list, len);
         for (int i = 0; i < len; ++i) {
@@ -457,7 +568,130 @@ public class JSONWriter
         _generator.writeFieldName(fieldName);
         writeListValue(v);
     }
+
+    /**
+     * @since 3.0
+     */
+    protected void writePrimitiveListValue(PrimitiveList<?> list) throws IOException
+    {
+        if (list instanceof PrimitiveList.OfInt) {
+            _generator.writeArray(((PrimitiveList.OfInt) list)._values, 0, list.size());
+        } else if (list instanceof PrimitiveList.OfLong) {
+            _generator.writeArray(((PrimitiveList.OfLong) list)._values, 0, list.size());
+        } else {
+            _generator.writeArray(((PrimitiveList.OfDouble) list)._values, 0, list.size());
+        }
+    }
     
+    /**
+     * Method for writing columnar container as a JSON Array of JSON Objects,
+     * one per row, with same properties in same order as Beans of the type
+     * would be written with: if writer-side definition has properties
+     * that have no matching column (like read-only ones), Beans are constructed
+     * and written one row at a time.
+     *
+     * @since 3.0
+     */
+    protected void writeBeanColumnsValue(BeanColumns<?> v) throws IOException
+    {
+        final Class<?> beanType = v.beanType();
+        final int beanTypeId = _writerLocator.findSerializationType(beanType);
+        final ValueWriter w = (beanTypeId < 0)
+                ? _writerLocator.getValueWriter(beanTypeId, beanType) : null;
+        BeanPropertyWriter[] props = null;
+        int[] columns = null;
+        if (w instanceof BeanWriter) {
+            props = ((BeanWriter) w)._properties;
+            columns = _beanColumnsFor(v, props);
+        }
+        final int rows = v.size();
+        _generator.writeStartArray(v, rows);
+        if (columns == null) {
+            for (int row = 0; row < rows; ++row) {
+                _writeValue(v.bean(row), beanTypeId);
+            }
+        } else {
+            for (int row = 0; row < rows; ++row) {
+                _generator.writeStartObject();
+                for (int i = 0; i < columns.length; ++i) {
+                    _writeBeanColumn(v, row, columns[i], props[i]);
+                }
+                _generator.writeEndObject();
+            }
+        }
+        _generator.writeEndArray();
+    }
+
+    /**
+     * Helper method for finding indexes of columns that contain values of
+     * given Bean properties, if all properties have one.
+     *
+     * @return Column indexes in same order as properties; or {@code null} if
+     *    any of properties has no column
+     *
+     * @since 3.0
+     */
+    protected int[] _beanColumnsFor(BeanColumns<?> v, BeanPropertyWriter[] props)
+    {
+        final int[] columns = new int[props.length];
+        for (int i = 0; i < props.length; ++i) {
+            Integer ix = v._indexes.get(props[i].name.getValue());
+            if (ix == null) {
+                return null;
+            }
+            columns[i] = ix.intValue();
+        }
+        return columns;
+    }
+
+    /**
+     * Helper method for writing value of a single Bean property from its column,
+     * the same way {@link #_writeBeanProperty(BeanPropertyWriter, Object)} would
+     * write it from the Bean.
+     *
+     * @since 3.0
+     */
+    protected void _writeBeanColumn(BeanColumns<?> v, int row, int col,
+            BeanPropertyWriter property) throws IOException
+    {
+        if (v.isNull(row, col)) {
+            // as with Beans, null properties are written regardless of settings
+            _generator.writeFieldName(property.name);
+            writeNullValue();
+            return;
+        }
+        final Object data = v._columns[col];
+        switch (v._types[col]) {
+        case INT:
+            _generator.writeFieldName(property.name);
+            writeIntValue(((int[]) data)[row]);
+            return;
+        case LONG:
+            _generator.writeFieldName(property.name);
+            writeLongValue(((long[]) data)[row]);
+            return;
+        case DOUBLE:
+            _generator.writeFieldName(property.name);
+            writeDoubleValue(((double[]) data)[row]);
+            return;
+        case BOOLEAN:
+            _generator.writeFieldName(property.name);
+            writeBooleanValue(((boolean[]) data)[row]);
+            return;
+        default:
+            _writeBeanProperty(property.name, property.typeId, ((Object[]) data)[row]);
+        }
+    }
+
+    /**
+     * @since 3.0
+     */
+    protected void writeBeanColumnsField(String fieldName, BeanColumns<?> v) throws IOException
+    {
+        _generator.writeFieldName(fieldName);
+        writeBeanColumnsValue(v);
+    }
+
     protected void writeMapValue(Map<?,?> v) throws IOException
     {
         _generator.writeStartObject(v);
@@ -558,6 +792,63 @@ public class JSONWriter
         writeBooleanArrayValue(v);
     }
 
+    /**
+     * @since 3.0
+     */
+    protected void writeDoubleArrayValue(double[] v) throws IOException {
+        _generator.writeArray(v, 0, v.length);
+    }
+
+    /**
+     * @since 3.0
+     */
+    protected void writeDoubleArrayField(String fieldName, double[] v) throws IOException {
+        _generator.writeFieldName(fieldName);
+        writeDoubleArrayValue(v);
+    }
+
+    /**
+     * @since 3.0
+     */
+    protected void writeFloatArrayValue(float[] v) throws IOException {
+        // no bulk write method for floats; but need to avoid widening to double
+        // to retain shortest textual representation
+        final int len = v.length;
+        _generator.writeStartArray(v, len);
+        for (int i = 0; i < len; ++i) {
+            _generator.writeNumber(v[i]);
+        }
+        _generator.writeEndArray();
+    }
+
+    /**
+     * @since 3.0
+     */
+    protected void writeFloatArrayField(String fieldName, float[] v) throws IOException {
+        _generator.writeFieldName(fieldName);
+        writeFloatArrayValue(v);
+    }
+
+    /**
+     * @since 3.0
+     */
+    protected void writeShortArrayValue(short[] v) throws IOException {
+        final int len = v.length;
+        _generator.writeStartArray(v, len);
+        for (int i = 0; i < len; ++i) {
+            _generator.writeNumber(v[i]);
+        }
+        _generator.writeEndArray();
+    }
+
+    /**
+     * @since 3.0
+     */
+    protected void writeShortArrayField(String fieldName, short[] v) throws IOException {
+        _generator.writeFieldName(fieldName);
+        writeShortArrayValue(v);
+    }
+
     protected void writeTreeNodeValue(TreeNode v) throws IOException {
         if (_treeCodec == null) {
             throw new JSONObjectException("No TreeCodec configured: can not serializer TreeNode values");
@@ -626,6 +917,27 @@ public class JSONWriter
         _generator.writeNumberField(fieldName, v);
     }
 
+    /**
+     * @since 3.0
+     */
+    protected void writeLazyNumberValue(LazyNumber v) throws IOException {
+        // textual representation can be written as is, unless it was
+        // non-standard (leading plus sign and so on): if so, decode
+        if (v.hasStandardText()) {
+            _generator.writeNumber(v.getText());
+        } else {
+            writeValue(v.value());
+        }
+    }
+
+    /**
+     * @since 3.0
+     */
+    protected void writeLazyNumberField(String fieldName, LazyNumber v) throws IOException {
+        _generator.writeFieldName(fieldName);
+        writeLazyNumberValue(v);
+    }
+
     /*
     /**********************************************************************
     /* Overridable concrete typed write methods, textual
@@ -711,6 +1023,47 @@ public class JSONWriter
         }
     }
 
+    /**
+     * Alternative to {@link #writeBeanValue(BeanPropertyWriter[], Object)} used
+     * with specialized per-property handlers (see
+     * {@link BeanPropertyWriter#accessAndWriteHandle}).
+     *
+     * @since 3.0
+     */
+    public void writeBeanValue(MethodHandle[] handlers, Object bean) throws IOException
+    {
+        _generator.writeStartObject(bean);
+        for (int i = 0, end = handlers.length; i < end; ++i) {
+            try {
+                handlers[i].invokeExact(this, bean);
+            } catch (IOException | RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) { // should never occur but has to be declared
+                throw new JSONObjectException("Failed to write property of "
+                        +bean.getClass().getName()+": "+t.getMessage(), t);
+            }
+        }
+        _generator.writeEndObject();
+    }
+
+    /**
+     * Helper method called by specialized property handlers to write a single
+     * Bean property, given its (possibly null) value.
+     *
+     * @since 3.0
+     */
+    protected void _writeBeanProperty(SerializedString name, int typeId, Object value)
+        throws IOException
+    {
+        if (value == null) {
+            typeId = SER_NULL;
+        } else if (typeId == 0) {
+            typeId = _writerLocator.findSerializationType(value.getClass());
+        }
+        _generator.writeFieldName(name);
+        _writeValue(value, typeId);
+    }
+
     public void writeBeanValue(BeanPropertyWriter[] props, Object bean) throws IOException
     {
         _generator.writeStartObject(bean);
@@ -718,108 +1071,78 @@ public class JSONWriter
         int left = props.length;
 
         if (left > 3) {
-            int typeId;
             do {
-                BeanPropertyWriter property = props[i];
-                Object value = property.getValueFor(bean);
-                if (value == null) {
-                    typeId = SER_NULL;
-                } else {
-                    typeId = property.typeId;
-                    if (typeId == 0) {
-                        typeId = _writerLocator.findSerializationType(value.getClass());
-                    }
-                }
-                _generator.writeFieldName(property.name);
-                _writeValue(value, typeId);
-
-                property = props[i+1];
-                value = property.getValueFor(bean);
-                if (value == null) {
-                    typeId = SER_NULL;
-                } else {
-                    typeId = property.typeId;
-                    if (typeId == 0) {
-                        typeId = _writerLocator.findSerializationType(value.getClass());
-                    }
-                }
-                _generator.writeFieldName(property.name);
-                _writeValue(value, typeId);
-
-                property = props[i+2];
-                value = property.getValueFor(bean);
-                if (value == null) {
-                    typeId = SER_NULL;
-                } else {
-                    typeId = property.typeId;
-                    if (typeId == 0) {
-                        typeId = _writerLocator.findSerializationType(value.getClass());
-                    }
-                }
-                _generator.writeFieldName(property.name);
-                _writeValue(value, typeId);
-
-                property = props[i+3];
-                value = property.getValueFor(bean);
-                if (value == null) {
-                    typeId = SER_NULL;
-                } else {
-                    typeId = property.typeId;
-                    if (typeId == 0) {
-                        typeId = _writerLocator.findSerializationType(value.getClass());
-                    }
-                }
-                _generator.writeFieldName(property.name);
-                _writeValue(value, typeId);
+                _writeBeanProperty(props[i], bean);
+                _writeBeanProperty(props[i+1], bean);
+                _writeBeanProperty(props[i+2], bean);
+                _writeBeanProperty(props[i+3], bean);
                 left -= 4;
                 i += 4;
             } while (left > 3);
         }
-        BeanPropertyWriter property;
-        Object value;
-        int typeId;
         switch (left) {
         case 3:
-            property = props[i++];
-            value = property.getValueFor(bean);
-            if (value == null) {
-                typeId = SER_NULL;
-            } else {
-                typeId = property.typeId;
-                if (typeId == 0) {
-                    typeId = _writerLocator.findSerializationType(value.getClass());
-                }
-            }
-            _generator.writeFieldName(property.name);
-            _writeValue(value, typeId);
+            _writeBeanProperty(props[i++], bean);
         case 2:
-            property = props[i++];
-            value = property.getValueFor(bean);
-            if (value == null) {
-                typeId = SER_NULL;
-            } else {
-                typeId = property.typeId;
-                if (typeId == 0) {
-                    typeId = _writerLocator.findSerializationType(value.getClass());
-                }
-            }
-            _generator.writeFieldName(property.name);
-            _writeValue(value, typeId);
+            _writeBeanProperty(props[i++], bean);
         case 1:
-            property = props[i++];
-            value = property.getValueFor(bean);
-            if (value == null) {
-                typeId = SER_NULL;
-            } else {
-                typeId = property.typeId;
-                if (typeId == 0) {
-                    typeId = _writerLocator.findSerializationType(value.getClass());
+            _writeBeanProperty(props[i++], bean);
+        }
+        _generator.writeEndObject();
+    }
+
+    /**
+     * Helper method for writing a single Bean property: primitive-valued
+     * properties are written without boxing, if possible.
+     *
+     * @since 3.0
+     */
+    protected void _writeBeanProperty(BeanPropertyWriter property, Object bean) throws IOException
+    {
+        if (property.hasPrimitiveAccessor()) {
+            switch (property.typeId) {
+            case SER_NUMBER_BYTE: // fall through
+            case SER_NUMBER_SHORT: // fall through
+            case SER_NUMBER_INTEGER:
+                {
+                    int v = property.getIntValueFor(bean);
+                    _generator.writeFieldName(property.name);
+                    writeIntValue(v);
+                }
+                return;
+            case SER_NUMBER_LONG:
+                {
+                    long v = property.getLongValueFor(bean);
+                    _generator.writeFieldName(property.name);
+                    writeLongValue(v);
+                }
+                return;
+            case SER_NUMBER_FLOAT: // fall through
+            case SER_NUMBER_DOUBLE:
+                {
+                    double v = property.getDoubleValueFor(bean);
+                    _generator.writeFieldName(property.name);
+                    writeDoubleValue(v);
+                }
+                return;
+            case SER_BOOLEAN:
+                {
+                    boolean v = property.getBooleanValueFor(bean);
+                    _generator.writeFieldName(property.name);
+                    writeBooleanValue(v);
+                }
+                return;
+            case SER_CHAR:
+                {
+                    char v = property.getCharValueFor(bean);
+                    _generator.writeFieldName(property.name);
+                    writeStringValue(String.valueOf(v));
                 }
+                return;
+            default:
             }
-            _generator.writeFieldName(property.name);
-            _writeValue(value, typeId);
         }
-        _generator.writeEndObject();
+        _writeBeanProperty(property.name, property.typeId, property.getValueFor(bean));
     }
 
     protected void writeUnknownValue(Object data) throws IOException {
@@ -0,0 +1,547 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.*;
+
+import com.fasterxml.jackson.core.*;
+import com.fasterxml.jackson.jr.ob.JSON;
+import com.fasterxml.jackson.jr.ob.JSONObjectException;
+
+/**
+ * Container for a JSON document that has been indexed, but not (yet)
+ * bound: construction does a single pass over encoded content to build
+ * a compact structural index (token offsets, container sizes and
+ * property names, with their hashes) in arrays; and values are decoded
+ * from content only when accessed, using {@link AnyReader} (so that they
+ * are same as values {@link JSON#anyFrom} would produce).
+ * This is useful when only a small part of a big document is to be accessed.
+ *<p>
+ * JSON Objects are exposed as read-only {@link Map} views, and JSON Arrays
+ * as read-only {@link List} views (regardless of
+ * {@link JSON.Feature#READ_JSON_ARRAYS_AS_JAVA_ARRAYS}); values are cached
+ * by views once decoded. If a JSON Object has duplicate properties, last
+ * value is used (or, if {@link JSON.Feature#FAIL_ON_DUPLICATE_MAP_KEYS} is
+ * enabled, exception is thrown when view is accessed).
+ *<p>
+ * Since decoding happens on access, {@link UncheckedIOException}
+ * is thrown by views for (unlikely) decoding problems. Views are not
+ * thread-safe.
+ *
+ * @since 3.0
+ */
+public final class LazyDocument
+{
+    // Node kinds
+    private final static byte KIND_OBJECT = 1;
+    private final static byte KIND_ARRAY = 2;
+    private final static byte KIND_SCALAR = 3;
+    private final static byte KIND_TRUE = 4;
+    private final static byte KIND_FALSE = 5;
+    private final static byte KIND_NULL = 6;
+
+    private final static int INITIAL_NODES = 64;
+
+    /**
+     * Containers with more than this many entries use hash index for lookups
+     */
+    private final static int MAX_LINEAR_SCAN = 8;
+
+    /**
+     * Marker for values not yet decoded
+     */
+    private final static Object NOT_DECODED = new Object();
+
+    private final byte[] _content;
+
+    /**
+     * Factory for parsers used for decoding values
+     */
+    private final ParserFactory _parserFactory;
+
+    /**
+     * Per-operation reader used for decoding, re-initialized for each value
+     */
+    private final JSONReader _reader;
+
+    /*
+    /**********************************************************************
+    /* Structural index: one entry per value, in document order
+    /**********************************************************************
+     */
+
+    private byte[] _kinds;
+
+    /**
+     * Offset of the first byte of value
+     */
+    private int[] _starts;
+
+    /**
+     * Offset following the last byte of value
+     */
+    private int[] _ends;
+
+    /**
+     * Number of entries, for containers
+     */
+    private int[] _sizes;
+
+    /**
+     * Index of the node following value (and its contents, for containers)
+     */
+    private int[] _nexts;
+
+    /**
+     * Names of properties, for values of JSON Objects; canonicalized by parser,
+     * so repeated names are not duplicated.
+     */
+    private String[] _names;
+
+    private int[] _hashes;
+
+    private int _count;
+
+    private LazyDocument(byte[] content, ParserFactory parsers, JSONReader reader)
+    {
+        _content = content;
+        _parserFactory = parsers;
+        _reader = reader;
+        _kinds = new byte[INITIAL_NODES];
+        _starts = new int[INITIAL_NODES];
+        _ends = new int[INITIAL_NODES];
+        _sizes = new int[INITIAL_NODES];
+        _nexts = new int[INITIAL_NODES];
+        _names = new String[INITIAL_NODES];
+        _hashes = new int[INITIAL_NODES];
+    }
+
+    /**
+     * Factory method for indexing given content.
+     *
+     * @param content Encoded JSON content to index; not copied, so must not be
+     *    modified while document is in use
+     * @param p Parser for content, pointing to the first token of root value;
+     *    not closed by this method
+     * @param parsers Factory for parsers used for decoding values
+     * @param reader Per-operation reader used for decoding values; must not
+     *    be shared
+     */
+    public static LazyDocument construct(byte[] content, JsonParser p,
+            ParserFactory parsers, JSONReader reader)
+        throws IOException
+    {
+        LazyDocument doc = new LazyDocument(content, parsers, reader);
+        doc._index(p);
+        return doc;
+    }
+
+    /**
+     * Accessor for the root value of the document: {@link Map} view for
+     * JSON Object, {@link List} view for JSON Array, decoded value for scalars.
+     */
+    public Object root() {
+        return _value(0);
+    }
+
+    /**
+     * @return Number of values (nodes) in structural index
+     */
+    public int nodeCount() {
+        return _count;
+    }
+
+    /*
+    /**********************************************************************
+    /* Indexing
+    /**********************************************************************
+     */
+
+    private void _index(JsonParser p) throws IOException
+    {
+        JsonToken t = p.currentToken();
+        if (t == null) {
+            throw JSONObjectException.from(p, "No content to map due to end-of-input");
+        }
+        int[] open = new int[16];
+        int depth = 0;
+        String name = null;
+
+        do {
+            switch (t) {
+            case FIELD_NAME:
+                name = p.currentName();
+                continue;
+            case START_OBJECT:
+            case START_ARRAY:
+                {
+                    int node = _add((t == JsonToken.START_OBJECT) ? KIND_OBJECT : KIND_ARRAY,
+                            _offset(p.getTokenLocation()), name);
+                    if (depth > 0) {
+                        ++_sizes[open[depth-1]];
+                    }
+                    if (depth == open.length) {
+                        open = Arrays.copyOf(open, depth + depth);
+                    }
+                    open[depth++] = node;
+                }
+                break;
+            case END_OBJECT:
+            case END_ARRAY:
+                {
+                    int node = open[--depth];
+                    _ends[node] = _offset(p.getCurrentLocation());
+                    _nexts[node] = _count;
+                }
+                break;
+            default:
+                {
+                    byte kind;
+                    if (t == JsonToken.VALUE_TRUE) {
+                        kind = KIND_TRUE;
+                    } else if (t == JsonToken.VALUE_FALSE) {
+                        kind = KIND_FALSE;
+                    } else if (t == JsonToken.VALUE_NULL) {
+                        kind = KIND_NULL;
+                    } else {
+                        kind = KIND_SCALAR;
+                        if (t == JsonToken.VALUE_STRING) {
+                            // need to get through the String to know where it ends
+                            p.finishToken();
+                        }
+                    }
+                    int node = _add(kind, _offset(p.getTokenLocation()), name);
+                    _ends[node] = _offset(p.getCurrentLocation());
+                    _nexts[node] = _count;
+                    if (depth > 0) {
+                        ++_sizes[open[depth-1]];
+                    }
+                }
+            }
+            name = null;
+        } while ((depth > 0) && ((t = p.nextToken()) != null));
+
+        if (depth > 0) {
+            throw JSONObjectException.from(p, "Unexpected end-of-input within JSON %s",
+                    (_kinds[open[depth-1]] == KIND_OBJECT) ? "Object" : "Array");
+        }
+    }
+
+    private int _add(byte kind, int start, String name)
+    {
+        final int ix = _count;
+        if (ix == _kinds.length) {
+            final int newSize = ix + (ix >> 1);
+            _kinds = Arrays.copyOf(_kinds, newSize);
+            _starts = Arrays.copyOf(_starts, newSize);
+            _ends = Arrays.copyOf(_ends, newSize);
+            _sizes = Arrays.copyOf(_sizes, newSize);
+            _nexts = Arrays.copyOf(_nexts, newSize);
+            _names = Arrays.copyOf(_names, newSize);
+            _hashes = Arrays.copyOf(_hashes, newSize);
+        }
+        _kinds[ix] = kind;
+        _starts[ix] = start;
+        if (name != null) {
+            _names[ix] = name;
+            _hashes[ix] = name.hashCode();
+        }
+        _count = ix+1;
+        return ix;
+    }
+
+    private static int _offset(JsonLocation loc) {
+        return (int) loc.getByteOffset();
+    }
+
+    /*
+    /**********************************************************************
+    /* Decoding
+    /**********************************************************************
+     */
+
+    private Object _value(int node)
+    {
+        switch (_kinds[node]) {
+        case KIND_OBJECT:
+            return new ObjectView(node);
+        case KIND_ARRAY:
+            return new ArrayView(node);
+        case KIND_TRUE:
+            return Boolean.TRUE;
+        case KIND_FALSE:
+            return Boolean.FALSE;
+        case KIND_NULL:
+            return null;
+        }
+        final int start = _starts[node];
+        try (JsonParser p = _parserFactory.createParser(
+                ByteBuffer.wrap(_content, start, _ends[node] - start))) {
+            p.nextToken();
+            Object value = _reader.reuseFor(p).readValue();
+            _reader.reuseFor(null);
+            return value;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return Node indexes of entries of given container
+     */
+    private int[] _children(int node)
+    {
+        int[] children = new int[_sizes[node]];
+        for (int i = 0, child = node+1; i < children.length; ++i) {
+            children[i] = child;
+            child = _nexts[child];
+        }
+        return children;
+    }
+
+    /*
+    /**********************************************************************
+    /* Views
+    /**********************************************************************
+     */
+
+    /**
+     * Read-only {@link Map} view of an indexed JSON Object
+     */
+    private final class ObjectView extends AbstractMap<String,Object>
+    {
+        /**
+         * Node indexes of entries; for duplicates, only last one (in position of the first one)
+         */
+        private final int[] _children;
+
+        /**
+         * Hash index of {@link #_children}, for larger Objects: positions
+         * (plus one) of entries, zero for empty slot; null for small Objects.
+         */
+        private final int[] _index;
+
+        private final Object[] _values;
+
+        ObjectView(int node)
+        {
+            int[] children = LazyDocument.this._children(node);
+            final int size = children.length;
+            if (size <= MAX_LINEAR_SCAN) {
+                _index = null;
+                children = _removeDupsLinear(children);
+            } else {
+                int tableSize = 16;
+                while (tableSize < (size << 1)) {
+                    tableSize <<= 1;
+                }
+                _index = new int[tableSize];
+                children = _buildIndex(children);
+            }
+            _children = children;
+            _values = new Object[children.length];
+            Arrays.fill(_values, NOT_DECODED);
+        }
+
+        @Override
+        public int size() {
+            return _children.length;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return _find(key) >= 0;
+        }
+
+        @Override
+        public Object get(Object key) {
+            int ix = _find(key);
+            return (ix < 0) ? null : _valueAt(ix);
+        }
+
+        @Override
+        public Set<Entry<String,Object>> entrySet() {
+            return new AbstractSet<Entry<String,Object>>() {
+                @Override
+                public int size() {
+                    return _children.length;
+                }
+
+                @Override
+                public Iterator<Entry<String,Object>> iterator() {
+                    return new Iterator<Entry<String,Object>>() {
+                        private int _pos;
+
+                        @Override
+                        public boolean hasNext() {
+                            return _pos < _children.length;
+                        }
+
+                        @Override
+                        public Entry<String,Object> next() {
+                            if (_pos >= _children.length) {
+                                throw new NoSuchElementException();
+                            }
+                            final int ix = _pos++;
+                            return new SimpleImmutableEntry<String,Object>(_names[_children[ix]],
+                                    _valueAt(ix));
+                        }
+                    };
+                }
+            };
+        }
+
+        private Object _valueAt(int ix) {
+            Object value = _values[ix];
+            if (value == NOT_DECODED) {
+                value = _value(_children[ix]);
+                _values[ix] = value;
+            }
+            return value;
+        }
+
+        private int _find(Object key)
+        {
+            if (!(key instanceof String)) {
+                return -1;
+            }
+            final int hash = key.hashCode();
+            final int[] children = _children;
+            if (_index == null) {
+                for (int i = children.length; --i >= 0; ) {
+                    int child = children[i];
+                    if ((_hashes[child] == hash) && key.equals(_names[child])) {
+                        return i;
+                    }
+                }
+                return -1;
+            }
+            final int mask = _index.length - 1;
+            int slot = _spread(hash) & mask;
+            int pos;
+            while ((pos = _index[slot]) != 0) {
+                int child = children[pos-1];
+                if ((_hashes[child] == hash) && key.equals(_names[child])) {
+                    return pos-1;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return -1;
+        }
+
+        private int[] _removeDupsLinear(int[] children)
+        {
+            int removed = 0;
+            for (int i = 1; i < children.length; ++i) {
+                final int child = children[i];
+                for (int j = 0; j < i; ++j) {
+                    final int prev = children[j];
+                    if ((prev >= 0) && (_hashes[prev] == _hashes[child])
+                            && _names[prev].equals(_names[child])) {
+                        // later value wins, but entry retains original position
+                        _duplicate(child);
+                        children[j] = child;
+                        children[i] = -1;
+                        ++removed;
+                        break;
+                    }
+                }
+            }
+            return (removed == 0) ? children : _compact(children, removed);
+        }
+
+        private int[] _buildIndex(int[] children)
+        {
+            final int[] index = _index;
+            final int mask = index.length - 1;
+            int removed = 0;
+
+            for (int i = 0; i < children.length; ++i) {
+                final int child = children[i];
+                final int hash = _hashes[child];
+                int slot = _spread(hash) & mask;
+                int pos;
+                while ((pos = index[slot]) != 0) {
+                    final int prev = children[pos-1];
+                    if ((_hashes[prev] == hash) && _names[prev].equals(_names[child])) {
+                        break;
+                    }
+                    slot = (slot + 1) & mask;
+                }
+                if (pos != 0) { // duplicate: later value wins, in original position
+                    _duplicate(child);
+                    children[pos-1] = child;
+                    children[i] = -1;
+                    ++removed;
+                } else {
+                    index[slot] = i+1;
+                }
+            }
+            if (removed == 0) {
+                return children;
+            }
+            // Positions change when removing duplicates, so need to rebuild
+            Arrays.fill(index, 0);
+            return _buildIndex(_compact(children, removed));
+        }
+
+        private void _duplicate(int child) {
+            if (_reader.isEnabled(JSON.Feature.FAIL_ON_DUPLICATE_MAP_KEYS)) {
+                throw new UncheckedIOException(new JSONObjectException(
+                        "Duplicate key (key '"+_names[child]+"')"));
+            }
+        }
+    }
+
+    private static int[] _compact(int[] children, int removed)
+    {
+        int[] result = new int[children.length - removed];
+        int ix = 0;
+        for (int child : children) {
+            if (child >= 0) {
+                result[ix++] = child;
+            }
+        }
+        return result;
+    }
+
+    private static int _spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Read-only {@link List} view of an indexed JSON Array
+     */
+    private final class ArrayView extends AbstractList<Object>
+        implements RandomAccess
+    {
+        private final int[] _children;
+
+        private final Object[] _values;
+
+        ArrayView(int node) {
+            _children = LazyDocument.this._children(node);
+            _values = new Object[_children.length];
+            Arrays.fill(_values, NOT_DECODED);
+        }
+
+        @Override
+        public int size() {
+            return _children.length;
+        }
+
+        @Override
+        public Object get(int index) {
+            if ((index < 0) || (index >= _children.length)) {
+                throw new IndexOutOfBoundsException("Index: "+index+", Size: "+_children.length);
+            }
+            Object value = _values[index];
+            if (value == NOT_DECODED) {
+                value = _value(_children[index]);
+                _values[index] = value;
+            }
+            return value;
+        }
+    }
+}
@@ -35,6 +35,9 @@ public class MapReader extends ValueReader
         }
         
         MapBuilder b = r._mapBuilder(_mapType);
+        if (r._projection != null) {
+            return r._readProjectedProperties(p, b, _valueReader).build();
+        }
         String propName0 = p.nextFieldName();
         if (propName0 == null) {
             if (p.hasToken(JsonToken.END_OBJECT)) {
@@ -70,6 +73,9 @@ public class MapReader extends ValueReader
     @Override
     public Object read(JSONReader r, JsonParser p) throws IOException {
         MapBuilder b = r._mapBuilder(_mapType);
+        if (r._projection != null) {
+            return r._readProjectedProperties(p, b, _valueReader).build();
+        }
         String propName0 = p.nextFieldName();
         if (propName0 == null) {
             if (p.hasToken(JsonToken.END_OBJECT)) {
@@ -102,6 +108,21 @@ public class MapReader extends ValueReader
         }
     }
 
+    /**
+     * Method used for "update mode" deserialization: reads properties of JSON Object
+     * into given existing {@link Map}, merging values of existing entries.
+     *
+     * @since 3.0
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Object readInto(JSONReader r, JsonParser p, Object existing) throws IOException {
+        if (p.isExpectedStartObjectToken() && (existing instanceof Map<?,?>)) {
+            return r._mergeProperties(p, (Map<Object,Object>) existing, _valueReader, null);
+        }
+        return read(r, p);
+    }
+
     protected JSONObjectException _reportWrongToken(JsonParser p) {
         return JSONObjectException.from(p, "Unexpected token %s; should get FIELD_NAME or END_OBJECT",
                 p.currentToken());
@@ -0,0 +1,189 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Immutable, shared description of the key sequence of {@link ShapedMap}s:
+ * Maps read from JSON Objects with same keys in same order share the same
+ * shape instance, so that each Map only needs to store its values.
+ *<p>
+ * Shapes form a tree rooted at an empty shape (see {@link #root()}): adding
+ * a key to a shape "transitions" to a child shape, which is created the first
+ * time and reused after that. To avoid unbounded growth with content that has
+ * variable keys (like ids used as keys), number of keys per shape, transitions
+ * per shape and shapes per tree are all limited: if a limit is reached,
+ * {@link #withKey} returns {@code null} and caller has to use a regular
+ * {@link Map} instead.
+ *<p>
+ * Instances are thread-safe, and a tree is typically shared by all read
+ * operations of a {@link com.fasterxml.jackson.jr.ob.JSON} instance.
+ *
+ * @since 3.0
+ */
+public final class MapShape
+{
+    /**
+     * Maximum number of keys a shape may have
+     */
+    public final static int MAX_KEYS = 64;
+
+    /**
+     * Maximum number of distinct transitions (next keys) from a single shape
+     */
+    public final static int MAX_TRANSITIONS = 32;
+
+    /**
+     * Maximum number of shapes in a shape tree
+     */
+    public final static int MAX_SHAPES = 2000;
+
+    /**
+     * Shapes with more keys than this use a hash lookup, smaller ones
+     * linear scan
+     */
+    private final static int MAX_LINEAR_SCAN = 8;
+
+    private final static Object[] NO_KEYS = new Object[0];
+
+    private final Object[] _keys;
+
+    /**
+     * Key-to-index lookup for larger shapes; {@code null} for small ones
+     */
+    private final Map<Object,Integer> _index;
+
+    private final ConcurrentHashMap<Object, MapShape> _transitions
+        = new ConcurrentHashMap<Object, MapShape>(4);
+
+    /**
+     * Most recently used transition, to avoid hash lookups for the common
+     * case of all Objects having same keys
+     */
+    private volatile MapShape _lastTransition;
+
+    /**
+     * Number of shapes in the tree, shared by all shapes of the tree
+     */
+    private final AtomicInteger _shapeCount;
+
+    private MapShape()
+    {
+        _keys = NO_KEYS;
+        _index = null;
+        _shapeCount = new AtomicInteger(1);
+    }
+
+    private MapShape(MapShape parent, Object key)
+    {
+        final int len = parent._keys.length;
+        _keys = Arrays.copyOf(parent._keys, len+1);
+        _keys[len] = key;
+        if (_keys.length > MAX_LINEAR_SCAN) {
+            Map<Object,Integer> index = new HashMap<Object,Integer>(_keys.length * 2);
+            for (int i = 0; i < _keys.length; ++i) {
+                index.put(_keys[i], i);
+            }
+            _index = index;
+        } else {
+            _index = null;
+        }
+        _shapeCount = parent._shapeCount;
+    }
+
+    /**
+     * Factory method for constructing root (empty) shape of a new shape tree.
+     */
+    public static MapShape root() {
+        return new MapShape();
+    }
+
+    /*
+    /**********************************************************************
+    /* Public API
+    /**********************************************************************
+     */
+
+    public int size() {
+        return _keys.length;
+    }
+
+    public Object key(int index) {
+        return _keys[index];
+    }
+
+    /**
+     * @return Index of given key within shape, if included; -1 if not
+     */
+    public int indexOf(Object key)
+    {
+        if (_index != null) {
+            Integer ix = _index.get(key);
+            return (ix == null) ? -1 : ix.intValue();
+        }
+        final Object[] keys = _keys;
+        for (int i = 0, end = keys.length; i < end; ++i) {
+            final Object k = keys[i];
+            // Keys are usually canonicalized (interned) Strings, so identity
+            // check is the common case
+            if ((k == key) || k.equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Method for finding shape that has keys of this shape followed by
+     * given key (which caller must have verified not to be included
+     * in this shape).
+     *
+     * @return Shape with given key appended, if within limits; {@code null}
+     *    if not
+     */
+    public MapShape withKey(Object key)
+    {
+        final MapShape last = _lastTransition;
+        if (last != null) {
+            Object k = last._keys[_keys.length];
+            if ((k == key) || k.equals(key)) {
+                return last;
+            }
+        }
+        MapShape next = _transitions.get(key);
+        if (next == null) {
+            if ((_keys.length >= MAX_KEYS) || (_transitions.size() >= MAX_TRANSITIONS)) {
+                return null;
+            }
+            if (_shapeCount.incrementAndGet() > MAX_SHAPES) {
+                _shapeCount.decrementAndGet();
+                return null;
+            }
+            next = new MapShape(this, key);
+            MapShape old = _transitions.putIfAbsent(key, next);
+            if (old != null) {
+                _shapeCount.decrementAndGet();
+                next = old;
+            }
+        }
+        // avoid needless writes to shared memory if unchanged (another
+        // thread may have updated it already)
+        if (_lastTransition != next) {
+            _lastTransition = next;
+        }
+        return next;
+    }
+
+    /**
+     * @return Number of shapes in the shape tree this shape belongs to
+     */
+    public int treeSize() {
+        return _shapeCount.get();
+    }
+
+    @Override
+    public String toString() {
+        return "[MapShape: keys="+Arrays.toString(_keys)+"]";
+    }
+}
@@ -0,0 +1,120 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * {@link InputStream} that reads contents of a file by memory-mapping it,
+ * one segment at a time, instead of reading it through buffers: this avoids
+ * one copy of content, and keeps heap usage constant regardless of file size.
+ * Reading starts from the position channel has when stream is constructed;
+ * position of channel is not modified. Closing the stream closes the channel.
+ *
+ * @since 3.0
+ */
+public final class MappedFileInputStream extends InputStream
+{
+    /**
+     * Default size of segments mapped: big enough that number of mappings
+     * is small, but small enough not to strain address space.
+     */
+    public final static int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    private final FileChannel _channel;
+
+    private final int _segmentSize;
+
+    private final long _length;
+
+    /**
+     * File offset following the last segment mapped
+     */
+    private long _offset;
+
+    /**
+     * Segment being read, if any
+     */
+    private MappedByteBuffer _segment;
+
+    public MappedFileInputStream(FileChannel channel) throws IOException {
+        this(channel, DEFAULT_SEGMENT_SIZE);
+    }
+
+    public MappedFileInputStream(FileChannel channel, int segmentSize) throws IOException
+    {
+        _channel = channel;
+        _segmentSize = segmentSize;
+        _length = channel.size();
+        _offset = channel.position();
+    }
+
+    @Override
+    public int available() {
+        return (_segment == null) ? 0 : _segment.remaining();
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!_ensureContent()) {
+            return -1;
+        }
+        return _segment.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException
+    {
+        if (len == 0) {
+            return 0;
+        }
+        if (!_ensureContent()) {
+            return -1;
+        }
+        final int count = Math.min(len, _segment.remaining());
+        _segment.get(b, off, count);
+        return count;
+    }
+
+    @Override
+    public long skip(long n) throws IOException
+    {
+        if (n <= 0L) {
+            return 0L;
+        }
+        long left = n;
+        // first from current segment; the rest by not mapping skipped content
+        if (_segment != null) {
+            final int count = (int) Math.min(left, _segment.remaining());
+            _segment.position(_segment.position() + count);
+            left -= count;
+        }
+        if (left > 0L) {
+            final long count = Math.min(left, _length - _offset);
+            _offset += count;
+            left -= count;
+        }
+        return n - left;
+    }
+
+    @Override
+    public void close() throws IOException {
+        _segment = null;
+        _channel.close();
+    }
+
+    private boolean _ensureContent() throws IOException
+    {
+        if ((_segment != null) && _segment.hasRemaining()) {
+            return true;
+        }
+        if (_offset >= _length) {
+            return false;
+        }
+        final int size = (int) Math.min(_segmentSize, _length - _offset);
+        _segment = _channel.map(FileChannel.MapMode.READ_ONLY, _offset, size);
+        _offset += size;
+        return true;
+    }
+}
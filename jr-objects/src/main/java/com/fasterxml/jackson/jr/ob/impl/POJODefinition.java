@@ -5,7 +5,6 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Definition of a single Bean-style Java class, without assumptions
@@ -18,16 +17,16 @@ public class POJODefinition
 {
     /**
      * Since there is just one global cache for type lookups, let's
-     * limit the size to something quite modest: introspection is
+     * limit the size to something quite modest by default: introspection is
      * not free, but holding onto information can cause issues
-     * for larger systems
+     * for larger systems. Size may be changed using {@link #definitionCache()}.
      */
-    private final static int MAX_CACHED = 100;
+    public final static int DEFAULT_MAX_CACHED = 100;
 
     private final static Prop[] NO_PROPS = new Prop[0];
 
-    protected final static ConcurrentHashMap<Class<?>, POJODefinition> DEFS
-        = new ConcurrentHashMap<Class<?>, POJODefinition>(50, 0.75f, 4);
+    protected final static ClassValueCache<POJODefinition> DEFS
+        = new ClassValueCache<POJODefinition>(DEFAULT_MAX_CACHED);
     
     protected final Class<?> _type;
 
@@ -65,20 +64,28 @@ public class POJODefinition
     }
 
     public static POJODefinition _find(Class<?> forType) {
-        POJODefinition def = DEFS.get(forType);
+        POJODefinition def = DEFS.get(forType, 0);
         if (def == null) {
             def = _construct(forType);
-            // Instead of trying to do LRU or just (which gets tricky with concurrent
-            // access), let's just do "flush when full". In practice tends to work
-            // quite well.
-            if (DEFS.size() >= MAX_CACHED) {
-                DEFS.clear();
+            // if full, cache evicts less recently used entries (instead of flushing all)
+            POJODefinition old = DEFS.putIfAbsent(forType, 0, def);
+            if (old != null) {
+                def = old;
             }
-            DEFS.putIfAbsent(forType, def);
         }
         return def;
     }
 
+    /**
+     * Accessor for the global cache of definitions, to allow changing its
+     * maximum size, or checking hit/miss/eviction statistics.
+     *
+     * @since 3.0
+     */
+    public static ClassValueCache<POJODefinition> definitionCache() {
+        return DEFS;
+    }
+
     public Prop[] properties() {
         return _properties;
     }
@@ -0,0 +1,22 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+/**
+ * Interface for constructing parsers for (parts of) content, for readers
+ * that need more than one parser (like {@link LazyDocument} and
+ * {@link RootValueSpliterator}): implemented by {@link com.fasterxml.jackson.jr.ob.JSON}
+ * so that parsers are configured same way as for other read methods.
+ *
+ * @since 3.0
+ */
+public interface ParserFactory
+{
+    /**
+     * @param content Buffer with content to parse as its remaining content
+     */
+    public JsonParser createParser(ByteBuffer content) throws IOException;
+}
@@ -0,0 +1,234 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.io.IOException;
+import java.util.*;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Helper object that extracts values pointed to by a set of {@link JsonPointer}s
+ * while streaming through content: only values pointed to are bound (using
+ * {@link AnyReader}); everything else is skipped, and reading stops as soon
+ * as all pointers have been matched.
+ *<p>
+ * If one pointer points within value of another, value of the latter is
+ * bound, and value of the former is located within it.
+ *
+ * @since 3.0
+ */
+public class PointerExtractor
+{
+    protected final JsonPointer[] _pointers;
+
+    protected final Node _root;
+
+    public PointerExtractor(JsonPointer[] pointers)
+    {
+        _pointers = pointers;
+        _root = new Node();
+        for (int i = 0; i < pointers.length; ++i) {
+            Node node = _root;
+            for (JsonPointer ptr = pointers[i]; !ptr.matches(); ptr = ptr.tail()) {
+                node = node.addChild(ptr.getMatchingProperty(), ptr.getMatchingIndex());
+            }
+            node.addTarget(i);
+        }
+    }
+
+    /**
+     * Method for extracting values from the value parser points to; parser
+     * must point to the first token of the value.
+     *
+     * @return Values pointed to, in same order as pointers; {@code null} for
+     *    pointers that do not match anything
+     */
+    public Object[] extract(JSONReader r, JsonParser p) throws IOException
+    {
+        Object[] results = new Object[_pointers.length];
+        // nothing to match, nothing to read
+        if (results.length == 0) {
+            return results;
+        }
+        // Values are bound as a whole, regardless of possible projection
+        r._projection = null;
+        new Extraction(r, p, results).value(_root);
+        return results;
+    }
+
+    /*
+    /**********************************************************************
+    /* Helper types
+    /**********************************************************************
+     */
+
+    private final static class Extraction
+    {
+        private final JSONReader _reader;
+        private final JsonParser _parser;
+        private final Object[] _results;
+
+        /**
+         * Flags for pointers already matched: same pointer may match more
+         * than once, with duplicate property names
+         */
+        private final boolean[] _found;
+
+        /**
+         * Number of pointers not yet matched
+         */
+        private int _remaining;
+
+        Extraction(JSONReader r, JsonParser p, Object[] results) {
+            _reader = r;
+            _parser = p;
+            _results = results;
+            _found = new boolean[results.length];
+            _remaining = results.length;
+        }
+
+        /**
+         * Method called with parser pointing to the first token of a value
+         * to match against given node.
+         *
+         * @return True if extraction is to continue; false if all pointers
+         *    have been matched
+         */
+        boolean value(Node node) throws IOException
+        {
+            final JsonParser p = _parser;
+            if (node._targets != null) {
+                _matched(node, _reader.readValue());
+                return (_remaining > 0);
+            }
+            switch (p.currentToken()) {
+            case START_OBJECT:
+                {
+                    String name;
+                    while ((name = p.nextFieldName()) != null) {
+                        Node child = node._children.get(name);
+                        p.nextToken();
+                        if (child == null) {
+                            p.skipChildren();
+                        } else if (!value(child)) {
+                            return false;
+                        }
+                    }
+                }
+                break;
+            case START_ARRAY:
+                for (int index = 0; p.nextToken() != JsonToken.END_ARRAY; ++index) {
+                    Node child = (index <= node._maxIndex)
+                            ? node._children.get(String.valueOf(index)) : null;
+                    if (child == null) {
+                        p.skipChildren();
+                    } else if (!value(child)) {
+                        return false;
+                    }
+                }
+                break;
+            default: // scalar values have no contents to match
+            }
+            return true;
+        }
+
+        /**
+         * Method called when value for given node has been bound: assigns it
+         * to pointers that end at the node, and locates values for pointers
+         * that point within value.
+         */
+        private void _matched(Node node, Object value)
+        {
+            if (node._targets != null) {
+                for (int i = 0, end = node._targets.size(); i < end; ++i) {
+                    final int ix = node._targets.get(i);
+                    _results[ix] = value;
+                    if (!_found[ix]) {
+                        _found[ix] = true;
+                        --_remaining;
+                    }
+                }
+            }
+            if (node._children == null) {
+                return;
+            }
+            for (Map.Entry<String,Node> entry : node._children.entrySet()) {
+                Node child = entry.getValue();
+                Object childValue = null;
+                if (value instanceof Map<?,?>) {
+                    childValue = ((Map<?,?>) value).get(entry.getKey());
+                } else if (child._index >= 0) {
+                    if (value instanceof List<?>) {
+                        List<?> list = (List<?>) value;
+                        if (child._index < list.size()) {
+                            childValue = list.get(child._index);
+                        }
+                    } else if (value instanceof Object[]) {
+                        Object[] array = (Object[]) value;
+                        if (child._index < array.length) {
+                            childValue = array[child._index];
+                        }
+                    }
+                }
+                _matched(child, childValue);
+            }
+        }
+    }
+
+    /**
+     * Node of the tree compiled from pointers: each node corresponds to
+     * a path segment
+     */
+    protected final static class Node
+    {
+        /**
+         * Index that segment of this node matches, if valid index; -1 if not
+         */
+        final int _index;
+
+        /**
+         * Child nodes by property name (or index), if any
+         */
+        Map<String,Node> _children;
+
+        /**
+         * Highest element index any child node matches; -1 if none
+         */
+        int _maxIndex = -1;
+
+        /**
+         * Indexes of pointers that end at this node, if any
+         */
+        List<Integer> _targets;
+
+        Node() {
+            this(-1);
+        }
+
+        Node(int index) {
+            _index = index;
+        }
+
+        Node addChild(String name, int index)
+        {
+            if (_children == null) {
+                _children = new HashMap<String,Node>();
+            }
+            Node child = _children.get(name);
+            if (child == null) {
+                child = new Node(index);
+                _children.put(name, child);
+                _maxIndex = Math.max(_maxIndex, index);
+            }
+            return child;
+        }
+
+        void addTarget(int pointerIndex) {
+            if (_targets == null) {
+                _targets = new ArrayList<Integer>(2);
+            }
+            _targets.add(pointerIndex);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork-join task used for eagerly resolving readers and writers (and
+ * {@link POJODefinition}s they need) for a type, along with types of its
+ * properties, transitively. Each type found is resolved by a separate subtask,
+ * so that independent types may be resolved in parallel.
+ *<p>
+ * Failure to resolve explicitly requested types is reported by rethrowing
+ * the exception (when joining the task); failures for types only reachable
+ * via properties are ignored, as they are reported when (and if) values of
+ * such types are read or written.
+ *
+ * @since 3.0
+ */
+public class Prewarmer extends RecursiveAction
+{
+    private static final long serialVersionUID = 1L;
+
+    protected final JSONReader _reader;
+
+    protected final JSONWriter _writer;
+
+    protected final int _features;
+
+    protected final Set<Class<?>> _seen;
+
+    protected final Collection<? extends Type> _roots;
+
+    protected final Class<?> _type;
+
+    /**
+     * Problem encountered when resolving type of this (non-root) task, if any
+     */
+    protected RuntimeException _failure;
+
+    /**
+     * Constructor for the root task
+     */
+    public Prewarmer(JSONReader r, JSONWriter w, int features,
+            Collection<? extends Type> types)
+    {
+        _reader = r;
+        _writer = w;
+        _features = features;
+        _seen = Collections.newSetFromMap(new ConcurrentHashMap<Class<?>, Boolean>());
+        _roots = types;
+        _type = null;
+    }
+
+    protected Prewarmer(Prewarmer parent, Class<?> type)
+    {
+        _reader = parent._reader;
+        _writer = parent._writer;
+        _features = parent._features;
+        _seen = parent._seen;
+        _roots = null;
+        _type = type;
+    }
+
+    @Override
+    protected void compute()
+    {
+        List<Prewarmer> tasks = new ArrayList<Prewarmer>();
+        if (_roots != null) {
+            // Explicitly requested types: resolve directly, for errors to propagate
+            List<Class<?>> found = new ArrayList<Class<?>>();
+            for (Type t : _roots) {
+                _addClasses(t, found);
+            }
+            for (Class<?> raw : found) {
+                if (_seen.add(raw)) {
+                    tasks.add(new Prewarmer(this, raw));
+                }
+            }
+            invokeAll(tasks);
+            for (Prewarmer task : tasks) {
+                if (task._failure != null) {
+                    throw task._failure;
+                }
+            }
+            return;
+        }
+        try {
+            _reader.prewarm(_type, _features);
+            _writer.prewarm(_type, _features);
+            for (Class<?> raw : _propertyTypes(_type)) {
+                if (_seen.add(raw)) {
+                    tasks.add(new Prewarmer(this, raw));
+                }
+            }
+        } catch (RuntimeException e) {
+            _failure = e;
+            return;
+        }
+        invokeAll(tasks);
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods, type traversal
+    /**********************************************************************
+     */
+
+    /**
+     * Helper method for finding classes to resolve, given (possibly generic) type:
+     * container types (arrays, {@link Collection}s, {@link Map}s) themselves are
+     * not included, only their element types.
+     */
+    protected static void _addClasses(Type type, Collection<Class<?>> result)
+    {
+        if (type instanceof Class<?>) {
+            Class<?> raw = (Class<?>) type;
+            if (raw.isArray()) {
+                _addClasses(raw.getComponentType(), result);
+            } else if (_isResolvable(raw)) {
+                result.add(raw);
+            }
+        } else if (type instanceof ParameterizedType) {
+            ParameterizedType pt = (ParameterizedType) type;
+            _addClasses(pt.getRawType(), result);
+            for (Type arg : pt.getActualTypeArguments()) {
+                _addClasses(arg, result);
+            }
+        } else if (type instanceof GenericArrayType) {
+            _addClasses(((GenericArrayType) type).getGenericComponentType(), result);
+        } else if (type instanceof WildcardType) {
+            for (Type bound : ((WildcardType) type).getUpperBounds()) {
+                _addClasses(bound, result);
+            }
+        }
+        // Type variables can not be resolved without context, skip
+    }
+
+    protected static boolean _isResolvable(Class<?> raw)
+    {
+        if (raw.isPrimitive() || (raw == Object.class)
+                || Collection.class.isAssignableFrom(raw)
+                || Map.class.isAssignableFrom(raw)) {
+            return false;
+        }
+        // JDK types are either handled as simple values, or not at all
+        final String name = raw.getName();
+        return !(name.startsWith("java.") || name.startsWith("javax."));
+    }
+
+    protected static List<Class<?>> _propertyTypes(Class<?> raw)
+    {
+        List<Class<?>> result = new ArrayList<Class<?>>();
+        if (raw.isEnum() || raw.isInterface()) {
+            return result;
+        }
+        for (POJODefinition.Prop prop : POJODefinition.find(raw).properties()) {
+            if (prop.setter != null) {
+                _addClasses(prop.setter.getGenericParameterTypes()[0], result);
+            }
+            if (prop.getter != null) {
+                _addClasses(prop.getter.getGenericReturnType(), result);
+            }
+            if (prop.field != null) {
+                _addClasses(prop.field.getGenericType(), result);
+            }
+        }
+        return result;
+    }
+}
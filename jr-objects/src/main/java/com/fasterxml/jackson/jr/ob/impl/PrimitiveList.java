@@ -0,0 +1,310 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.util.*;
+
+/**
+ * Base class for compact {@link java.util.List} implementations that store
+ * numeric elements in a primitive array, and only box them on access:
+ * used for binding {@code List<Integer>}, {@code List<Long>} and
+ * {@code List<Double>} values when
+ * {@link com.fasterxml.jackson.jr.ob.JSON.Feature#USE_PRIMITIVE_LISTS} is enabled.
+ * Besides regular {@link List} methods, implementations also have accessors
+ * for primitive values; and {@link JSONWriter} writes them without boxing.
+ *<p>
+ * Lists are mutable, but can not contain {@code null}s.
+ *
+ * @since 3.0
+ */
+public abstract class PrimitiveList<E extends Number>
+    extends AbstractList<E>
+    implements RandomAccess
+{
+    protected final static int DEFAULT_CAPACITY = 10;
+
+    protected int _size;
+
+    // only to be extended by implementations here, as JSONWriter needs to know them
+    PrimitiveList() { }
+
+    @Override
+    public int size() {
+        return _size;
+    }
+
+    protected final void _checkIndex(int index) {
+        if ((index < 0) || (index >= _size)) {
+            throw new IndexOutOfBoundsException("Index: "+index+", Size: "+_size);
+        }
+    }
+
+    protected final void _checkPositionIndex(int index) {
+        if ((index < 0) || (index > _size)) {
+            throw new IndexOutOfBoundsException("Index: "+index+", Size: "+_size);
+        }
+    }
+
+    protected final static int _newCapacity(int oldCapacity) {
+        return Math.max(DEFAULT_CAPACITY, oldCapacity + (oldCapacity >> 1) + 1);
+    }
+
+    /*
+    /**********************************************************************
+    /* Implementations
+    /**********************************************************************
+     */
+
+    /**
+     * {@link PrimitiveList} for {@link Integer} values, backed by {@code int[]}
+     */
+    public final static class OfInt extends PrimitiveList<Integer>
+    {
+        protected int[] _values;
+
+        public OfInt() {
+            this(DEFAULT_CAPACITY);
+        }
+
+        public OfInt(int capacity) {
+            _values = new int[capacity];
+        }
+
+        /**
+         * @param values Values of the list; not copied
+         * @param size Number of values in use
+         */
+        public OfInt(int[] values, int size) {
+            _values = values;
+            _size = size;
+        }
+
+        public int getInt(int index) {
+            _checkIndex(index);
+            return _values[index];
+        }
+
+        public void addInt(int value) {
+            if (_size == _values.length) {
+                _values = Arrays.copyOf(_values, _newCapacity(_size));
+            }
+            _values[_size++] = value;
+            ++modCount;
+        }
+
+        public int[] toIntArray() {
+            return Arrays.copyOf(_values, _size);
+        }
+
+        @Override
+        public Integer get(int index) {
+            _checkIndex(index);
+            return _values[index];
+        }
+
+        @Override
+        public Integer set(int index, Integer value) {
+            _checkIndex(index);
+            int old = _values[index];
+            _values[index] = value.intValue();
+            return old;
+        }
+
+        @Override
+        public void add(int index, Integer value) {
+            _checkPositionIndex(index);
+            final int v = value.intValue();
+            if (_size == _values.length) {
+                _values = Arrays.copyOf(_values, _newCapacity(_size));
+            }
+            System.arraycopy(_values, index, _values, index+1, _size - index);
+            _values[index] = v;
+            ++_size;
+            ++modCount;
+        }
+
+        @Override
+        public Integer remove(int index) {
+            _checkIndex(index);
+            int old = _values[index];
+            System.arraycopy(_values, index+1, _values, index, _size - index - 1);
+            --_size;
+            ++modCount;
+            return old;
+        }
+
+        @Override
+        public void clear() {
+            _size = 0;
+            ++modCount;
+        }
+    }
+
+    /**
+     * {@link PrimitiveList} for {@link Long} values, backed by {@code long[]}
+     */
+    public final static class OfLong extends PrimitiveList<Long>
+    {
+        protected long[] _values;
+
+        public OfLong() {
+            this(DEFAULT_CAPACITY);
+        }
+
+        public OfLong(int capacity) {
+            _values = new long[capacity];
+        }
+
+        /**
+         * @param values Values of the list; not copied
+         * @param size Number of values in use
+         */
+        public OfLong(long[] values, int size) {
+            _values = values;
+            _size = size;
+        }
+
+        public long getLong(int index) {
+            _checkIndex(index);
+            return _values[index];
+        }
+
+        public void addLong(long value) {
+            if (_size == _values.length) {
+                _values = Arrays.copyOf(_values, _newCapacity(_size));
+            }
+            _values[_size++] = value;
+            ++modCount;
+        }
+
+        public long[] toLongArray() {
+            return Arrays.copyOf(_values, _size);
+        }
+
+        @Override
+        public Long get(int index) {
+            _checkIndex(index);
+            return _values[index];
+        }
+
+        @Override
+        public Long set(int index, Long value) {
+            _checkIndex(index);
+            long old = _values[index];
+            _values[index] = value.longValue();
+            return old;
+        }
+
+        @Override
+        public void add(int index, Long value) {
+            _checkPositionIndex(index);
+            final long v = value.longValue();
+            if (_size == _values.length) {
+                _values = Arrays.copyOf(_values, _newCapacity(_size));
+            }
+            System.arraycopy(_values, index, _values, index+1, _size - index);
+            _values[index] = v;
+            ++_size;
+            ++modCount;
+        }
+
+        @Override
+        public Long remove(int index) {
+            _checkIndex(index);
+            long old = _values[index];
+            System.arraycopy(_values, index+1, _values, index, _size - index - 1);
+            --_size;
+            ++modCount;
+            return old;
+        }
+
+        @Override
+        public void clear() {
+            _size = 0;
+            ++modCount;
+        }
+    }
+
+    /**
+     * {@link PrimitiveList} for {@link Double} values, backed by {@code double[]}
+     */
+    public final static class OfDouble extends PrimitiveList<Double>
+    {
+        protected double[] _values;
+
+        public OfDouble() {
+            this(DEFAULT_CAPACITY);
+        }
+
+        public OfDouble(int capacity) {
+            _values = new double[capacity];
+        }
+
+        /**
+         * @param values Values of the list; not copied
+         * @param size Number of values in use
+         */
+        public OfDouble(double[] values, int size) {
+            _values = values;
+            _size = size;
+        }
+
+        public double getDouble(int index) {
+            _checkIndex(index);
+            return _values[index];
+        }
+
+        public void addDouble(double value) {
+            if (_size == _values.length) {
+                _values = Arrays.copyOf(_values, _newCapacity(_size));
+            }
+            _values[_size++] = value;
+            ++modCount;
+        }
+
+        public double[] toDoubleArray() {
+            return Arrays.copyOf(_values, _size);
+        }
+
+        @Override
+        public Double get(int index) {
+            _checkIndex(index);
+            return _values[index];
+        }
+
+        @Override
+        public Double set(int index, Double value) {
+            _checkIndex(index);
+            double old = _values[index];
+            _values[index] = value.doubleValue();
+            return old;
+        }
+
+        @Override
+        public void add(int index, Double value) {
+            _checkPositionIndex(index);
+            final double v = value.doubleValue();
+            if (_size == _values.length) {
+                _values = Arrays.copyOf(_values, _newCapacity(_size));
+            }
+            System.arraycopy(_values, index, _values, index+1, _size - index);
+            _values[index] = v;
+            ++_size;
+            ++modCount;
+        }
+
+        @Override
+        public Double remove(int index) {
+            _checkIndex(index);
+            double old = _values[index];
+            System.arraycopy(_values, index+1, _values, index, _size - index - 1);
+            --_size;
+            ++modCount;
+            return old;
+        }
+
+        @Override
+        public void clear() {
+            _size = 0;
+            ++modCount;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.io.IOException;
+import java.util.*;
+
+import com.fasterxml.jackson.core.*;
+import com.fasterxml.jackson.jr.ob.JSONObjectException;
+import com.fasterxml.jackson.jr.ob.api.CollectionBuilder;
+import com.fasterxml.jackson.jr.ob.api.ValueReader;
+
+/**
+ * Reader for {@code List<Integer>}, {@code List<Long>} and
+ * {@code List<Double>} values, used when
+ * {@link com.fasterxml.jackson.jr.ob.JSON.Feature#USE_PRIMITIVE_LISTS}
+ * is enabled: binds values as {@link PrimitiveList}s, reading numbers
+ * directly as primitives. Since these can not contain {@code null}s,
+ * a regular {@link ArrayList} is used for JSON Arrays that contain nulls.
+ *<p>
+ * Lists are only bound this way if they would otherwise be built by the
+ * default {@link CollectionBuilder}, and if no {@link Projection} is in
+ * effect. Otherwise
+ * values are read as with {@link CollectionReader}.
+ *
+ * @since 3.0
+ */
+public class PrimitiveListReader extends ValueReader
+{
+    protected final Class<?> _elementType;
+
+    /**
+     * Reader for elements other than plain JSON numbers (like Strings
+     * to coerce)
+     */
+    protected final ValueReader _valueReader;
+
+    /**
+     * Reader used when values can not be bound as {@link PrimitiveList}s
+     */
+    protected final CollectionReader _collectionReader;
+
+    public PrimitiveListReader(Class<?> listType, Class<?> elementType, ValueReader vr) {
+        super(listType);
+        _elementType = elementType;
+        _valueReader = vr;
+        _collectionReader = new CollectionReader(listType, vr);
+    }
+
+    /**
+     * @return True if given element type is one for which a {@link PrimitiveList}
+     *    implementation exists
+     */
+    public static boolean isSupportedElementType(Class<?> elementType) {
+        return (elementType == Integer.class) || (elementType == Long.class)
+                || (elementType == Double.class);
+    }
+
+    @Override
+    public Object readNext(JSONReader r, JsonParser p) throws IOException {
+        if (p.nextToken() != JsonToken.START_ARRAY) {
+            if (p.hasToken(JsonToken.VALUE_NULL)) {
+                return null;
+            }
+            throw JSONObjectException.from(p, "Unexpected token %s; should get START_ARRAY",
+                    p.currentToken());
+        }
+        return read(r, p);
+    }
+
+    @Override
+    public Object read(JSONReader r, JsonParser p) throws IOException {
+        if ((r._projection != null) || !_canUsePrimitiveList(r)) {
+            return _collectionReader.read(r, p);
+        }
+        if (_elementType == Integer.class) {
+            return _readInts(r, p);
+        }
+        if (_elementType == Long.class) {
+            return _readLongs(r, p);
+        }
+        return _readDoubles(r, p);
+    }
+
+    protected List<?> _readInts(JSONReader r, JsonParser p) throws IOException
+    {
+        PrimitiveList.OfInt list = new PrimitiveList.OfInt();
+        JsonToken t;
+        while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+            if (t == JsonToken.VALUE_NUMBER_INT) {
+                list.addInt(p.getIntValue());
+            } else if (t == JsonToken.VALUE_NULL) {
+                return _readBoxed(r, p, list);
+            } else {
+                Object value = _valueReader.read(r, p);
+                if (value == null) {
+                    return _readBoxed(r, p, list);
+                }
+                list.addInt(((Number) value).intValue());
+            }
+        }
+        return list;
+    }
+
+    protected List<?> _readLongs(JSONReader r, JsonParser p) throws IOException
+    {
+        PrimitiveList.OfLong list = new PrimitiveList.OfLong();
+        JsonToken t;
+        while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+            if (t == JsonToken.VALUE_NUMBER_INT) {
+                list.addLong(p.getLongValue());
+            } else if (t == JsonToken.VALUE_NULL) {
+                return _readBoxed(r, p, list);
+            } else {
+                Object value = _valueReader.read(r, p);
+                if (value == null) {
+                    return _readBoxed(r, p, list);
+                }
+                list.addLong(((Number) value).longValue());
+            }
+        }
+        return list;
+    }
+
+    protected List<?> _readDoubles(JSONReader r, JsonParser p) throws IOException
+    {
+        PrimitiveList.OfDouble list = new PrimitiveList.OfDouble();
+        JsonToken t;
+        while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+            if ((t == JsonToken.VALUE_NUMBER_FLOAT) || (t == JsonToken.VALUE_NUMBER_INT)) {
+                list.addDouble(p.getDoubleValue());
+            } else if (t == JsonToken.VALUE_NULL) {
+                return _readBoxed(r, p, list);
+            } else {
+                Object value = _valueReader.read(r, p);
+                if (value == null) {
+                    return _readBoxed(r, p, list);
+                }
+                list.addDouble(((Number) value).doubleValue());
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Helper method for checking whether {@link PrimitiveList} may be used in
+     * place of List the configured {@link CollectionBuilder} would build:
+     * only done for the default one, since custom builders may produce
+     * other types.
+     */
+    protected boolean _canUsePrimitiveList(JSONReader r) {
+        return (r._collectionBuilder.getClass() == CollectionBuilder.Default.class);
+    }
+
+    /**
+     * Method called when a {@code null} element is encountered: copies values
+     * read so far (and the null) in an {@link ArrayList}, and reads the rest
+     * of values as boxed values.
+     */
+    protected List<?> _readBoxed(JSONReader r, JsonParser p, List<?> valuesSoFar)
+        throws IOException
+    {
+        List<Object> result = new ArrayList<Object>(valuesSoFar.size() + 10);
+        result.addAll(valuesSoFar);
+        result.add(null);
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            result.add(_valueReader.read(r, p));
+        }
+        return result;
+    }
+}
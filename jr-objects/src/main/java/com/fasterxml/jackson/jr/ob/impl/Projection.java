@@ -0,0 +1,189 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.util.*;
+
+import com.fasterxml.jackson.core.JsonPointer;
+
+/**
+ * Compiled set of JSON Pointers that specifies which parts of content
+ * are to be read (bound): everything else is skipped without binding.
+ * Instances form a tree, in which each node specifies which properties
+ * (of a JSON Object) or elements (of a JSON Array) are to be included;
+ * and whether contents of a value are included as a whole.
+ *<p>
+ * In addition to standard JSON Pointer syntax, segment {@code *} may be
+ * used to match any property or element: for example, {@code /items/*}{@code /price}
+ * matches property {@code price} of all elements of array {@code items}.
+ * Note that elements of JSON Arrays that are not selected are omitted, so indexes
+ * of elements included may differ from ones in content.
+ *<p>
+ * Instances are immutable (once constructed) and may be shared.
+ *
+ * @since 3.0
+ */
+public final class Projection
+{
+    private final static String WILDCARD = "*";
+
+    /**
+     * Selected properties (or elements) by name (or index), if any
+     */
+    private Map<String,Projection> _children;
+
+    /**
+     * Selection for properties and elements not explicitly listed in
+     * {@link #_children}, if any
+     */
+    private Projection _wildcard;
+
+    /**
+     * Whether the whole value (with all contents) is included
+     */
+    private boolean _all;
+
+    private Projection() { }
+
+    /**
+     * Factory method for compiling given JSON Pointer expressions into
+     * projection that includes all values pointed to (and their contents).
+     *
+     * @throws IllegalArgumentException If any of expressions is not a valid
+     *    JSON Pointer
+     */
+    public static Projection compile(String... pointers)
+    {
+        Projection root = new Projection();
+        for (String expr : pointers) {
+            Projection node = root;
+            for (JsonPointer ptr = JsonPointer.compile(expr);
+                    !ptr.matches() && !node._all; ptr = ptr.tail()) {
+                node = node._addChild(ptr.getMatchingProperty());
+            }
+            node._selectAll();
+        }
+        root._mergeWildcards();
+        return root;
+    }
+
+    /*
+    /**********************************************************************
+    /* Accessors
+    /**********************************************************************
+     */
+
+    /**
+     * @return True if value is included as a whole, including all of its contents
+     */
+    public boolean includesAll() {
+        return _all;
+    }
+
+    /**
+     * @return Projection for value of given property, if it is to be included;
+     *    {@code null} if value is to be skipped
+     */
+    public Projection property(String name)
+    {
+        if (_all) {
+            return this;
+        }
+        if (_children != null) {
+            Projection p = _children.get(name);
+            if (p != null) {
+                return p;
+            }
+        }
+        return _wildcard;
+    }
+
+    /**
+     * @return Projection for element at given index, if it is to be included;
+     *    {@code null} if element is to be skipped
+     */
+    public Projection element(int index)
+    {
+        if (_all) {
+            return this;
+        }
+        if (_children != null) {
+            Projection p = _children.get(String.valueOf(index));
+            if (p != null) {
+                return p;
+            }
+        }
+        return _wildcard;
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods for construction
+    /**********************************************************************
+     */
+
+    private Projection _addChild(String name)
+    {
+        if (WILDCARD.equals(name)) {
+            if (_wildcard == null) {
+                _wildcard = new Projection();
+            }
+            return _wildcard;
+        }
+        if (_children == null) {
+            _children = new HashMap<String,Projection>();
+        }
+        Projection p = _children.get(name);
+        if (p == null) {
+            p = new Projection();
+            _children.put(name, p);
+        }
+        return p;
+    }
+
+    private void _selectAll() {
+        _all = true;
+        _children = null;
+        _wildcard = null;
+    }
+
+    /**
+     * Method called once all expressions have been added, to make explicitly
+     * named properties include everything wildcard does as well, so that
+     * lookups need not consider both.
+     */
+    private void _mergeWildcards()
+    {
+        if (_all) {
+            return;
+        }
+        if (_children != null) {
+            for (Projection child : _children.values()) {
+                if (_wildcard != null) {
+                    child._merge(_wildcard);
+                }
+                child._mergeWildcards();
+            }
+        }
+        if (_wildcard != null) {
+            _wildcard._mergeWildcards();
+        }
+    }
+
+    private void _merge(Projection src)
+    {
+        if (_all) {
+            return;
+        }
+        if (src._all) {
+            _selectAll();
+            return;
+        }
+        if (src._children != null) {
+            for (Map.Entry<String,Projection> entry : src._children.entrySet()) {
+                _addChild(entry.getKey())._merge(entry.getValue());
+            }
+        }
+        if (src._wildcard != null) {
+            _addChild(WILDCARD)._merge(src._wildcard);
+        }
+    }
+}
@@ -0,0 +1,363 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.jr.ob.JSONObjectException;
+
+/**
+ * {@link Spliterator} for reading Beans from
+ * <a href="https://jsonlines.org/">JSON Lines</a> content (root-level values
+ * separated by linefeeds), designed for parallel processing: splitting cuts
+ * remaining content in half, at the first linefeed following the midpoint, so
+ * that each part contains complete root values and can be parsed independently
+ * (each part with its own parser and {@link JSONReader}).
+ *<p>
+ * Note that splitting relies on linefeeds only occurring between root values
+ * (which is the case for JSON Lines, as linefeeds within String values must be
+ * escaped): content with values spanning multiple lines can not be split.
+ * Content is read in segments of at most 1 gigabyte (also cut at linefeeds),
+ * so size of content is not limited by maximum size of a {@link ByteBuffer}.
+ *<p>
+ * Problems with content are reported as {@link UncheckedIOException}s;
+ * parser of the part being read is closed before throwing.
+ *
+ * @since 3.0
+ */
+public class RootValueSpliterator<T> implements Spliterator<T>
+{
+    /**
+     * Default minimum size (in bytes) of content parts split off: parts
+     * smaller than this are not worth parallelizing.
+     */
+    public final static long DEFAULT_MIN_SPLIT = 64 * 1024;
+
+    /**
+     * Maximum size of content segment parsed with a single parser.
+     */
+    protected final static int MAX_SEGMENT = 1 << 30;
+
+    /**
+     * Factory for constructing (and configuring) parsers for segments
+     * of content, shared by all parts
+     */
+    protected final ParserFactory _parserFactory;
+
+    protected final JSONReader _readerBlueprint;
+
+    protected final int _features;
+
+    protected final Class<T> _type;
+
+    protected final Content _content;
+
+    protected final long _minSplit;
+
+    /**
+     * Offset of the first byte of content not yet read (nor being read);
+     * start of the segment to read next.
+     */
+    protected long _start;
+
+    /**
+     * Offset following the last byte of content to read
+     */
+    protected final long _end;
+
+    /**
+     * Parser for the segment being read, if any
+     */
+    protected JsonParser _parser;
+
+    /**
+     * Reader constructed when reading first segment; reused for
+     * later segments
+     */
+    protected JSONReader _reader;
+
+    public RootValueSpliterator(ParserFactory parserFactory,
+            JSONReader readerBlueprint, int features, Class<T> type,
+            Content content, long minSplit)
+    {
+        _parserFactory = parserFactory;
+        _readerBlueprint = readerBlueprint;
+        _features = features;
+        _type = type;
+        _content = content;
+        _minSplit = Math.max(1L, minSplit);
+        _start = 0L;
+        _end = content.length();
+    }
+
+    protected RootValueSpliterator(RootValueSpliterator<T> base, long start, long end)
+    {
+        _parserFactory = base._parserFactory;
+        _readerBlueprint = base._readerBlueprint;
+        _features = base._features;
+        _type = base._type;
+        _content = base._content;
+        _minSplit = base._minSplit;
+        _start = start;
+        _end = end;
+    }
+
+    /*
+    /**********************************************************************
+    /* Spliterator implementation
+    /**********************************************************************
+     */
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action)
+    {
+        try {
+            while (true) {
+                if (_parser == null) {
+                    if (_start >= _end) {
+                        return false;
+                    }
+                    _openSegment();
+                }
+                if (_parser.nextToken() != null) {
+                    T value = _reader.readBean(_type);
+                    _parser.clearCurrentToken();
+                    action.accept(value);
+                    return true;
+                }
+                _parser.close();
+                _parser = null;
+                _reader.reuseFor(null);
+            }
+        } catch (IOException e) {
+            _closeWithError();
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            _closeWithError();
+            throw e;
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit()
+    {
+        // Once reading has started, no more splitting
+        if ((_parser != null) || ((_end - _start) < (2 * _minSplit))) {
+            return null;
+        }
+        final long cut;
+        try {
+            cut = _content.lineStartAfter(_start + (_end - _start) / 2, _end);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if ((cut < 0L) || (cut >= _end)) {
+            return null;
+        }
+        RootValueSpliterator<T> prefix = new RootValueSpliterator<T>(this, _start, cut);
+        _start = cut;
+        return prefix;
+    }
+
+    /**
+     * Size is estimated as the number of bytes of content remaining,
+     * which is an upper bound for number of values.
+     */
+    @Override
+    public long estimateSize() {
+        return _end - _start;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED;
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    protected void _openSegment() throws IOException
+    {
+        long segmentEnd = _end;
+        if ((segmentEnd - _start) > MAX_SEGMENT) {
+            segmentEnd = _content.lineStartAfter(_start + MAX_SEGMENT / 2, _start + MAX_SEGMENT);
+            if (segmentEnd < 0L) {
+                throw new JSONObjectException(String.format(
+"No linefeed within %d bytes following offset %d: content not in JSON Lines format?",
+MAX_SEGMENT / 2, _start + MAX_SEGMENT / 2));
+            }
+        }
+        _parser = _parserFactory.createParser(
+                _content.segment(_start, (int) (segmentEnd - _start)));
+        if (_reader == null) {
+            _reader = _readerBlueprint.perOperationInstance(_features, _parser);
+        } else {
+            _reader.reuseFor(_parser);
+        }
+        _start = segmentEnd;
+    }
+
+    /**
+     * Method called when reading fails: closes parser of the segment being
+     * read (if any), and skips the rest of content, so that no more
+     * parsers are opened.
+     */
+    protected void _closeWithError()
+    {
+        _start = _end;
+        JsonParser p = _parser;
+        if (p != null) {
+            _parser = null;
+            if (_reader != null) {
+                _reader.reuseFor(null);
+            }
+            try {
+                p.close();
+            } catch (Exception secondaryEx) {
+                // original problem is more important
+            }
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Helper types
+    /**********************************************************************
+     */
+
+    /**
+     * Abstraction for random access to content to read, shared by
+     * all parts split off from the original spliterator (so access
+     * must be thread-safe).
+     */
+    public abstract static class Content implements Closeable
+    {
+        public static Content of(ByteBuffer buffer) {
+            return new BufferContent(buffer);
+        }
+
+        /**
+         * Factory method for content read from given file; file contents
+         * are mapped in memory (in segments) when read.
+         */
+        public static Content of(FileChannel channel) throws IOException {
+            return new FileContent(channel);
+        }
+
+        public abstract long length();
+
+        /**
+         * @return Offset following the first linefeed at or after offset
+         *    {@code from} (and before {@code limit}), if any; -1 if none
+         */
+        public abstract long lineStartAfter(long from, long limit) throws IOException;
+
+        /**
+         * @return Buffer with given part of content as its remaining content
+         */
+        public abstract ByteBuffer segment(long start, int length) throws IOException;
+
+        @Override
+        public void close() throws IOException { }
+    }
+
+    private final static class BufferContent extends Content
+    {
+        private final ByteBuffer _buffer;
+
+        private final int _base;
+
+        BufferContent(ByteBuffer buffer) {
+            _buffer = buffer.duplicate();
+            _base = buffer.position();
+        }
+
+        @Override
+        public long length() {
+            return _buffer.limit() - _base;
+        }
+
+        @Override
+        public long lineStartAfter(long from, long limit)
+        {
+            for (int i = _base + (int) from, end = _base + (int) limit; i < end; ++i) {
+                if (_buffer.get(i) == '\n') {
+                    return (i + 1) - _base;
+                }
+            }
+            return -1L;
+        }
+
+        @Override
+        public ByteBuffer segment(long start, int length)
+        {
+            ByteBuffer segment = _buffer.duplicate();
+            segment.limit(_base + (int) start + length);
+            segment.position(_base + (int) start);
+            return segment;
+        }
+    }
+
+    private final static class FileContent extends Content
+    {
+        private final static int SCAN_CHUNK = 8000;
+
+        private final FileChannel _channel;
+
+        private final long _length;
+
+        FileContent(FileChannel channel) throws IOException {
+            _channel = channel;
+            _length = channel.size();
+        }
+
+        @Override
+        public long length() {
+            return _length;
+        }
+
+        @Override
+        public long lineStartAfter(long from, long limit) throws IOException
+        {
+            final ByteBuffer chunk = ByteBuffer.allocate(SCAN_CHUNK);
+            long offset = from;
+            while (offset < limit) {
+                chunk.clear();
+                if (limit - offset < SCAN_CHUNK) {
+                    chunk.limit((int) (limit - offset));
+                }
+                // positional reads do not modify position of channel, so
+                // may be done concurrently
+                final int count = _channel.read(chunk, offset);
+                if (count <= 0) {
+                    break;
+                }
+                for (int i = 0; i < count; ++i) {
+                    if (chunk.get(i) == '\n') {
+                        return offset + i + 1;
+                    }
+                }
+                offset += count;
+            }
+            return -1L;
+        }
+
+        @Override
+        public ByteBuffer segment(long start, int length) throws IOException {
+            return _channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+        }
+
+        @Override
+        public void close() throws IOException {
+            _channel.close();
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.util.*;
+
+/**
+ * A compact {@link java.util.Map} implementation that only stores values
+ * itself, and refers to a shared {@link MapShape} for keys: this greatly
+ * reduces memory usage when reading large numbers of JSON Objects with same
+ * keys (like records of line-delimited JSON), compared to hash-based Maps
+ * that each have their own tables and entry objects.
+ *<p>
+ * Entries are iterated in insertion order. Maps are fully mutable: adding
+ * keys moves Map to another shared shape; removing keys (or adding keys
+ * beyond shape limits) converts Map into "dictionary" mode, in which
+ * a {@link LinkedHashMap} is used instead.
+ *
+ * @since 3.0
+ */
+public class ShapedMap extends AbstractMap<Object, Object>
+{
+    private MapShape _shape;
+
+    private Object[] _values;
+
+    /**
+     * Regular Map used if Map has been converted to dictionary mode;
+     * {@code null} while using shape.
+     */
+    private Map<Object,Object> _dict;
+
+    /**
+     * @param shape Shape that defines keys of this Map
+     * @param values Values in shape's key order; must have (at least) as
+     *   many elements as shape has keys. Not copied.
+     */
+    public ShapedMap(MapShape shape, Object[] values)
+    {
+        _shape = shape;
+        _values = values;
+    }
+
+    /**
+     * Accessor for shape of this Map, if Map uses one; {@code null}
+     * if Map has been converted into dictionary mode.
+     */
+    public MapShape shape() {
+        return (_dict == null) ? _shape : null;
+    }
+
+    /*
+    /**********************************************************************
+    /* Map implementation
+    /**********************************************************************
+     */
+
+    @Override
+    public int size() {
+        return (_dict == null) ? _shape.size() : _dict.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (_dict != null) {
+            return _dict.containsKey(key);
+        }
+        return (key != null) && (_shape.indexOf(key) >= 0);
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (_dict != null) {
+            return _dict.get(key);
+        }
+        if (key == null) {
+            return null;
+        }
+        int ix = _shape.indexOf(key);
+        return (ix < 0) ? null : _values[ix];
+    }
+
+    @Override
+    public Object put(Object key, Object value)
+    {
+        if (_dict == null) {
+            if (key != null) {
+                int ix = _shape.indexOf(key);
+                if (ix >= 0) {
+                    Object old = _values[ix];
+                    _values[ix] = value;
+                    return old;
+                }
+                MapShape next = _shape.withKey(key);
+                if (next != null) {
+                    final int size = _shape.size();
+                    if (size == _values.length) {
+                        _values = Arrays.copyOf(_values, size+1);
+                    }
+                    _values[size] = value;
+                    _shape = next;
+                    return null;
+                }
+            }
+            _toDictionary();
+        }
+        return _dict.put(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if ((_dict == null) && !containsKey(key)) {
+            return null;
+        }
+        _toDictionary();
+        return _dict.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        if (_dict == null) {
+            _dict = new LinkedHashMap<Object,Object>();
+            _shape = null;
+            _values = null;
+        } else {
+            _dict.clear();
+        }
+    }
+
+    @Override
+    public Set<Entry<Object, Object>> entrySet() {
+        if (_dict != null) {
+            return _dict.entrySet();
+        }
+        return new EntrySet();
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    private void _toDictionary()
+    {
+        if (_dict == null) {
+            final int size = _shape.size();
+            Map<Object,Object> dict = new LinkedHashMap<Object,Object>(size + (size >> 1) + 1);
+            for (int i = 0; i < size; ++i) {
+                dict.put(_shape.key(i), _values[i]);
+            }
+            _dict = dict;
+            _shape = null;
+            _values = null;
+        }
+    }
+
+    /**
+     * Entry set view used while Map is in shape mode: iterates over keys of
+     * the shape at the time of construction.
+     */
+    private final class EntrySet extends AbstractSet<Entry<Object, Object>>
+    {
+        private final MapShape _iterShape = _shape;
+
+        @Override
+        public int size() {
+            return ShapedMap.this.size();
+        }
+
+        @Override
+        public Iterator<Entry<Object, Object>> iterator()
+        {
+            return new Iterator<Entry<Object, Object>>() {
+                private int _index;
+
+                @Override
+                public boolean hasNext() {
+                    return _index < _iterShape.size();
+                }
+
+                @Override
+                public Entry<Object, Object> next() {
+                    if (_index >= _iterShape.size()) {
+                        throw new NoSuchElementException();
+                    }
+                    return new ShapedEntry(_iterShape.key(_index), _index++);
+                }
+
+                @Override
+                public void remove() {
+                    if (_index == 0) {
+                        throw new IllegalStateException();
+                    }
+                    ShapedMap.this.remove(_iterShape.key(_index-1));
+                }
+            };
+        }
+    }
+
+    private final class ShapedEntry implements Entry<Object, Object>
+    {
+        private final Object _key;
+
+        private final int _index;
+
+        ShapedEntry(Object key, int index) {
+            _key = key;
+            _index = index;
+        }
+
+        @Override
+        public Object getKey() {
+            return _key;
+        }
+
+        @Override
+        public Object getValue() {
+            return (_dict == null) ? _values[_index] : _dict.get(_key);
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            return put(_key, value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Entry<?,?>)) {
+                return false;
+            }
+            Entry<?,?> other = (Entry<?,?>) o;
+            return _key.equals(other.getKey())
+                    && Objects.equals(getValue(), other.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return _key.hashCode() ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return _key+"="+getValue();
+        }
+    }
+}
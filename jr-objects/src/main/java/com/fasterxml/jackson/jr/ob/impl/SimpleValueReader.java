@@ -20,6 +20,11 @@ import com.fasterxml.jackson.jr.ob.api.ValueReader;
  */
 public class SimpleValueReader extends ValueReader
 {
+    /**
+     * Initial size of buffers used for reading primitive arrays
+     */
+    private final static int INITIAL_ARRAY_BUFFER = 16;
+
     protected final int _typeId;
 
     public SimpleValueReader(Class<?> raw, int typeId) {
@@ -82,6 +87,16 @@ public class SimpleValueReader extends ValueReader
 
         case SER_INT_ARRAY:
             return _readIntArray(p);
+        case SER_LONG_ARRAY:
+            return _readLongArray(p);
+        case SER_DOUBLE_ARRAY:
+            return _readDoubleArray(p);
+        case SER_FLOAT_ARRAY:
+            return _readFloatArray(p);
+        case SER_SHORT_ARRAY:
+            return _readShortArray(p);
+        case SER_BOOLEAN_ARRAY:
+            return _readBooleanArray(p);
 
         case SER_TREE_NODE:
             return reader._treeCodec().readTree(p);
@@ -167,6 +182,80 @@ public class SimpleValueReader extends ValueReader
                 "Can not create a "+_valueType.getName()+" instance out of "+_tokenDesc(p));
     }    
 
+    /*
+    /**********************************************************************
+    /* Read methods for primitives, without boxing
+    /**********************************************************************
+     */
+
+    // // NOTE: these are used for binding primitive-typed Bean properties,
+    // // and must produce same values as `readNext()` would, unboxed
+
+    /**
+     * @since 3.0
+     */
+    public int nextIntValue(JsonParser p) throws IOException {
+        return _nextInt(p);
+    }
+
+    /**
+     * @since 3.0
+     */
+    public long nextLongValue(JsonParser p) throws IOException {
+        return _nextLong(p);
+    }
+
+    /**
+     * @since 3.0
+     */
+    public short nextShortValue(JsonParser p) throws IOException {
+        return (short) _nextInt(p);
+    }
+
+    /**
+     * @since 3.0
+     */
+    public byte nextByteValue(JsonParser p) throws IOException {
+        p.nextToken();
+        return (byte) p.getValueAsInt();
+    }
+
+    /**
+     * @since 3.0
+     */
+    public double nextDoubleValue(JsonParser p) throws IOException {
+        p.nextToken();
+        return p.getValueAsDouble();
+    }
+
+    /**
+     * @since 3.0
+     */
+    public float nextFloatValue(JsonParser p) throws IOException {
+        p.nextToken();
+        return (float) p.getValueAsDouble();
+    }
+
+    /**
+     * @since 3.0
+     */
+    public boolean nextBooleanValue(JsonParser p) throws IOException {
+        Boolean b = p.nextBooleanValue();
+        if (b != null) {
+            return b.booleanValue();
+        }
+        return p.getValueAsBoolean();
+    }
+
+    /**
+     * @since 3.0
+     */
+    public char nextCharValue(JsonParser p) throws IOException {
+        p.nextToken();
+        String str = p.getValueAsString();
+        return (str == null || str.isEmpty()) ? ' ' : str.charAt(0);
+    }
+
     /*
     /**********************************************************************
     /* Read methods for scalars
@@ -177,10 +266,179 @@ public class SimpleValueReader extends ValueReader
         return p.getBinaryValue();
     }
     
+    /*
+    /**********************************************************************
+    /* Read methods for primitive arrays
+    /**********************************************************************
+     */
+
+    // // NOTE: elements are read directly into growable primitive buffers
+    // // to avoid boxing; buffer is trimmed to exact size at the end
+
     protected int[] _readIntArray(JsonParser p) throws IOException
     {
-        // !!! TODO
-        throw new JSONObjectException("Reading of int[] not yet implemented");
+        if (!_startArray(p)) {
+            return null;
+        }
+        int[] buf = new int[INITIAL_ARRAY_BUFFER];
+        int count = 0;
+        JsonToken t;
+        while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+            if (count == buf.length) {
+                buf = Arrays.copyOf(buf, _nextBufferSize(count));
+            }
+            buf[count++] = (t == JsonToken.VALUE_NUMBER_INT) ? p.getIntValue()
+                    : _scalarElement(p, t).getValueAsInt();
+        }
+        return (count == buf.length) ? buf : Arrays.copyOf(buf, count);
+    }
+
+    /**
+     * @since 3.0
+     */
+    protected long[] _readLongArray(JsonParser p) throws IOException
+    {
+        if (!_startArray(p)) {
+            return null;
+        }
+        long[] buf = new long[INITIAL_ARRAY_BUFFER];
+        int count = 0;
+        JsonToken t;
+        while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+            if (count == buf.length) {
+                buf = Arrays.copyOf(buf, _nextBufferSize(count));
+            }
+            buf[count++] = (t == JsonToken.VALUE_NUMBER_INT) ? p.getLongValue()
+                    : _scalarElement(p, t).getValueAsLong();
+        }
+        return (count == buf.length) ? buf : Arrays.copyOf(buf, count);
+    }
+
+    /**
+     * @since 3.0
+     */
+    protected double[] _readDoubleArray(JsonParser p) throws IOException
+    {
+        if (!_startArray(p)) {
+            return null;
+        }
+        double[] buf = new double[INITIAL_ARRAY_BUFFER];
+        int count = 0;
+        JsonToken t;
+        while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+            if (count == buf.length) {
+                buf = Arrays.copyOf(buf, _nextBufferSize(count));
+            }
+            buf[count++] = ((t == JsonToken.VALUE_NUMBER_FLOAT) || (t == JsonToken.VALUE_NUMBER_INT))
+                    ? p.getDoubleValue() : _scalarElement(p, t).getValueAsDouble();
+        }
+        return (count == buf.length) ? buf : Arrays.copyOf(buf, count);
+    }
+
+    /**
+     * @since 3.0
+     */
+    protected float[] _readFloatArray(JsonParser p) throws IOException
+    {
+        if (!_startArray(p)) {
+            return null;
+        }
+        float[] buf = new float[INITIAL_ARRAY_BUFFER];
+        int count = 0;
+        JsonToken t;
+        while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+            if (count == buf.length) {
+                buf = Arrays.copyOf(buf, _nextBufferSize(count));
+            }
+            buf[count++] = ((t == JsonToken.VALUE_NUMBER_FLOAT) || (t == JsonToken.VALUE_NUMBER_INT))
+                    ? p.getFloatValue() : (float) _scalarElement(p, t).getValueAsDouble();
+        }
+        return (count == buf.length) ? buf : Arrays.copyOf(buf, count);
+    }
+
+    /**
+     * @since 3.0
+     */
+    protected short[] _readShortArray(JsonParser p) throws IOException
+    {
+        if (!_startArray(p)) {
+            return null;
+        }
+        short[] buf = new short[INITIAL_ARRAY_BUFFER];
+        int count = 0;
+        JsonToken t;
+        while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+            if (count == buf.length) {
+                buf = Arrays.copyOf(buf, _nextBufferSize(count));
+            }
+            // same as with `Short` values, no range checks
+            buf[count++] = (short) ((t == JsonToken.VALUE_NUMBER_INT) ? p.getIntValue()
+                    : _scalarElement(p, t).getValueAsInt());
+        }
+        return (count == buf.length) ? buf : Arrays.copyOf(buf, count);
+    }
+
+    /**
+     * @since 3.0
+     */
+    protected boolean[] _readBooleanArray(JsonParser p) throws IOException
+    {
+        if (!_startArray(p)) {
+            return null;
+        }
+        boolean[] buf = new boolean[INITIAL_ARRAY_BUFFER];
+        int count = 0;
+        JsonToken t;
+        while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+            if (count == buf.length) {
+                buf = Arrays.copyOf(buf, _nextBufferSize(count));
+            }
+            if (t == JsonToken.VALUE_TRUE) {
+                buf[count++] = true;
+            } else if (t == JsonToken.VALUE_FALSE) {
+                buf[count++] = false;
+            } else {
+                buf[count++] = _scalarElement(p, t).getValueAsBoolean();
+            }
+        }
+        return (count == buf.length) ? buf : Arrays.copyOf(buf, count);
+    }
+
+    /**
+     * Helper method called to verify that parser points to start of a JSON Array
+     * to read primitive array from.
+     *
+     * @return True if so; false if parser points to JSON null
+     */
+    private boolean _startArray(JsonParser p) throws IOException
+    {
+        JsonToken t = p.currentToken();
+        if (t == JsonToken.START_ARRAY) {
+            return true;
+        }
+        if (t == JsonToken.VALUE_NULL) {
+            return false;
+        }
+        throw JSONObjectException.from(p, "Can not create a "+_valueType.getName()
+                +" instance out of "+_tokenDesc(p)+": expected JSON Array");
+    }
+
+    /**
+     * Helper method called to verify that array element (not of the expected
+     * type) is a scalar value, which may be coerced
+     */
+    private JsonParser _scalarElement(JsonParser p, JsonToken t) throws IOException
+    {
+        if ((t == null) || !t.isScalarValue()) {
+            throw JSONObjectException.from(p, "Unexpected token "+_tokenDesc(p, t)
+                    +" for element of "+_valueType.getName());
+        }
+        return p;
+    }
+
+    private static int _nextBufferSize(int size) {
+        // grow by 100% while small, 50% after that
+        return (size < 4000) ? (size + size) : (size + (size >> 1));
     }
 
     protected long _fetchLong(JsonParser p) throws IOException
@@ -1,6 +1,11 @@
 package com.fasterxml.jackson.jr.ob.impl;
 
 import java.io.File;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URI;
@@ -9,6 +14,7 @@ import java.util.*;
 
 import com.fasterxml.jackson.core.TreeNode;
 import com.fasterxml.jackson.jr.ob.JSON;
+import com.fasterxml.jackson.jr.ob.api.LazyNumber;
 
 abstract class ValueLocatorBase
 {
@@ -117,6 +123,42 @@ abstract class ValueLocatorBase
      */
     public final static int SER_ITERABLE = 32;
 
+    // // // Other primitive arrays
+
+    /**
+     * @since 3.0
+     */
+    public final static int SER_DOUBLE_ARRAY = 33;
+
+    /**
+     * @since 3.0
+     */
+    public final static int SER_FLOAT_ARRAY = 34;
+
+    /**
+     * @since 3.0
+     */
+    public final static int SER_SHORT_ARRAY = 35;
+
+    // // // Other container types
+
+    /**
+     * Columnar container of Bean values ({@link BeanColumns}).
+     *
+     * @since 3.0
+     */
+    public final static int SER_BEAN_COLUMNS = 36;
+
+    // // // Other number types
+
+    /**
+     * Lazily decoded number ({@link LazyNumber}), written using its textual
+     * representation as is (if valid JSON Number).
+     *
+     * @since 3.0
+     */
+    public final static int SER_NUMBER_LAZY = 37;
+
     /*
     /**********************************************************************
     /* Other constants
@@ -125,6 +167,25 @@ abstract class ValueLocatorBase
 
     protected final static int CACHE_FLAGS = JSON.CACHE_FLAGS;
 
+    /**
+     * Lookup used for converting setters, getters and fields into
+     * {@link MethodHandle}s: note that access checks are bypassed for
+     * members that have been made accessible via reflection.
+     */
+    private final static MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /**
+     * Type-erased signature all setter handles are adapted to
+     */
+    private final static MethodType SETTER_TYPE = MethodType.methodType(Void.TYPE,
+            Object.class, Object.class);
+
+    /**
+     * Type-erased signature all getter handles are adapted to
+     */
+    private final static MethodType GETTER_TYPE = MethodType.methodType(Object.class,
+            Object.class);
+
     /*
     /**********************************************************************
     /* Methods for sub-classes
@@ -135,6 +196,109 @@ abstract class ValueLocatorBase
         return POJODefinition.find(raw);
     }
 
+    /**
+     * Helper method for constructing a {@link MethodHandle} to use for calling given
+     * setter (if not null) or assigning given field, adapted to signature
+     * {@code (Object,Object)void}. If handle can not be constructed (usually due to
+     * access restrictions), returns {@code null} to indicate that plain reflection
+     * is to be used instead.
+     *
+     * @since 3.0
+     */
+    protected MethodHandle _setterHandle(Method setter, Field field)
+    {
+        try {
+            MethodHandle mh = (setter == null) ? LOOKUP.unreflectSetter(field)
+                    : LOOKUP.unreflect(setter);
+            return mh.asType(SETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            return null;
+        } catch (RuntimeException e) { // SecurityException, WrongMethodTypeException (static fields)
+            return null;
+        }
+    }
+
+    /**
+     * Helper method for constructing a {@link MethodHandle} to use for calling given
+     * getter (if not null) or reading given field, adapted to signature
+     * {@code (Object)Object}. If handle can not be constructed (usually due to
+     * access restrictions), returns {@code null} to indicate that plain reflection
+     * is to be used instead.
+     *
+     * @since 3.0
+     */
+    protected MethodHandle _getterHandle(Method getter, Field field)
+    {
+        try {
+            MethodHandle mh = (getter == null) ? LOOKUP.unreflectGetter(field)
+                    : LOOKUP.unreflect(getter);
+            return mh.asType(GETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            return null;
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Helper method for constructing a {@link MethodHandle} to use for calling given
+     * primitive-typed setter (if not null) or assigning given primitive-typed field
+     * without boxing, adapted to signature {@code (Object,P)void} where {@code P}
+     * is the primitive type. If type is not primitive, or handle can not be
+     * constructed, returns {@code null}.
+     *
+     * @since 3.0
+     */
+    protected MethodHandle _primitiveSetterHandle(Method setter, Field field)
+    {
+        Class<?> type = (setter == null) ? field.getType() : setter.getParameterTypes()[0];
+        if (!type.isPrimitive()) {
+            return null;
+        }
+        try {
+            MethodHandle mh = (setter == null) ? LOOKUP.unreflectSetter(field)
+                    : LOOKUP.unreflect(setter);
+            return mh.asType(MethodType.methodType(Void.TYPE, Object.class, type));
+        } catch (IllegalAccessException e) {
+            return null;
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Helper method for constructing a {@link MethodHandle} to use for calling given
+     * primitive-typed getter (if not null) or reading given primitive-typed field
+     * without boxing, adapted to signature {@code (Object)P} where {@code P} is
+     * the primitive type; except that {@code byte} and {@code short} are widened
+     * to {@code int}, and {@code float} to {@code double} (same as when writing
+     * boxed values). If type is not primitive, or handle can not be constructed,
+     * returns {@code null}.
+     *
+     * @since 3.0
+     */
+    protected MethodHandle _primitiveGetterHandle(Method getter, Field field)
+    {
+        Class<?> type = (getter == null) ? field.getType() : getter.getReturnType();
+        if (!type.isPrimitive() || (type == Void.TYPE)) {
+            return null;
+        }
+        if ((type == Byte.TYPE) || (type == Short.TYPE)) {
+            type = Integer.TYPE;
+        } else if (type == Float.TYPE) {
+            type = Double.TYPE;
+        }
+        try {
+            MethodHandle mh = (getter == null) ? LOOKUP.unreflectGetter(field)
+                    : LOOKUP.unreflect(getter);
+            return mh.asType(MethodType.methodType(type, Object.class));
+        } catch (IllegalAccessException e) {
+            return null;
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
     protected int _findSimpleType(Class<?> raw, boolean forSer)
     {
         if (raw == String.class) {
@@ -158,7 +322,15 @@ abstract class ValueLocatorBase
                 if (raw == boolean[].class) {
                     return SER_BOOLEAN_ARRAY;
                 }
-                // Hmmh. Could support all types; add as/when needed
+                if (raw == double[].class) {
+                    return SER_DOUBLE_ARRAY;
+                }
+                if (raw == float[].class) {
+                    return SER_FLOAT_ARRAY;
+                }
+                if (raw == short[].class) {
+                    return SER_SHORT_ARRAY;
+                }
                 return SER_UNKNOWN;
             }
             return SER_OBJECT_ARRAY;
@@ -188,6 +360,9 @@ abstract class ValueLocatorBase
             if (raw == BigInteger.class) {
                 return SER_NUMBER_BIG_INTEGER;
             }
+            if (forSer && (raw == LazyNumber.class)) {
+                return SER_NUMBER_LAZY;
+            }
             // What numeric type is this? Could consider "string-like" but...
             return SER_UNKNOWN;
         }
@@ -242,6 +417,11 @@ abstract class ValueLocatorBase
         if (CharSequence.class.isAssignableFrom(raw)) {
             return SER_CHARACTER_SEQUENCE;
         }
+        // Columnar containers are written as Arrays of Objects: but need to check
+        // before `Iterable` (which they implement, but only for row access)
+        if (forSer && BeanColumns.class.isAssignableFrom(raw)) {
+            return SER_BEAN_COLUMNS;
+        }
         /* `Iterable` can be added on all kinds of things, and it won't
          * help at all with deserialization; hence only use for serialization.
          */
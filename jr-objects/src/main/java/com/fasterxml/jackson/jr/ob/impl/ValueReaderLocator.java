@@ -2,7 +2,6 @@ package com.fasterxml.jackson.jr.ob.impl;
 
 import java.lang.reflect.*;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 
 import com.fasterxml.jackson.core.TokenStreamFactory;
 import com.fasterxml.jackson.jr.ob.JSON;
@@ -34,6 +33,14 @@ public class ValueReaderLocator
      */
     protected final static int MAX_CACHED_READERS = 500;
 
+    /**
+     * Default maximum number of readers to cache (same as
+     * {@link #MAX_CACHED_READERS}); may be changed with {@link #withCacheSize(int)}.
+     *
+     * @since 3.0
+     */
+    public final static int DEFAULT_MAX_CACHED_READERS = MAX_CACHED_READERS;
+
     /*
     /**********************************************************************
     /* Helper objects
@@ -70,19 +77,27 @@ public class ValueReaderLocator
     /**
      * Set of {@link ValueReader}s that we have resolved
      */
-    protected final ConcurrentHashMap<ClassKey, ValueReader> _knownReaders;
+    protected final ClassValueCache<ValueReader> _knownReaders;
 
     /**
-     * During resolution, some readers may be in-progress, but need to be
-     * linked: for example, with cyclic type references.
+     * Set of introspected {@link BeanReader}s resolved for types for which
+     * custom readers are used otherwise (see {@link #findBeanReader}).
+     *
+     * @since 3.0
      */
-    protected Map<ClassKey, ValueReader> _incompleteReaders;
+    protected final ClassValueCache<BeanReader> _knownBeanReaders;
 
     /**
-     * Object used for mutex during construction of a Bean deserializer: necessary
-     * to avoid race conditions during handling of cyclic dependencies.
+     * During resolution, some readers may be in-progress, but need to be
+     * linked: for example, with cyclic type references.
+     *<p>
+     * Note that this state is confined to the thread doing resolution: per-operation
+     * instances are only used by a single thread, and blueprint instances delegate
+     * resolution to a new per-call instance. Different threads may thereby
+     * resolve readers concurrently, without locking; if the same type is resolved
+     * by more than one thread, first one cached is used.
      */
-    protected final Object _readerLock;
+    protected Map<ClassKey, ValueReader> _incompleteReaders;
 
     /*
     /**********************************************************************
@@ -97,17 +112,6 @@ public class ValueReaderLocator
 
     protected final JSONReader _readContext;
 
-    /*
-    /**********************************************************************
-    /* Instance state, caching
-    /**********************************************************************
-     */
-    
-    /**
-     * Reusable lookup key; only used by per-thread instances.
-     */
-    private ClassKey _key;
-
     /*
     /**********************************************************************
     /* Construction
@@ -123,9 +127,9 @@ public class ValueReaderLocator
         _streamFactory = streamF;
         _features = features;
         _readerProvider = rwp;
-        _knownReaders = new ConcurrentHashMap<ClassKey, ValueReader>(10, 0.75f, 2);
+        _knownReaders = new ClassValueCache<ValueReader>(DEFAULT_MAX_CACHED_READERS);
+        _knownBeanReaders = new ClassValueCache<BeanReader>(DEFAULT_MAX_CACHED_READERS);
         _typeResolver = new TypeResolver();
-        _readerLock = new Object();
         _readContext = null;
     }
 
@@ -135,19 +139,20 @@ public class ValueReaderLocator
         _readContext = r;
         _readerProvider = base._readerProvider;
         _knownReaders = base._knownReaders;
+        _knownBeanReaders = base._knownBeanReaders;
         _typeResolver = base._typeResolver;
-        _readerLock = base._readerLock;
     }
 
-    protected ValueReaderLocator(ValueReaderLocator base, ReaderWriterProvider rwp) {
+    protected ValueReaderLocator(ValueReaderLocator base, ReaderWriterProvider rwp,
+            int maxCachedReaders) {
         _streamFactory = base._streamFactory;
         _features = base._features;
         _readContext = base._readContext;
         _readerProvider = rwp;
         // create new cache as there may be custom writers:
-        _knownReaders = new ConcurrentHashMap<ClassKey, ValueReader>(10, 0.75f, 2);
+        _knownReaders = new ClassValueCache<ValueReader>(maxCachedReaders);
+        _knownBeanReaders = new ClassValueCache<BeanReader>(maxCachedReaders);
         _typeResolver = base._typeResolver;
-        _readerLock = base._readerLock;
     }
     
     public final static ValueReaderLocator blueprint(TokenStreamFactory streamF,
@@ -159,7 +164,21 @@ public class ValueReaderLocator
         if (rwp == _readerProvider) {
             return this;
         }
-        return new ValueReaderLocator(this, rwp);
+        return new ValueReaderLocator(this, rwp, _knownReaders.maxEntries());
+    }
+
+    /**
+     * Mutant factory for constructing blueprint instance that caches at most
+     * specified number of resolved readers (least recently used ones being
+     * evicted when full).
+     *
+     * @since 3.0
+     */
+    public ValueReaderLocator withCacheSize(int maxCachedReaders) {
+        if (maxCachedReaders == _knownReaders.maxEntries()) {
+            return this;
+        }
+        return new ValueReaderLocator(this, _readerProvider, maxCachedReaders);
     }
 
     public ValueReaderLocator perOperationInstance(JSONReader r, int features) {
@@ -184,19 +203,85 @@ public class ValueReaderLocator
      */
     public ValueReader findReader(Class<?> raw)
     {
-        ClassKey k = (_key == null) ? new ClassKey(raw, _features) : _key.with(raw, _features);
-        ValueReader vr = _knownReaders.get(k);
+        ValueReader vr = _knownReaders.get(raw, _features);
         if (vr != null) {
             return vr;
         }
+        // Blueprint instances may be shared by threads, but resolution state
+        // must not be: if so, resolve using a new instance (one that nested
+        // lookups must also use, to detect cyclic dependencies)
+        if ((_readContext == null) && (_incompleteReaders == null)) {
+            ValueReaderLocator resolver = new ValueReaderLocator(this, _features, null);
+            resolver._incompleteReaders = new HashMap<ClassKey, ValueReader>();
+            return resolver.findReader(raw);
+        }
         vr = createReader(null, raw, raw);
+        // Readers resolved while others are still incomplete (cyclic dependency)
+        // may refer to those, so must not be visible to other threads yet
+        if ((_incompleteReaders != null) && !_incompleteReaders.isEmpty()) {
+            return vr;
+        }
         // 15-Jun-2016, tatu: Let's limit maximum number of readers to prevent
         //   unbounded memory retention (at least wrt readers)
-        if (_knownReaders.size() >= MAX_CACHED_READERS) {
-            _knownReaders.clear();
+        ValueReader old = _knownReaders.putIfAbsent(raw, _features, vr);
+        return (old == null) ? vr : old;
+    }
+
+    /**
+     * Method used to find introspected {@link BeanReader} for given type, for
+     * operations that only Bean readers support: reading into existing
+     * instances, {@link Projection}s and columnar reading. Same as
+     * {@link #findReader} unless a custom reader (see {@link ReaderWriterProvider})
+     * is used for type, in which case a Bean reader is introspected regardless.
+     *
+     * @param raw Type-erased type of value to find reader for
+     *
+     * @return BeanReader to use for given type; or {@code null} if type is
+     *    not a Bean type
+     *
+     * @since 3.0
+     */
+    public BeanReader findBeanReader(Class<?> raw)
+    {
+        ValueReader vr = findReader(raw);
+        if (vr instanceof BeanReader) {
+            return (BeanReader) vr;
+        }
+        BeanReader br = _knownBeanReaders.get(raw, _features);
+        if (br != null) {
+            return br;
+        }
+        if (!_isBeanType(raw)) {
+            return null;
         }
-        _knownReaders.putIfAbsent(new ClassKey(raw, _features), vr);
-        return vr;
+        // resolution state must not be shared, see findReader()
+        if ((_readContext == null) && (_incompleteReaders == null)) {
+            ValueReaderLocator resolver = new ValueReaderLocator(this, _features, null);
+            resolver._incompleteReaders = new HashMap<ClassKey, ValueReader>();
+            return resolver.findBeanReader(raw);
+        }
+        // note: custom readers are still used for property values
+        vr = beanReader(raw);
+        if (!(vr instanceof BeanReader)) { // only if overridden
+            return null;
+        }
+        br = (BeanReader) vr;
+        if ((_incompleteReaders != null) && !_incompleteReaders.isEmpty()) {
+            return br;
+        }
+        BeanReader old = _knownBeanReaders.putIfAbsent(raw, _features, br);
+        return (old == null) ? br : old;
+    }
+
+    /**
+     * Accessor for cache of resolved readers, shared by all per-operation
+     * instances of a blueprint; mostly useful for checking hit/miss/eviction
+     * statistics.
+     *
+     * @since 3.0
+     */
+    public ClassValueCache<ValueReader> readerCache() {
+        return _knownReaders;
     }
 
     /**
@@ -245,6 +330,22 @@ public class ValueReaderLocator
         return beanReader(type);
     }
 
+    /**
+     * Helper method for checking whether {@link #createReader} would use
+     * a {@link BeanReader} for given type, barring custom readers.
+     *
+     * @since 3.0
+     */
+    protected boolean _isBeanType(Class<?> type)
+    {
+        if ((type == Object.class) || type.isArray() || type.isEnum()
+                || Collection.class.isAssignableFrom(type)
+                || Map.class.isAssignableFrom(type)) {
+            return false;
+        }
+        return _findSimpleType(type, false) <= 0;
+    }
+
     /*
     /**********************************************************************
     /* Factory methods for non-Bean readers
@@ -302,6 +403,11 @@ public class ValueReaderLocator
             }
         }
 
+        if (JSON.Feature.USE_PRIMITIVE_LISTS.isEnabled(_features)
+                && ((collectionType == List.class) || (collectionType == Collection.class))
+                && PrimitiveListReader.isSupportedElementType(rawValueType)) {
+            return new PrimitiveListReader(collectionType, rawValueType, valueReader);
+        }
         return new CollectionReader(collectionType, valueReader);
     }
 
@@ -340,29 +446,35 @@ public class ValueReaderLocator
         // NOTE: caller (must) handles custom reader lookup earlier, not done here
 
         final ClassKey key = new ClassKey(type, _features);
-        synchronized (_readerLock) {
-            if (_incompleteReaders == null) {
-                _incompleteReaders = new HashMap<ClassKey, ValueReader>();
-            } else { // perhaps it has already been resolved?
-                ValueReader vr = _incompleteReaders.get(key);
-                if (vr != null) {
-                    return vr;
-                }
+        if (_incompleteReaders == null) {
+            _incompleteReaders = new HashMap<ClassKey, ValueReader>();
+        } else if (!_incompleteReaders.isEmpty()) {
+            // perhaps it is being resolved (cyclic dependency)?
+            ValueReader vr = _incompleteReaders.get(key);
+            if (vr == null) {
+                // or, for nested types, already fully resolved (by any thread)
+                vr = _knownReaders.get(type, _features);
             }
-            BeanReader def = _resolveBeanForDeser(type);
-            try {
-                _incompleteReaders.put(key, def);
-                for (Map.Entry<String, BeanPropertyReader> entry : def.propertiesByName().entrySet()) {
-                    BeanPropertyReader prop = entry.getValue();
-                    entry.setValue(prop.withReader(createReader(type,
-                            prop.rawSetterType(), prop.genericSetterType())));
-                }
-                def.initFieldMatcher(_streamFactory);
-            } finally {
-                _incompleteReaders.remove(key);
+            if (vr != null) {
+                return vr;
+            }
+        }
+        BeanReader def = _resolveBeanForDeser(type);
+        try {
+            _incompleteReaders.put(key, def);
+            for (Map.Entry<String, BeanPropertyReader> entry : def.propertiesByName().entrySet()) {
+                BeanPropertyReader prop = entry.getValue();
+                entry.setValue(prop.withReader(createReader(type,
+                        prop.rawSetterType(), prop.genericSetterType())));
             }
-            return def;
+            def.initFieldMatcher(_streamFactory);
+            if (JSON.Feature.SPECIALIZE_BEAN_HANDLERS.isEnabled(_features)) {
+                def.initFieldHandlers();
+            }
+        } finally {
+            _incompleteReaders.remove(key);
         }
+        return def;
     }
 
     /*
@@ -425,7 +537,17 @@ public class ValueReaderLocator
                         continue;
                     }
                 }
-                propMap.put(rawProp.name, new BeanPropertyReader(rawProp.name, f, m));
+                // getter only needed for reading into existing values (and always public)
+                Method getter = rawProp.getter;
+                if (getter != null) {
+                    if (forceAccess) {
+                        getter.setAccessible(true);
+                    } else if (!Modifier.isPublic(getter.getDeclaringClass().getModifiers())) {
+                        getter = null;
+                    }
+                }
+                propMap.put(rawProp.name, new BeanPropertyReader(rawProp.name, f, m,
+                        _setterHandle(m, f), _primitiveSetterHandle(m, f), getter));
             }
         }
         return BeanReader.construct(raw, propMap, defaultCtor, stringCtor, longCtor);
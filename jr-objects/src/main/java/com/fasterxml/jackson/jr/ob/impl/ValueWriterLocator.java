@@ -1,8 +1,9 @@
 package com.fasterxml.jackson.jr.ob.impl;
 
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.*;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import com.fasterxml.jackson.jr.ob.JSON;
@@ -25,6 +26,14 @@ public class ValueWriterLocator extends ValueLocatorBase
 {
     protected final BeanPropertyWriter[] NO_PROPS_FOR_WRITE = new BeanPropertyWriter[0];
 
+    /**
+     * Default maximum number of resolved type ids to cache; may be changed
+     * with {@link #withCacheSize(int)}.
+     *
+     * @since 3.0
+     */
+    public final static int DEFAULT_MAX_CACHED_SER_TYPES = 500;
+
     /*
     /**********************************************************************
     /* Helper objects, serialization
@@ -35,9 +44,34 @@ public class ValueWriterLocator extends ValueLocatorBase
      * Mapping from classes to resolved type constants or indexes, to use
      * for serialization.
      */
-    protected final ConcurrentHashMap<ClassKey, Integer> _knownSerTypes;
+    protected final ClassValueCache<Integer> _knownSerTypes;
 
-    protected final CopyOnWriteArrayList<ValueWriter> _knownWriters;
+    /**
+     * {@link ValueWriter}s indexed by type ids (see {@link #getValueWriter}).
+     * Only weakly referenced, so as not to prevent unloading of classes they
+     * are for: {@link #_registeredWriters} keeps them strongly reachable for
+     * as long as they are cached. Slots of writers that have been collected
+     * are reused for new registrations (see {@link #_clearedSlots}).
+     */
+    protected final CopyOnWriteArrayList<WriterSlot> _knownWriters;
+
+    /**
+     * Queue of entries of {@link #_knownWriters} whose writers have been
+     * collected, and whose slots may be reused.
+     *
+     * @since 3.0
+     */
+    protected final ReferenceQueue<ValueWriter> _clearedSlots;
+
+    /**
+     * Mapping from classes to {@link ValueWriter}s (and their type ids)
+     * registered for them. Bounded similar to {@link #_knownSerTypes}: if
+     * writer is evicted, type ids that refer to it are detected as stale
+     * by {@link #getValueWriter} and writer is re-registered.
+     *
+     * @since 3.0
+     */
+    protected final ClassValueCache<RegisteredWriter> _registeredWriters;
 
     /**
      * Provider for custom writers, if any; may be null.
@@ -62,11 +96,6 @@ public class ValueWriterLocator extends ValueLocatorBase
     /**********************************************************************
      */
 
-    /**
-     * Reusable lookup key; only used by per-thread instances.
-     */
-    private ClassKey _key;
-
     private Class<?> _prevClass;
 
     private int _prevType;
@@ -81,10 +110,18 @@ public class ValueWriterLocator extends ValueLocatorBase
      * Constructor for the blueprint instance
      */
     protected ValueWriterLocator(int features, ReaderWriterProvider rwp)
+    {
+        this(features, rwp, DEFAULT_MAX_CACHED_SER_TYPES);
+    }
+
+    protected ValueWriterLocator(int features, ReaderWriterProvider rwp,
+            int maxCachedSerTypes)
     {
         _features = features;
-        _knownSerTypes = new ConcurrentHashMap<ClassKey, Integer>(20, 0.75f, 2);
-        _knownWriters = new CopyOnWriteArrayList<ValueWriter>();
+        _knownSerTypes = new ClassValueCache<Integer>(maxCachedSerTypes);
+        _knownWriters = new CopyOnWriteArrayList<WriterSlot>();
+        _clearedSlots = new ReferenceQueue<ValueWriter>();
+        _registeredWriters = new ClassValueCache<RegisteredWriter>(maxCachedSerTypes);
         _writeContext = null;
         _writerProvider = rwp;
     }
@@ -96,6 +133,8 @@ public class ValueWriterLocator extends ValueLocatorBase
         _writeContext = w;
         _knownSerTypes = base._knownSerTypes;
         _knownWriters = base._knownWriters;
+        _clearedSlots = base._clearedSlots;
+        _registeredWriters = base._registeredWriters;
         _writerProvider = base._writerProvider;
     }
 
@@ -109,7 +148,21 @@ public class ValueWriterLocator extends ValueLocatorBase
             return this;
         }
         // nothing much to reuse if so, use blueprint ctor
-        return new ValueWriterLocator(_features, rwp);
+        return new ValueWriterLocator(_features, rwp, _knownSerTypes.maxEntries());
+    }
+
+    /**
+     * Mutant factory for constructing blueprint instance that caches at most
+     * specified number of resolved type ids (least recently used ones being
+     * evicted when full).
+     *
+     * @since 3.0
+     */
+    public ValueWriterLocator withCacheSize(int maxCachedSerTypes) {
+        if (maxCachedSerTypes == _knownSerTypes.maxEntries()) {
+            return this;
+        }
+        return new ValueWriterLocator(_features, _writerProvider, maxCachedSerTypes);
     }
 
     public ValueWriterLocator perOperationInstance(JSONWriter w, int features) {
@@ -122,12 +175,48 @@ public class ValueWriterLocator extends ValueLocatorBase
     /**********************************************************************
      */
 
+    /**
+     * Method for finding {@link ValueWriter} for given type id, as returned
+     * by {@link #findSerializationType}. Since writers of evicted types may be
+     * collected, and their type ids reused, {@link #getValueWriter(int, Class)}
+     * should be used instead when class of value is known: without it,
+     * writer can only be re-resolved for type id that has not been reused.
+     *
+     * @return Writer for given type id; or {@code null} if there is none
+     *    (any more)
+     */
     public ValueWriter getValueWriter(int index) {
-        // for simplicity, let's allow caller to pass negative id as is
-        if (index < 0) {
-            index = -(index+1);
+        Class<?> raw = _knownWriters.get(_slotIndex(index)).type();
+        return (raw == null) ? null : getValueWriter(index, raw);
+    }
+
+    /**
+     * Method for finding {@link ValueWriter} for given type id, as returned
+     * by {@link #findSerializationType} for given class.
+     *
+     * @since 3.0
+     *
+     * @param index Type id of the writer
+     * @param raw Class for which type id was found
+     *
+     * @return Writer for given type; or {@code null} if type does not
+     *    have one
+     */
+    public ValueWriter getValueWriter(int index, Class<?> raw) {
+        WriterSlot slot = _knownWriters.get(_slotIndex(index));
+        ValueWriter w = slot.get();
+        if ((w != null) && slot.isFor(raw, _features)) {
+            return w;
+        }
+        // Stale type id: writer was evicted (and collected), and slot may since
+        // have been reused for another type. Find or re-register writer
+        RegisteredWriter reg = _findRegisteredWriter(raw);
+        if (reg == null) {
+            return null;
         }
-        return _knownWriters.get(index);
+        _prevClass = raw;
+        _prevType = reg.typeId;
+        return reg.writer;
     }
 
     /**
@@ -142,14 +231,13 @@ public class ValueWriterLocator extends ValueLocatorBase
         if (raw == String.class) {
             return SER_STRING;
         }
-        ClassKey k = (_key == null) ? new ClassKey(raw, _features) : _key.with(raw, _features);
         int type;
 
-        Integer I = _knownSerTypes.get(k);
+        Integer I = _knownSerTypes.get(raw, _features);
 
         if (I == null) {
             type = _findPOJOSerializationType(raw);
-            _knownSerTypes.put(new ClassKey(raw, _features), Integer.valueOf(type));
+            _knownSerTypes.putIfAbsent(raw, _features, Integer.valueOf(type));
         } else {
             type = I.intValue();
         }
@@ -158,14 +246,52 @@ public class ValueWriterLocator extends ValueLocatorBase
         return type;
     }
 
+    /**
+     * Accessor for cache of resolved type ids, shared by all per-operation
+     * instances of a blueprint; mostly useful for checking hit/miss/eviction
+     * statistics.
+     *
+     * @since 3.0
+     */
+    public ClassValueCache<Integer> serTypeCache() {
+        return _knownSerTypes;
+    }
+
     /*
     /**********************************************************************
     /* Internal methods
     /**********************************************************************
      */
     
+    private static int _slotIndex(int index) {
+        // for simplicity, let's allow caller to pass negative id as is
+        return (index < 0) ? -(index+1) : index;
+    }
+
     protected int _findPOJOSerializationType(Class<?> raw)
     {
+        RegisteredWriter reg = _findRegisteredWriter(raw);
+        if (reg != null) {
+            return reg.typeId;
+        }
+        return _findSimpleType(raw, true);
+    }
+
+    /**
+     * Helper method for finding registered custom or Bean writer for given
+     * type, registering one if not yet registered.
+     *
+     * @return Registered writer, if type has one; {@code null} if not
+     *
+     * @since 3.0
+     */
+    protected RegisteredWriter _findRegisteredWriter(Class<?> raw)
+    {
+        // registered earlier, but evicted from type cache since?
+        RegisteredWriter reg = _registeredWriters.get(raw, _features);
+        if (reg != null) {
+            return reg;
+        }
         // possible custom type?
         if (_writerProvider != null) {
             ValueWriter w = _writerProvider.findValueWriter(_writeContext, raw);
@@ -173,33 +299,44 @@ public class ValueWriterLocator extends ValueLocatorBase
                 return _registerWriter(raw, w);
             }
         }
-        
-        int type = _findSimpleType(raw, true);
-        if (type == SER_UNKNOWN) {
+        if (_findSimpleType(raw, true) == SER_UNKNOWN) {
             if (JSON.Feature.HANDLE_JAVA_BEANS.isEnabled(_features)) {
                 POJODefinition cd = _resolveBeanDef(raw);
                 BeanPropertyWriter[] props = resolveBeanForSer(raw, cd);
-                return _registerWriter(raw, new BeanWriter(raw, props));
+                BeanWriter w = new BeanWriter(raw, props);
+                if (JSON.Feature.SPECIALIZE_BEAN_HANDLERS.isEnabled(_features)) {
+                    w = w.withPropertyHandlers();
+                }
+                return _registerWriter(raw, w);
             }
         }
-        return type;
+        return null;
     }
 
-    private int _registerWriter(Class<?> rawType, ValueWriter valueWriter) {
+    private RegisteredWriter _registerWriter(Class<?> rawType, ValueWriter valueWriter) {
         // Due to concurrent access, possible that someone might have added it
         synchronized (_knownWriters) {
-            // Important: do NOT try to reuse shared instance; caller needs it
-            ClassKey k = new ClassKey(rawType, _features);
-            Integer I = _knownSerTypes.get(k);
-            // if it was already concurrently added, we'll just discard this copy, return earlier
-            if (I != null) {
-                return I.intValue();
+            // if it was already concurrently added, we'll just discard this copy,
+            // return earlier
+            RegisteredWriter reg = _registeredWriters.get(rawType, _features);
+            if (reg == null) {
+                // otherwise reuse slot of a collected writer, if any, or add at
+                // the end; use -(index+1) as id
+                WriterSlot cleared = (WriterSlot) _clearedSlots.poll();
+                int index;
+                if (cleared == null) {
+                    index = _knownWriters.size();
+                    _knownWriters.add(new WriterSlot(valueWriter, _clearedSlots,
+                            index, rawType, _features));
+                } else {
+                    index = cleared.index;
+                    _knownWriters.set(index, new WriterSlot(valueWriter, _clearedSlots,
+                            index, rawType, _features));
+                }
+                reg = new RegisteredWriter(-(index+1), valueWriter);
+                _registeredWriters.putIfAbsent(rawType, _features, reg);
             }
-            // otherwise add at the end, use -(index+1) as id
-            _knownWriters.add(valueWriter);
-            int typeId = -_knownWriters.size();
-            _knownSerTypes.put(k, Integer.valueOf(typeId));
-            return typeId;
+            return reg;
         }
     }
     
@@ -243,11 +380,64 @@ public class ValueWriterLocator extends ValueLocatorBase
                 }
             }
             int typeId = _findSimpleType(type, true);
-            props.add(new BeanPropertyWriter(typeId, rawProp.name, rawProp.field, m));
+            props.add(new BeanPropertyWriter(typeId, rawProp.name, rawProp.field, m,
+                    _getterHandle(m, f), _primitiveGetterHandle(m, f)));
         }
         int plen = props.size();
         BeanPropertyWriter[] propArray = (plen == 0) ? NO_PROPS_FOR_WRITE
                 : props.toArray(NO_PROPS_FOR_WRITE);
         return propArray;
     }
+
+    /**
+     * Value class for {@link #_registeredWriters}
+     *
+     * @since 3.0
+     */
+    protected final static class RegisteredWriter
+    {
+        public final int typeId;
+
+        public final ValueWriter writer;
+
+        public RegisteredWriter(int typeId, ValueWriter w) {
+            this.typeId = typeId;
+            writer = w;
+        }
+    }
+
+    /**
+     * Entry of {@link #_knownWriters}: weak reference to writer, along with
+     * type (and features) it was registered for, to allow detecting stale
+     * type ids once slot is reused.
+     *
+     * @since 3.0
+     */
+    protected final static class WriterSlot extends WeakReference<ValueWriter>
+    {
+        public final int index;
+
+        private final WeakReference<Class<?>> _type;
+
+        private final int _features;
+
+        public WriterSlot(ValueWriter w, ReferenceQueue<ValueWriter> q,
+                int index, Class<?> type, int features) {
+            super(w, q);
+            this.index = index;
+            _type = new WeakReference<Class<?>>(type);
+            _features = features;
+        }
+
+        public boolean isFor(Class<?> type, int features) {
+            return (_features == features) && (_type.get() == type);
+        }
+
+        /**
+         * @return Type writer was registered for, if not yet unloaded
+         */
+        public Class<?> type() {
+            return _type.get();
+        }
+    }
 }
@@ -0,0 +1,75 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.util.*;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+
+public class ExtractTest extends TestBase
+{
+    private final String DOC = aposToQuotes("{'user':{'id':3,'name':'Bob','tags':['a','b']},"
+            +"'items':[{'name':'a','price':1.5},{'name':'b','price':2.5}],"
+            +"'type':'order'}");
+
+    public void testSimple() throws Exception
+    {
+        List<Object> values = JSON.std.extract(DOC, ptr("/user/name"), ptr("/items/1/price"),
+                ptr("/type"), ptr("/missing"), ptr("/items/5"), ptr("/user/tags"));
+        assertEquals(Arrays.asList("Bob", 2.5, "order", null, null, Arrays.asList("a", "b")),
+                values);
+
+        // and whole document too
+        assertEquals(JSON.std.anyFrom(DOC), JSON.std.extract(DOC, ptr("")).get(0));
+        // as well as elements of root-level arrays
+        assertEquals(Arrays.asList(3, 1),
+                JSON.std.extract("[1,2,3]", ptr("/2"), ptr("/0")));
+    }
+
+    public void testNested() throws Exception
+    {
+        List<Object> values = JSON.std.extract(DOC, ptr("/items/0/name"), ptr("/items"),
+                ptr("/items/0/name"), ptr("/items/1/bogus"), ptr("/items/1/price"));
+        assertEquals("a", values.get(0));
+        assertEquals(JSON.std.mapFrom(DOC).get("items"), values.get(1));
+        assertEquals("a", values.get(2));
+        assertNull(values.get(3));
+        assertEquals(2.5, values.get(4));
+    }
+
+    // Content after all matches must not be read at all
+    public void testStopsEarly() throws Exception
+    {
+        final String BROKEN = aposToQuotes("{'a':{'b':[1,{'c':true}]},'d':[1}]]] ");
+        assertEquals(Arrays.asList(Boolean.TRUE, 1),
+                JSON.std.extract(BROKEN, ptr("/a/b/1/c"), ptr("/a/b/0")));
+        try {
+            JSON.std.extract(BROKEN, ptr("/d"));
+            fail("Should not pass");
+        } catch (Exception e) {
+            verifyException(e, "Unexpected close marker");
+        }
+    }
+
+    public void testDuplicatesAndNoPointers() throws Exception
+    {
+        // duplicate property must not count as another match
+        final String DUPS = aposToQuotes("{'a':1,'a':2,'b':3}");
+        assertEquals(Arrays.asList(2, 3), JSON.std.extract(DUPS, ptr("/a"), ptr("/b")));
+        assertEquals(0, JSON.std.extract(DOC).size());
+    }
+
+    public void testWithParser() throws Exception
+    {
+        try (JsonParser p = JSON.std.createParser(aposToQuotes("{'a':1,'b':2} {'a':3}"))) {
+            assertEquals(Arrays.asList(1), JSON.std.extract(p, ptr("/a")));
+            // parser left where reading stopped
+            assertEquals(JsonToken.FIELD_NAME, p.nextToken());
+            assertEquals("b", p.currentName());
+        }
+    }
+
+    private JsonPointer ptr(String expr) {
+        return JsonPointer.compile(expr);
+    }
+}
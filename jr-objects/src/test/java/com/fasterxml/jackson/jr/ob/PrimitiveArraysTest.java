@@ -0,0 +1,81 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.util.Arrays;
+
+public class PrimitiveArraysTest extends TestBase
+{
+    static class Series {
+        public int[] ints;
+        public long[] timestamps;
+        public double[] values;
+        public float[] embedding;
+        public short[] shorts;
+        public boolean[] flags;
+    }
+
+    public void testRoundtripBean() throws Exception
+    {
+        Series input = new Series();
+        input.ints = new int[] { 1, -2, 3 };
+        input.timestamps = new long[] { 1L, Long.MAX_VALUE, -3L };
+        input.values = new double[] { 0.25, -1.5, 1e10 };
+        input.embedding = new float[] { 0.1f, -2.5f };
+        input.shorts = new short[] { 7, -8 };
+        input.flags = new boolean[] { true, false, true };
+
+        String json = JSON.std.asString(input);
+        assertEquals(aposToQuotes("{'embedding':[0.1,-2.5],'flags':[true,false,true],'ints':[1,-2,3],"
+                +"'shorts':[7,-8],'timestamps':[1,"+Long.MAX_VALUE+",-3],'values':[0.25,-1.5,1.0E10]}"),
+                json);
+
+        Series result = JSON.std.beanFrom(Series.class, json);
+        assertTrue(Arrays.equals(input.ints, result.ints));
+        assertTrue(Arrays.equals(input.timestamps, result.timestamps));
+        assertTrue(Arrays.equals(input.values, result.values));
+        assertTrue(Arrays.equals(input.embedding, result.embedding));
+        assertTrue(Arrays.equals(input.shorts, result.shorts));
+        assertTrue(Arrays.equals(input.flags, result.flags));
+    }
+
+    public void testLargeArrays() throws Exception
+    {
+        // to verify buffer growth
+        long[] longs = new long[10000];
+        double[] doubles = new double[777];
+        for (int i = 0; i < longs.length; ++i) {
+            longs[i] = i * 1000000007L;
+        }
+        for (int i = 0; i < doubles.length; ++i) {
+            doubles[i] = i / 8.0;
+        }
+        assertTrue(Arrays.equals(longs, JSON.std.beanFrom(long[].class, JSON.std.asString(longs))));
+        assertTrue(Arrays.equals(doubles, JSON.std.beanFrom(double[].class, JSON.std.asBytes(doubles))));
+        assertEquals(0, JSON.std.beanFrom(int[].class, "[]").length);
+    }
+
+    public void testNullsAndCoercion() throws Exception
+    {
+        Series result = JSON.std.beanFrom(Series.class,
+                aposToQuotes("{'ints':null,'values':[1,'2.5',null],'flags':['true',0],'shorts':['12']}"));
+        assertNull(result.ints);
+        assertTrue(Arrays.equals(new double[] { 1.0, 2.5, 0.0 }, result.values));
+        assertTrue(Arrays.equals(new boolean[] { true, false }, result.flags));
+        assertTrue(Arrays.equals(new short[] { 12 }, result.shorts));
+    }
+
+    public void testInvalid() throws Exception
+    {
+        try {
+            JSON.std.beanFrom(Series.class, aposToQuotes("{'values':[1,[2]]}"));
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Unexpected token");
+        }
+        try {
+            JSON.std.beanFrom(Series.class, aposToQuotes("{'timestamps':{}}"));
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "expected JSON Array");
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.util.Map;
+
+/**
+ * Tests for reading and writing Beans with primitive-typed properties,
+ * which are bound without boxing when possible.
+ */
+public class PrimitiveBeansTest extends TestBase
+{
+    static class PrimitivesBean {
+        protected int i;
+        protected long l;
+        protected double d;
+        protected float f;
+        protected short s;
+        protected byte b;
+        protected boolean z;
+        protected char c;
+
+        public int getI() { return i; }
+        public void setI(int v) { i = v; }
+        public long getL() { return l; }
+        public void setL(long v) { l = v; }
+        public double getD() { return d; }
+        public void setD(double v) { d = v; }
+        public float getF() { return f; }
+        public void setF(float v) { f = v; }
+        public short getS() { return s; }
+        public void setS(short v) { s = v; }
+        public byte getB() { return b; }
+        public void setB(byte v) { b = v; }
+        public boolean isZ() { return z; }
+        public void setZ(boolean v) { z = v; }
+        public char getC() { return c; }
+        public void setC(char v) { c = v; }
+    }
+
+    static class PrimitiveFieldsBean {
+        public int count;
+        public double ratio;
+        public boolean enabled;
+    }
+
+    private final String PRIMITIVES_JSON = aposToQuotes("{'i':-3,'l':12345678901,'d':0.25,"
+            +"'f':1.5,'s':300,'b':-7,'z':true,'c':'x'}");
+
+    public void testReadPrimitives() throws Exception
+    {
+        _verifyPrimitives(JSON.std.beanFrom(PrimitivesBean.class, PRIMITIVES_JSON));
+        _verifyPrimitives(JSON.std.with(JSON.Feature.SPECIALIZE_BEAN_HANDLERS)
+                .beanFrom(PrimitivesBean.class, PRIMITIVES_JSON));
+    }
+
+    public void testReadPrimitivesWithCoercion() throws Exception
+    {
+        PrimitivesBean bean = JSON.std.beanFrom(PrimitivesBean.class,
+                aposToQuotes("{'i':'12','l':null,'d':'2.5','z':'true','c':''}"));
+        assertEquals(12, bean.i);
+        assertEquals(0L, bean.l);
+        assertEquals(2.5, bean.d);
+        assertTrue(bean.z);
+        assertEquals(' ', bean.c);
+    }
+
+    public void testReadPrimitiveFields() throws Exception
+    {
+        PrimitiveFieldsBean bean = JSON.std.beanFrom(PrimitiveFieldsBean.class,
+                aposToQuotes("{'count':42,'ratio':-0.5,'enabled':true}"));
+        assertEquals(42, bean.count);
+        assertEquals(-0.5, bean.ratio);
+        assertTrue(bean.enabled);
+    }
+
+    public void testWritePrimitives() throws Exception
+    {
+        PrimitivesBean input = JSON.std.beanFrom(PrimitivesBean.class, PRIMITIVES_JSON);
+        _verifyPrimitives(JSON.std.mapFrom(JSON.std.asString(input)));
+        _verifyPrimitives(JSON.std.mapFrom(JSON.std.with(JSON.Feature.SPECIALIZE_BEAN_HANDLERS)
+                .asString(input)));
+
+        PrimitiveFieldsBean fields = new PrimitiveFieldsBean();
+        fields.count = 3;
+        fields.ratio = 0.75;
+        assertEquals(aposToQuotes("{'count':3,'enabled':false,'ratio':0.75}"),
+                JSON.std.asString(fields));
+    }
+
+    private void _verifyPrimitives(PrimitivesBean bean)
+    {
+        assertEquals(-3, bean.i);
+        assertEquals(12345678901L, bean.l);
+        assertEquals(0.25, bean.d);
+        assertEquals(1.5f, bean.f);
+        assertEquals((short) 300, bean.s);
+        assertEquals((byte) -7, bean.b);
+        assertTrue(bean.z);
+        assertEquals('x', bean.c);
+    }
+
+    private void _verifyPrimitives(Map<String,Object> map)
+    {
+        assertEquals(8, map.size());
+        assertEquals(Integer.valueOf(-3), map.get("i"));
+        assertEquals(Long.valueOf(12345678901L), map.get("l"));
+        assertEquals(Double.valueOf(0.25), map.get("d"));
+        assertEquals(Double.valueOf(1.5), map.get("f"));
+        assertEquals(Integer.valueOf(300), map.get("s"));
+        assertEquals(Integer.valueOf(-7), map.get("b"));
+        assertEquals(Boolean.TRUE, map.get("z"));
+        assertEquals("x", map.get("c"));
+    }
+}
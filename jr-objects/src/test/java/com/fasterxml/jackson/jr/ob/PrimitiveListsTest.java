@@ -0,0 +1,134 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.util.*;
+
+import com.fasterxml.jackson.jr.ob.api.CollectionBuilder;
+import com.fasterxml.jackson.jr.ob.impl.PrimitiveList;
+
+public class PrimitiveListsTest extends TestBase
+{
+    static class Metrics {
+        public List<Integer> counts;
+        public List<Long> timestamps;
+        public Collection<Double> values;
+        public ArrayList<Long> explicitList;
+        public List<String> names;
+    }
+
+    static class LinkedListBuilder extends CollectionBuilder.Default {
+        public LinkedListBuilder(int features, Class<?> collType) {
+            super(features, collType);
+        }
+
+        @Override
+        public CollectionBuilder newBuilder(int features) {
+            return new LinkedListBuilder(features, null);
+        }
+
+        @Override
+        public CollectionBuilder newBuilder(Class<?> collType) {
+            return new LinkedListBuilder(_features, collType);
+        }
+
+        @Override
+        protected Collection<Object> _list(int initialSize) {
+            return new LinkedList<Object>();
+        }
+    }
+
+    private final JSON PRIMITIVE_LISTS = JSON.std.with(JSON.Feature.USE_PRIMITIVE_LISTS);
+
+    public void testBindAsPrimitiveLists() throws Exception
+    {
+        final String DOC = aposToQuotes("{'counts':[1,2,3],'timestamps':[12345678901,-1],"
+                +"'values':[0.5,2,-1.25],'explicitList':[1],'names':['a']}");
+        Metrics m = PRIMITIVE_LISTS.beanFrom(Metrics.class, DOC);
+        assertEquals(PrimitiveList.OfInt.class, m.counts.getClass());
+        assertEquals(PrimitiveList.OfLong.class, m.timestamps.getClass());
+        assertEquals(PrimitiveList.OfDouble.class, m.values.getClass());
+        // only for List/Collection-typed properties
+        assertEquals(ArrayList.class, m.explicitList.getClass());
+        assertEquals(ArrayList.class, m.names.getClass());
+
+        assertEquals(Arrays.asList(1, 2, 3), m.counts);
+        assertEquals(Arrays.asList(12345678901L, -1L), m.timestamps);
+        assertEquals(Arrays.asList(0.5, 2.0, -1.25), m.values);
+        assertEquals(12345678901L, ((PrimitiveList.OfLong) m.timestamps).getLong(0));
+
+        // and written back as is
+        assertEquals(aposToQuotes("{'counts':[1,2,3],'explicitList':[1],'names':['a'],"
+                +"'timestamps':[12345678901,-1],'values':[0.5,2.0,-1.25]}"),
+                PRIMITIVE_LISTS.asString(m));
+
+        // but not bound like that by default
+        m = JSON.std.beanFrom(Metrics.class, DOC);
+        assertEquals(ArrayList.class, m.counts.getClass());
+        assertEquals(Arrays.asList(1, 2, 3), m.counts);
+    }
+
+    public void testNullsAndCoercion() throws Exception
+    {
+        Metrics m = PRIMITIVE_LISTS.beanFrom(Metrics.class,
+                aposToQuotes("{'counts':[1,'2',3],'timestamps':[1,null,3],'values':[]}"));
+        assertEquals(PrimitiveList.OfInt.class, m.counts.getClass());
+        assertEquals(Arrays.asList(1, 2, 3), m.counts);
+        // nulls can not be included, so
+        assertEquals(ArrayList.class, m.timestamps.getClass());
+        assertEquals(Arrays.asList(1L, null, 3L), m.timestamps);
+        assertEquals(0, m.values.size());
+
+        // including null as the first value
+        m = PRIMITIVE_LISTS.beanFrom(Metrics.class, aposToQuotes("{'counts':[null,1]}"));
+        assertEquals(Arrays.asList(null, 1), m.counts);
+    }
+
+    public void testNotUsedWithCustomBuilders() throws Exception
+    {
+        final String DOC = aposToQuotes("{'counts':[1,2],'timestamps':[3]}");
+        Metrics m = PRIMITIVE_LISTS.with(new LinkedListBuilder(0, null))
+                .beanFrom(Metrics.class, DOC);
+        assertEquals(LinkedList.class, m.counts.getClass());
+        assertEquals(Arrays.asList(1, 2), m.counts);
+
+        // nor with projection
+        m = PRIMITIVE_LISTS.withProjection("/counts/1").beanFrom(Metrics.class, DOC);
+        assertEquals(Arrays.asList(2), m.counts);
+        assertNull(m.timestamps);
+    }
+
+    public void testListOperations() throws Exception
+    {
+        PrimitiveList.OfInt list = new PrimitiveList.OfInt(1);
+        for (int i = 0; i < 20; ++i) {
+            list.addInt(i);
+        }
+        assertEquals(20, list.size());
+        assertEquals(Integer.valueOf(5), list.remove(5));
+        list.add(0, -1);
+        assertEquals(Integer.valueOf(-1), list.set(0, 100));
+        assertTrue(list.remove(Integer.valueOf(19)));
+        assertEquals(19, list.size());
+        assertEquals(100, list.getInt(0));
+        assertEquals(6, list.getInt(6));
+        assertEquals(18, list.toIntArray()[18]);
+        assertTrue(list.contains(18));
+        assertFalse(list.contains(5));
+        try {
+            list.get(19);
+            fail("Should not pass");
+        } catch (IndexOutOfBoundsException e) {
+            verifyException(e, "Index: 19");
+        }
+        try {
+            list.add(null);
+            fail("Should not pass");
+        } catch (NullPointerException e) { }
+
+        List<Integer> exp = new ArrayList<>(list);
+        assertEquals(exp, list);
+        assertEquals(exp.hashCode(), list.hashCode());
+        assertEquals(exp.toString(), list.toString());
+        list.clear();
+        assertTrue(list.isEmpty());
+    }
+}
@@ -0,0 +1,242 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.util.*;
+
+import com.fasterxml.jackson.jr.ob.impl.BeanColumns;
+
+public class ReadBeanColumnsTest extends TestBase
+{
+    static class Record {
+        public int id;
+        public long stamp;
+        public Double score;
+        public boolean active;
+        public String name;
+        public List<String> tags;
+    }
+
+    // Bean where reader- and writer-side properties differ
+    static class Accessors {
+        protected int _x;
+        protected String _value;
+
+        public int getX() { return _x; }
+        public void setX(int x) { _x = x; }
+
+        public String getValue() { return _value; }
+        public void setValue(String v) { _value = v; }
+
+        // read-only, so no column
+        public int getDoubled() { return 2 * _x; }
+
+        // write-only, so column but not written
+        public void setExtra(String v) { }
+    }
+
+    // Bean where all properties have columns
+    static class Point {
+        protected Integer _y;
+        protected long _x;
+
+        public Integer getY() { return _y; }
+        public void setY(Integer y) { _y = y; }
+
+        public long getX() { return _x; }
+        public void setX(long x) { _x = x; }
+    }
+
+    public void testSimpleColumns() throws Exception
+    {
+        final String DOC = aposToQuotes("["
+                +"{'id':1,'stamp':10000000000,'score':0.5,'active':true,'name':'a','tags':['x']},"
+                +"{'name':'b','id':2,'score':null,'unknown':[1,2]},"
+                +"{'id':'3','stamp':3,'score':2,'active':false,'name':null}"
+                +"]");
+        BeanColumns<Record> cols = JSON.std.columnsFrom(Record.class, DOC);
+        assertEquals(Record.class, cols.beanType());
+        assertEquals(3, cols.size());
+        assertEquals(6, cols.columnCount());
+
+        assertEquals(BeanColumns.ColumnType.INT, cols.columnType("id"));
+        assertEquals(BeanColumns.ColumnType.LONG, cols.columnType("stamp"));
+        assertEquals(BeanColumns.ColumnType.DOUBLE, cols.columnType("score"));
+        assertEquals(BeanColumns.ColumnType.BOOLEAN, cols.columnType("active"));
+        assertEquals(BeanColumns.ColumnType.OBJECT, cols.columnType("name"));
+        assertEquals(BeanColumns.ColumnType.OBJECT, cols.columnType("tags"));
+
+        assertTrue(Arrays.equals(new int[] { 1, 2, 3 }, cols.intColumn("id")));
+        assertTrue(Arrays.equals(new long[] { 10000000000L, 0L, 3L }, cols.longColumn("stamp")));
+        assertTrue(Arrays.equals(new boolean[] { true, false, false }, cols.booleanColumn("active")));
+        assertTrue(Arrays.equals(new Object[] { "a", "b", null }, cols.objectColumn("name")));
+
+        // wrapper-typed properties may be null; primitive ones not
+        final int scoreIx = cols.columnIndex("score");
+        assertFalse(cols.isNull(0, scoreIx));
+        assertTrue(cols.isNull(1, scoreIx));
+        assertEquals(Double.valueOf(2.0), cols.get(2, scoreIx));
+        assertFalse(cols.isNull(1, cols.columnIndex("stamp")));
+        assertEquals(-1, cols.columnIndex("unknown"));
+
+        BeanColumns<Record>.Row row = cols.row(1);
+        assertEquals(2, row.getInt("id"));
+        assertEquals("b", row.getString("name"));
+        assertTrue(row.isNull("score"));
+        assertTrue(row.isNull("tags"));
+
+        Record rec = cols.bean(0);
+        assertEquals(1, rec.id);
+        assertEquals(10000000000L, rec.stamp);
+        assertEquals(Double.valueOf(0.5), rec.score);
+        assertTrue(rec.active);
+        assertEquals("a", rec.name);
+        assertEquals(Arrays.asList("x"), rec.tags);
+
+        int count = 0;
+        for (BeanColumns<Record>.Row r : cols) {
+            assertEquals(count++, r.index());
+        }
+        assertEquals(3, count);
+
+        try {
+            cols.intColumn("name");
+            fail("Should not pass");
+        } catch (IllegalArgumentException e) {
+            verifyException(e, "is of type OBJECT");
+        }
+    }
+
+    public void testLargeInput() throws Exception
+    {
+        final int COUNT = 1000;
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < COUNT; ++i) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(aposToQuotes("{'id':"+i+",'score':"+(i % 3 == 0 ? "null" : String.valueOf(i))+"}"));
+        }
+        sb.append(']');
+        BeanColumns<Record> cols = JSON.std.columnsFrom(Record.class, sb.toString());
+        assertEquals(COUNT, cols.size());
+        int[] ids = cols.intColumn("id");
+        double[] scores = cols.doubleColumn("score");
+        assertEquals(COUNT, ids.length);
+        assertEquals(COUNT, scores.length);
+        final int scoreIx = cols.columnIndex("score");
+        for (int i = 0; i < COUNT; ++i) {
+            assertEquals(i, ids[i]);
+            assertEquals(i % 3 == 0, cols.isNull(i, scoreIx));
+            if (i % 3 != 0) {
+                assertEquals((double) i, scores[i]);
+            }
+        }
+    }
+
+    public void testProjection() throws Exception
+    {
+        final String DOC = aposToQuotes("["
+                +"{'id':1,'name':'a','tags':['x','y']},"
+                +"{'id':2,'name':'b','tags':['z'],'foo':true},"
+                +"{'id':3,'name':'c'}"
+                +"]");
+        BeanColumns<Record> cols = JSON.std.withProjection("/*/id", "/*/tags/0", "/1/name")
+                .columnsFrom(Record.class, DOC);
+        assertEquals(3, cols.size());
+        assertTrue(Arrays.equals(new int[] { 1, 2, 3 }, cols.intColumn("id")));
+        assertTrue(Arrays.equals(new Object[] { null, "b", null }, cols.objectColumn("name")));
+        assertTrue(cols.isNull(0, cols.columnIndex("name")));
+        assertEquals(Arrays.asList("x"), cols.objectColumn("tags")[0]);
+        assertEquals(Arrays.asList("z"), cols.objectColumn("tags")[1]);
+        assertNull(cols.objectColumn("tags")[2]);
+
+        // elements not included are not bound as rows
+        cols = JSON.std.withProjection("/1").columnsFrom(Record.class, DOC);
+        assertEquals(1, cols.size());
+        assertEquals("b", cols.bean(0).name);
+        assertEquals(2, cols.bean(0).id);
+
+        // and unknown properties are only checked if included
+        cols = JSON.std.with(JSON.Feature.FAIL_ON_UNKNOWN_BEAN_PROPERTY)
+                .withProjection("/*/id").columnsFrom(Record.class, DOC);
+        assertTrue(Arrays.equals(new int[] { 1, 2, 3 }, cols.intColumn("id")));
+        try {
+            JSON.std.with(JSON.Feature.FAIL_ON_UNKNOWN_BEAN_PROPERTY)
+                .withProjection("/*/foo").columnsFrom(Record.class, DOC);
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Unrecognized JSON property 'foo'");
+        }
+    }
+
+    public void testWriteColumns() throws Exception
+    {
+        final String DOC = aposToQuotes("[{'id':1,'score':0.25,'name':'a','tags':['x','y']},{'id':2,'active':true}]");
+        BeanColumns<Record> cols = JSON.std.columnsFrom(Record.class, DOC);
+        // should produce same output as List of Beans would
+        List<Record> beans = JSON.std.listOfFrom(Record.class, DOC);
+        assertEquals(JSON.std.asString(beans), JSON.std.asString(cols));
+        assertEquals(aposToQuotes("[{'active':false,'id':1,'name':'a','score':0.25,'stamp':0,'tags':['x','y']},"
+                +"{'active':true,'id':2,'name':null,'score':null,'stamp':0,'tags':null}]"),
+                JSON.std.asString(cols));
+
+        // and as property value too
+        Map<String,Object> wrapper = new LinkedHashMap<>();
+        wrapper.put("rows", cols);
+        assertEquals(aposToQuotes("{'rows':[{'active':false,'id':1,'name':'a','score':0.25,'stamp':0,'tags':['x','y']},"
+                +"{'active':true,'id':2,'name':null,'score':null,'stamp':0,'tags':null}]}"),
+                JSON.std.asString(wrapper));
+    }
+
+    public void testWriteColumnsLikeBeans() throws Exception
+    {
+        // set and order of properties must match those of Beans
+        final String DOC = aposToQuotes("[{'x':3,'value':'a','extra':'b'},{'value':null}]");
+        BeanColumns<Accessors> cols = JSON.std.columnsFrom(Accessors.class, DOC);
+        List<Accessors> beans = JSON.std.listOfFrom(Accessors.class, DOC);
+        assertEquals(JSON.std.asString(beans), JSON.std.asString(cols));
+        assertEquals(aposToQuotes("[{'doubled':6,'value':'a','x':3},{'doubled':0,'value':null,'x':0}]"),
+                JSON.std.asString(cols));
+
+        final String DOC2 = aposToQuotes("[{'y':1,'x':2},{'x':3},{'y':null}]");
+        BeanColumns<Point> points = JSON.std.columnsFrom(Point.class, DOC2);
+        // (columns retain explicit nulls, so compare to Beans they contain)
+        List<Point> pointBeans = new ArrayList<>();
+        for (int i = 0; i < points.size(); ++i) {
+            pointBeans.add(points.bean(i));
+        }
+        assertEquals(JSON.std.asString(pointBeans), JSON.std.asString(points));
+        assertEquals(aposToQuotes("[{'x':2,'y':1},{'x':3,'y':null},{'x':0,'y':null}]"),
+                JSON.std.asString(points));
+
+        // including with features that change writer-side properties
+        JSON json = JSON.std.without(JSON.Feature.WRITE_READONLY_BEAN_PROPERTIES);
+        assertEquals(json.asString(beans), json.asString(cols));
+        assertEquals(aposToQuotes("[{'value':'a','x':3},{'value':null,'x':0}]"),
+                json.asString(cols));
+    }
+
+    public void testInvalidColumns() throws Exception
+    {
+        assertNull(JSON.std.columnsFrom(Record.class, "null"));
+        assertEquals(0, JSON.std.columnsFrom(Record.class, "[]").size());
+        try {
+            JSON.std.columnsFrom(Record.class, "[{},1]");
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "expected JSON Object");
+        }
+        try {
+            JSON.std.columnsFrom(Record.class, "{}");
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "expect to see START_ARRAY");
+        }
+        try {
+            JSON.std.with(JSON.Feature.FAIL_ON_UNKNOWN_BEAN_PROPERTY)
+                .columnsFrom(Record.class, aposToQuotes("[{'foo':1}]"));
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Unrecognized JSON property 'foo'");
+        }
+    }
+}
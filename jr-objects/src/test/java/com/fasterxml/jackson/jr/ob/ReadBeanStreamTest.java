@@ -0,0 +1,152 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+public class ReadBeanStreamTest extends TestBase
+{
+    static class Point {
+        public int x, y;
+        public String name;
+    }
+
+    // to verify parsers are created via the usual path, and closed
+    static class TrackingJSON extends JSON {
+        final List<JsonParser> parsers = Collections.synchronizedList(new ArrayList<JsonParser>());
+
+        @Override
+        protected JsonParser _parser(Object source) throws IOException {
+            JsonParser p = super._parser(source);
+            parsers.add(p);
+            return p;
+        }
+    }
+
+    private final static int COUNT = 10000;
+
+    // big enough to be split a few times
+    private final byte[] DOC = _lines(COUNT);
+
+    public void testFromBytes() throws Exception
+    {
+        Stream<Point> stream = JSON.std.beanStreamFrom(Point.class, DOC);
+        assertTrue(stream.isParallel());
+        _verify(stream.collect(Collectors.toList()));
+    }
+
+    public void testFromBuffer() throws Exception
+    {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(DOC.length + 10);
+        buffer.put("xxxxx".getBytes("UTF-8"));
+        buffer.put(DOC);
+        buffer.flip();
+        buffer.position(5);
+        _verify(JSON.std.beanStreamFrom(Point.class, buffer).collect(Collectors.toList()));
+        assertEquals(5, buffer.position());
+    }
+
+    public void testFromFile() throws Exception
+    {
+        Path path = Files.createTempFile("jr-stream", ".jsonl");
+        try {
+            Files.write(path, DOC);
+            try (Stream<Point> stream = JSON.std.beanStreamFrom(Point.class, path)) {
+                _verify(stream.collect(Collectors.toList()));
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    public void testSplitting() throws Exception
+    {
+        Spliterator<Point> second = JSON.std.beanStreamFrom(Point.class, DOC).spliterator();
+        Spliterator<Point> first = second.trySplit();
+        assertNotNull(first);
+        final List<Point> points = new ArrayList<>();
+        while (first.tryAdvance(points::add)) { }
+        final int firstCount = points.size();
+        assertTrue(firstCount > 0 && firstCount < COUNT);
+        second.forEachRemaining(points::add);
+        _verify(points);
+
+        // and tiny content is not split
+        assertNull(JSON.std.beanStreamFrom(Point.class, _lines(3)).spliterator().trySplit());
+    }
+
+    public void testInvalid() throws Exception
+    {
+        final byte[] BROKEN = aposToQuotes("{'x':1}\n{'x':1]\n").getBytes("UTF-8");
+        try {
+            JSON.std.beanStreamFrom(Point.class, BROKEN).count();
+            fail("Should not pass");
+        } catch (UncheckedIOException e) {
+            verifyException(e.getCause(), "Unexpected close marker");
+        }
+    }
+
+    public void testParsersClosed() throws Exception
+    {
+        TrackingJSON json = new TrackingJSON();
+        Spliterator<Point> second = json.beanStreamFrom(Point.class, DOC).spliterator();
+        Spliterator<Point> first = second.trySplit();
+        final List<Point> points = new ArrayList<>();
+        first.forEachRemaining(points::add);
+        second.forEachRemaining(points::add);
+        _verify(points);
+        // one parser per split part, all closed after reading
+        assertEquals(2, json.parsers.size());
+        for (JsonParser p : json.parsers) {
+            assertTrue(p.isClosed());
+        }
+
+        // including when reading fails
+        json = new TrackingJSON();
+        final byte[] BROKEN = aposToQuotes("{'x':1}\n{'x':2]\n{'x':3}\n").getBytes("UTF-8");
+        Spliterator<Point> it = json.beanStreamFrom(Point.class, BROKEN).spliterator();
+        assertTrue(it.tryAdvance(p -> assertEquals(1, p.x)));
+        try {
+            it.tryAdvance(p -> fail("Should not get "+p));
+            fail("Should not pass");
+        } catch (UncheckedIOException e) {
+            verifyException(e.getCause(), "Unexpected close marker");
+        }
+        assertEquals(1, json.parsers.size());
+        assertTrue(json.parsers.get(0).isClosed());
+        // and no more content read after failure
+        assertFalse(it.tryAdvance(p -> fail("Should not get "+p)));
+        assertEquals(1, json.parsers.size());
+    }
+
+    private byte[] _lines(int count)
+    {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; ++i) {
+            sb.append(aposToQuotes("{'x':"+i+",'y':"+(-i)+",'name':'p"+i+"'}\n"));
+        }
+        try {
+            return sb.toString().getBytes("UTF-8");
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void _verify(List<Point> points)
+    {
+        assertEquals(COUNT, points.size());
+        for (int i = 0; i < COUNT; ++i) {
+            Point p = points.get(i);
+            assertEquals(i, p.x);
+            assertEquals(-i, p.y);
+            assertEquals("p"+i, p.name);
+        }
+    }
+}
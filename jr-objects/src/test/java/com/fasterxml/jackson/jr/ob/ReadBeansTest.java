@@ -41,6 +41,13 @@ public class ReadBeansTest extends TestBase
         public void setNames(List<NameBean> n) { names = n; }
     }
 
+    static class SetsBean {
+        public Set<String> set;
+        public SortedSet<Integer> sorted;
+        public LinkedHashSet<String> linked;
+        public Collection<String> coll;
+    }
+
     interface Bean<T> {
         public void setValue(T t);
     }
@@ -60,6 +67,21 @@ public class ReadBeansTest extends TestBase
         public void setURL(String s) { url = s; } 
     }
 
+    static class FluentBean {
+        int value;
+
+        public FluentBean setValue(int v) {
+            value = v;
+            return this;
+        }
+    }
+
+    static class FailingBean {
+        public void setValue(int v) {
+            throw new IllegalStateException("No value for you: "+v);
+        }
+    }
+
     /*
     /**********************************************************************
     /* Test methdods
@@ -113,6 +135,25 @@ public class ReadBeansTest extends TestBase
         assertEquals("Burger", name.getLast());
     }
     
+    public void testPOJOWithSets() throws Exception
+    {
+        final String INPUT = aposToQuotes("{'set':['a','b','a'],'sorted':[3,1,2],"
+                +"'linked':['z','y'],'coll':['c'] }");
+        SetsBean bean = JSON.std.beanFrom(SetsBean.class, INPUT);
+        assertEquals(HashSet.class, bean.set.getClass());
+        assertEquals(new HashSet<String>(Arrays.asList("a", "b")), bean.set);
+        assertEquals(TreeSet.class, bean.sorted.getClass());
+        assertEquals(Arrays.asList(1, 2, 3), new ArrayList<Integer>(bean.sorted));
+        assertEquals(Arrays.asList("z", "y"), new ArrayList<String>(bean.linked));
+        assertEquals(ArrayList.class, bean.coll.getClass());
+
+        // including empty and single-element ones
+        bean = JSON.std.beanFrom(SetsBean.class, aposToQuotes("{'set':[],'linked':['x']}"));
+        assertEquals(HashSet.class, bean.set.getClass());
+        assertTrue(bean.set.isEmpty());
+        assertEquals(Collections.singleton("x"), bean.linked);
+    }
+
     public void testPOJOWithMap() throws Exception
     {
         final String INPUT = aposToQuotes("{'stuff': { 'a':3, 'b':4 } }");
@@ -245,4 +286,21 @@ public class ReadBeansTest extends TestBase
                 .beanFrom(URLBean.class, aposToQuotes("{'URL':'"+expURL+"'}"));
         assertEquals(expURL, bean.url);
     }
+
+    public void testFluentSetter() throws Exception
+    {
+        FluentBean bean = JSON.std.beanFrom(FluentBean.class, "{\"value\":42}");
+        assertEquals(42, bean.value);
+    }
+
+    public void testFailingSetter() throws Exception
+    {
+        try {
+            JSON.std.beanFrom(FailingBean.class, "{\"value\":3}");
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Failed to set property 'value'");
+            verifyException(e, "No value for you: 3");
+        }
+    }
 }
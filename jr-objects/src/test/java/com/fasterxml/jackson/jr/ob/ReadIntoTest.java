@@ -0,0 +1,114 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.util.*;
+
+public class ReadIntoTest extends TestBase
+{
+    static class Tick {
+        public String symbol;
+        public double price;
+        public long size;
+    }
+
+    static class Account {
+        public String name;
+        public int balance;
+        public Tick last;
+        public List<Integer> values;
+        public Map<String,Object> attrs;
+
+        private Set<String> _tags = new LinkedHashSet<>();
+
+        public Set<String> getTags() { return _tags; }
+        public void setTags(Set<String> t) { _tags = t; }
+    }
+
+    public void testRecycledBean() throws Exception
+    {
+        Tick tick = new Tick();
+        assertSame(tick, JSON.std.readInto(tick, aposToQuotes("{'symbol':'ABC','price':1.25,'size':100}")));
+        assertEquals("ABC", tick.symbol);
+        assertEquals(1.25, tick.price);
+        assertEquals(100L, tick.size);
+
+        // properties not included are left as is
+        JSON.std.readInto(tick, aposToQuotes("{'price':1.5,'unknown':[1,{}]}"));
+        assertEquals("ABC", tick.symbol);
+        assertEquals(1.5, tick.price);
+        assertEquals(100L, tick.size);
+    }
+
+    public void testMergeNested() throws Exception
+    {
+        Account acct = JSON.std.beanFrom(Account.class, aposToQuotes(
+                "{'name':'Bob','balance':10,'last':{'symbol':'X','size':3},"
+                +"'values':[1,2,3],'attrs':{'a':1,'b':{'c':true}},'tags':['x','y']}"));
+        final Tick last = acct.last;
+        final List<Integer> values = acct.values;
+        final Map<String,Object> attrs = acct.attrs;
+        final Set<String> tags = acct.getTags();
+        // Set-valued properties bound as Sets, not Lists
+        assertEquals(new HashSet<String>(Arrays.asList("x", "y")), tags);
+
+        JSON.std.readInto(acct, aposToQuotes(
+                "{'balance':12,'last':{'size':5},'values':[7,8],'attrs':{'b':{'d':1},'e':null},'tags':['z']}"));
+        assertEquals("Bob", acct.name);
+        assertEquals(12, acct.balance);
+        assertSame(last, acct.last);
+        assertEquals("X", last.symbol);
+        assertEquals(5L, last.size);
+        assertSame(values, acct.values);
+        assertEquals(Arrays.asList(7, 8), values);
+        assertSame(attrs, acct.attrs);
+        assertEquals(aposToQuotes("{'a':1,'b':{'c':true,'d':1}}"), JSON.std.asString(attrs));
+        assertTrue(attrs.containsKey("e"));
+        assertSame(tags, acct.getTags());
+        assertEquals(Collections.singleton("z"), tags);
+
+        // nulls replace existing values; longer Lists are appended to
+        JSON.std.readInto(acct, aposToQuotes("{'last':null,'values':[1,2,3,4]}"));
+        assertNull(acct.last);
+        assertSame(values, acct.values);
+        assertEquals(Arrays.asList(1, 2, 3, 4), values);
+    }
+
+    public void testMapAndCollection() throws Exception
+    {
+        Map<String,Object> map = new LinkedHashMap<>();
+        map.put("a", new ArrayList<Object>(Arrays.asList(1, 2)));
+        JSON.std.readInto(map, aposToQuotes("{'a':[3],'b':'x'}"));
+        assertEquals(aposToQuotes("{'a':[3],'b':'x'}"), JSON.std.asString(map));
+
+        List<Object> list = new ArrayList<>();
+        assertSame(list, JSON.std.readInto(list, "[1,true,null]"));
+        assertEquals(Arrays.asList(1, true, null), list);
+    }
+
+    public void testInvalid() throws Exception
+    {
+        try {
+            JSON.std.readInto(new Tick(), "[1]");
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Can not read JSON Array into instance of");
+        }
+        try {
+            JSON.std.readInto(new ArrayList<Object>(), "{}");
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Can not read JSON Object into instance of");
+        }
+        try {
+            JSON.std.readInto("abc", "{}");
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "not a Bean, Map or Collection");
+        }
+        try {
+            JSON.std.readInto(Collections.emptyList(), "[1]");
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Can not merge into existing");
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+
+import com.fasterxml.jackson.jr.ob.api.LazyNumber;
+
+public class ReadLazyNumbersTest extends TestBase
+{
+    private final JSON LAZY = JSON.std.with(JSON.Feature.USE_LAZY_NUMBERS);
+
+    public void testDisabledByDefault() throws Exception
+    {
+        assertEquals(Integer.valueOf(3), JSON.std.anyFrom("3"));
+        assertEquals(Double.valueOf(0.5), JSON.std.anyFrom("0.5"));
+    }
+
+    public void testLazyValues() throws Exception
+    {
+        Map<String,Object> map = LAZY.mapFrom(aposToQuotes(
+                "{'i':-17,'l':12345678901,'big':123456789012345678901234567890,"
+                +"'d':0.25,'e':1.5E3,'list':[1,2.0]}"));
+
+        LazyNumber n = (LazyNumber) map.get("i");
+        assertTrue(n.isIntegral());
+        assertEquals("-17", n.getText());
+        assertEquals(-17, n.intValue());
+        assertEquals(Integer.valueOf(-17), n.value());
+        assertEquals(Long.valueOf(12345678901L), ((LazyNumber) map.get("l")).value());
+        assertEquals(new BigInteger("123456789012345678901234567890"),
+                ((LazyNumber) map.get("big")).value());
+
+        n = (LazyNumber) map.get("d");
+        assertFalse(n.isIntegral());
+        assertEquals(0.25, n.doubleValue());
+        assertEquals(new BigDecimal("0.25"), n.bigDecimalValue());
+        assertEquals(1500.0, ((Number) map.get("e")).doubleValue());
+
+        // decoded values equal to regular ones; lazy numbers only to each other
+        List<?> list = (List<?>) map.get("list");
+        assertEquals(Integer.valueOf(1), ((LazyNumber) list.get(0)).value());
+        assertEquals(Double.valueOf(2.0), ((LazyNumber) list.get(1)).value());
+        assertEquals(list.get(0), LAZY.anyFrom("1"));
+        assertFalse(list.get(0).equals(Integer.valueOf(1)));
+        assertEquals(Integer.valueOf(1).hashCode(), list.get(0).hashCode());
+
+        // and if so configured, BigDecimals for floating-point numbers
+        n = (LazyNumber) LAZY.with(JSON.Feature.USE_BIG_DECIMAL_FOR_FLOATS).anyFrom("1.50");
+        assertEquals(new BigDecimal("1.50"), n.value());
+    }
+
+    public void testVerbatimRoundtrip() throws Exception
+    {
+        final String JSON_INPUT = aposToQuotes(
+                "{'a':1.50,'b':[1e400,-0.0,12345678901234567890.000000000000000001],'c':7}");
+        Object ob = LAZY.anyFrom(JSON_INPUT);
+        assertEquals(JSON_INPUT, LAZY.asString(ob));
+        assertEquals(JSON_INPUT, JSON.std.asString(ob));
+
+        // without lazy numbers, values are decoded and re-encoded
+        assertEquals(aposToQuotes("{'a':1.5}"), JSON.std.asString(JSON.std.anyFrom(aposToQuotes("{'a':1.50}"))));
+    }
+
+    public void testNonStandardText() throws Exception
+    {
+        assertTrue(new LazyNumber("-0.5e+3", false).hasStandardText());
+        assertFalse(new LazyNumber("+1", true).hasStandardText());
+        assertFalse(new LazyNumber("007", true).hasStandardText());
+        assertFalse(new LazyNumber(".5", false).hasStandardText());
+        assertFalse(new LazyNumber("1.", false).hasStandardText());
+
+        // not valid JSON as is, so decoded value is written instead
+        List<Object> list = Arrays.<Object>asList(new LazyNumber("+1", true),
+                new LazyNumber("007", true), new LazyNumber(".5", false));
+        assertEquals("[1,7,0.5]", LAZY.asString(list));
+    }
+}
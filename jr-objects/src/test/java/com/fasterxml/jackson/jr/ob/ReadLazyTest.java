@@ -0,0 +1,138 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+public class ReadLazyTest extends TestBase
+{
+    // to verify parsers are created via the usual path, and closed
+    static class TrackingJSON extends JSON {
+        final List<JsonParser> parsers = new ArrayList<JsonParser>();
+
+        @Override
+        protected JsonParser _parser(Object source) throws IOException {
+            JsonParser p = super._parser(source);
+            parsers.add(p);
+            return p;
+        }
+    }
+
+    public void testSameAsUntyped() throws Exception
+    {
+        StringBuilder sb = new StringBuilder(aposToQuotes(
+                "{'a':123,'b':'x\\ty','c':[1.5,true,null,{},[],12345678901],'big':{"));
+        for (int i = 0; i < 50; ++i) {
+            sb.append(i > 0 ? "," : "").append(aposToQuotes("'k"+i+"':"+i));
+        }
+        sb.append("},'s':'\\u00e9t\\u00e9'}");
+        final byte[] DOC = aposToQuotes(sb.toString()).getBytes("UTF-8");
+
+        Object lazy = JSON.std.lazyFrom(DOC);
+        Object exp = JSON.std.anyFrom(DOC);
+        assertTrue(lazy instanceof Map<?,?>);
+        assertEquals(exp, lazy);
+        assertEquals(lazy, exp);
+        assertEquals(exp.hashCode(), lazy.hashCode());
+        assertEquals(exp.toString(), lazy.toString());
+        assertEquals(JSON.std.asString(exp), JSON.std.asString(lazy));
+
+        Map<?,?> map = (Map<?,?>) lazy;
+        assertEquals(123, map.get("a"));
+        assertEquals(Long.valueOf(12345678901L), ((List<?>) map.get("c")).get(5));
+        assertEquals(49, ((Map<?,?>) map.get("big")).get("k49"));
+        assertNull(((Map<?,?>) map.get("big")).get("k50"));
+        assertFalse(map.containsKey("x"));
+        assertNull(map.get(null));
+    }
+
+    public void testScalarsAndArrays() throws Exception
+    {
+        assertEquals(42, JSON.std.lazyFrom(" 42 ".getBytes("UTF-8")));
+        assertEquals("abc", JSON.std.lazyFrom(quote("abc").getBytes("UTF-8")));
+        assertNull(JSON.std.lazyFrom("null".getBytes("UTF-8")));
+        assertEquals(Arrays.asList(1, "x", Arrays.asList(true)),
+                JSON.std.lazyFrom(aposToQuotes("[1,'x',[true]]").getBytes("UTF-8")));
+    }
+
+    public void testReadOnly() throws Exception
+    {
+        @SuppressWarnings("unchecked")
+        Map<String,Object> map = (Map<String,Object>) JSON.std.lazyFrom(
+                aposToQuotes("{'a':[1]}").getBytes("UTF-8"));
+        try {
+            map.put("b", 2);
+            fail("Should not pass");
+        } catch (UnsupportedOperationException e) { }
+        try {
+            ((List<?>) map.get("a")).clear();
+            fail("Should not pass");
+        } catch (UnsupportedOperationException e) { }
+    }
+
+    public void testDuplicates() throws Exception
+    {
+        StringBuilder sb = new StringBuilder("{'a':1,'b':2,'a':3");
+        for (int i = 0; i < 20; ++i) {
+            sb.append(",'k"+i+"':"+i);
+        }
+        sb.append(",'k3':'x','c':{'x':1,'x':2}}");
+        final byte[] DOC = aposToQuotes(sb.toString()).getBytes("UTF-8");
+        // last value wins, if duplicates allowed
+        final JSON lenient = JSON.std.without(JSON.Feature.FAIL_ON_DUPLICATE_MAP_KEYS);
+        Map<?,?> map = (Map<?,?>) lenient.lazyFrom(DOC);
+        assertEquals(lenient.anyFrom(DOC), map);
+        assertEquals(23, map.size());
+        assertEquals(3, map.get("a"));
+        assertEquals("x", map.get("k3"));
+        assertEquals(Collections.singletonMap("x", 2), map.get("c"));
+
+        // but by default fail, once nested Object is accessed
+        Map<?,?> failing = (Map<?,?>) JSON.std
+                .lazyFrom(aposToQuotes("{'a':{'b':1,'b':2}}").getBytes("UTF-8"));
+        try {
+            failing.get("a");
+            fail("Should not pass");
+        } catch (UncheckedIOException e) {
+            verifyException(e.getCause(), "Duplicate key");
+        }
+    }
+
+    public void testParsers() throws Exception
+    {
+        TrackingJSON json = new TrackingJSON();
+        Map<?,?> map = (Map<?,?>) json.lazyFrom(aposToQuotes("{'a':[1,'x'],'b':2}").getBytes("UTF-8"));
+        // one parser for indexing
+        assertEquals(1, json.parsers.size());
+        assertEquals(Integer.valueOf(2), map.get("b"));
+        assertEquals("x", ((List<?>) map.get("a")).get(1));
+        // and others for decoding scalar values
+        assertEquals(3, json.parsers.size());
+        for (JsonParser p : json.parsers) {
+            assertTrue(p.isClosed());
+        }
+
+        // parser closed on failure as well
+        json = new TrackingJSON();
+        try {
+            json.lazyFrom(aposToQuotes("{'a':[1}").getBytes("UTF-8"));
+            fail("Should not pass");
+        } catch (IOException e) {
+            verifyException(e, "Unexpected close marker");
+        }
+        assertEquals(1, json.parsers.size());
+        assertTrue(json.parsers.get(0).isClosed());
+    }
+
+    public void testInvalid() throws Exception
+    {
+        try {
+            JSON.std.lazyFrom(new byte[0]);
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "No content");
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+import com.fasterxml.jackson.jr.ob.impl.MappedFileInputStream;
+
+public class ReadMappedSourcesTest extends TestBase
+{
+    static class Point {
+        public int x, y;
+    }
+
+    private final String DOC = aposToQuotes("{'x':1,'y':2}\n{'x':3,'y':4}\n{'x':5,'y':6}\n");
+
+    private Path _file;
+
+    @Override
+    protected void setUp() throws Exception {
+        _file = Files.createTempFile("jr-mapped", ".json");
+        Files.write(_file, DOC.getBytes("UTF-8"));
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        Files.delete(_file);
+    }
+
+    public void testPath() throws Exception
+    {
+        assertEquals(_values(JSON.std.anySequenceFrom(DOC)),
+                _values(JSON.std.anySequenceFrom(_file)));
+        Point p = JSON.std.beanFrom(Point.class, _file);
+        assertEquals(1, p.x);
+        assertEquals(2, p.y);
+    }
+
+    public void testFileChannel() throws Exception
+    {
+        FileChannel channel = FileChannel.open(_file, StandardOpenOption.READ);
+        channel.position(DOC.indexOf('\n') + 1);
+        try (ValueIterator<Point> it = JSON.std.beanSequenceFrom(Point.class, channel)) {
+            List<Point> points = it.readAll();
+            assertEquals(2, points.size());
+            assertEquals(3, points.get(0).x);
+            assertEquals(6, points.get(1).y);
+        }
+        // source closed with parser
+        assertFalse(channel.isOpen());
+    }
+
+    public void testByteBuffers() throws Exception
+    {
+        try (FileChannel channel = FileChannel.open(_file, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size());
+            assertEquals(3, JSON.std.anySequenceFrom(mapped).readAll().size());
+            assertEquals(0, mapped.position());
+        }
+        ByteBuffer heap = ByteBuffer.wrap(("xx"+DOC+"yy").getBytes("UTF-8"), 2, DOC.length());
+        List<Point> points = JSON.std.beanSequenceFrom(Point.class, heap).readAll();
+        assertEquals(3, points.size());
+        assertEquals(5, points.get(2).x);
+    }
+
+    // Values spanning multiple mapped segments
+    public void testSegments() throws Exception
+    {
+        try (MappedFileInputStream in = new MappedFileInputStream(
+                FileChannel.open(_file, StandardOpenOption.READ), 5)) {
+            List<Object> values = JSON.std.anySequenceFrom(in).readAll();
+            assertEquals(_values(JSON.std.anySequenceFrom(DOC)), values);
+        }
+    }
+
+    private List<Object> _values(ValueIterator<Object> it) throws Exception {
+        try {
+            return it.readAll();
+        } finally {
+            it.close();
+        }
+    }
+}
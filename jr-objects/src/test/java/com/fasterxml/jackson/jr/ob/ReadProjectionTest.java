@@ -0,0 +1,109 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.util.*;
+
+public class ReadProjectionTest extends TestBase
+{
+    static class Event {
+        public User user;
+        public List<Item> items;
+        public String type;
+    }
+
+    static class User {
+        public int id;
+        public String name;
+    }
+
+    static class Item {
+        public String name;
+        public double price;
+    }
+
+    private final String DOC = aposToQuotes("{'user':{'id':3,'name':'Bob','extra':[1,2]},"
+            +"'items':[{'name':'a','price':1.5},{'name':'b','price':2.5,'bogus':true}],"
+            +"'type':'order','meta':{'x':{'y':1}}}");
+
+    public void testUntypedProjection() throws Exception
+    {
+        JSON json = JSON.std.withProjection("/user/id", "/items/*/price", "/meta");
+        Map<String,Object> map = json.mapFrom(DOC);
+        assertEquals(aposToQuotes("{'user':{'id':3},'items':[{'price':1.5},{'price':2.5}],"
+                +"'meta':{'x':{'y':1}}}"), JSON.std.asString(map));
+
+        // array elements by index; others omitted
+        assertEquals(aposToQuotes("{'items':[{'name':'b'}]}"),
+                JSON.std.asString(JSON.std.withProjection("/items/1/name").anyFrom(DOC)));
+        // and root-level arrays
+        assertEquals(Arrays.asList(2, 3),
+                JSON.std.withProjection("/1", "/2").listFrom("[1,2,3,4]"));
+        assertEquals(aposToQuotes("[{'b':2},{'b':4}]"),
+                JSON.std.asString(JSON.std.withProjection("/*/b")
+                        .arrayFrom(aposToQuotes("[{'a':1,'b':2},{'a':3,'b':4}]"))));
+
+        // but can also remove projection
+        assertEquals(JSON.std.mapFrom(DOC), json.withProjection().mapFrom(DOC));
+    }
+
+    public void testBeanProjection() throws Exception
+    {
+        Event ev = JSON.std.withProjection("/user/name", "/items/*/price")
+                .beanFrom(Event.class, DOC);
+        assertNull(ev.type);
+        assertEquals(0, ev.user.id);
+        assertEquals("Bob", ev.user.name);
+        assertEquals(2, ev.items.size());
+        assertNull(ev.items.get(0).name);
+        assertEquals(1.5, ev.items.get(0).price);
+        assertEquals(2.5, ev.items.get(1).price);
+
+        // Unknown properties only fail if included
+        JSON failing = JSON.std.with(JSON.Feature.FAIL_ON_UNKNOWN_BEAN_PROPERTY);
+        ev = failing.withProjection("/type").beanFrom(Event.class, DOC);
+        assertEquals("order", ev.type);
+        assertNull(ev.user);
+        try {
+            failing.withProjection("/meta").beanFrom(Event.class, DOC);
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Unrecognized JSON property 'meta'");
+        }
+    }
+
+    public void testTypedContainers() throws Exception
+    {
+        final String ITEMS = aposToQuotes("[{'name':'a','price':1.5},{'name':'b','price':2.5}]");
+        List<Item> items = JSON.std.withProjection("/1").listOfFrom(Item.class, ITEMS);
+        assertEquals(1, items.size());
+        assertEquals("b", items.get(0).name);
+
+        Map<String,Item> byName = JSON.std.withProjection("/first/price")
+                .mapOfFrom(Item.class, aposToQuotes("{'first':{'name':'a','price':1.5},'second':{}}"));
+        assertEquals(1, byName.size());
+        assertEquals(1.5, byName.get("first").price);
+        assertNull(byName.get("first").name);
+    }
+
+    public void testSequences() throws Exception
+    {
+        final String INPUT = aposToQuotes("{'id':1,'x':[1]}\n{'id':2,'x':[2]}\n");
+        List<Object> values = new ArrayList<>();
+        try (ValueIterator<Object> it = JSON.std.withProjection("/id").anySequenceFrom(INPUT)) {
+            while (it.hasNext()) {
+                values.add(it.next());
+            }
+        }
+        assertEquals(Arrays.asList(Collections.singletonMap("id", 1),
+                Collections.singletonMap("id", 2)), values);
+    }
+
+    public void testInvalidPointer() throws Exception
+    {
+        try {
+            JSON.std.withProjection("user");
+            fail("Should not pass");
+        } catch (IllegalArgumentException e) {
+            verifyException(e, "must start with '/'");
+        }
+    }
+}
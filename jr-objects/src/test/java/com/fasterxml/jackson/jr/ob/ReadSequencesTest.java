@@ -6,6 +6,7 @@ import java.util.Arrays;
 import java.util.Collections;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.jr.ob.api.BeanRecycler;
 
 public class ReadSequencesTest extends TestBase
 {
@@ -102,4 +103,59 @@ public class ReadSequencesTest extends TestBase
 
         assertFalse(it.hasNext());
     }
+
+    public void testRecycledBeanSequence() throws Exception
+    {
+        final String INPUT = aposToQuotes("{'id':1, 'msg':'foo'}\n{'id':2}\nnull\n{'id':3, 'msg':'bar'}");
+        BeanRecycler.Pooled<Bean> pool = new BeanRecycler.Pooled<Bean>(4) {
+            @Override
+            public void reset(Bean bean) {
+                bean.msg = null;
+            }
+        };
+        ValueIterator<Bean> it = JSON.std.beanSequenceFrom(Bean.class, INPUT)
+                .recycleWith(pool);
+        Bean first = it.nextValue();
+        assertEquals(1, first.id);
+        assertEquals("foo", first.msg);
+        it.release(first);
+        assertEquals(1, pool.size());
+
+        // recycled instance is reset, then read into
+        Bean bean = it.nextValue();
+        assertSame(first, bean);
+        assertEquals(2, bean.id);
+        assertNull(bean.msg);
+        assertEquals(0, pool.size());
+
+        // nulls are not read into instances
+        it.release(bean);
+        assertNull(it.nextValue());
+        assertEquals(1, pool.size());
+
+        Bean second = it.nextValue();
+        assertSame(first, second);
+        assertEquals(3, second.id);
+        assertEquals("bar", second.msg);
+        assertFalse(it.hasNext());
+        it.close();
+
+        // and if pool is empty, new instances are constructed
+        Bean third = JSON.std.beanSequenceFrom(Bean.class, INPUT).recycleWith(pool).nextValue();
+        assertNotSame(first, third);
+        assertEquals(1, third.id);
+
+        try {
+            JSON.std.anySequenceFrom(INPUT).recycleWith(null);
+            fail("Should not pass");
+        } catch (IllegalStateException e) {
+            verifyException(e, "Can only recycle Bean values");
+        }
+        try {
+            JSON.std.withProjection("/id").beanSequenceFrom(Bean.class, INPUT).recycleWith(pool);
+            fail("Should not pass");
+        } catch (IllegalStateException e) {
+            verifyException(e, "when using projection");
+        }
+    }
 }
@@ -0,0 +1,130 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.util.*;
+
+import com.fasterxml.jackson.jr.ob.api.MapBuilder;
+import com.fasterxml.jackson.jr.ob.impl.MapShape;
+import com.fasterxml.jackson.jr.ob.impl.ShapedMap;
+
+public class ReadShapedMapsTest extends TestBase
+{
+    static class MapHolder {
+        public Map<String,Object> stuff;
+    }
+
+    private final JSON SHAPED = JSON.std.with(MapBuilder.shapeSharingImpl());
+
+    public void testSharedShapes() throws Exception
+    {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 10; ++i) {
+            sb.append(aposToQuotes("{'id':"+i+",'name':'n"+i+"','tags':{'a':true}}\n"));
+        }
+        List<Object> records = new ArrayList<>();
+        try (ValueIterator<Object> it = SHAPED.anySequenceFrom(sb.toString())) {
+            while (it.hasNext()) {
+                records.add(it.next());
+            }
+        }
+        assertEquals(10, records.size());
+        MapShape shape = ((ShapedMap) records.get(0)).shape();
+        assertNotNull(shape);
+        assertEquals(3, shape.size());
+        for (int i = 0; i < records.size(); ++i) {
+            ShapedMap m = (ShapedMap) records.get(i);
+            assertSame(shape, m.shape());
+            assertEquals(Integer.valueOf(i), m.get("id"));
+            assertEquals("n"+i, m.get("name"));
+            assertEquals(Collections.singletonMap("a", Boolean.TRUE), m.get("tags"));
+            assertTrue(m.containsKey("tags"));
+            assertFalse(m.containsKey("x"));
+            assertNull(m.get("x"));
+        }
+        // and iteration in insertion order
+        assertEquals(Arrays.asList("id", "name", "tags"),
+                new ArrayList<Object>(((Map<?,?>) records.get(3)).keySet()));
+    }
+
+    public void testEqualityAndMutation() throws Exception
+    {
+        final String DOC = aposToQuotes("{'a':1,'b':[1,2],'c':{}}");
+        Map<String,Object> shaped = SHAPED.mapFrom(DOC);
+        Map<String,Object> regular = JSON.std.mapFrom(DOC);
+        assertNotNull(_shaped(shaped).shape());
+        assertEquals(regular, shaped);
+        assertEquals(shaped, regular);
+        assertEquals(regular.hashCode(), shaped.hashCode());
+        assertEquals(0, ((Map<?,?>) shaped.get("c")).size());
+
+        // adding keys still uses shapes
+        assertNull(shaped.put("d", "x"));
+        assertEquals(4, _shaped(shaped).shape().size());
+        assertEquals(1, shaped.put("a", 2));
+        assertEquals(aposToQuotes("{'a':2,'b':[1,2],'c':{},'d':'x'}"), JSON.std.asString(shaped));
+
+        // removal converts to dictionary mode
+        assertEquals("x", shaped.remove("d"));
+        assertNull(_shaped(shaped).shape());
+        assertEquals(3, shaped.size());
+        assertEquals(aposToQuotes("{'a':2,'b':[1,2],'c':{}}"), JSON.std.asString(shaped));
+        shaped.clear();
+        assertTrue(shaped.isEmpty());
+    }
+
+    public void testDuplicateKeys() throws Exception
+    {
+        final String DOC = aposToQuotes("{'a':1,'b':2,'b':3,'c':4}");
+        Map<String,Object> map = SHAPED.without(JSON.Feature.FAIL_ON_DUPLICATE_MAP_KEYS)
+                .mapFrom(DOC);
+        assertEquals(3, map.size());
+        assertEquals(3, map.get("b"));
+        // but fails by default
+        try {
+            SHAPED.mapFrom(DOC);
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Duplicate key");
+        }
+    }
+
+    public void testShapeLimits() throws Exception
+    {
+        // Keys that vary between Objects should not create unbounded number of shapes
+        final JSON json = JSON.std.with(MapBuilder.shapeSharingImpl());
+        for (int i = 0; i < 100; ++i) {
+            Map<String,Object> map = json.mapFrom(aposToQuotes("{'id"+i+"':1,'x':2}"));
+            assertEquals(2, map.size());
+            assertEquals(2, map.get("x"));
+            assertEquals(1, map.get("id"+i));
+            if (i >= MapShape.MAX_TRANSITIONS) {
+                assertFalse(((Object) map) instanceof ShapedMap);
+            }
+        }
+    }
+
+    public void testNullKeys() throws Exception
+    {
+        // not possible with JSON content, but with custom readers: no shape used
+        MapBuilder b = MapBuilder.shapeSharingImpl();
+        Map<Object,Object> map = b.singletonMap(null, 1);
+        assertEquals(1, map.get(null));
+        assertFalse(map instanceof ShapedMap);
+
+        map = b.start().put("a", 1).put(null, 2).put("c", 3).build();
+        assertFalse(map instanceof ShapedMap);
+        assertEquals(3, map.size());
+        assertEquals(2, map.get(null));
+        assertEquals(Arrays.asList("a", null, "c"), new ArrayList<Object>(map.keySet()));
+    }
+
+    public void testTypedMaps() throws Exception
+    {
+        MapHolder h = SHAPED.beanFrom(MapHolder.class, aposToQuotes("{'stuff':{'a':1}}"));
+        assertEquals(Collections.singletonMap("a", 1), h.stuff);
+        assertNotNull(_shaped(h.stuff).shape());
+    }
+
+    private ShapedMap _shaped(Map<?,?> map) {
+        return (ShapedMap) map;
+    }
+}
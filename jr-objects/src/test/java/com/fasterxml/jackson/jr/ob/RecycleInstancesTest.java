@@ -0,0 +1,125 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import com.fasterxml.jackson.jr.ob.impl.InstancePool;
+import com.fasterxml.jackson.jr.ob.impl.JSONReader;
+
+public class RecycleInstancesTest extends TestBase
+{
+    static class Point {
+        public int x, y;
+        public List<String> tags;
+
+        public Point() { }
+        public Point(int x, int y, String... tags) {
+            this.x = x;
+            this.y = y;
+            this.tags = Arrays.asList(tags);
+        }
+    }
+
+    private final JSON RECYCLING = JSON.std.with(JSON.Feature.RECYCLE_OPERATION_INSTANCES);
+
+    public void testDisabledByDefault() throws Exception
+    {
+        assertNull(JSON.std._readerPool);
+        assertNull(JSON.std._writerPool);
+        assertNotNull(RECYCLING._readerPool);
+        assertNotNull(RECYCLING._writerPool);
+    }
+
+    public void testRecycledRoundtrip() throws Exception
+    {
+        final JSON json = RECYCLING;
+        for (int i = 0; i < 5; ++i) {
+            String doc = json.asString(new Point(i, -i, "a", "b"));
+            assertEquals(aposToQuotes("{'tags':['a','b'],'x':"+i+",'y':"+(-i)+"}"), doc);
+            Point p = json.beanFrom(Point.class, doc);
+            assertEquals(i, p.x);
+            assertEquals(-i, p.y);
+            assertEquals(Arrays.asList("a", "b"), p.tags);
+            Map<String,Object> map = json.mapFrom(doc);
+            assertEquals(Integer.valueOf(i), map.get("x"));
+            assertEquals(Arrays.asList("a", "b"), map.get("tags"));
+            assertEquals(1, json._readerPool.size());
+            assertEquals(1, json._writerPool.size());
+        }
+    }
+
+    public void testNotRecycledOnFailure() throws Exception
+    {
+        final JSON json = JSON.std.with(JSON.Feature.RECYCLE_OPERATION_INSTANCES);
+        try {
+            json.beanFrom(Point.class, aposToQuotes("{'x':1,'tags':['a',"));
+            fail("Should not pass");
+        } catch (Exception e) {
+            ;
+        }
+        assertEquals(0, json._readerPool.size());
+        // but may still read fine after failure
+        assertEquals(1, json.beanFrom(Point.class, aposToQuotes("{'x':1}")).x);
+        assertEquals(1, json._readerPool.size());
+    }
+
+    public void testConcurrentRecycling() throws Exception
+    {
+        final JSON json = RECYCLING;
+        final int THREADS = 6;
+        ExecutorService exec = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < THREADS; ++t) {
+                final int base = t * 1000;
+                results.add(exec.submit(new Callable<Integer>() {
+                    @Override
+                    public Integer call() throws Exception {
+                        int count = 0;
+                        for (int i = 0; i < 200; ++i) {
+                            Point p = json.beanFrom(Point.class,
+                                    json.asBytes(new Point(base+i, i, "t"+i)));
+                            assertEquals(base+i, p.x);
+                            assertEquals("t"+i, p.tags.get(0));
+                            ++count;
+                        }
+                        return count;
+                    }
+                }));
+            }
+            for (Future<Integer> f : results) {
+                assertEquals(Integer.valueOf(200), f.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            exec.shutdownNow();
+        }
+        assertTrue(json._readerPool.size() <= THREADS);
+    }
+
+    public void testPool() throws Exception
+    {
+        InstancePool<String> pool = new InstancePool<String>(3);
+        assertNull(pool.acquire());
+        pool.release("a");
+        pool.release("b");
+        assertEquals(2, pool.size());
+        Set<String> found = new HashSet<>();
+        found.add(pool.acquire());
+        found.add(pool.acquire());
+        assertEquals(new HashSet<>(Arrays.asList("a", "b")), found);
+        assertNull(pool.acquire());
+
+        // rounded up to 4; beyond that, dropped
+        for (int i = 0; i < 6; ++i) {
+            pool.release("x"+i);
+        }
+        assertEquals(4, pool.size());
+
+        try {
+            new InstancePool<JSONReader>(0);
+            fail("Should not pass");
+        } catch (IllegalArgumentException e) {
+            verifyException(e, "Pool size must be positive");
+        }
+    }
+}
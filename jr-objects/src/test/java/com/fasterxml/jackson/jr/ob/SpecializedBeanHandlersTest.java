@@ -0,0 +1,88 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.util.*;
+
+/**
+ * Tests to verify that use of {@link JSON.Feature#SPECIALIZE_BEAN_HANDLERS}
+ * does not change results of reading and writing Beans.
+ */
+public class SpecializedBeanHandlersTest extends TestBase
+{
+    static class TreeBean {
+        public String name;
+        protected int weight;
+        protected List<TreeBean> kids;
+
+        public int getWeight() { return weight; }
+        public void setWeight(int w) { weight = w; }
+
+        public List<TreeBean> getKids() { return kids; }
+        public void setKids(List<TreeBean> k) { kids = k; }
+    }
+
+    static class FailingBean {
+        public int getValue() {
+            throw new IllegalStateException("No value");
+        }
+
+        public void setValue(int v) {
+            throw new IllegalStateException("No value for you: "+v);
+        }
+    }
+
+    private final JSON SPECIALIZED = JSON.std.with(JSON.Feature.SPECIALIZE_BEAN_HANDLERS);
+
+    public void testReadWithCycles() throws Exception
+    {
+        final String INPUT = aposToQuotes("{'name':'root','weight':3,"
+                +"'kids':[{'name':'a','weight':1},{'weight':2,'name':'b','kids':[]}]}");
+        TreeBean root = SPECIALIZED.beanFrom(TreeBean.class, INPUT);
+        assertEquals("root", root.name);
+        assertEquals(3, root.weight);
+        assertEquals(2, root.kids.size());
+        assertEquals("a", root.kids.get(0).name);
+        assertNull(root.kids.get(0).kids);
+        assertEquals(2, root.kids.get(1).weight);
+        assertEquals(0, root.kids.get(1).kids.size());
+    }
+
+    public void testReadWithUnknown() throws Exception
+    {
+        TreeBean bean = SPECIALIZED
+                .without(JSON.Feature.FAIL_ON_UNKNOWN_BEAN_PROPERTY)
+                .beanFrom(TreeBean.class, aposToQuotes("{'weight':5,'extra':[1,2],'name':'x'}"));
+        assertEquals(5, bean.weight);
+        assertEquals("x", bean.name);
+    }
+
+    public void testWriteSameAsRegular() throws Exception
+    {
+        TreeBean root = new TreeBean();
+        root.name = "root";
+        root.weight = 7;
+        TreeBean kid = new TreeBean();
+        kid.name = "kid";
+        root.kids = Arrays.asList(kid);
+
+        assertEquals(JSON.std.asString(root), SPECIALIZED.asString(root));
+        TreeBean result = SPECIALIZED.beanFrom(TreeBean.class, SPECIALIZED.asString(root));
+        assertEquals("kid", result.kids.get(0).name);
+    }
+
+    public void testFailingAccessors() throws Exception
+    {
+        try {
+            SPECIALIZED.beanFrom(FailingBean.class, "{\"value\":3}");
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Failed to set property 'value'");
+            verifyException(e, "No value for you: 3");
+        }
+        try {
+            SPECIALIZED.asString(new FailingBean());
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Failed to access property 'value'");
+        }
+    }
+}
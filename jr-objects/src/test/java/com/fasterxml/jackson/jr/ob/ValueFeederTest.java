@@ -0,0 +1,115 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+
+public class ValueFeederTest extends TestBase
+{
+    static class Point {
+        public int x, y;
+    }
+
+    private final String DOC = aposToQuotes("{'a':[1,2,{'b':'xyz'}],'c':null}\n"
+            +"[true, 'abc\\u00e9']  12.5 'str' null {}\n-17");
+
+    public void testAnyInChunks() throws Exception
+    {
+        final byte[] doc = DOC.getBytes("UTF-8");
+        final List<Object> exp = JSON.std.anySequenceFrom(doc).readAll();
+        assertEquals(7, exp.size());
+
+        // split in two at every possible point
+        for (int split = 0; split <= doc.length; ++split) {
+            ValueFeeder<Object> feeder = JSON.std.anyFeeder();
+            List<Object> values = new ArrayList<>();
+            feeder.feed(doc, 0, split);
+            feeder.drainTo(values);
+            feeder.feed(doc, split, doc.length - split);
+            feeder.drainTo(values);
+            // last number only complete at end-of-input
+            assertEquals(6, values.size());
+            feeder.endOfInput();
+            feeder.drainTo(values);
+            assertEquals(exp, values);
+        }
+
+        // as well as byte by byte
+        ValueFeeder<Object> feeder = JSON.std.anyFeeder();
+        List<Object> values = new ArrayList<>();
+        for (int i = 0; i < doc.length; ++i) {
+            feeder.feed(new byte[] { doc[i] });
+            feeder.drainTo(values);
+        }
+        feeder.endOfInput();
+        feeder.drainTo(values);
+        assertEquals(exp, values);
+        assertFalse(feeder.hasNextValue());
+    }
+
+    public void testBeans() throws Exception
+    {
+        ValueFeeder<Point> feeder = JSON.std.beanFeeder(Point.class);
+        feeder.feed(ByteBuffer.wrap(aposToQuotes("{'x':1,'y':2}{'x'").getBytes("UTF-8")));
+        assertTrue(feeder.hasNextValue());
+        Point p = feeder.nextValue();
+        assertEquals(1, p.x);
+        assertEquals(2, p.y);
+        assertFalse(feeder.hasNextValue());
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(100);
+        direct.put(aposToQuotes(":3,'y':4}\n").getBytes("UTF-8"));
+        direct.flip();
+        feeder.feed(direct);
+        assertEquals(0, direct.remaining());
+        p = feeder.nextValue();
+        assertEquals(3, p.x);
+        assertEquals(4, p.y);
+        feeder.endOfInput();
+        assertFalse(feeder.hasNextValue());
+        try {
+            feeder.nextValue();
+            fail("Should not pass");
+        } catch (NoSuchElementException e) { }
+    }
+
+    public void testBindingFailure() throws Exception
+    {
+        ValueFeeder<Point> feeder = JSON.std.with(JSON.Feature.FAIL_ON_UNKNOWN_BEAN_PROPERTY)
+                .beanFeeder(Point.class);
+        try {
+            feeder.feed(aposToQuotes("{'x':1}{'z':3}{'y':2").getBytes("UTF-8"));
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Unrecognized JSON property 'z'");
+        }
+        // but can continue after failure
+        feeder.feed("}".getBytes("UTF-8"));
+        List<Point> points = new ArrayList<>();
+        assertEquals(2, feeder.drainTo(points));
+        assertEquals(1, points.get(0).x);
+        assertEquals(2, points.get(1).y);
+        feeder.close();
+    }
+
+    public void testInvalid() throws Exception
+    {
+        ValueFeeder<Object> feeder = JSON.std.anyFeeder();
+        try {
+            feeder.feed("[1,2}".getBytes("UTF-8"));
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            fail("Should not get binding exception: "+e);
+        } catch (Exception e) {
+            verifyException(e, "Unexpected close marker");
+        }
+
+        feeder = JSON.std.anyFeeder();
+        feeder.feed("{\"a\":".getBytes("UTF-8"));
+        try {
+            feeder.endOfInput();
+            fail("Should not pass");
+        } catch (Exception e) {
+            verifyException(e, "end-of-input");
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.io.ByteArrayOutputStream;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+
+public class ValueFlowTest extends TestBase
+{
+    static class Point {
+        public int x, y;
+    }
+
+    // Subscriber that only requests values explicitly
+    static class CollectingSubscriber<T> implements ValueFlow.Subscriber<T>
+    {
+        final List<T> values = new ArrayList<>();
+        ValueFlow.Subscription subscription;
+        Throwable error;
+        boolean completed;
+        int requestFromOnNext;
+
+        @Override
+        public void onSubscribe(ValueFlow.Subscription s) {
+            subscription = s;
+        }
+
+        @Override
+        public void onNext(T item) {
+            values.add(item);
+            if (requestFromOnNext > 0) {
+                --requestFromOnNext;
+                subscription.request(1);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            error = t;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+
+    public void testBackPressure() throws Exception
+    {
+        // content broken after third value: must not be read until requested
+        final String INPUT = aposToQuotes("{'x':1,'y':2}\n{'x':3,'y':4}\n{'x':5,'y':6}\n{'x':1]");
+        CollectingSubscriber<Point> sub = new CollectingSubscriber<>();
+        JSON.std.beanPublisher(Point.class, INPUT).subscribe(sub);
+        assertEquals(0, sub.values.size());
+        sub.subscription.request(2);
+        assertEquals(2, sub.values.size());
+        assertEquals(3, sub.values.get(1).x);
+        assertNull(sub.error);
+
+        // requests from within onNext are handled without recursion
+        sub.requestFromOnNext = 1;
+        sub.subscription.request(1);
+        assertEquals(3, sub.values.size());
+        assertEquals(6, sub.values.get(2).y);
+        assertNotNull(sub.error);
+        verifyException(sub.error, "Unexpected close marker");
+        assertFalse(sub.completed);
+    }
+
+    public void testCompletionAndCancel() throws Exception
+    {
+        CollectingSubscriber<Object> sub = new CollectingSubscriber<>();
+        ValuePublisher<Object> pub = JSON.std.anyPublisher("1 2 3");
+        pub.subscribe(sub);
+        sub.subscription.request(Long.MAX_VALUE);
+        sub.subscription.request(Long.MAX_VALUE);
+        assertEquals(Arrays.asList(1, 2, 3), sub.values);
+        assertTrue(sub.completed);
+
+        // only one subscriber allowed
+        CollectingSubscriber<Object> sub2 = new CollectingSubscriber<>();
+        pub.subscribe(sub2);
+        verifyException(sub2.error, "only allows one Subscriber");
+
+        sub = new CollectingSubscriber<>();
+        JSON.std.anyPublisher("1 2 3").subscribe(sub);
+        sub.subscription.request(1);
+        sub.subscription.cancel();
+        sub.subscription.request(5);
+        assertEquals(Arrays.asList(1), sub.values);
+        assertFalse(sub.completed);
+
+        sub = new CollectingSubscriber<>();
+        JSON.std.anyPublisher("1 2 3").subscribe(sub);
+        sub.subscription.request(0);
+        verifyException(sub.error, "must be positive");
+    }
+
+    public void testWritingSubscribers() throws Exception
+    {
+        final String INPUT = aposToQuotes("{'x':1,'y':2} {'x':3,'y':4}");
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        WritingSubscriber<Point> sub = JSON.std.arraySubscriber(bytes);
+        JSON.std.beanPublisher(Point.class, INPUT).subscribe(sub);
+        sub.completion().get();
+        assertEquals(2L, sub.getCount());
+        assertEquals(aposToQuotes("[{'x':1,'y':2},{'x':3,'y':4}]"), bytes.toString("UTF-8"));
+
+        bytes = new ByteArrayOutputStream();
+        sub = JSON.std.with(JSON.Feature.PRETTY_PRINT_OUTPUT).linesSubscriber(bytes);
+        JSON.std.beanPublisher(Point.class, INPUT).subscribe(sub);
+        sub.completion().get();
+        assertEquals(aposToQuotes("{'x':1,'y':2}\n{'x':3,'y':4}\n"), bytes.toString("UTF-8"));
+
+        // and empty sequences (wrapped in JSON Array)
+        bytes = new ByteArrayOutputStream();
+        WritingSubscriber<Object> anySub = JSON.std.arraySubscriber(bytes);
+        JSON.std.anyPublisher("[ ]").subscribe(anySub);
+        anySub.completion().get();
+        assertEquals("[]", bytes.toString("UTF-8"));
+    }
+
+    public void testWritingFailure() throws Exception
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        WritingSubscriber<Object> sub = JSON.std.linesSubscriber(bytes);
+        JSON.std.anyPublisher(aposToQuotes("{'a':1} {'a':2} {")).subscribe(sub);
+        try {
+            sub.completion().get();
+            fail("Should not pass");
+        } catch (ExecutionException e) {
+            verifyException(e.getCause(), "Unexpected end-of-input");
+        }
+        assertEquals(2L, sub.getCount());
+    }
+}
@@ -42,6 +42,12 @@ public class WriteBeansTest extends TestBase
         
     }
     
+    static class FailingBean {
+        public int getValue() {
+            throw new IllegalStateException("No value");
+        }
+    }
+
     public void testBinary() throws Exception
     {
         String json = JSON.std.asString(new BinaryBean());
@@ -95,4 +101,15 @@ public class WriteBeansTest extends TestBase
         assertEquals(5, result.getExtra());
         assertEquals(-245, result.getValue());
     }
+
+    public void testFailingGetter() throws Exception
+    {
+        try {
+            JSON.std.asString(new FailingBean());
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Failed to access property 'value'");
+            verifyException(e, "FailingBean.getValue()");
+        }
+    }
 }
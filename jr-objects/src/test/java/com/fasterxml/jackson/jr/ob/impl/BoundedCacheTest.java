@@ -0,0 +1,79 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.jr.ob.TestBase;
+
+public class BoundedCacheTest extends TestBase
+{
+    // Simplest possible storage, to test eviction policy itself
+    static class MapCache extends BoundedCache<String, Integer>
+    {
+        final ConcurrentHashMap<String, CachedValue<Integer>> _map = new ConcurrentHashMap<>();
+
+        public MapCache(int maxEntries) {
+            super(maxEntries);
+        }
+
+        public Integer get(String key) {
+            return _lookedUp(_map.get(key));
+        }
+
+        public void put(String key, Integer value) {
+            if (_map.putIfAbsent(key, new CachedValue<Integer>(value)) == null) {
+                _added(key);
+            }
+        }
+
+        @Override
+        protected CachedValue<Integer> _find(String key) {
+            return _map.get(key);
+        }
+
+        @Override
+        protected void _remove(String key, CachedValue<Integer> entry) {
+            _map.remove(key, entry);
+        }
+    }
+
+    public void testSecondChance()
+    {
+        MapCache cache = new MapCache(3);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+        // "a" and "c" are used, so "b" is to be evicted, "a" getting second chance
+        assertNotNull(cache.get("a"));
+        assertNotNull(cache.get("c"));
+        cache.put("d", 4);
+        assertEquals(3, cache.size());
+        assertEquals(1L, cache.evictionCount());
+        assertEquals(2L, cache.hitCount());
+
+        assertNull(cache.get("b"));
+        assertEquals(Integer.valueOf(1), cache.get("a"));
+        assertEquals(Integer.valueOf(3), cache.get("c"));
+        assertEquals(Integer.valueOf(4), cache.get("d"));
+        assertEquals(1L, cache.missCount());
+    }
+
+    public void testAllUsed()
+    {
+        // even if all entries were used, some must be evicted
+        MapCache cache = new MapCache(2);
+        for (int i = 0; i < 10; ++i) {
+            cache.put("k"+i, i);
+            cache.get("k0");
+            cache.get("k"+i);
+            assertTrue(cache.size() <= 2);
+            assertEquals(cache.size(), cache._map.size());
+        }
+        assertEquals(8L, cache.evictionCount());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache._map.size());
+        assertEquals(20L, cache.hitCount() + cache.missCount());
+        assertTrue(cache.toString().startsWith("[MapCache: size=0/2, "));
+    }
+}
@@ -0,0 +1,178 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import com.fasterxml.jackson.jr.ob.JSON;
+import com.fasterxml.jackson.jr.ob.TestBase;
+import com.fasterxml.jackson.jr.ob.api.CollectionBuilder;
+import com.fasterxml.jackson.jr.ob.api.MapBuilder;
+import com.fasterxml.jackson.jr.ob.api.ValueWriter;
+
+public class ClassValueCacheTest extends TestBase
+{
+    static class BeanA {
+        public int a = 1;
+    }
+
+    static class BeanB {
+        public int b = 2;
+    }
+
+    static class BeanC {
+        public int c = 3;
+    }
+
+    static class BeanD {
+        public int d = 4;
+    }
+
+    public void testBasicLookups()
+    {
+        ClassValueCache<Integer> cache = new ClassValueCache<>(10);
+        assertNull(cache.get(String.class, 0));
+        assertNull(cache.putIfAbsent(String.class, 0, 1));
+        assertEquals(Integer.valueOf(1), cache.putIfAbsent(String.class, 0, 2));
+        assertEquals(Integer.valueOf(1), cache.get(String.class, 0));
+        assertEquals(1, cache.size());
+        assertEquals(1L, cache.hitCount());
+        assertEquals(1L, cache.missCount());
+        assertEquals(0L, cache.evictionCount());
+    }
+
+    public void testFeatureSpecificEntries()
+    {
+        ClassValueCache<String> cache = new ClassValueCache<>(10);
+        assertNull(cache.putIfAbsent(BeanA.class, 1, "a1"));
+        assertNull(cache.putIfAbsent(BeanA.class, 3, "a3"));
+        assertNull(cache.putIfAbsent(BeanB.class, 1, "b1"));
+        assertEquals("a1", cache.get(BeanA.class, 1));
+        assertEquals("a3", cache.get(BeanA.class, 3));
+        assertEquals("b1", cache.get(BeanB.class, 1));
+        assertNull(cache.get(BeanA.class, 0));
+        assertNull(cache.get(BeanB.class, 3));
+        assertEquals(3, cache.size());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertNull(cache.get(BeanA.class, 1));
+        assertNull(cache.get(BeanB.class, 1));
+    }
+
+    public void testEvictsLeastRecentlyUsed()
+    {
+        ClassValueCache<Integer> cache = new ClassValueCache<>(3);
+        cache.putIfAbsent(BeanA.class, 0, 1);
+        cache.putIfAbsent(BeanB.class, 0, 2);
+        cache.putIfAbsent(BeanC.class, 0, 3);
+        // "B" and "C" are used, so "A" is to be evicted
+        assertNotNull(cache.get(BeanB.class, 0));
+        assertNotNull(cache.get(BeanC.class, 0));
+        cache.putIfAbsent(String.class, 0, 4);
+        assertEquals(3, cache.size());
+        assertEquals(1L, cache.evictionCount());
+
+        assertNull(cache.get(BeanA.class, 0));
+        assertNotNull(cache.get(BeanB.class, 0));
+        assertNotNull(cache.get(BeanC.class, 0));
+        assertNotNull(cache.get(String.class, 0));
+    }
+
+    public void testRecentlyUsedRetained()
+    {
+        ClassValueCache<Integer> cache = new ClassValueCache<>(4);
+        final Integer HOT = Integer.valueOf(-1);
+        cache.putIfAbsent(BeanA.class, 0, HOT);
+        for (int i = 0; i < 100; ++i) {
+            // keep on using one entry...
+            assertEquals(HOT, cache.get(BeanA.class, 0));
+            cache.putIfAbsent(BeanB.class, i, i);
+            assertTrue(cache.size() <= 4);
+        }
+        // ... which should never get evicted
+        assertEquals(HOT, cache.get(BeanA.class, 0));
+        assertEquals(97L, cache.evictionCount());
+    }
+
+    public void testChangeMaxEntries()
+    {
+        ClassValueCache<Integer> cache = new ClassValueCache<>(10);
+        for (int i = 0; i < 10; ++i) {
+            cache.putIfAbsent(BeanC.class, i, i);
+        }
+        assertEquals(10, cache.size());
+        cache.setMaxEntries(5);
+        assertEquals(5, cache.maxEntries());
+        assertEquals(5, cache.size());
+        assertEquals(5L, cache.evictionCount());
+
+        try {
+            cache.setMaxEntries(0);
+            fail("Should not pass");
+        } catch (IllegalArgumentException e) {
+            verifyException(e, "must be positive");
+        }
+    }
+
+    public void testLocatorCaches() throws Exception
+    {
+        final int features = JSON.Feature.defaults();
+        JSONReader reader = new JSONReader(features,
+                ValueReaderLocator.blueprint(JSON.std.getStreamingFactory(), features, null),
+                null, CollectionBuilder.defaultImpl(), MapBuilder.defaultImpl());
+        JSONWriter writer = new JSONWriter(features, ValueWriterLocator.blueprint(features, null),
+                null);
+        JSON json = JSON.std.with(reader).with(writer).withCacheSize(2);
+        assertSame(json, json.withCacheSize(2));
+        reader = reader.withCacheSize(2);
+        writer = writer.withCacheSize(2);
+        json = JSON.std.with(reader).with(writer);
+
+        for (int i = 0; i < 3; ++i) {
+            assertEquals(1, json.beanFrom(BeanA.class, "{\"a\":1}").a);
+            assertEquals(2, json.beanFrom(BeanB.class, "{\"b\":2}").b);
+            assertEquals(3, json.beanFrom(BeanC.class, "{\"c\":3}").c);
+            assertEquals("{\"a\":1}", json.asString(new BeanA()));
+            assertEquals("{\"b\":2}", json.asString(new BeanB()));
+            assertEquals("{\"c\":3}", json.asString(new BeanC()));
+        }
+        ClassValueCache<?> readers = reader.readerCache();
+        assertEquals(2, readers.maxEntries());
+        assertTrue(readers.size() <= 2);
+        assertTrue(readers.evictionCount() > 0L);
+
+        ClassValueCache<?> serTypes = writer.serTypeCache();
+        assertEquals(2, serTypes.maxEntries());
+        assertTrue(serTypes.size() <= 2);
+        assertTrue(serTypes.evictionCount() > 0L);
+    }
+
+    public void testStaleWriterTypeIds() throws Exception
+    {
+        final int features = JSON.Feature.defaults() & JSON.CACHE_FLAGS;
+        ValueWriterLocator blueprint = ValueWriterLocator.blueprint(features, null)
+                .withCacheSize(1);
+        ValueWriterLocator locator = blueprint.perOperationInstance(null, features);
+        int idA = locator.findSerializationType(BeanA.class);
+        assertTrue(idA < 0);
+        assertEquals(BeanA.class, locator.getValueWriter(idA, BeanA.class).valueType());
+        assertEquals(BeanA.class, locator.getValueWriter(idA).valueType());
+
+        // evict registration of BeanA (keeping other writers reachable)...
+        int idB = locator.findSerializationType(BeanB.class);
+        ValueWriter writerB = locator.getValueWriter(idB, BeanB.class);
+        int idC = locator.findSerializationType(BeanC.class);
+        ValueWriter writerC = locator.getValueWriter(idC, BeanC.class);
+        // ... and simulate collection of its writer, so that its slot is reused
+        ValueWriterLocator.WriterSlot slotA = locator._knownWriters.get(-(idA+1));
+        slotA.clear();
+        slotA.enqueue();
+        int idD = locator.findSerializationType(BeanD.class);
+        assertEquals(idA, idD);
+        assertEquals(BeanD.class, locator.getValueWriter(idD).valueType());
+
+        // must not get writer of another type, even though slot was reused
+        assertEquals(BeanA.class, locator.getValueWriter(idA, BeanA.class).valueType());
+        assertEquals(BeanB.class, locator.getValueWriter(idA, BeanB.class).valueType());
+        assertSame(writerB, locator.getValueWriter(idB, BeanB.class));
+        assertSame(writerC, locator.getValueWriter(idC, BeanC.class));
+        assertEquals("{\"a\":1}", JSON.std.withCacheSize(1).asString(new BeanA()));
+    }
+}
@@ -0,0 +1,128 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import com.fasterxml.jackson.jr.ob.JSON;
+import com.fasterxml.jackson.jr.ob.TestBase;
+import com.fasterxml.jackson.jr.ob.api.ValueReader;
+
+/**
+ * Tests to verify that readers for cyclic types may be resolved
+ * concurrently by multiple threads.
+ */
+public class ConcurrentReaderResolutionTest extends TestBase
+{
+    static class Node {
+        public String name;
+        public List<Edge> edges;
+        public Node parent;
+    }
+
+    static class Edge {
+        public int weight;
+        public Node target;
+    }
+
+    static class Graph {
+        public Node root;
+        public Edge[] extra;
+    }
+
+    private final static int THREADS = 8;
+
+    public void testConcurrentCyclicResolution() throws Exception
+    {
+        // new instance, to start with empty caches
+        final JSON json = new JSON();
+        final String NODE_JSON = aposToQuotes(
+                "{'name':'a','parent':{'name':'p'},'edges':[{'weight':3,'target':{'name':'b','edges':[]}}]}");
+        final String EDGE_JSON = aposToQuotes("{'weight':1,'target':{'name':'c','parent':{'name':'d'}}}");
+        final String GRAPH_JSON = aposToQuotes("{'root':"+NODE_JSON+",'extra':["+EDGE_JSON+"]}");
+
+        List<Callable<Object>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; ++i) {
+            switch (i % 3) {
+            case 0:
+                tasks.add(new Callable<Object>() {
+                    @Override
+                    public Object call() throws Exception {
+                        Node n = json.beanFrom(Node.class, NODE_JSON);
+                        assertEquals("a", n.name);
+                        assertEquals("p", n.parent.name);
+                        assertEquals(3, n.edges.get(0).weight);
+                        assertEquals("b", n.edges.get(0).target.name);
+                        return n;
+                    }
+                });
+                break;
+            case 1:
+                tasks.add(new Callable<Object>() {
+                    @Override
+                    public Object call() throws Exception {
+                        Edge e = json.beanFrom(Edge.class, EDGE_JSON);
+                        assertEquals(1, e.weight);
+                        assertEquals("d", e.target.parent.name);
+                        return e;
+                    }
+                });
+                break;
+            default:
+                tasks.add(new Callable<Object>() {
+                    @Override
+                    public Object call() throws Exception {
+                        Graph g = json.beanFrom(Graph.class, GRAPH_JSON);
+                        assertEquals("b", g.root.edges.get(0).target.name);
+                        assertEquals("c", g.extra[0].target.name);
+                        return g;
+                    }
+                });
+            }
+        }
+        _runConcurrently(tasks);
+    }
+
+    // Blueprint instances may also be used directly (and concurrently)
+    public void testConcurrentBlueprintResolution() throws Exception
+    {
+        final ValueReaderLocator blueprint = ValueReaderLocator.blueprint(
+                JSON.std.getStreamingFactory(), JSON.Feature.defaults(), null);
+        List<Callable<Object>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; ++i) {
+            final Class<?> type = ((i & 1) == 0) ? Node.class : Graph.class;
+            tasks.add(new Callable<Object>() {
+                @Override
+                public Object call() {
+                    ValueReader r = blueprint.findReader(type);
+                    assertNotNull(r);
+                    assertSame(r, blueprint.findReader(type));
+                    return r;
+                }
+            });
+        }
+        _runConcurrently(tasks);
+    }
+
+    private void _runConcurrently(final List<Callable<Object>> tasks) throws Exception
+    {
+        final CyclicBarrier barrier = new CyclicBarrier(tasks.size());
+        ExecutorService exec = Executors.newFixedThreadPool(tasks.size());
+        try {
+            List<Future<Object>> results = new ArrayList<>();
+            for (final Callable<Object> task : tasks) {
+                results.add(exec.submit(new Callable<Object>() {
+                    @Override
+                    public Object call() throws Exception {
+                        barrier.await();
+                        return task.call();
+                    }
+                }));
+            }
+            for (Future<Object> result : results) {
+                assertNotNull(result.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            exec.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.util.*;
+
+import com.fasterxml.jackson.jr.ob.TestBase;
+
+public class DeferredMapTest extends TestBase
+{
+    public void testSmallMapAccess() throws Exception
+    {
+        DeferredMap map = new DeferredMap(true);
+        Map<Object,Object> exp = new LinkedHashMap<>();
+        for (int i = 0; i < 5; ++i) {
+            map.put("key"+i, i);
+            exp.put("key"+i, i);
+        }
+        _verifySame(exp, map);
+    }
+
+    public void testLargeMapAccess() throws Exception
+    {
+        DeferredMap map = new DeferredMap(true);
+        Map<Object,Object> exp = new LinkedHashMap<>();
+        for (int i = 0; i < 100; ++i) {
+            map.put("key"+i, i);
+            exp.put("key"+i, i);
+            // lookups during building (like dup checks) must work too
+            assertTrue(map.containsKey("key"+i));
+            assertFalse(map.containsKey("key"+(i+1)));
+        }
+        _verifySame(exp, map);
+        // and further additions after access
+        map.put("extra", "x");
+        exp.put("extra", "x");
+        _verifySame(exp, map);
+    }
+
+    public void testDuplicates() throws Exception
+    {
+        for (int count : new int[] { 3, 30 }) {
+            DeferredMap map = new DeferredMap(true);
+            Map<Object,Object> exp = new LinkedHashMap<>();
+            for (int i = 0; i < count; ++i) {
+                map.put("key"+i, i);
+                exp.put("key"+i, i);
+            }
+            map.put("key1", "dup");
+            exp.put("key1", "dup");
+            assertEquals("dup", map.get("key1"));
+            _verifySame(exp, map);
+        }
+    }
+
+    public void testMutation() throws Exception
+    {
+        DeferredMap map = new DeferredMap(false);
+        map.put("a", 1);
+        map.put("b", 2);
+        map.put("c", 3);
+
+        for (Map.Entry<Object,Object> entry : map.entrySet()) {
+            entry.setValue(((Integer) entry.getValue()) * 10);
+        }
+        assertEquals(20, map.get("b"));
+
+        Iterator<Object> it = map.keySet().iterator();
+        it.next();
+        it.remove();
+        assertEquals(2, map.size());
+        assertFalse(map.containsKey("a"));
+        assertEquals(30, map.remove("c"));
+        assertEquals(Collections.singletonMap("b", 20), map);
+
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get("b"));
+    }
+
+    private void _verifySame(Map<Object,Object> exp, DeferredMap act)
+    {
+        assertEquals(exp.size(), act.size());
+        for (Object key : exp.keySet()) {
+            assertTrue(act.containsKey(key));
+            assertEquals(exp.get(key), act.get(key));
+        }
+        assertFalse(act.containsKey("nosuchkey"));
+        assertNull(act.get("nosuchkey"));
+        assertEquals(new ArrayList<>(exp.entrySet()), new ArrayList<>(act.entrySet()));
+        assertEquals(new ArrayList<>(exp.keySet()), new ArrayList<>(act.keySet()));
+        assertEquals(new ArrayList<>(exp.values()), new ArrayList<>(act.values()));
+        assertEquals(exp, act);
+        assertEquals(act, exp);
+        assertEquals(exp.hashCode(), act.hashCode());
+        assertEquals(exp.toString(), act.toString());
+    }
+}
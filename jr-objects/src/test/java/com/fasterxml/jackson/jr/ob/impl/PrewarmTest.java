@@ -0,0 +1,99 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.*;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import com.fasterxml.jackson.jr.ob.JSON;
+import com.fasterxml.jackson.jr.ob.TestBase;
+import com.fasterxml.jackson.jr.ob.api.TypeProfileRecorder;
+
+public class PrewarmTest extends TestBase
+{
+    static class Order {
+        public String id;
+        public Customer customer;
+        public List<LineItem> items;
+    }
+
+    static class Customer {
+        public String name;
+        public Address address;
+    }
+
+    static class Address {
+        public String city;
+    }
+
+    static class LineItem {
+        public String sku;
+        public int quantity;
+        public Map<String, Discount> discounts;
+    }
+
+    static class Discount {
+        public double percent;
+    }
+
+    public void testPrewarmTransitive() throws Exception
+    {
+        TypeProfileRecorder recorder = new TypeProfileRecorder();
+        JSON json = JSON.std.with(recorder);
+        json.prewarm(Order.class).join();
+
+        List<String> names = recorder.recordedTypeNames();
+        for (Class<?> type : new Class<?>[] { Order.class, Customer.class, Address.class,
+                LineItem.class, Discount.class }) {
+            assertTrue("Should have resolved "+type.getName()+", got: "+names,
+                    names.contains(type.getName()));
+        }
+
+        // and everything resolved is now cached, so nothing more to find
+        int count = names.size();
+        Order ord = json.beanFrom(Order.class, aposToQuotes(
+                "{'id':'x','customer':{'name':'Bob','address':{'city':'Oslo'}},"
+                +"'items':[{'sku':'a','quantity':2,'discounts':{'d':{'percent':0.5}}}]}"));
+        assertEquals("Oslo", ord.customer.address.city);
+        assertEquals(0.5, ord.items.get(0).discounts.get("d").percent);
+        assertEquals(count, recorder.recordedTypeNames().size());
+    }
+
+    public void testPrewarmGeneric() throws Exception
+    {
+        TypeProfileRecorder recorder = new TypeProfileRecorder();
+        JSON json = JSON.std.with(recorder);
+        json.prewarm(new TypeReference<Map<String, List<Address>>>() { }).join();
+        List<String> names = recorder.recordedTypeNames();
+        assertTrue(names.contains(Address.class.getName()));
+        assertFalse(names.contains(Order.class.getName()));
+    }
+
+    public void testProfileRoundtrip() throws Exception
+    {
+        TypeProfileRecorder recorder = new TypeProfileRecorder();
+        JSON json = JSON.std.with(recorder);
+        Customer c = new Customer();
+        c.name = "Jack";
+        c.address = new Address();
+        c.address.city = "Helsinki";
+        String doc = json.asString(c);
+        assertEquals("Helsinki", json.beanFrom(Customer.class, doc).address.city);
+
+        StringWriter w = new StringWriter();
+        recorder.writeTo(w);
+        String profile = "# recorded profile\n\n"+w.toString()+"com.example.NoSuchType\n";
+        List<Class<?>> types = TypeProfileRecorder.readTypes(new StringReader(profile),
+                getClass().getClassLoader());
+        assertTrue(types.contains(Customer.class));
+        assertTrue(types.contains(Address.class));
+        assertFalse(types.contains(Order.class));
+
+        // and replaying resolves same types for another instance
+        TypeProfileRecorder recorder2 = new TypeProfileRecorder();
+        JSON.std.with(recorder2).prewarm(types).join();
+        assertTrue(recorder2.recordedTypeNames().contains(Customer.class.getName()));
+        assertTrue(recorder2.recordedTypeNames().contains(Address.class.getName()));
+    }
+}
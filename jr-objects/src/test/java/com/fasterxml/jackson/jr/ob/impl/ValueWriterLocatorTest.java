@@ -49,6 +49,9 @@ public class ValueWriterLocatorTest extends TestBase
         assertEquals(ValueWriterLocator.SER_INT_ARRAY, td.findSerializationType(int[].class));
         assertEquals(ValueWriterLocator.SER_LONG_ARRAY, td.findSerializationType(long[].class));
         assertEquals(ValueWriterLocator.SER_BOOLEAN_ARRAY, td.findSerializationType(boolean[].class));
+        assertEquals(ValueWriterLocator.SER_DOUBLE_ARRAY, td.findSerializationType(double[].class));
+        assertEquals(ValueWriterLocator.SER_FLOAT_ARRAY, td.findSerializationType(float[].class));
+        assertEquals(ValueWriterLocator.SER_SHORT_ARRAY, td.findSerializationType(short[].class));
         assertEquals(ValueWriterLocator.SER_OBJECT_ARRAY, td.findSerializationType(Object[].class));
         assertEquals(ValueWriterLocator.SER_CHARACTER_SEQUENCE, td.findSerializationType(StringBuffer.class));
         assertEquals(ValueWriterLocator.SER_COLLECTION, td.findSerializationType(LinkedHashSet.class));
@@ -6,6 +6,7 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonParser.NumberType;
 import com.fasterxml.jackson.core.TreeCodec;
 import com.fasterxml.jackson.jr.ob.JSON;
+import com.fasterxml.jackson.jr.ob.ValueFeeder;
 import com.fasterxml.jackson.jr.ob.ValueIterator;
 
 public class ReadTreeSequencesTest extends TestBase
@@ -31,6 +32,25 @@ public class ReadTreeSequencesTest extends TestBase
         p.close();
     }
 
+    public void testFeeder() throws Exception
+    {
+        ValueFeeder<JrsValue> feeder = treeJSON.treeFeeder();
+        feeder.feed(aposToQuotes("{'id':1, 'm").getBytes("UTF-8"));
+        assertFalse(feeder.hasNextValue());
+        feeder.feed(aposToQuotes("sg':'foo'} [1, 2").getBytes("UTF-8"));
+        JrsValue tree = feeder.nextValue();
+        assertTrue(tree.isObject());
+        assertEquals("foo", tree.path("msg").asText());
+        assertFalse(feeder.hasNextValue());
+        feeder.feed(", 3] null".getBytes("UTF-8"));
+        feeder.endOfInput();
+        tree = feeder.nextValue();
+        assertTrue(tree.isArray());
+        assertEquals(3, tree.size());
+        assertTrue(feeder.nextValue().isNull());
+        assertFalse(feeder.hasNextValue());
+    }
+
     private void _verifyTreeSequence(ValueIterator<JrsValue> it) throws Exception
     {
         assertTrue(it.hasNext());